@@ -13,4 +13,16 @@ public class GitServiceConfig {
 
     @Value("gitInitializeRepo/GitConnect-Initialize-Repo-Template")
     private String readmeTemplatePath;
+
+    @Value("${appsmith.git.repository.idle-timeout-minutes:10}")
+    private int repositoryIdleTimeoutMinutes;
+
+    @Value("${appsmith.git.window-cache.packed-git-limit-mb:64}")
+    private int packedGitLimitMb;
+
+    @Value("${appsmith.git.window-cache.packed-git-open-files:256}")
+    private int packedGitOpenFiles;
+
+    @Value("${appsmith.git.window-cache.delta-base-cache-limit-mb:32}")
+    private int deltaBaseCacheLimitMb;
 }
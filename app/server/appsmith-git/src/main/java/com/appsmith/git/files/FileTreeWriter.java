@@ -0,0 +1,204 @@
+package com.appsmith.git.files;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.FileSystemUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Collects the files of an application that is being saved to a repo, along with the paths of the resources that have
+ * been deleted, and writes them all at once.
+ *
+ * Paths of deleted resources are deleted in a single batch before any file is written. Files are then serialized in
+ * parallel, one per core, and only written when their content differs from the file on disk, so that unchanged files
+ * keep their timestamps and don't have to be hashed again by git.
+ */
+@Slf4j
+public class FileTreeWriter {
+
+    // Files are written on a pool of their own. write() is called from workers of the shared boundedElastic scheduler
+    // and blocks them until the files are written, so writing them on that scheduler as well would leave every worker
+    // waiting for queued writes once enough applications are saved at the same time.
+    private static final Scheduler FILE_WRITE_SCHEDULER = Schedulers.newBoundedElastic(
+            Schedulers.DEFAULT_POOL_SIZE,
+            Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+            "git-file-tree-writer",
+            60,
+            true);
+
+    private final Map<Path, Callable<String>> files = new LinkedHashMap<>();
+
+    private final Set<Path> deletedPaths = new LinkedHashSet<>();
+
+    private final int parallelism;
+
+    public FileTreeWriter() {
+        this(Schedulers.DEFAULT_POOL_SIZE);
+    }
+
+    FileTreeWriter(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Adds a file to the tree. The serializer is only called when the tree is written, and a file that is added again
+     * replaces the one added before.
+     */
+    public void addFile(Path path, Callable<String> serializer) {
+        files.put(path, serializer);
+    }
+
+    /**
+     * Deletes a file or a directory, along with its content, when the tree is written
+     */
+    public void deletePath(Path path) {
+        deletedPaths.add(path);
+    }
+
+    /**
+     * Deletes the files in the resource directory, and its subdirectories, whose name is not one of the valid resources
+     *
+     * @param validResources    resources those are still available in DB
+     * @param resourceDirectory directory which needs to be scanned for possible file deletion operations
+     */
+    public void deleteFilesOfDeletedResources(Set<String> validResources, Path resourceDirectory) {
+        if (!Files.exists(resourceDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(resourceDirectory)) {
+            paths.filter(path -> Files.isRegularFile(path)
+                            && !validResources.contains(path.getFileName().toString()))
+                    .forEach(this::deletePath);
+        } catch (IOException e) {
+            log.error("Error while scanning directory: {}, with error {}", resourceDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the directories right under the resource directory whose name is not one of the valid resources
+     *
+     * @param validResources    resources those are still available in DB
+     * @param resourceDirectory directory which needs to be scanned for possible directory deletion operations
+     */
+    public void deleteDirectoriesOfDeletedResources(Set<String> validResources, Path resourceDirectory) {
+        if (!Files.exists(resourceDirectory)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(resourceDirectory, 1)) {
+            paths.filter(path -> Files.isDirectory(path)
+                            && !path.equals(resourceDirectory)
+                            && !validResources.contains(path.getFileName().toString()))
+                    .forEach(this::deletePath);
+        } catch (IOException e) {
+            log.error("Error while scanning directory {} with error {}", resourceDirectory, e.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the paths of deleted resources, and then writes the files that have changed. Errors are logged for each
+     * path, so that one file that can't be written doesn't stop the others from being written.
+     *
+     * @return the number of files written, skipped, failed and of paths deleted, along with the wall time it took
+     */
+    public Result write() {
+        long startTime = System.nanoTime();
+
+        int deleted = deletePaths();
+
+        List<Outcome> outcomes = Flux.fromIterable(files.entrySet())
+                .parallel(parallelism)
+                .runOn(FILE_WRITE_SCHEDULER)
+                .map(file -> writeIfChanged(file.getKey(), file.getValue()))
+                .sequential()
+                .collectList()
+                .block();
+
+        int written = 0;
+        int skipped = 0;
+        int failed = 0;
+        for (Outcome outcome : outcomes) {
+            switch (outcome) {
+                case WRITTEN -> written++;
+                case SKIPPED -> skipped++;
+                case FAILED -> failed++;
+            }
+        }
+
+        return new Result(
+                written, skipped, failed, deleted, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private int deletePaths() {
+        int deleted = 0;
+        for (Path path : deletedPaths) {
+            if (hasDeletedAncestor(path)) {
+                // Already gone along with the directory it was in
+                continue;
+            }
+
+            try {
+                if (FileSystemUtils.deleteRecursively(path)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.error("Unable to delete {} with message {}", path, e.getMessage());
+            }
+        }
+
+        return deleted;
+    }
+
+    private boolean hasDeletedAncestor(Path path) {
+        for (Path parent = path.getParent(); parent != null; parent = parent.getParent()) {
+            if (deletedPaths.contains(parent)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private Outcome writeIfChanged(Path path, Callable<String> serializer) {
+        try {
+            byte[] content = serializer.call().getBytes(StandardCharsets.UTF_8);
+
+            if (Files.isRegularFile(path)
+                    && Files.size(path) == content.length
+                    && Arrays.equals(content, Files.readAllBytes(path))) {
+                return Outcome.SKIPPED;
+            }
+
+            Files.createDirectories(path.getParent());
+            Files.write(path, content);
+            return Outcome.WRITTEN;
+        } catch (Exception e) {
+            log.error("Error while writing resource to file {} with {}", path, e.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+
+    private enum Outcome {
+        WRITTEN,
+        SKIPPED,
+        FAILED
+    }
+
+    public record Result(int written, int skipped, int failed, int deleted, long elapsedMillis) {}
+}
@@ -1,11 +1,11 @@
 package com.appsmith.git.files;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.dtos.ModifiedResources;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.git.GitExecutor;
-import com.appsmith.external.git.constants.GitSpan;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.helpers.Stopwatch;
@@ -13,12 +13,15 @@ import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.ArtifactGitReference;
 import com.appsmith.git.configurations.GitServiceConfig;
 import com.appsmith.git.constants.CommonConstants;
+import com.appsmith.git.helpers.ContentHashManifest;
 import com.appsmith.git.helpers.DSLTransformerHelper;
-import io.micrometer.tracing.Span;
+import com.appsmith.git.helpers.GitRepositoryPool;
+import com.google.gson.Gson;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.json.JSONObject;
 import org.springframework.context.annotation.Import;
@@ -29,7 +32,6 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,9 +56,6 @@ import static com.appsmith.external.git.constants.GitConstants.ACTION_LIST;
 import static com.appsmith.external.git.constants.GitConstants.CUSTOM_JS_LIB_LIST;
 import static com.appsmith.external.git.constants.GitConstants.NAME_SEPARATOR;
 import static com.appsmith.external.git.constants.GitConstants.PAGE_LIST;
-import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.ACTION_COLLECTION_BODY;
-import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.NEW_ACTION_BODY;
-import static com.appsmith.external.git.constants.ce.GitConstantsCE.GitMetricConstantsCE.RESOURCE_TYPE;
 import static com.appsmith.git.constants.GitDirectories.ACTION_COLLECTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.ACTION_DIRECTORY;
 import static com.appsmith.git.constants.GitDirectories.DATASOURCE_DIRECTORY;
@@ -73,6 +72,7 @@ public class FileUtilsCEImpl implements FileInterface {
     private final GitExecutor gitExecutor;
     protected final FileOperations fileOperations;
     private final ObservationHelper observationHelper;
+    private final GitRepositoryPool gitRepositoryPool;
 
     private static final String EDIT_MODE_URL_TEMPLATE = "{{editModeUrl}}";
 
@@ -89,11 +89,13 @@ public class FileUtilsCEImpl implements FileInterface {
             GitServiceConfig gitServiceConfig,
             GitExecutor gitExecutor,
             FileOperations fileOperations,
-            ObservationHelper observationHelper) {
+            ObservationHelper observationHelper,
+            GitRepositoryPool gitRepositoryPool) {
         this.gitServiceConfig = gitServiceConfig;
         this.gitExecutor = gitExecutor;
         this.fileOperations = fileOperations;
         this.observationHelper = observationHelper;
+        this.gitRepositoryPool = gitRepositoryPool;
     }
 
     /**
@@ -214,25 +216,157 @@ public class FileUtilsCEImpl implements FileInterface {
                 .subscribeOn(scheduler);
     }
 
+    @Override
+    public Mono<GitStatusDTO> saveApplicationToGitRepoForStatus(
+            Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName) {
+
+        ApplicationGitReference applicationGitReference = (ApplicationGitReference) artifactGitReference;
+        Path baseRepo = Paths.get(gitServiceConfig.getGitRootPath()).resolve(baseRepoSuffix);
+
+        return Mono.fromCallable(() -> createContentHashManifest(applicationGitReference, baseRepo, branchName))
+                .flatMap(manifest -> {
+                    ContentHashManifest lastManifest = ContentHashManifest.read(baseRepo, branchName);
+                    if (lastManifest != null
+                            && lastManifest.getStatus() != null
+                            && lastManifest.hasSameEntities(manifest)) {
+                        log.debug(
+                                "Entities of branch {} in {} are unchanged since the last status",
+                                branchName,
+                                baseRepo);
+                        return Mono.just(lastManifest.getStatus());
+                    }
+
+                    Mono<Path> saveMono;
+                    try {
+                        saveMono = saveApplicationToGitRepo(baseRepoSuffix, applicationGitReference, branchName);
+                    } catch (IOException | GitAPIException e) {
+                        return Mono.error(e);
+                    }
+
+                    return saveMono.flatMap(repoPath -> {
+                        try {
+                            // The status is recorded in the manifest once it has been computed from the repo
+                            manifest.write(baseRepo, branchName);
+                        } catch (IOException e) {
+                            log.error(
+                                    "Error while writing content hash manifest for {} with {}",
+                                    baseRepo,
+                                    e.getMessage());
+                        }
+                        return Mono.<GitStatusDTO>empty();
+                    });
+                })
+                .subscribeOn(scheduler);
+    }
+
+    /**
+     * Hashes the serialized form of every entity of the application. Entities that are not written because they have
+     * not changed since the last commit are recorded by their name only, since the files to be deleted depend on them.
+     */
+    protected ContentHashManifest createContentHashManifest(
+            ApplicationGitReference applicationGitReference, Path baseRepo, String branchName) throws IOException {
+        Gson gson = fileOperations.getGson();
+        ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
+        ContentHashManifest manifest = new ContentHashManifest();
+
+        try (Git git = gitRepositoryPool.open(baseRepo)) {
+            manifest.setCommitId(ContentHashManifest.getCommitId(git.getRepository(), branchName));
+        }
+
+        manifest.putEntity(CommonConstants.APPLICATION, gson.toJson(applicationGitReference.getApplication()));
+        manifest.putEntity(CommonConstants.METADATA, gson.toJson(applicationGitReference.getMetadata()));
+        manifest.putEntity(CommonConstants.THEME, gson.toJson(applicationGitReference.getTheme()));
+
+        applicationGitReference.getPages().forEach((pageName, page) -> {
+            boolean isResourceUpdated =
+                    modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
+            manifest.putEntity(
+                    PAGE_DIRECTORY + CommonConstants.DELIMITER_PATH + pageName,
+                    isResourceUpdated ? gson.toJson(page) : null,
+                    isResourceUpdated ? applicationGitReference.getPageDsl().get(pageName) : null);
+        });
+
+        if (modifiedResources != null) {
+            applicationGitReference.getJsLibraries().forEach((uidString, jsLib) -> manifest.putEntity(
+                    JS_LIB_DIRECTORY + CommonConstants.DELIMITER_PATH + uidString,
+                    modifiedResources.isResourceUpdated(CUSTOM_JS_LIB_LIST, uidString) ? gson.toJson(jsLib) : null));
+        }
+
+        applicationGitReference.getActions().forEach((actionKey, action) -> {
+            boolean isResourceUpdated =
+                    modifiedResources != null && modifiedResources.isResourceUpdated(ACTION_LIST, actionKey);
+            manifest.putEntity(
+                    ACTION_DIRECTORY + CommonConstants.DELIMITER_PATH + actionKey,
+                    isResourceUpdated ? gson.toJson(action) : null,
+                    isResourceUpdated ? applicationGitReference.getActionBody().get(actionKey) : null);
+        });
+
+        applicationGitReference.getActionCollections().forEach((actionCollectionKey, actionCollection) -> {
+            boolean isResourceUpdated = modifiedResources != null
+                    && modifiedResources.isResourceUpdated(ACTION_COLLECTION_LIST, actionCollectionKey);
+            manifest.putEntity(
+                    ACTION_COLLECTION_DIRECTORY + CommonConstants.DELIMITER_PATH + actionCollectionKey,
+                    isResourceUpdated ? gson.toJson(actionCollection) : null,
+                    isResourceUpdated
+                            ? applicationGitReference.getActionCollectionBody().get(actionCollectionKey)
+                            : null);
+        });
+
+        applicationGitReference.getDatasources().forEach((datasourceName, datasource) -> manifest.putEntity(
+                DATASOURCE_DIRECTORY + CommonConstants.DELIMITER_PATH + datasourceName, gson.toJson(datasource)));
+
+        return manifest;
+    }
+
     protected Set<String> updateEntitiesInRepo(ApplicationGitReference applicationGitReference, Path baseRepo) {
 
+        FileTreeWriter fileTreeWriter = new FileTreeWriter();
+        Set<String> validPages = addEntitiesToFileTree(applicationGitReference, baseRepo, fileTreeWriter);
+
+        FileTreeWriter.Result result = fileTreeWriter.write();
+        log.debug(
+                "Saved application to {}: {} files written, {} unchanged skipped, {} failed, {} deleted in {}ms",
+                baseRepo,
+                result.written(),
+                result.skipped(),
+                result.failed(),
+                result.deleted(),
+                result.elapsedMillis());
+
+        return validPages;
+    }
+
+    /**
+     * Adds the files of every entity that has been modified since the last commit to the file tree, along with the
+     * paths of the resources that have been deleted. Widgets are flattened to their files here, while the entities are
+     * serialized when the tree is written.
+     *
+     * @return names of the pages of the application
+     */
+    protected Set<String> addEntitiesToFileTree(
+            ApplicationGitReference applicationGitReference, Path baseRepo, FileTreeWriter fileTreeWriter) {
+
         Set<String> validDatasourceFileNames = new HashSet<>();
         ModifiedResources modifiedResources = applicationGitReference.getModifiedResources();
 
         // Remove unwanted directories which was present in v1 of the git file format version
-        fileOperations.deleteDirectory(baseRepo.resolve(ACTION_DIRECTORY));
-        fileOperations.deleteDirectory(baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
+        fileTreeWriter.deletePath(baseRepo.resolve(ACTION_DIRECTORY));
+        fileTreeWriter.deletePath(baseRepo.resolve(ACTION_COLLECTION_DIRECTORY));
 
         // Save application
-        saveResource(
+        addResourceFile(
+                fileTreeWriter,
                 applicationGitReference.getApplication(),
                 baseRepo.resolve(CommonConstants.APPLICATION + CommonConstants.JSON_EXTENSION));
 
         // Save application metadata
-        fileOperations.saveMetadataResource(applicationGitReference, baseRepo);
+        fileTreeWriter.addFile(
+                baseRepo.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION),
+                () -> fileOperations.serializeMetadataResource(applicationGitReference));
 
         // Save application theme
-        saveResource(
+        addResourceFile(
+                fileTreeWriter,
                 applicationGitReference.getTheme(),
                 baseRepo.resolve(CommonConstants.THEME + CommonConstants.JSON_EXTENSION));
 
@@ -250,7 +384,8 @@ public class FileUtilsCEImpl implements FileInterface {
                     modifiedResources != null && modifiedResources.isResourceUpdated(PAGE_LIST, pageName);
             if (Boolean.TRUE.equals(isResourceUpdated)) {
                 // Save page metadata
-                saveResource(
+                addResourceFile(
+                        fileTreeWriter,
                         pageResource.getValue(),
                         pageSpecificDirectory.resolve(pageName + CommonConstants.JSON_EXTENSION));
                 Map<String, JSONObject> result = DSLTransformerHelper.flatten(
@@ -263,20 +398,24 @@ public class FileUtilsCEImpl implements FileInterface {
                     Path path = Paths.get(
                             String.valueOf(pageSpecificDirectory.resolve(CommonConstants.WIDGETS)), childPath);
                     validWidgetToParentMap.put(widgetName, path.toFile().toString());
-                    fileOperations.saveWidgets(jsonObject, widgetName, path);
+                    fileTreeWriter.addFile(
+                            path.resolve(widgetName + CommonConstants.JSON_EXTENSION),
+                            () -> fileOperations.serializeWidgets(jsonObject));
                 });
                 // Remove deleted widgets from the file system
                 deleteWidgets(
-                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(), validWidgetToParentMap);
+                        pageSpecificDirectory.resolve(CommonConstants.WIDGETS).toFile(),
+                        validWidgetToParentMap,
+                        fileTreeWriter);
 
                 // Remove the canvas.json from the file system since the value is stored in the page.json
-                fileOperations.deleteFile(
+                fileTreeWriter.deletePath(
                         pageSpecificDirectory.resolve(CommonConstants.CANVAS + CommonConstants.JSON_EXTENSION));
             }
             validPages.add(pageName);
         }
 
-        fileOperations.scanAndDeleteDirectoryForDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
+        fileTreeWriter.deleteDirectoriesOfDeletedResources(validPages, baseRepo.resolve(PAGE_DIRECTORY));
 
         // Earlier this condition included that modified resource not be null, and
         // it should either have allModified flag turned as true or CUSTOM_JS_LIB_LIST resource map is not empty
@@ -300,11 +439,11 @@ public class FileUtilsCEImpl implements FileInterface {
 
                 Path jsLibSpecificFile = jsLibDirectory.resolve(fileNameWithExtension);
                 if (isResourceUpdated) {
-                    saveResource(jsLibEntry.getValue(), jsLibSpecificFile);
+                    addResourceFile(fileTreeWriter, jsLibEntry.getValue(), jsLibSpecificFile);
                 }
                 validJsLibs.add(fileNameWithExtension);
             });
-            fileOperations.scanAndDeleteFileForDeletedResources(validJsLibs, jsLibDirectory);
+            fileTreeWriter.deleteFilesOfDeletedResources(validJsLibs, jsLibDirectory);
         }
 
         // Create HashMap for valid actions and actionCollections
@@ -336,7 +475,8 @@ public class FileUtilsCEImpl implements FileInterface {
                 }
                 validActionsMap.get(pageName).add(queryName);
                 if (Boolean.TRUE.equals(isResourceUpdated)) {
-                    saveActions(
+                    addActionFiles(
+                            fileTreeWriter,
                             resource.getValue(),
                             applicationGitReference.getActionBody().containsKey(resource.getKey())
                                     ? applicationGitReference.getActionBody().get(resource.getKey())
@@ -344,7 +484,7 @@ public class FileUtilsCEImpl implements FileInterface {
                             queryName,
                             actionSpecificDirectory.resolve(queryName));
                     // Delete the resource from the old file structure v2
-                    fileOperations.deleteFile(pageSpecificDirectory
+                    fileTreeWriter.deletePath(pageSpecificDirectory
                             .resolve(ACTION_DIRECTORY)
                             .resolve(queryName + CommonConstants.JSON_EXTENSION));
                 }
@@ -353,7 +493,7 @@ public class FileUtilsCEImpl implements FileInterface {
 
         validActionsMap.forEach((pageName, validActionNames) -> {
             Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-            fileOperations.scanAndDeleteDirectoryForDeletedResources(
+            fileTreeWriter.deleteDirectoriesOfDeletedResources(
                     validActionNames, pageSpecificDirectory.resolve(ACTION_DIRECTORY));
         });
 
@@ -376,13 +516,14 @@ public class FileUtilsCEImpl implements FileInterface {
                 boolean isResourceUpdated = modifiedResources != null
                         && modifiedResources.isResourceUpdated(ACTION_COLLECTION_LIST, resource.getKey());
                 if (Boolean.TRUE.equals(isResourceUpdated)) {
-                    saveActionCollection(
+                    addActionCollectionFiles(
+                            fileTreeWriter,
                             resource.getValue(),
                             applicationGitReference.getActionCollectionBody().get(resource.getKey()),
                             actionCollectionName,
                             actionCollectionSpecificDirectory.resolve(actionCollectionName));
                     // Delete the resource from the old file structure v2
-                    fileOperations.deleteFile(actionCollectionSpecificDirectory.resolve(
+                    fileTreeWriter.deletePath(actionCollectionSpecificDirectory.resolve(
                             actionCollectionName + CommonConstants.JSON_EXTENSION));
                 }
             }
@@ -391,21 +532,22 @@ public class FileUtilsCEImpl implements FileInterface {
         // Verify if the old files are deleted
         validActionCollectionsMap.forEach((pageName, validActionCollectionNames) -> {
             Path pageSpecificDirectory = pageDirectory.resolve(pageName);
-            fileOperations.scanAndDeleteDirectoryForDeletedResources(
+            fileTreeWriter.deleteDirectoriesOfDeletedResources(
                     validActionCollectionNames, pageSpecificDirectory.resolve(ACTION_COLLECTION_DIRECTORY));
         });
 
         // Save datasources ref
         for (Map.Entry<String, Object> resource :
                 applicationGitReference.getDatasources().entrySet()) {
-            saveResource(
+            addResourceFile(
+                    fileTreeWriter,
                     resource.getValue(),
                     baseRepo.resolve(DATASOURCE_DIRECTORY).resolve(resource.getKey() + CommonConstants.JSON_EXTENSION));
             validDatasourceFileNames.add(resource.getKey() + CommonConstants.JSON_EXTENSION);
         }
         // Scan datasource directory and delete any unwanted files if present
         if (!applicationGitReference.getDatasources().isEmpty()) {
-            fileOperations.scanAndDeleteFileForDeletedResources(
+            fileTreeWriter.deleteFilesOfDeletedResources(
                     validDatasourceFileNames, baseRepo.resolve(DATASOURCE_DIRECTORY));
         }
 
@@ -430,81 +572,53 @@ public class FileUtilsCEImpl implements FileInterface {
         return false;
     }
 
+    private void addResourceFile(FileTreeWriter fileTreeWriter, Object sourceEntity, Path path) {
+        fileTreeWriter.addFile(path, () -> fileOperations.serializeResource(sourceEntity));
+    }
+
     /**
-     * This method is used to write actionCollection specific resource to file system. We write the data in two steps
+     * This method is used to add the files of an actionCollection to the file tree. We write the data in two steps
      * 1. Actual js code
      * 2. Metadata of the actionCollection
      *
      * @param sourceEntity the metadata of the action collection
      * @param body         actual js code written by the user
      * @param resourceName name of the action collection
-     * @param path         file path where the resource will be stored
-     * @return if the file operation is successful
+     * @param path         directory where the resource will be stored
      */
-    private boolean saveActionCollection(Object sourceEntity, String body, String resourceName, Path path) {
-        Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
-        try {
-            Files.createDirectories(path);
-            if (StringUtils.hasText(body)) {
-                // Write the js Object body to .js file to make conflict handling easier
-                Path bodyPath = path.resolve(resourceName + CommonConstants.JS_EXTENSION);
-                String resourceType = ACTION_COLLECTION_BODY;
-                span.tag(RESOURCE_TYPE, resourceType);
-                observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
-            }
-
-            // Write metadata for the jsObject
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
-        } catch (IOException e) {
-            log.debug(e.getMessage());
-        } finally {
-            observationHelper.endSpan(span, true);
+    private void addActionCollectionFiles(
+            FileTreeWriter fileTreeWriter, Object sourceEntity, String body, String resourceName, Path path) {
+        if (StringUtils.hasText(body)) {
+            // Write the js Object body to .js file to make conflict handling easier
+            fileTreeWriter.addFile(path.resolve(resourceName + CommonConstants.JS_EXTENSION), () -> body);
         }
-        return false;
+
+        // Write metadata for the jsObject
+        addResourceFile(
+                fileTreeWriter, sourceEntity, path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
     }
 
     /**
-     * This method is used to write action specific resource to file system. We write the data in two steps
+     * This method is used to add the files of an action to the file tree. We write the data in two steps
      * * 1. Actual query written by the user
      * * 2. Metadata of the actios
      *
      * @param sourceEntity the metadata of the action
      * @param body         actual query written by the user
      * @param resourceName name of the action
-     * @param path         file path where the resource will be stored
-     * @return if the file operation is successful
+     * @param path         directory where the resource will be stored
      */
-    private boolean saveActions(Object sourceEntity, String body, String resourceName, Path path) {
-        Span span = observationHelper.createSpan(GitSpan.FILE_WRITE);
-        try {
-            Files.createDirectories(path);
-            // Write the user written query to .txt file to make conflict handling easier
-            // Body will be null if the action is of type JS
-            if (StringUtils.hasLength(body)) {
-                Path bodyPath = path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION);
-                String resourceType = NEW_ACTION_BODY;
-                span.tag(RESOURCE_TYPE, resourceType);
-                observationHelper.startSpan(span, true);
-                writeStringToFile(body, bodyPath);
-            }
-
-            // Write metadata for the actions
-            Path metadataPath = path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION);
-            return fileOperations.writeToFile(sourceEntity, metadataPath);
-        } catch (IOException e) {
-            log.error("Error while reading file {} with message {} with cause", path, e.getMessage(), e.getCause());
-        } finally {
-            observationHelper.endSpan(span, true);
+    private void addActionFiles(
+            FileTreeWriter fileTreeWriter, Object sourceEntity, String body, String resourceName, Path path) {
+        // Write the user written query to .txt file to make conflict handling easier
+        // Body will be null if the action is of type JS
+        if (StringUtils.hasLength(body)) {
+            fileTreeWriter.addFile(path.resolve(resourceName + CommonConstants.TEXT_FILE_EXTENSION), () -> body);
         }
-        return false;
-    }
 
-    private void writeStringToFile(String sourceEntity, Path path) throws IOException {
-        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            fileWriter.write(sourceEntity);
-        }
+        // Write metadata for the actions
+        addResourceFile(
+                fileTreeWriter, sourceEntity, path.resolve(CommonConstants.METADATA + CommonConstants.JSON_EXTENSION));
     }
 
     /**
@@ -576,6 +690,8 @@ public class FileUtilsCEImpl implements FileInterface {
                 .resolve(baseRepoSuffix)
                 .getParent()
                 .toFile();
+        // Close the repositories that are open in the directory, so that they aren't used after it has been deleted
+        gitRepositoryPool.invalidate(file.toPath());
         while (file.exists()) {
             FileSystemUtils.deleteRecursively(file);
         }
@@ -872,7 +988,8 @@ public class FileUtilsCEImpl implements FileInterface {
         }
     }
 
-    private void deleteWidgets(File directory, Map<String, String> validWidgetToParentMap) {
+    private void deleteWidgets(
+            File directory, Map<String, String> validWidgetToParentMap, FileTreeWriter fileTreeWriter) {
         File[] files = directory.listFiles();
         if (files == null) {
             return;
@@ -880,7 +997,7 @@ public class FileUtilsCEImpl implements FileInterface {
 
         for (File file : files) {
             if (file.isDirectory()) {
-                deleteWidgets(file, validWidgetToParentMap);
+                deleteWidgets(file, validWidgetToParentMap, fileTreeWriter);
             }
 
             String name = file.getName().replace(CommonConstants.JSON_EXTENSION, CommonConstants.EMPTY_STRING);
@@ -888,18 +1005,10 @@ public class FileUtilsCEImpl implements FileInterface {
             // then we need to delete the widget from the container directory
             // The check here is to validate if the parent is correct or not
             if (!validWidgetToParentMap.containsKey(name)) {
-                if (file.isDirectory()) {
-                    fileOperations.deleteDirectory(file.toPath());
-                } else {
-                    fileOperations.deleteFile(file.toPath());
-                }
+                fileTreeWriter.deletePath(file.toPath());
             } else if (!file.getParentFile().getPath().equals(validWidgetToParentMap.get(name))
                     && !file.getPath().equals(validWidgetToParentMap.get(name))) {
-                if (file.isDirectory()) {
-                    fileOperations.deleteDirectory(file.toPath());
-                } else {
-                    fileOperations.deleteFile(file.toPath());
-                }
+                fileTreeWriter.deletePath(file.toPath());
             }
         }
     }
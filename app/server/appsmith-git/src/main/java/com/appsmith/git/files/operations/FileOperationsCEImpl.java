@@ -169,6 +169,23 @@ public class FileOperationsCEImpl implements FileOperationsCE {
         }
     }
 
+    @Override
+    public String serializeResource(Object sourceEntity) throws IOException {
+        return gson.toJson(sourceEntity);
+    }
+
+    @Override
+    public String serializeWidgets(JSONObject sourceEntity) throws IOException {
+        return sourceEntity.toString(4);
+    }
+
+    @Override
+    public String serializeMetadataResource(ApplicationGitReference applicationGitReference) throws IOException {
+        JsonObject metadata = gson.fromJson(gson.toJson(applicationGitReference.getMetadata()), JsonObject.class);
+        metadata.addProperty(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
+        return gson.toJson(metadata);
+    }
+
     /**
      * This method will delete the JSON resource available in local git directory on subsequent commit made after the
      * deletion of respective resource from DB
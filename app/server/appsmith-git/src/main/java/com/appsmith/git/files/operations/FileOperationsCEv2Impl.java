@@ -120,6 +120,26 @@ public class FileOperationsCEv2Impl extends FileOperationsCEImpl implements File
         }
     }
 
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
+    @Override
+    public String serializeResource(Object sourceEntity) throws IOException {
+        return objectWriter.writeValueAsString(sourceEntity);
+    }
+
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
+    @Override
+    public String serializeWidgets(JSONObject sourceEntity) throws IOException {
+        return objectWriter.writeValueAsString(objectReader.readTree(sourceEntity.toString()));
+    }
+
+    @FeatureFlagged(featureFlagName = FeatureFlagEnum.release_git_autocommit_feature_enabled)
+    @Override
+    public String serializeMetadataResource(ApplicationGitReference applicationGitReference) throws IOException {
+        ObjectNode metadata = objectMapper.valueToTree(applicationGitReference.getMetadata());
+        metadata.put(CommonConstants.FILE_FORMAT_VERSION, CommonConstants.fileFormatVersion);
+        return objectWriter.writeValueAsString(metadata);
+    }
+
     /**
      * This method will be used to read and dehydrate the json file present from the local git repo
      *
@@ -0,0 +1,137 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.external.dtos.GitStatusDTO;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Records, for a branch of a repo, a hash of the serialized form of every entity that was saved to the repo to compute
+ * the status of the branch, along with the commit the branch pointed to and the status that was computed.
+ *
+ * The files of an application are a function of its entities and of the commit they are written over, so when the
+ * entities hash to the same manifest at the same commit, the status recorded in the manifest still holds and the
+ * application doesn't need to be written to the repo again.
+ *
+ * Manifests are stored in the .git directory of the repo so that they are never committed, and go away with the repo.
+ */
+@Slf4j
+@Getter
+@Setter
+public class ContentHashManifest {
+
+    private static final String MANIFEST_DIRECTORY = "appsmith-manifests";
+
+    private static final Gson gson = new Gson();
+
+    // Commit that the branch pointed to when the entities were written
+    private String commitId;
+
+    // Entity key to the hash of its serialized form, e.g. "pages/Page1" to the hash of the page and its DSL
+    private Map<String, String> entityHashes = new TreeMap<>();
+
+    // Status of the branch after the entities were written, null until it has been computed
+    private GitStatusDTO status;
+
+    /**
+     * Records the hash of an entity. An entity can be serialized to several parts, e.g. the metadata of an action and
+     * its body. Parts can be null, e.g. when an entity is not written because it has not changed since the last commit.
+     */
+    public void putEntity(String entityKey, String... serializedParts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String serializedPart : serializedParts) {
+                if (serializedPart != null) {
+                    digest.update(serializedPart.getBytes(StandardCharsets.UTF_8));
+                }
+                // Keeps ["ab", "c"] and ["a", "bc"] apart
+                digest.update((byte) 0);
+            }
+            entityHashes.put(entityKey, HexFormat.of().formatHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256, so this is not expected to happen
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return true if both manifests hash the same entities over the same commit
+     */
+    public boolean hasSameEntities(ContentHashManifest other) {
+        return other != null
+                && commitId != null
+                && commitId.equals(other.commitId)
+                && Objects.equals(entityHashes, other.entityHashes);
+    }
+
+    /**
+     * @return the commit that the branch points to, or null if the branch doesn't exist in the repository
+     */
+    public static String getCommitId(Repository repository, String branchName) throws IOException {
+        ObjectId commitId = repository.resolve(Constants.R_HEADS + branchName);
+        return commitId == null ? null : commitId.name();
+    }
+
+    /**
+     * @return the manifest last written for the branch, or null if there is none or it can't be read
+     */
+    public static ContentHashManifest read(Path repoPath, String branchName) {
+        Path manifestPath = getManifestPath(repoPath, branchName);
+        if (!Files.exists(manifestPath)) {
+            return null;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, ContentHashManifest.class);
+        } catch (IOException | JsonParseException e) {
+            log.error("Error while reading content hash manifest {} with {}", manifestPath, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the manifest of the branch with this one. The manifest is written to a temporary file first, so that a
+     * manifest is never read half written.
+     */
+    public void write(Path repoPath, String branchName) throws IOException {
+        Path manifestPath = getManifestPath(repoPath, branchName);
+        Files.createDirectories(manifestPath.getParent());
+        Path temporaryPath = Files.createTempFile(manifestPath.getParent(), "manifest", ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(temporaryPath, StandardCharsets.UTF_8)) {
+                gson.toJson(this, writer);
+            }
+            Files.move(
+                    temporaryPath, manifestPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    private static Path getManifestPath(Path repoPath, String branchName) {
+        // Branch names can contain slashes, which would otherwise be read as directories
+        return repoPath.resolve(Constants.DOT_GIT)
+                .resolve(MANIFEST_DIRECTORY)
+                .resolve(URLEncoder.encode(branchName, StandardCharsets.UTF_8) + ".json");
+    }
+}
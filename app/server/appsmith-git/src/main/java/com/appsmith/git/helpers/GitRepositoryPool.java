@@ -0,0 +1,195 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryBuilder;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.storage.file.WindowCacheConfig;
+import org.eclipse.jgit.util.FS;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the JGit repositories that are in use, or that have been used recently, open, so that their config, refs and
+ * pack indexes are read once rather than on every git operation. Repositories are keyed by the path of their working
+ * directory and counted by the handles that use them. A repository is closed once it has been idle for
+ * {@link GitServiceConfig#getRepositoryIdleTimeoutMinutes()} minutes, or once its directory is deleted through
+ * {@link #invalidate(Path)}.
+ *
+ * JGit rereads a repository's config, refs and packs when they change on disk, so a pooled repository sees the
+ * changes that are made to it outside the pool too.
+ */
+@Slf4j
+@Component
+public class GitRepositoryPool implements DisposableBean {
+
+    private final GitServiceConfig gitServiceConfig;
+
+    private final Map<Path, PooledRepository> repositories = new ConcurrentHashMap<>();
+
+    public GitRepositoryPool(GitServiceConfig gitServiceConfig) {
+        this.gitServiceConfig = gitServiceConfig;
+
+        // The window cache is shared by all the repositories of the JVM. The defaults are sized for a few small
+        // repositories, while the server works with many applications at a time.
+        WindowCacheConfig windowCacheConfig = new WindowCacheConfig();
+        windowCacheConfig.setPackedGitLimit(gitServiceConfig.getPackedGitLimitMb() * WindowCacheConfig.MB);
+        windowCacheConfig.setPackedGitOpenFiles(gitServiceConfig.getPackedGitOpenFiles());
+        windowCacheConfig.setDeltaBaseCacheLimit(gitServiceConfig.getDeltaBaseCacheLimitMb() * WindowCacheConfig.MB);
+        windowCacheConfig.install();
+    }
+
+    /**
+     * Opens the repository at the given path, like {@link Git#open(java.io.File)} does, reusing the repository of the
+     * pool if it has one. The returned handle must be closed, which gives the repository back to the pool.
+     */
+    public Git open(Path repoPath) throws IOException {
+        Path key = repoPath.toAbsolutePath().normalize();
+        PooledRepository[] acquired = new PooledRepository[1];
+        repositories.computeIfPresent(key, (path, pooled) -> {
+            if (pooled.repository.getDirectory().exists()) {
+                return pooled;
+            }
+            // The repository has been deleted without going through the pool
+            pooled.invalidated = true;
+            pooled.closeIfUnused();
+            return null;
+        });
+
+        try {
+            repositories.compute(key, (path, pooled) -> {
+                if (pooled == null) {
+                    pooled = new PooledRepository(openRepository(path));
+                }
+                pooled.references++;
+                acquired[0] = pooled;
+                return pooled;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return new PooledGit(key, acquired[0]);
+    }
+
+    /**
+     * Closes the pooled repositories at or under the given directory, e.g. before the directory is deleted. The
+     * repositories that are in use are closed when their last handle is closed.
+     */
+    public void invalidate(Path directory) {
+        Path prefix = directory.toAbsolutePath().normalize();
+        List<Path> keys = repositories.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .toList();
+        keys.forEach(key -> repositories.computeIfPresent(key, (path, pooled) -> {
+            pooled.invalidated = true;
+            pooled.closeIfUnused();
+            return null;
+        }));
+    }
+
+    /**
+     * Closes the repositories that have not been used for longer than the configured idle timeout.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdleRepositories() {
+        long idleSince = System.currentTimeMillis()
+                - Duration.ofMinutes(gitServiceConfig.getRepositoryIdleTimeoutMinutes())
+                        .toMillis();
+
+        repositories.keySet().forEach(key -> repositories.computeIfPresent(key, (path, pooled) -> {
+            if (pooled.references > 0 || pooled.lastUsedAt >= idleSince) {
+                return pooled;
+            }
+            log.debug("Closing git repository {} after it has been idle", path);
+            pooled.invalidated = true;
+            pooled.closeIfUnused();
+            return null;
+        }));
+    }
+
+    @Override
+    public void destroy() {
+        repositories.keySet().forEach(this::invalidate);
+    }
+
+    private void release(Path key, PooledRepository pooled) {
+        // Releasing through the map serializes with the other changes to the repository's entry
+        repositories.compute(key, (path, current) -> {
+            pooled.references--;
+            pooled.lastUsedAt = System.currentTimeMillis();
+            pooled.closeIfUnused();
+            return current;
+        });
+    }
+
+    private static Repository openRepository(Path path) {
+        try {
+            return new RepositoryBuilder()
+                    .setFS(FS.DETECTED)
+                    .setGitDir(RepositoryCache.FileKey.lenient(path.toFile(), FS.DETECTED)
+                            .getFile())
+                    .setMustExist(true)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static class PooledRepository {
+        private final Repository repository;
+
+        private int references;
+
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private boolean invalidated;
+
+        private PooledRepository(Repository repository) {
+            this.repository = repository;
+        }
+
+        private void closeIfUnused() {
+            if (invalidated && references == 0) {
+                repository.close();
+            }
+        }
+    }
+
+    /**
+     * A handle on a pooled repository, which gives the repository back to the pool when it is closed rather than
+     * closing it.
+     */
+    private class PooledGit extends Git {
+        private final Path key;
+
+        private final PooledRepository pooled;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PooledGit(Path key, PooledRepository pooled) {
+            super(pooled.repository);
+            this.key = key;
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(key, pooled);
+            }
+        }
+    }
+}
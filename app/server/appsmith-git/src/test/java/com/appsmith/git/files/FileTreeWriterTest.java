@@ -0,0 +1,113 @@
+package com.appsmith.git.files;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FileTreeWriterTest {
+
+    @TempDir
+    Path repoPath;
+
+    @Test
+    public void write_WhenFileContentIsUnchanged_SkipsWrite() throws Exception {
+        Path unchangedFile = repoPath.resolve("pages/Page1/Page1.json");
+        Path changedFile = repoPath.resolve("application.json");
+        Files.createDirectories(unchangedFile.getParent());
+        Files.writeString(unchangedFile, "{\"name\":\"Page1\"}");
+        Files.writeString(changedFile, "{\"name\":\"app\"}");
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(unchangedFile, lastModifiedTime);
+
+        FileTreeWriter fileTreeWriter = new FileTreeWriter(2);
+        fileTreeWriter.addFile(unchangedFile, () -> "{\"name\":\"Page1\"}");
+        fileTreeWriter.addFile(changedFile, () -> "{\"name\":\"renamed\"}");
+        fileTreeWriter.addFile(repoPath.resolve("theme.json"), () -> "{}");
+        FileTreeWriter.Result result = fileTreeWriter.write();
+
+        assertThat(result.written()).isEqualTo(2);
+        assertThat(result.skipped()).isEqualTo(1);
+        assertThat(result.failed()).isZero();
+        assertThat(Files.getLastModifiedTime(unchangedFile)).isEqualTo(lastModifiedTime);
+        assertThat(Files.readString(changedFile)).isEqualTo("{\"name\":\"renamed\"}");
+        assertThat(Files.readString(repoPath.resolve("theme.json"))).isEqualTo("{}");
+    }
+
+    @Test
+    public void write_WhenSerializerFails_WritesOtherFiles() throws Exception {
+        FileTreeWriter fileTreeWriter = new FileTreeWriter(2);
+        fileTreeWriter.addFile(repoPath.resolve("application.json"), () -> {
+            throw new IllegalStateException("serialization failed");
+        });
+        fileTreeWriter.addFile(repoPath.resolve("theme.json"), () -> "{}");
+        FileTreeWriter.Result result = fileTreeWriter.write();
+
+        assertThat(result.written()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(repoPath.resolve("application.json")).doesNotExist();
+        assertThat(repoPath.resolve("theme.json")).exists();
+    }
+
+    @Test
+    public void write_WhenResourcesAreDeleted_DeletesTheirPathsBeforeWriting() throws Exception {
+        Path datasourceDirectory = repoPath.resolve("datasources");
+        Path pageDirectory = repoPath.resolve("pages");
+        Files.createDirectories(datasourceDirectory);
+        Files.createDirectories(pageDirectory.resolve("Page1/queries/Query1"));
+        Files.createDirectories(pageDirectory.resolve("Page2/queries/Query2"));
+        Files.writeString(datasourceDirectory.resolve("ds1.json"), "{}");
+        Files.writeString(datasourceDirectory.resolve("ds2.json"), "{}");
+        Files.writeString(pageDirectory.resolve("Page2/queries/Query2/metadata.json"), "{}");
+
+        FileTreeWriter fileTreeWriter = new FileTreeWriter(2);
+        fileTreeWriter.deleteFilesOfDeletedResources(Set.of("ds1.json"), datasourceDirectory);
+        fileTreeWriter.deleteDirectoriesOfDeletedResources(Set.of("Page1"), pageDirectory);
+        // Already deleted along with its page
+        fileTreeWriter.deletePath(pageDirectory.resolve("Page2/queries/Query2"));
+        // Deleted resources whose name is taken by a new one are written again
+        fileTreeWriter.addFile(datasourceDirectory.resolve("ds2.json"), () -> "{\"name\":\"ds2\"}");
+        FileTreeWriter.Result result = fileTreeWriter.write();
+
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(result.written()).isEqualTo(1);
+        assertThat(datasourceDirectory.resolve("ds1.json")).exists();
+        assertThat(datasourceDirectory.resolve("ds2.json")).hasContent("{\"name\":\"ds2\"}");
+        assertThat(pageDirectory.resolve("Page1")).exists();
+        assertThat(pageDirectory.resolve("Page2")).doesNotExist();
+    }
+
+    @Test
+    public void write_WhenEveryBoundedElasticWorkerIsWriting_WritesAllTrees() {
+        // More concurrent saves than there are workers, each of which blocks its worker until its tree is written
+        int saves = Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE + 10;
+
+        List<FileTreeWriter.Result> results = Flux.range(0, saves)
+                .flatMap(
+                        i -> Mono.fromCallable(() -> writeApplication(repoPath.resolve("app" + i)))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        saves)
+                .collectList()
+                .block(Duration.ofSeconds(60));
+
+        assertThat(results).hasSize(saves).allSatisfy(result -> assertThat(result.written())
+                .isEqualTo(2));
+    }
+
+    private FileTreeWriter.Result writeApplication(Path applicationPath) {
+        FileTreeWriter fileTreeWriter = new FileTreeWriter(2);
+        fileTreeWriter.addFile(applicationPath.resolve("application.json"), () -> "{}");
+        fileTreeWriter.addFile(applicationPath.resolve("theme.json"), () -> "{}");
+        return fileTreeWriter.write();
+    }
+}
@@ -1,5 +1,6 @@
 package com.appsmith.git.helpers;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.ObservationHelper;
 import com.appsmith.external.models.ApplicationGitReference;
@@ -9,6 +10,7 @@ import com.appsmith.git.files.operations.FileOperationsImpl;
 import com.appsmith.git.service.GitExecutorImpl;
 import com.google.gson.GsonBuilder;
 import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -21,6 +23,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,7 +47,12 @@ public class FileUtilsImplTest {
         gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
         FileOperations fileOperations =
                 new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP);
-        fileUtils = new FileUtilsImpl(gitServiceConfig, gitExecutor, fileOperations, ObservationHelper.NOOP);
+        fileUtils = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                fileOperations,
+                ObservationHelper.NOOP,
+                Mockito.mock(GitRepositoryPool.class));
     }
 
     @AfterEach
@@ -80,6 +88,84 @@ public class FileUtilsImplTest {
         Assertions.assertFalse(actionCollectionDirectoryPath.toFile().exists());
     }
 
+    @Test
+    public void saveApplicationToGitRepoForStatus_WhenEntitiesAreUnchanged_ReturnsLastStatusWithoutSaving()
+            throws GitAPIException, IOException {
+        Path repoSuffix = Path.of("repo");
+        Path repoPath = localTestDirectoryPath.resolve(repoSuffix);
+        try (Git git = Git.init()
+                .setDirectory(repoPath.toFile())
+                .setInitialBranch("branch")
+                .call()) {
+            git.commit()
+                    .setAuthor("test", "test@appsmith.com")
+                    .setCommitter("test", "test@appsmith.com")
+                    .setMessage("Initial commit")
+                    .setAllowEmpty(true)
+                    .call();
+        }
+
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(localTestDirectoryPath.toString());
+        gitServiceConfig.setRepositoryIdleTimeoutMinutes(10);
+        gitServiceConfig.setPackedGitLimitMb(64);
+        gitServiceConfig.setPackedGitOpenFiles(256);
+        gitServiceConfig.setDeltaBaseCacheLimitMb(32);
+        GitRepositoryPool gitRepositoryPool = new GitRepositoryPool(gitServiceConfig);
+        FileUtilsImpl fileUtilsWithRepository = new FileUtilsImpl(
+                gitServiceConfig,
+                gitExecutor,
+                new FileOperationsImpl(gitServiceConfig, gitExecutor, new GsonBuilder(), null, ObservationHelper.NOOP),
+                ObservationHelper.NOOP,
+                gitRepositoryPool);
+
+        Mockito.when(gitExecutor.resetToLastCommit(Mockito.any(Path.class), Mockito.any()))
+                .thenReturn(Mono.just(true));
+
+        ApplicationGitReference applicationGitReference = new ApplicationGitReference();
+        applicationGitReference.setApplication(Map.of("name", "application"));
+        applicationGitReference.setTheme(new Object());
+        applicationGitReference.setMetadata(new Object());
+        applicationGitReference.setPages(new HashMap<>());
+        applicationGitReference.setActions(new HashMap<>());
+        applicationGitReference.setActionCollections(new HashMap<>());
+        applicationGitReference.setDatasources(new HashMap<>());
+        applicationGitReference.setJsLibraries(new HashMap<>());
+
+        try {
+            // Nothing has been recorded for the branch yet, so the application is saved
+            Assertions.assertNull(fileUtilsWithRepository
+                    .saveApplicationToGitRepoForStatus(repoSuffix, applicationGitReference, "branch")
+                    .block());
+            Mockito.verify(gitExecutor, Mockito.times(1)).resetToLastCommit(Mockito.any(Path.class), Mockito.any());
+
+            // Record the status like the git executor does once it has computed it
+            GitStatusDTO gitStatusDTO = new GitStatusDTO();
+            gitStatusDTO.setIsClean(false);
+            gitStatusDTO.setModified(Set.of("application.json"));
+            ContentHashManifest manifest = ContentHashManifest.read(repoPath, "branch");
+            Assertions.assertNotNull(manifest);
+            manifest.setStatus(gitStatusDTO);
+            manifest.write(repoPath, "branch");
+
+            GitStatusDTO lastStatus = fileUtilsWithRepository
+                    .saveApplicationToGitRepoForStatus(repoSuffix, applicationGitReference, "branch")
+                    .block();
+            Assertions.assertNotNull(lastStatus);
+            Assertions.assertEquals(Set.of("application.json"), lastStatus.getModified());
+            Mockito.verify(gitExecutor, Mockito.times(1)).resetToLastCommit(Mockito.any(Path.class), Mockito.any());
+
+            // Once an entity changes, the application is saved again
+            applicationGitReference.setApplication(Map.of("name", "renamed application"));
+            Assertions.assertNull(fileUtilsWithRepository
+                    .saveApplicationToGitRepoForStatus(repoSuffix, applicationGitReference, "branch")
+                    .block());
+            Mockito.verify(gitExecutor, Mockito.times(2)).resetToLastCommit(Mockito.any(Path.class), Mockito.any());
+        } finally {
+            gitRepositoryPool.destroy();
+        }
+    }
+
     @Test
     public void testScanAndDeleteDirectoryForDeletedResources() {
         Path pageDirectoryPath = localTestDirectoryPath.resolve(PAGE_DIRECTORY);
@@ -0,0 +1,131 @@
+package com.appsmith.git.helpers;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.errors.RepositoryNotFoundException;
+import org.eclipse.jgit.lib.Repository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GitRepositoryPoolTest {
+
+    @TempDir
+    Path gitRoot;
+
+    private GitServiceConfig gitServiceConfig;
+
+    private GitRepositoryPool gitRepositoryPool;
+
+    private Path repoPath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRoot.toString());
+        gitServiceConfig.setRepositoryIdleTimeoutMinutes(10);
+        gitServiceConfig.setPackedGitLimitMb(64);
+        gitServiceConfig.setPackedGitOpenFiles(256);
+        gitServiceConfig.setDeltaBaseCacheLimitMb(32);
+        gitRepositoryPool = new GitRepositoryPool(gitServiceConfig);
+
+        repoPath = gitRoot.resolve("workspaceId/applicationId/repo");
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        gitRepositoryPool.destroy();
+    }
+
+    @Test
+    public void open_WhenRepositoryIsOpenedAgain_ReusesRepository() throws Exception {
+        Repository firstRepository;
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            firstRepository = git.getRepository();
+        }
+
+        try (Git git = gitRepositoryPool.open(repoPath.resolve("../repo"))) {
+            assertThat(git.getRepository()).isSameAs(firstRepository);
+            // The repository is still usable after the previous handle has been closed
+            assertThat(git.branchList().call()).isEmpty();
+        }
+    }
+
+    @Test
+    public void open_WhenDirectoryIsNotARepository_ThrowsRepositoryNotFound() {
+        assertThatThrownBy(() -> gitRepositoryPool.open(gitRoot.resolve("missing")))
+                .isInstanceOf(RepositoryNotFoundException.class);
+    }
+
+    @Test
+    public void invalidate_WhenParentDirectoryIsDeleted_OpensNewRepository() throws Exception {
+        Repository firstRepository;
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            firstRepository = git.getRepository();
+        }
+
+        gitRepositoryPool.invalidate(repoPath.getParent());
+        FileSystemUtils.deleteRecursively(repoPath.getParent());
+        Git.init().setDirectory(repoPath.toFile()).call().close();
+
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(firstRepository);
+        }
+    }
+
+    @Test
+    public void invalidate_WhenRepositoryIsInUse_KeepsItOpenUntilItIsClosed() throws Exception {
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            gitRepositoryPool.invalidate(repoPath);
+
+            assertThat(git.branchList().call()).isEmpty();
+            try (Git otherGit = gitRepositoryPool.open(repoPath)) {
+                assertThat(otherGit.getRepository()).isNotSameAs(git.getRepository());
+            }
+        }
+    }
+
+    @Test
+    public void open_WhenRepositoryWasDeletedOutsideThePool_ThrowsRepositoryNotFound() throws Exception {
+        gitRepositoryPool.open(repoPath).close();
+
+        FileSystemUtils.deleteRecursively(repoPath);
+
+        assertThatThrownBy(() -> gitRepositoryPool.open(repoPath)).isInstanceOf(RepositoryNotFoundException.class);
+    }
+
+    @Test
+    public void evictIdleRepositories_WhenRepositoryIsIdle_OpensNewRepository() throws Exception {
+        Repository firstRepository;
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            firstRepository = git.getRepository();
+        }
+
+        gitServiceConfig.setRepositoryIdleTimeoutMinutes(-1);
+        gitRepositoryPool.evictIdleRepositories();
+
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            assertThat(git.getRepository()).isNotSameAs(firstRepository);
+        }
+    }
+
+    @Test
+    public void evictIdleRepositories_WhenRepositoryIsInUse_KeepsRepository() throws Exception {
+        try (Git git = gitRepositoryPool.open(repoPath)) {
+            gitServiceConfig.setRepositoryIdleTimeoutMinutes(-1);
+            gitRepositoryPool.evictIdleRepositories();
+
+            try (Git otherGit = gitRepositoryPool.open(repoPath)) {
+                assertThat(otherGit.getRepository()).isSameAs(git.getRepository());
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.appsmith.git.service;
+
+import com.appsmith.git.configurations.GitServiceConfig;
+import com.appsmith.git.helpers.GitRepositoryPool;
+import io.micrometer.observation.ObservationRegistry;
+import org.eclipse.jgit.api.Git;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of the status and list branches operations of {@link GitExecutorImpl} on a repository with
+ * 2,000 commits and 50 branches, packed like a cloned repository.
+ *
+ * <ul>
+ *     <li>freshRepository: opening the repository for every operation, which is how the operations used to run</li>
+ *     <li>pooledRepository: reusing the repository of a {@link GitRepositoryPool} across operations</li>
+ * </ul>
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GitExecutorBenchmark {
+
+    private static final int COMMIT_COUNT = 2_000;
+
+    private static final int BRANCH_COUNT = 50;
+
+    private static final int FILE_COUNT = 200;
+
+    private static final Path REPO_SUFFIX = Path.of("workspaceId", "applicationId", "repo");
+
+    private Path gitRoot;
+
+    private Path repoPath;
+
+    private GitRepositoryPool gitRepositoryPool;
+
+    private GitExecutorImpl freshRepositoryGitExecutor;
+
+    private GitExecutorImpl pooledRepositoryGitExecutor;
+
+    @Setup
+    public void setUp() throws Exception {
+        gitRoot = Files.createTempDirectory("git-executor-benchmark");
+        repoPath = gitRoot.resolve(REPO_SUFFIX);
+
+        try (Git git = Git.init().setDirectory(repoPath.toFile()).call()) {
+            for (int i = 0; i < FILE_COUNT; i++) {
+                Files.writeString(repoPath.resolve("file_" + i + ".json"), "{\"version\": 0}");
+            }
+            for (int i = 0; i < COMMIT_COUNT; i++) {
+                Files.writeString(repoPath.resolve("file_" + (i % FILE_COUNT) + ".json"), "{\"version\": " + i + "}");
+                git.add().addFilepattern(".").call();
+                git.commit().setMessage("Commit " + i).setAuthor("bench", "bench@appsmith.com").call();
+                if (i % (COMMIT_COUNT / BRANCH_COUNT) == 0) {
+                    git.branchCreate().setName("branch_" + i).call();
+                }
+            }
+            git.gc().call();
+        }
+
+        GitServiceConfig gitServiceConfig = new GitServiceConfig();
+        gitServiceConfig.setGitRootPath(gitRoot.toString());
+        gitServiceConfig.setRepositoryIdleTimeoutMinutes(10);
+        gitServiceConfig.setPackedGitLimitMb(64);
+        gitServiceConfig.setPackedGitOpenFiles(256);
+        gitServiceConfig.setDeltaBaseCacheLimitMb(32);
+        gitRepositoryPool = new GitRepositoryPool(gitServiceConfig);
+
+        pooledRepositoryGitExecutor =
+                new GitExecutorImpl(gitServiceConfig, null, ObservationRegistry.NOOP, gitRepositoryPool);
+        // A pool that gives every operation a repository of its own, as Git.open did
+        GitRepositoryPool unpooledRepositories = new GitRepositoryPool(gitServiceConfig) {
+            @Override
+            public Git open(Path repoPath) throws IOException {
+                return Git.open(repoPath.toFile());
+            }
+        };
+        freshRepositoryGitExecutor =
+                new GitExecutorImpl(gitServiceConfig, null, ObservationRegistry.NOOP, unpooledRepositories);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        gitRepositoryPool.destroy();
+        FileSystemUtils.deleteRecursively(gitRoot);
+    }
+
+    @Benchmark
+    public Object statusWithFreshRepository() {
+        return freshRepositoryGitExecutor.getStatus(repoPath, "master").block();
+    }
+
+    @Benchmark
+    public Object statusWithPooledRepository() {
+        return pooledRepositoryGitExecutor.getStatus(repoPath, "master").block();
+    }
+
+    @Benchmark
+    public Object listBranchesWithFreshRepository() {
+        return freshRepositoryGitExecutor.listBranches(REPO_SUFFIX).block();
+    }
+
+    @Benchmark
+    public Object listBranchesWithPooledRepository() {
+        return pooledRepositoryGitExecutor.listBranches(REPO_SUFFIX).block();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(GitExecutorBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
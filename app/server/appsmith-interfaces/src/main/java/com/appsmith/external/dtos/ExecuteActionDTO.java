@@ -1,5 +1,6 @@
 package com.appsmith.external.dtos;
 
+import com.appsmith.external.helpers.ExecutionBlobStore;
 import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.Param;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -18,6 +19,7 @@ public class ExecuteActionDTO {
 
     String actionId;
     String datasourceId;
+    String environmentId;
     String workspaceId;
     String instanceId;
     String tenantId;
@@ -43,6 +45,11 @@ public class ExecuteActionDTO {
     // This map is where we store the string values of the blob parts for replacement into evaluated value params
     Map<String, String> blobValuesMap; // e.g. {"blobId": "stringified-blob-data"}
 
+    // Raw bytes of the blob parts, for plugins that would rather stream a blob than read its stringified value
+    @JsonIgnore
+    @ToString.Exclude
+    ExecutionBlobStore blobStore;
+
     Map<String, String> invertParameterMap; // e.g. {"k1":"Text1.text","k2":"Table1.data", "k3": "Api1.data"}
 
     Map<String, Object> analyticsProperties;
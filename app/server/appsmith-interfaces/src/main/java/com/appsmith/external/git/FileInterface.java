@@ -1,5 +1,6 @@
 package com.appsmith.external.git;
 
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.models.ApplicationGitReference;
 import com.appsmith.external.models.ArtifactGitReference;
 import org.eclipse.jgit.api.errors.GitAPIException;
@@ -34,6 +35,19 @@ public interface FileInterface {
             Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName)
             throws IOException, GitAPIException;
 
+    /**
+     * This method saves the serialised application to git repo like saveApplicationToGitRepo, so that the status of the
+     * branch can be computed. The save is skipped when the entities of the application are the same as the ones the
+     * status of the branch was last computed for, as recorded in the content-hash manifest of the branch.
+     * @param baseRepoSuffix path suffix used to create a repo path
+     * @param artifactGitReference application reference object from which entire application can be rehydrated
+     * @param branchName name of the branch for the current application
+     * @return the last computed status of the branch if the save was skipped, empty if the application has been saved
+     * and the status needs to be computed from the repo
+     */
+    Mono<GitStatusDTO> saveApplicationToGitRepoForStatus(
+            Path baseRepoSuffix, ArtifactGitReference artifactGitReference, String branchName);
+
     /**
      * This method will reconstruct the application from the repo
      *
@@ -1,6 +1,7 @@
 package com.appsmith.external.git.operations;
 
 import com.appsmith.external.models.ApplicationGitReference;
+import com.google.gson.Gson;
 import org.json.JSONObject;
 import reactor.core.publisher.Mono;
 
@@ -20,6 +21,21 @@ public interface FileOperationsCE {
 
     boolean writeToFile(Object sourceEntity, Path path) throws IOException;
 
+    /**
+     * Serializes a resource to the content of its file, as written by writeToFile
+     */
+    String serializeResource(Object sourceEntity) throws IOException;
+
+    /**
+     * Serializes the widgets to the content of their file, as written by saveWidgets
+     */
+    String serializeWidgets(JSONObject sourceEntity) throws IOException;
+
+    /**
+     * Serializes the metadata of the application to the content of its file, as written by saveMetadataResource
+     */
+    String serializeMetadataResource(ApplicationGitReference applicationGitReference) throws IOException;
+
     void scanAndDeleteFileForDeletedResources(Set<String> validResources, Path resourceDirectory);
 
     void scanAndDeleteDirectoryForDeletedResources(Set<String> validResources, Path resourceDirectory);
@@ -39,4 +55,6 @@ public interface FileOperationsCE {
     JSONObject getMainContainer(Object pageJson);
 
     Mono<Long> deleteIndexLockFile(Path path, int validTimeInSeconds);
+
+    Gson getGson();
 }
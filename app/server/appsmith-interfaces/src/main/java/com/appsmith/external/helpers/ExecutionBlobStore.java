@@ -0,0 +1,204 @@
+package com.appsmith.external.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the blobs that were uploaded as part of an action execution request.
+ *
+ * Blobs are written to the store as their bytes arrive. A blob is kept in memory until it grows beyond the spill
+ * threshold, after which it is moved to a temporary file, so that large uploads do not have to be held on the heap
+ * while the request is being parsed. Plugins can read a blob with {@link #openStream(String)}, without materializing
+ * it as a string.
+ *
+ * The store must be closed once the execution is complete, which deletes any temporary files it created.
+ */
+@Slf4j
+public class ExecutionBlobStore implements Closeable {
+
+    private static final String TEMP_FILE_PREFIX = "appsmith-blob-";
+
+    private final long spillThreshold;
+
+    private final Map<String, Blob> blobs = new ConcurrentHashMap<>();
+
+    private volatile boolean closed = false;
+
+    private record Blob(byte[] bytes, Path file, long size) {}
+
+    public ExecutionBlobStore(long spillThreshold) {
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Returns a writer for the blob with the given id. The blob becomes visible in the store only once the writer is
+     * committed.
+     */
+    public BlobWriter newWriter(String blobId) {
+        return new BlobWriter(blobId);
+    }
+
+    public boolean contains(String blobId) {
+        return blobs.containsKey(blobId);
+    }
+
+    public Set<String> getBlobIds() {
+        return blobs.keySet();
+    }
+
+    public long getSize(String blobId) {
+        final Blob blob = blobs.get(blobId);
+        return blob == null ? -1 : blob.size();
+    }
+
+    /**
+     * @return whether the blob with the given id has been moved to a temporary file
+     */
+    public boolean isSpilled(String blobId) {
+        final Blob blob = blobs.get(blobId);
+        return blob != null && blob.file() != null;
+    }
+
+    public InputStream openStream(String blobId) throws IOException {
+        final Blob blob = blobs.get(blobId);
+        if (blob == null) {
+            throw new IOException("Blob not found: " + blobId);
+        }
+
+        return blob.file() == null ? new ByteArrayInputStream(blob.bytes()) : Files.newInputStream(blob.file());
+    }
+
+    public String readAsString(String blobId, Charset charset) throws IOException {
+        final Blob blob = blobs.get(blobId);
+        if (blob == null) {
+            return null;
+        }
+
+        if (blob.file() == null) {
+            return new String(blob.bytes(), charset);
+        }
+
+        try (InputStream inputStream = Files.newInputStream(blob.file())) {
+            return new String(inputStream.readAllBytes(), charset);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        blobs.values().forEach(blob -> deleteQuietly(blob.file()));
+        blobs.clear();
+    }
+
+    private void commit(String blobId, Blob blob) {
+        final Blob previous = blobs.put(blobId, blob);
+        if (previous != null) {
+            deleteQuietly(previous.file());
+        }
+
+        // The execution may have completed while this blob was still being written
+        if (closed) {
+            close();
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Unable to delete temporary blob file {}", file, e);
+        }
+    }
+
+    /**
+     * Accumulates the bytes of a single blob. Writing may block when the blob has been spilled to a file, so callers
+     * are expected to write from a thread that allows blocking calls.
+     */
+    public class BlobWriter implements Closeable {
+
+        private final String blobId;
+
+        private ByteArrayOutputStream memoryBuffer = new ByteArrayOutputStream();
+
+        private Path file;
+
+        private OutputStream fileStream;
+
+        private long size = 0;
+
+        private boolean committed = false;
+
+        private BlobWriter(String blobId) {
+            this.blobId = blobId;
+        }
+
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            size += length;
+
+            if (fileStream == null && size > spillThreshold) {
+                file = Files.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+                fileStream = Files.newOutputStream(file);
+                memoryBuffer.writeTo(fileStream);
+                memoryBuffer = null;
+            }
+
+            if (fileStream != null) {
+                fileStream.write(bytes, offset, length);
+            } else {
+                memoryBuffer.write(bytes, offset, length);
+            }
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Makes the blob available in the store.
+         */
+        public void commit() throws IOException {
+            if (fileStream != null) {
+                fileStream.close();
+                commit(blobId, new Blob(null, file, size));
+            } else {
+                commit(blobId, new Blob(memoryBuffer.toByteArray(), null, size));
+            }
+            committed = true;
+        }
+
+        /**
+         * Discards the blob if it was never committed, e.g. when the request failed while it was being written.
+         */
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+
+            if (fileStream != null) {
+                try {
+                    fileStream.close();
+                } catch (IOException e) {
+                    log.warn("Unable to close temporary blob file {}", file, e);
+                }
+            }
+            deleteQuietly(file);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query result while its rows are being materialized.
+ *
+ * Unlike {@link Sizeof}, which serializes the whole accumulated result every time it is asked, this class only looks
+ * at each row once, when it is added. The estimate is meant to be close to the number of bytes the result would
+ * occupy once serialized, so that it can be compared against {@link com.appsmith.external.services.SharedConfig#getMaxResponseSize()}.
+ */
+public class ResultSizeEstimator {
+
+    // Flat cost for values whose serialized form is small and roughly constant, e.g. dates and timestamps
+    private static final int FIXED_VALUE_SIZE = 32;
+
+    // Per entry overhead for the structure holding a value, e.g. a map entry or an array slot
+    private static final int ENTRY_OVERHEAD = 4;
+
+    private final long maxSize;
+
+    private long estimatedSize = 0;
+
+    public ResultSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds the estimated size of the given row to the running total.
+     *
+     * @return the estimated size of all the rows added so far
+     */
+    public long addRow(Map<String, Object> row) {
+        estimatedSize += estimate(row);
+        return estimatedSize;
+    }
+
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    public boolean isLimitExceeded() {
+        return estimatedSize > maxSize;
+    }
+
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 1;
+        }
+
+        if (value instanceof CharSequence charSequence) {
+            return 2 + charSequence.length();
+        }
+
+        if (value instanceof Boolean || value instanceof Byte) {
+            return 1;
+        }
+
+        if (value instanceof Short || value instanceof Character) {
+            return 2;
+        }
+
+        if (value instanceof Integer || value instanceof Float) {
+            return 4;
+        }
+
+        if (value instanceof Long || value instanceof Double) {
+            return 8;
+        }
+
+        if (value instanceof BigDecimal bigDecimal) {
+            return 8 + bigDecimal.unscaledValue().bitLength() / 8;
+        }
+
+        if (value instanceof BigInteger bigInteger) {
+            return 4 + bigInteger.bitLength() / 8;
+        }
+
+        if (value instanceof TemporalAccessor || value instanceof Date) {
+            return FIXED_VALUE_SIZE;
+        }
+
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+
+        if (value instanceof JsonNode jsonNode) {
+            return estimateJsonNode(jsonNode);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            long size = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += ENTRY_OVERHEAD + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long size = 0;
+            for (Object item : collection) {
+                size += ENTRY_OVERHEAD + estimate(item);
+            }
+            return size;
+        }
+
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return length == 0 ? 0 : (long) length * estimate(Array.get(value, 0));
+            }
+
+            long size = 0;
+            for (int i = 0; i < length; i++) {
+                size += ENTRY_OVERHEAD + estimate(Array.get(value, i));
+            }
+            return size;
+        }
+
+        return 2 + String.valueOf(value).length();
+    }
+
+    private static long estimateJsonNode(JsonNode node) {
+        if (node.isTextual()) {
+            return 2 + node.textValue().length();
+        }
+
+        if (node.isObject()) {
+            long size = 0;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += ENTRY_OVERHEAD + 2 + field.getKey().length() + estimateJsonNode(field.getValue());
+            }
+            return size;
+        }
+
+        if (node.isArray()) {
+            long size = 0;
+            for (JsonNode item : node) {
+                size += ENTRY_OVERHEAD + estimateJsonNode(item);
+            }
+            return size;
+        }
+
+        if (node.isBinary()) {
+            return node.asText().length();
+        }
+
+        if (node.isNumber()) {
+            return 8;
+        }
+
+        return 1;
+    }
+}
@@ -0,0 +1,274 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps one {@link ConnectionProvider} and {@link HttpClient} per datasource, so that consecutive executions against
+ * the same datasource reuse keep-alive connections instead of paying for a new TCP and TLS handshake every time.
+ *
+ * Entries are keyed on the id of the datasource and of the environment it is executed in, its origin (scheme, host
+ * and port), its SSL and proxy settings and the HTTP version requested by the action. When the configuration of a
+ * datasource in an environment is updated with different SSL or proxy settings, the pools that were created for its
+ * previous settings in that environment are disposed, and all of its pools are disposed when it is deleted. Entries
+ * that have not been used for {@link #IDLE_TIMEOUT} are disposed as well, and the cache never holds more than
+ * {@link #MAX_POOLS} entries.
+ *
+ * Pools are disposed gracefully: they stop handing out connections, but the requests that hold a connection of the
+ * pool, or are waiting for one, are given {@link #DISPOSE_TIMEOUT} to finish before the connections are closed.
+ *
+ * Every pool is created with Reactor Netty metrics enabled, which publishes the active, idle and pending connection
+ * counts of the pools under the {@code reactor.netty.connection.provider} meters. All pools share the same name, so
+ * that the number of meters is bounded by the number of remote addresses rather than by the number of datasources.
+ */
+@Slf4j
+public class HttpClientPoolCache {
+
+    public static final int MAX_POOLS = 256;
+
+    public static final Duration IDLE_TIMEOUT = Duration.ofSeconds(600);
+
+    public static final Duration DISPOSE_TIMEOUT = Duration.ofSeconds(300);
+
+    private static final String POOL_NAME = "rest-api-provider";
+
+    private static final HttpClientPoolCache INSTANCE = new HttpClientPoolCache(MAX_POOLS, IDLE_TIMEOUT);
+
+    static {
+        Gauge.builder("appsmith.rest.api.connection.pools", INSTANCE, HttpClientPoolCache::size)
+                .description("Number of connection pools held for REST API datasources")
+                .register(Metrics.globalRegistry);
+    }
+
+    private final int maxPools;
+
+    private final long idleTimeoutMillis;
+
+    // Access ordered, so that the first entry is always the least recently used one
+    private final LinkedHashMap<PoolKey, PoolEntry> pools = new LinkedHashMap<>(16, 0.75f, true);
+
+    // The datasource and environment ids are null when the caller does not know which datasource the configuration
+    // belongs to
+    record PoolKey(
+            String datasourceId, String environmentId, String origin, String settingsHash, HttpProtocol httpProtocol) {}
+
+    private record PoolEntry(ConnectionProvider provider, HttpClient httpClient, long lastAccessedAt) {
+        PoolEntry touch(long now) {
+            return new PoolEntry(provider, httpClient, now);
+        }
+    }
+
+    HttpClientPoolCache(int maxPools, Duration idleTimeout) {
+        this.maxPools = maxPools;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+    }
+
+    public static HttpClientPoolCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the shared http client for the given datasource, environment and HTTP version, creating it if required.
+     *
+     * @param datasourceId  id of the datasource the configuration belongs to, or null when it is not known, in which
+     *                      case the pool is only disposed once it is idle or evicted
+     * @param environmentId id of the environment the configuration belongs to, or null when it is not known
+     */
+    public HttpClient getHttpClient(
+            String datasourceId,
+            String environmentId,
+            DatasourceConfiguration datasourceConfiguration,
+            HttpProtocol httpProtocol) {
+        final PoolKey key = new PoolKey(
+                datasourceId,
+                environmentId,
+                getOrigin(datasourceConfiguration),
+                getSettingsHash(datasourceConfiguration),
+                httpProtocol);
+        final long now = System.currentTimeMillis();
+        final List<ConnectionProvider> disposable = new ArrayList<>();
+
+        final HttpClient httpClient;
+        synchronized (pools) {
+            removeIdleOrStale(key, now, disposable);
+
+            PoolEntry entry = pools.get(key);
+            if (entry == null) {
+                entry = createEntry(key, datasourceConfiguration, now);
+                pools.put(key, entry);
+
+                if (pools.size() > maxPools) {
+                    final Iterator<PoolEntry> iterator = pools.values().iterator();
+                    disposable.add(iterator.next().provider());
+                    iterator.remove();
+                }
+            } else {
+                pools.put(key, entry.touch(now));
+            }
+            httpClient = entry.httpClient();
+        }
+
+        dispose(disposable);
+        return httpClient;
+    }
+
+    /**
+     * Disposes every pool that was created for the given datasource, irrespective of the environment, HTTP version or
+     * settings it was created with.
+     */
+    public void invalidate(String datasourceId) {
+        if (datasourceId == null) {
+            return;
+        }
+
+        final List<ConnectionProvider> disposable = new ArrayList<>();
+
+        synchronized (pools) {
+            final Iterator<Map.Entry<PoolKey, PoolEntry>> iterator = pools.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<PoolKey, PoolEntry> entry = iterator.next();
+                if (datasourceId.equals(entry.getKey().datasourceId())) {
+                    disposable.add(entry.getValue().provider());
+                    iterator.remove();
+                }
+            }
+        }
+
+        dispose(disposable);
+    }
+
+    public int size() {
+        synchronized (pools) {
+            return pools.size();
+        }
+    }
+
+    /**
+     * Collects entries that have been idle for too long, along with the entries of the same datasource and environment
+     * that were created with settings different from the ones in the given key, i.e. before the datasource was
+     * updated. Entries of other environments are kept, since every environment of a datasource has its own
+     * configuration, and so are entries of other origins, since the url of a datasource may be bound to values that
+     * change between executions.
+     */
+    private void removeIdleOrStale(PoolKey key, long now, List<ConnectionProvider> disposable) {
+        final Iterator<Map.Entry<PoolKey, PoolEntry>> iterator = pools.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<PoolKey, PoolEntry> entry = iterator.next();
+            final PoolKey existingKey = entry.getKey();
+            final boolean isIdle = now - entry.getValue().lastAccessedAt() > idleTimeoutMillis;
+            final boolean isStale = key.datasourceId() != null
+                    && key.datasourceId().equals(existingKey.datasourceId())
+                    && Objects.equals(key.environmentId(), existingKey.environmentId())
+                    && !existingKey.settingsHash().equals(key.settingsHash());
+
+            if (isIdle || isStale) {
+                disposable.add(entry.getValue().provider());
+                iterator.remove();
+            }
+        }
+    }
+
+    private PoolEntry createEntry(PoolKey key, DatasourceConfiguration datasourceConfiguration, long now) {
+        final ConnectionProvider provider = ConnectionProvider.builder(POOL_NAME)
+                .maxIdleTime(IDLE_TIMEOUT)
+                .maxLifeTime(IDLE_TIMEOUT)
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)
+                .disposeTimeout(DISPOSE_TIMEOUT)
+                .build();
+
+        final HttpClient httpClient = HttpClient.create(provider)
+                .protocol(key.httpProtocol())
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+
+        return new PoolEntry(provider, httpClient, now);
+    }
+
+    private static void dispose(List<ConnectionProvider> providers) {
+        // Pools are built with a dispose timeout, so that requests which are in flight on a pool are allowed to
+        // complete before its connections are closed
+        for (ConnectionProvider provider : providers) {
+            provider.disposeLater()
+                    .doOnError(error -> log.debug("Failed to dispose connection pool {}", provider.name(), error))
+                    .onErrorComplete()
+                    .subscribe();
+        }
+    }
+
+    static String getOrigin(DatasourceConfiguration datasourceConfiguration) {
+        final String url = datasourceConfiguration.getUrl();
+        if (url == null || url.isBlank()) {
+            return "";
+        }
+
+        try {
+            final URI uri = URI.create(url.trim());
+            if (uri.getHost() != null) {
+                return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+            }
+        } catch (IllegalArgumentException e) {
+            // The url may still contain mustache bindings, in which case it is used as is
+        }
+
+        return url.trim();
+    }
+
+    /**
+     * Hashes the settings that change how connections are established, i.e. the SSL configuration of the datasource
+     * and the system proxy that {@link com.appsmith.util.WebClientUtils} applies to every client.
+     */
+    static String getSettingsHash(DatasourceConfiguration datasourceConfiguration) {
+        final StringBuilder settings = new StringBuilder();
+
+        final Connection connection = datasourceConfiguration.getConnection();
+        final SSLDetails ssl = connection == null ? null : connection.getSsl();
+        if (ssl != null) {
+            settings.append(ssl.getAuthType());
+            if (ssl.getCertificateFile() != null) {
+                settings.append(':').append(Objects.toString(ssl.getCertificateFile().getBase64Content(), ""));
+            }
+        }
+
+        settings.append('|')
+                .append(System.getProperty("java.net.useSystemProxies", ""))
+                .append('|')
+                .append(System.getProperty("http.proxyHost", ""))
+                .append(':')
+                .append(System.getProperty("http.proxyPort", ""))
+                .append('|')
+                .append(System.getProperty("https.proxyHost", ""))
+                .append(':')
+                .append(System.getProperty("https.proxyPort", ""));
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(settings.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256, so this is not expected to happen
+            return settings.toString();
+        }
+    }
+}
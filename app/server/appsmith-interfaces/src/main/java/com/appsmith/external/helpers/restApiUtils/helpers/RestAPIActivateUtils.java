@@ -1,8 +1,8 @@
 package com.appsmith.external.helpers.restApiUtils.helpers;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -32,13 +32,11 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -246,7 +244,18 @@ public class RestAPIActivateUtils {
 
     public WebClient.Builder getWebClientBuilder(
             ActionConfiguration actionConfiguration, DatasourceConfiguration datasourceConfiguration) {
-        HttpClient httpClient = getHttpClient(datasourceConfiguration, actionConfiguration.getHttpVersion());
+        return getWebClientBuilder(null, actionConfiguration, datasourceConfiguration);
+    }
+
+    public WebClient.Builder getWebClientBuilder(
+            ExecuteActionDTO executeActionDTO,
+            ActionConfiguration actionConfiguration,
+            DatasourceConfiguration datasourceConfiguration) {
+        HttpClient httpClient = getHttpClient(
+                getDatasourceId(executeActionDTO),
+                executeActionDTO == null ? null : executeActionDTO.getEnvironmentId(),
+                datasourceConfiguration,
+                actionConfiguration.getHttpVersion());
         WebClient.Builder webClientBuilder = WebClientUtils.builder(httpClient);
         addAllHeaders(webClientBuilder, actionConfiguration, datasourceConfiguration);
         addSecretKey(webClientBuilder, datasourceConfiguration);
@@ -301,21 +310,29 @@ public class RestAPIActivateUtils {
                 .forEach(header -> webClientBuilder.defaultHeader(header.getKey(), (String) header.getValue()));
     }
 
-    protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+    /**
+     * Embedded datasources have no id of their own, they belong to the action they are embedded in.
+     */
+    private static String getDatasourceId(ExecuteActionDTO executeActionDTO) {
+        if (executeActionDTO == null) {
+            return null;
+        }
+        return executeActionDTO.getDatasourceId() != null
+                ? executeActionDTO.getDatasourceId()
+                : executeActionDTO.getActionId();
+    }
+
+    protected HttpClient getHttpClient(
+            String datasourceId,
+            String environmentId,
+            DatasourceConfiguration datasourceConfiguration,
+            HttpProtocol httpProtocol) {
         if (httpProtocol == null) {
             httpProtocol = HttpProtocol.HTTP11;
         }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        // Connection pools are shared across executions of the same datasource, so that keep-alive connections
+        // are reused instead of opening a new connection for every execution.
+        return HttpClientPoolCache.getInstance()
+                .getHttpClient(datasourceId, environmentId, datasourceConfiguration, httpProtocol);
     }
 }
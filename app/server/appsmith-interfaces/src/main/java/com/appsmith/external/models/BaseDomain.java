@@ -179,6 +179,8 @@ public abstract class BaseDomain implements Persistable<String>, AppsmithDomain,
      * Prepares the domain for bulk write operation. It does the following:
      * 1. Populate an ID if it is not present
      * 2. Populate the createdAt and updatedAt fields as they'll not be generated by the bulk insert process
+     * The createdBy and modifiedBy fields are left as they are, since there is no auditor to populate them when a
+     * domain is saved either.
      */
     public void updateForBulkWriteOperation() {
         if (this.getId() == null) {
@@ -0,0 +1,945 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.getValueDataType;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Evaluates {@link UQIDataFilterParams} directly over an {@link ArrayNode}, without going through the H2 in memory
+ * database that {@link FilterDataServiceCE} otherwise uses.
+ *
+ * The items are first laid out column by column as per the schema generated by
+ * {@link FilterDataServiceCE#generateSchema(ArrayNode, Map)}, with primitive arrays for numeric, boolean and date
+ * columns. The where clause, sorting and pagination are then evaluated over row indices, and only the rows that make
+ * it to the final page get materialized.
+ *
+ * The results are meant to be identical to what the H2 based filtering returns, including the Java types of the
+ * values. Whenever the engine comes across something it does not cover, e.g. an operator it does not support, a value
+ * that it cannot parse or a where clause that H2 would fail to parse, it gives up and returns an empty result so that
+ * the caller can fall back to H2, which would then also report the same errors as before.
+ */
+@Slf4j
+public class ColumnarFilterEngine {
+
+    // Default maximum length of a VARCHAR column in H2
+    private static final int MAX_STRING_LENGTH = 1_000_000;
+
+    private static final String DEFAULT_LIMIT = "20";
+
+    private static final String DEFAULT_OFFSET = "0";
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private final ObjectMapper objectMapper;
+
+    public ColumnarFilterEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param items                 - data
+     * @param schema                - schema generated for the data
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered rows, or an empty optional if the filter needs to be run on H2 instead
+     */
+    public Optional<List<Map<String, Object>>> filter(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+        try {
+            return Optional.of(filterOrThrow(items, schema, uqiDataFilterParams, dataTypeConversionMap));
+        } catch (UnsupportedFilterException e) {
+            log.debug(
+                    "{} : Falling back to H2 for in memory filtering : {}",
+                    Thread.currentThread().getName(),
+                    e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private List<Map<String, Object>> filterOrThrow(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        Map<String, Column> columns = loadColumns(items, schema, dataTypeConversionMap);
+
+        IntPredicate wherePredicate = compileWhereClause(uqiDataFilterParams.getCondition(), columns);
+        List<Column> projection = getProjection(uqiDataFilterParams.getProjectionColumns(), columns);
+        Comparator<Integer> sortComparator = compileSortBy(uqiDataFilterParams.getSortBy(), columns);
+        int[] limitAndOffset = getLimitAndOffset(uqiDataFilterParams.getPaginateBy());
+
+        List<Integer> matchingRows = new ArrayList<>();
+        for (int row = 0; row < items.size(); row++) {
+            if (wherePredicate == null || wherePredicate.test(row)) {
+                matchingRows.add(row);
+            }
+        }
+
+        if (sortComparator != null) {
+            matchingRows.sort(sortComparator);
+        }
+
+        if (limitAndOffset != null) {
+            int fromIndex = Math.min(limitAndOffset[1], matchingRows.size());
+            int toIndex = (int) Math.min((long) fromIndex + limitAndOffset[0], matchingRows.size());
+            matchingRows = matchingRows.subList(fromIndex, toIndex);
+        }
+
+        List<Map<String, Object>> rowsList = new ArrayList<>(matchingRows.size());
+        for (int row : matchingRows) {
+            Map<String, Object> rowMap = new LinkedHashMap<>(projection.size());
+            for (Column column : projection) {
+                // Set null values to empty strings, the same way as the results read from H2
+                rowMap.put(column.name, column.isNull(row) ? "" : column.get(row));
+            }
+            rowsList.add(rowMap);
+        }
+
+        return rowsList;
+    }
+
+    private Map<String, Column> loadColumns(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+        int size = items.size();
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            String columnName = entry.getKey();
+            if (columnName.isEmpty()) {
+                throw new UnsupportedFilterException("empty column name");
+            }
+            columns.put(columnName, createColumn(columnName, entry.getValue(), size));
+        }
+
+        int row = 0;
+        for (JsonNode item : items) {
+            for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+                JsonNode fieldNode = item.get(entry.getKey());
+                if (fieldNode == null) {
+                    throw new UnsupportedFilterException("missing value for column " + entry.getKey());
+                }
+
+                String value = fieldNode.asText();
+                DataType valueDataType = getValueDataType(value, entry.getValue(), dataTypeConversionMap);
+                Column column = columns.get(entry.getKey());
+                if (DataType.NULL.equals(valueDataType)) {
+                    column.nulls[row] = true;
+                } else {
+                    column.setCell(row, value, valueDataType);
+                }
+            }
+            row++;
+        }
+
+        return columns;
+    }
+
+    private static Column createColumn(String name, DataType dataType, int size) {
+        switch (dataType) {
+            case INTEGER:
+                return new IntegerColumn(name, size);
+            case LONG:
+                return new LongColumn(name, size);
+            case FLOAT:
+                return new FloatColumn(name, size);
+            case DOUBLE:
+                return new DoubleColumn(name, size);
+            case BOOLEAN:
+                return new BooleanColumn(name, size);
+            case DATE:
+                return new DateColumn(name, size);
+            case TIMESTAMP:
+                return new TimestampColumn(name, size);
+            default:
+                // Data types without a native column type are stored as strings, same as in H2
+                return new StringColumn(name, size);
+        }
+    }
+
+    private IntPredicate compileWhereClause(Condition condition, Map<String, Column> columns) {
+        if (!Condition.isValid(condition)) {
+            return null;
+        }
+
+        if (!(condition.getValue() instanceof List)) {
+            throw new UnsupportedFilterException("where clause is not a list of conditions");
+        }
+
+        return compileLogicalExpression((List<Condition>) condition.getValue(), columns, condition.getOperator());
+    }
+
+    /**
+     * Mirrors {@link FilterDataServiceCE#generateLogicalExpression(List, List, Map, ConditionalOperator)}. Returns
+     * null if the conditions would result in an empty SQL expression.
+     */
+    private IntPredicate compileLogicalExpression(
+            List<Condition> conditions, Map<String, Column> columns, ConditionalOperator logicOp) {
+        if (!ConditionalOperator.AND.equals(logicOp) && !ConditionalOperator.OR.equals(logicOp)) {
+            throw new UnsupportedFilterException("logical operator " + logicOp);
+        }
+
+        List<IntPredicate> predicates = new ArrayList<>();
+        boolean leafFound = false;
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            if (operator == null) {
+                throw new UnsupportedFilterException("condition without an operator");
+            }
+
+            if (operator.equals(ConditionalOperator.AND) || operator.equals(ConditionalOperator.OR)) {
+                if (!(condition.getValue() instanceof List)) {
+                    throw new UnsupportedFilterException("nested condition is not a list of conditions");
+                }
+                IntPredicate subPredicate =
+                        compileLogicalExpression((List<Condition>) condition.getValue(), columns, operator);
+                if (subPredicate != null) {
+                    if (!leafFound) {
+                        // H2 would fail to parse an expression that starts with a logical operator
+                        throw new UnsupportedFilterException("nested condition before any simple condition");
+                    }
+                    predicates.add(subPredicate);
+                }
+            } else {
+                predicates.add(compileCondition(condition, columns));
+                leafFound = true;
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        IntPredicate[] predicateArray = predicates.toArray(new IntPredicate[0]);
+        if (ConditionalOperator.AND.equals(logicOp)) {
+            return row -> {
+                for (IntPredicate predicate : predicateArray) {
+                    if (!predicate.test(row)) {
+                        return false;
+                    }
+                }
+                return true;
+            };
+        }
+
+        return row -> {
+            for (IntPredicate predicate : predicateArray) {
+                if (predicate.test(row)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Comparisons involving a null value are never true, same as SQL comparisons evaluating to UNKNOWN. Since the
+     * where clause has no negation, treating UNKNOWN as false at every level gives the same results as SQL.
+     */
+    private IntPredicate compileCondition(Condition condition, Map<String, Column> columns) {
+        String path = condition.getPath();
+        ConditionalOperator operator = condition.getOperator();
+
+        if (StringUtils.isEmpty(path)) {
+            throw new UnsupportedFilterException("condition without a column");
+        }
+
+        Column column = columns.get(path);
+        if (column == null) {
+            throw new UnsupportedFilterException("unknown column " + path);
+        }
+
+        Object objValue = condition.getValue();
+        if (objValue != null && !(objValue instanceof String)) {
+            throw new UnsupportedFilterException("non string value for column " + path);
+        }
+
+        String value = (String) objValue;
+        if (value == null || value.isEmpty()) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return column::isNull;
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> !column.isNull(row);
+            }
+            throw new UnsupportedFilterException(operator + " with an empty value");
+        }
+
+        switch (operator) {
+            case IN:
+            case NOT_IN:
+                return compileInCondition(column, value, ConditionalOperator.IN.equals(operator));
+            case CONTAINS:
+                return compileContainsCondition(column, value);
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE:
+                break;
+            default:
+                throw new UnsupportedFilterException("operator " + operator);
+        }
+
+        Object key = parseKey(column, value);
+        if (key == null) {
+            return row -> false;
+        }
+
+        switch (operator) {
+            case LT:
+                return row -> !column.isNull(row) && column.compare(row, key) < 0;
+            case LTE:
+                return row -> !column.isNull(row) && column.compare(row, key) <= 0;
+            case EQ:
+                return row -> !column.isNull(row) && column.compare(row, key) == 0;
+            case NOT_EQ:
+                return row -> !column.isNull(row) && column.compare(row, key) != 0;
+            case GT:
+                return row -> !column.isNull(row) && column.compare(row, key) > 0;
+            default:
+                return row -> !column.isNull(row) && column.compare(row, key) >= 0;
+        }
+    }
+
+    private IntPredicate compileInCondition(Column column, String value, boolean isIn) {
+        List<Object> arrayValues;
+        try {
+            arrayValues = objectMapper.readValue(value, List.class);
+        } catch (IOException e) {
+            throw new UnsupportedFilterException(value + " could not be parsed into an array");
+        }
+
+        if (CollectionUtils.isEmpty(arrayValues)) {
+            throw new UnsupportedFilterException("empty array for IN condition");
+        }
+
+        List<Object> keys = new ArrayList<>();
+        boolean hasNullKey = false;
+        for (Object arrayValue : arrayValues) {
+            Object key = parseKey(column, String.valueOf(arrayValue));
+            if (key == null) {
+                hasNullKey = true;
+            } else {
+                keys.add(key);
+            }
+        }
+
+        Object[] keyArray = keys.toArray();
+        IntPredicate matchesAnyKey = row -> {
+            for (Object key : keyArray) {
+                if (column.compare(row, key) == 0) {
+                    return true;
+                }
+            }
+            return false;
+        };
+
+        if (isIn) {
+            return row -> !column.isNull(row) && matchesAnyKey.test(row);
+        }
+
+        if (hasNullKey) {
+            // `x NOT IN (.., NULL)` is never true
+            return row -> false;
+        }
+
+        return row -> !column.isNull(row) && !matchesAnyKey.test(row);
+    }
+
+    private IntPredicate compileContainsCondition(Column column, String value) {
+        if (!(column instanceof StringColumn stringColumn)) {
+            throw new UnsupportedFilterException("contains on a non string column " + column.name);
+        }
+
+        if (value.contains("[")) {
+            throw new UnsupportedFilterException("contains with an escaped bracket");
+        }
+
+        return row -> !stringColumn.isNull(row) && stringColumn.values[row].contains(value);
+    }
+
+    /**
+     * Parses the value of a condition the same way it would have been set in the prepared statement for H2.
+     *
+     * @return the parsed value, or null if the value is treated as NULL
+     */
+    private static Object parseKey(Column column, String value) {
+        DataType valueDataType = getValueDataType(value, column.dataType, null);
+        if (DataType.NULL.equals(valueDataType)) {
+            return null;
+        }
+
+        try {
+            return column.parseKey(value);
+        } catch (IllegalArgumentException | DateTimeParseException | ArithmeticException e) {
+            throw new UnsupportedFilterException("unparseable value " + value + " for column " + column.name);
+        }
+    }
+
+    private static List<Column> getProjection(List<String> projectionColumns, Map<String, Column> columns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            return new ArrayList<>(columns.values());
+        }
+
+        List<Column> projection = new ArrayList<>();
+        for (String columnName : projectionColumns) {
+            Column column = columns.get(columnName);
+            if (column == null || columnName.contains("`")) {
+                throw new UnsupportedFilterException("unknown projection column " + columnName);
+            }
+            projection.add(column);
+        }
+
+        return projection;
+    }
+
+    private static Comparator<Integer> compileSortBy(List<Map<String, String>> sortBy, Map<String, Column> columns) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return null;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            Column column = columns.get(columnName);
+            if (column == null || columnName.contains("`")) {
+                throw new UnsupportedFilterException("unknown sort column " + columnName);
+            }
+
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new UnsupportedFilterException("unknown sort type for column " + columnName);
+            }
+
+            // Nulls are the lowest values, i.e. they come first in ascending order and last in descending order
+            Comparator<Integer> columnComparator = (row1, row2) -> {
+                boolean isNull1 = column.isNull(row1);
+                boolean isNull2 = column.isNull(row2);
+                if (isNull1 || isNull2) {
+                    return Boolean.compare(!isNull1, !isNull2);
+                }
+                return column.compareRows(row1, row2);
+            };
+            if (SortType.DESCENDING.equals(sortType)) {
+                columnComparator = columnComparator.reversed();
+            }
+
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        return comparator;
+    }
+
+    private static int[] getLimitAndOffset(Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return null;
+        }
+
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = DEFAULT_LIMIT;
+        }
+
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = DEFAULT_OFFSET;
+        }
+
+        int limitValue = parsePaginationValue(limit);
+        int offsetValue = parsePaginationValue(offset);
+        if (limitValue <= 0 || offsetValue < 0) {
+            throw new UnsupportedFilterException("limit " + limit + " and offset " + offset);
+        }
+
+        return new int[] {limitValue, offsetValue};
+    }
+
+    private static int parsePaginationValue(String value) {
+        if (DataType.NULL.equals(getValueDataType(value, DataType.INTEGER, null))) {
+            throw new UnsupportedFilterException("null pagination value");
+        }
+
+        try {
+            return Integer.parseInt(toNumericString(value));
+        } catch (NumberFormatException e) {
+            throw new UnsupportedFilterException("unparseable pagination value " + value);
+        }
+    }
+
+    private static String toNumericString(String value) {
+        return value.trim().replaceAll(",", "");
+    }
+
+    /**
+     * Parses a non-null cell value into a number, the same way the value would have been set in the prepared
+     * statement for H2.
+     */
+    private static Number parseNumber(String value, DataType valueDataType) {
+        String strNumericValue = toNumericString(value);
+        switch (valueDataType) {
+            case INTEGER:
+                return Integer.parseInt(strNumericValue);
+            case LONG:
+                return Long.parseLong(strNumericValue);
+            case FLOAT:
+            case DOUBLE:
+                return new BigDecimal(strNumericValue);
+            default:
+                throw new UnsupportedFilterException("non numeric value type " + valueDataType);
+        }
+    }
+
+    /**
+     * Converts a number into an integral value, as long as no rounding is required for it.
+     */
+    private static long toIntegralValue(Number number) {
+        if (number instanceof BigDecimal bigDecimal) {
+            return bigDecimal.longValueExact();
+        }
+        return number.longValue();
+    }
+
+    private static BigDecimal toComparableDecimal(float value) {
+        return new BigDecimal(Float.toString(value));
+    }
+
+    private static BigDecimal toComparableDecimal(double value) {
+        return new BigDecimal(Double.toString(value));
+    }
+
+    private static int compare(float value, float other) {
+        return value < other ? -1 : (value > other ? 1 : 0);
+    }
+
+    private static int compare(double value, double other) {
+        return value < other ? -1 : (value > other ? 1 : 0);
+    }
+
+    private static class UnsupportedFilterException extends RuntimeException {
+        UnsupportedFilterException(String message) {
+            // Stack traces are never looked at, since this exception is only used to fall back to H2
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * Decimal value from a condition, that floating point columns get compared against. When the decimal value is
+     * exactly the shortest decimal representation of a float / double, comparisons can be done on the primitives.
+     */
+    private record DecimalKey(
+            BigDecimal decimal, float floatValue, boolean isExactFloat, double doubleValue, boolean isExactDouble) {
+
+        static DecimalKey of(BigDecimal decimal) {
+            float floatValue = decimal.floatValue();
+            double doubleValue = decimal.doubleValue();
+            boolean isExactFloat =
+                    Float.isFinite(floatValue) && toComparableDecimal(floatValue).compareTo(decimal) == 0;
+            boolean isExactDouble =
+                    Double.isFinite(doubleValue) && toComparableDecimal(doubleValue).compareTo(decimal) == 0;
+            return new DecimalKey(decimal, floatValue, isExactFloat, doubleValue, isExactDouble);
+        }
+    }
+
+    private abstract static class Column {
+        final String name;
+        final DataType dataType;
+        final boolean[] nulls;
+
+        Column(String name, DataType dataType, int size) {
+            this.name = name;
+            this.dataType = dataType;
+            this.nulls = new boolean[size];
+        }
+
+        boolean isNull(int row) {
+            return nulls[row];
+        }
+
+        /**
+         * Stores a non-null cell value, converting it to the column type the same way H2 would.
+         */
+        void setCell(int row, String value, DataType valueDataType) {
+            try {
+                set(row, value, valueDataType);
+            } catch (IllegalArgumentException | DateTimeParseException | ArithmeticException e) {
+                throw new UnsupportedFilterException("unparseable value " + value + " for column " + name);
+            }
+        }
+
+        abstract void set(int row, String value, DataType valueDataType);
+
+        abstract Object parseKey(String value);
+
+        abstract int compare(int row, Object key);
+
+        abstract int compareRows(int row1, int row2);
+
+        abstract Object get(int row);
+    }
+
+    private static class IntegerColumn extends Column {
+        final int[] values;
+
+        IntegerColumn(String name, int size) {
+            super(name, DataType.INTEGER, size);
+            values = new int[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            values[row] = Math.toIntExact(toIntegralValue(parseNumber(value, valueDataType)));
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return Integer.parseInt(toNumericString(value));
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            return Integer.compare(values[row], (Integer) key);
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Integer.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static class LongColumn extends Column {
+        final long[] values;
+
+        LongColumn(String name, int size) {
+            super(name, DataType.LONG, size);
+            values = new long[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            values[row] = toIntegralValue(parseNumber(value, valueDataType));
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return Long.parseLong(toNumericString(value));
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            return Long.compare(values[row], (Long) key);
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Long.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static class FloatColumn extends Column {
+        final float[] values;
+
+        FloatColumn(String name, int size) {
+            super(name, DataType.FLOAT, size);
+            values = new float[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            float floatValue = parseNumber(value, valueDataType).floatValue();
+            if (!Float.isFinite(floatValue)) {
+                throw new ArithmeticException("float overflow");
+            }
+            values[row] = floatValue;
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return DecimalKey.of(new BigDecimal(toNumericString(value)));
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            DecimalKey decimalKey = (DecimalKey) key;
+            if (decimalKey.isExactFloat()) {
+                return ColumnarFilterEngine.compare(values[row], decimalKey.floatValue());
+            }
+            return toComparableDecimal(values[row]).compareTo(decimalKey.decimal());
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Float.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        final double[] values;
+
+        DoubleColumn(String name, int size) {
+            super(name, DataType.DOUBLE, size);
+            values = new double[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            double doubleValue = parseNumber(value, valueDataType).doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                throw new ArithmeticException("double overflow");
+            }
+            values[row] = doubleValue;
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return DecimalKey.of(new BigDecimal(toNumericString(value)));
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            DecimalKey decimalKey = (DecimalKey) key;
+            if (decimalKey.isExactDouble()) {
+                return ColumnarFilterEngine.compare(values[row], decimalKey.doubleValue());
+            }
+            return toComparableDecimal(values[row]).compareTo(decimalKey.decimal());
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Double.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+        final boolean[] values;
+
+        BooleanColumn(String name, int size) {
+            super(name, DataType.BOOLEAN, size);
+            values = new boolean[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            if (!DataType.BOOLEAN.equals(valueDataType)) {
+                throw new UnsupportedFilterException("non boolean value type " + valueDataType);
+            }
+            values[row] = Boolean.parseBoolean(value);
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return Boolean.parseBoolean(value);
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            return Boolean.compare(values[row], (Boolean) key);
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Boolean.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+
+    private static class DateColumn extends Column {
+        // Days since epoch
+        final long[] values;
+
+        DateColumn(String name, int size) {
+            super(name, DataType.DATE, size);
+            values = new long[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            if (!DataType.DATE.equals(valueDataType)) {
+                throw new UnsupportedFilterException("non date value type " + valueDataType);
+            }
+            values[row] = (Long) parseKey(value);
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return LocalDate.parse(value).toEpochDay();
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            return Long.compare(values[row], (Long) key);
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Long.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return java.sql.Date.valueOf(LocalDate.ofEpochDay(values[row]));
+        }
+    }
+
+    private static class TimestampColumn extends Column {
+        final long[] epochSeconds;
+        final int[] nanos;
+
+        TimestampColumn(String name, int size) {
+            super(name, DataType.TIMESTAMP, size);
+            epochSeconds = new long[size];
+            nanos = new int[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            if (!DataType.TIMESTAMP.equals(valueDataType)) {
+                throw new UnsupportedFilterException("non timestamp value type " + valueDataType);
+            }
+            LocalDateTime dateTime = (LocalDateTime) parseKey(value);
+            epochSeconds[row] = dateTime.toEpochSecond(ZoneOffset.UTC);
+            nanos[row] = dateTime.getNano();
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return LocalDateTime.parse(value.replaceFirst(" ", "T"));
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            LocalDateTime dateTime = (LocalDateTime) key;
+            int result = Long.compare(epochSeconds[row], dateTime.toEpochSecond(ZoneOffset.UTC));
+            return result != 0 ? result : Integer.compare(nanos[row], dateTime.getNano());
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            int result = Long.compare(epochSeconds[row1], epochSeconds[row2]);
+            return result != 0 ? result : Integer.compare(nanos[row1], nanos[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return Timestamp.valueOf(LocalDateTime.ofEpochSecond(epochSeconds[row], nanos[row], ZoneOffset.UTC));
+        }
+    }
+
+    private static class StringColumn extends Column {
+        final String[] values;
+
+        StringColumn(String name, int size) {
+            super(name, DataType.STRING, size);
+            values = new String[size];
+        }
+
+        @Override
+        void set(int row, String value, DataType valueDataType) {
+            switch (valueDataType) {
+                case INTEGER:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                case BOOLEAN:
+                    // H2 would convert these to their own string representation
+                    throw new UnsupportedFilterException("non string value type " + valueDataType);
+                default:
+                    if (value.length() > MAX_STRING_LENGTH) {
+                        throw new UnsupportedFilterException("string value too long for column " + name);
+                    }
+                    values[row] = value;
+            }
+        }
+
+        @Override
+        Object parseKey(String value) {
+            return value;
+        }
+
+        @Override
+        int compare(int row, Object key) {
+            return values[row].compareTo((String) key);
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return values[row1].compareTo(values[row2]);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+}
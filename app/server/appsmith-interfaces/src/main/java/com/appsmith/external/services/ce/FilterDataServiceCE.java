@@ -12,6 +12,8 @@ import com.appsmith.util.SerializationUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +37,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -52,10 +58,33 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public static final String PAGINATE_OFFSET_KEY = "offset";
 
     private final ObjectMapper objectMapper;
-    private Connection connection;
+    private final ColumnarFilterEngine columnarFilterEngine;
 
     private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
 
+    // Maximum number of H2 sessions, and hence of concurrent filter operations on H2
+    private static final int MAX_CONNECTIONS = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final long CONNECTION_WAIT_TIMEOUT_SECONDS = 30;
+
+    // Idle H2 sessions. Every filter operation takes one for its exclusive use and returns it once done.
+    private final BlockingQueue<Connection> idleConnections = new ArrayBlockingQueue<>(MAX_CONNECTIONS);
+
+    // Admission limit for filter operations on H2. Each permit corresponds to a session in the pool.
+    private final Semaphore connectionPermits = new Semaphore(MAX_CONNECTIONS, true);
+
+    private final Timer connectionWaitTimer = Timer.builder("appsmith.filter.h2.connection.wait")
+            .description("Time spent waiting for an H2 session to filter data")
+            .register(Metrics.globalRegistry);
+
+    private final Timer insertTimer = Timer.builder("appsmith.filter.h2.insert")
+            .description("Time spent inserting data into H2 for filtering")
+            .register(Metrics.globalRegistry);
+
+    private final Timer queryTimer = Timer.builder("appsmith.filter.h2.query")
+            .description("Time spent running filter queries on H2")
+            .register(Metrics.globalRegistry);
+
     private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
             DataType.INTEGER, "INT",
             DataType.LONG, "BIGINT",
@@ -99,9 +128,11 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = SerializationUtils.getObjectMapperWithSourceInLocationEnabled();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
 
         try {
-            connection = DriverManager.getConnection(URL);
+            // Keep one session open at all times, since the in memory database is dropped once its last session closes
+            idleConnections.add(DriverManager.getConnection(URL));
         } catch (SQLException e) {
             log.error(e.getMessage());
             throw new AppsmithPluginException(
@@ -134,24 +165,50 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
-
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+        // Filter the data in process if possible, otherwise fall back to the in memory database
+        List<Map<String, Object>> finalResults = columnarFilterEngine
+                .filter(items, schema, uqiDataFilterParams, dataTypeConversionMap)
+                .orElseGet(() -> filterDataInDatabase(items, schema, uqiDataFilterParams, dataTypeConversionMap));
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
         return finalResultsNode;
     }
 
+    /**
+     * Filters the data by loading it into a temporary table in the H2 in memory database and querying it.
+     *
+     * @param items                 - data
+     * @param schema                - The Schema
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return filtered rows
+     */
+    public List<Map<String, Object>> filterDataInDatabase(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+        return withConnection(conn -> {
+            String tableName = generateTable(conn, schema);
+
+            try {
+                // insert the data
+                insertTimer.record(() -> insertAllData(conn, tableName, items, schema, dataTypeConversionMap));
+
+                // Filter the data
+                return queryTimer.record(() ->
+                        executeFilterQueryNew(conn, tableName, schema, uqiDataFilterParams, dataTypeConversionMap));
+            } finally {
+                // Now that the data has been filtered. Clean Up. Drop the table
+                dropTable(conn, tableName);
+            }
+        });
+    }
+
     private List<Map<String, Object>> executeFilterQueryNew(
+            Connection conn,
             String tableName,
             Map<String, DataType> schema,
             UQIDataFilterParams uqiDataFilterParams,
@@ -162,8 +219,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
         Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder sb = new StringBuilder();
 
         // Add projection columns condition otherwise use `select *`
@@ -369,6 +424,18 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             ArrayNode items,
             Map<String, DataType> schema,
             Map<DataType, DataType> dataTypeConversionMap) {
+        withConnection(conn -> {
+            insertAllData(conn, tableName, items, schema, dataTypeConversionMap);
+            return null;
+        });
+    }
+
+    private void insertAllData(
+            Connection conn,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
 
         List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
 
@@ -403,6 +470,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             if (counter == 1000) {
 
                 insertReadyData(
+                        conn,
                         insertQueryBuilder.toString(),
                         valuesMasterBuilder,
                         inOrderValues,
@@ -451,6 +519,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         if (valuesMasterBuilder.length() > 0) {
             insertReadyData(
+                    conn,
                     insertQueryBuilder.toString(),
                     valuesMasterBuilder,
                     inOrderValues,
@@ -459,9 +528,8 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private void executeDbQuery(String query) {
+    private void executeDbQuery(Connection conn, String query) {
 
-        Connection conn = checkAndGetConnection();
         log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
 
         try (Statement statement = conn.createStatement()) {
@@ -474,14 +542,13 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     }
 
     private void insertReadyData(
+            Connection conn,
             String partialInsertQuery,
             StringBuilder valuesBuilder,
             List<String> inOrderValues,
             List<DataType> columnTypes,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        Connection conn = checkAndGetConnection();
-
         StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
         insertQueryBuilder.append(valuesBuilder);
         insertQueryBuilder.append(";");
@@ -514,21 +581,61 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
     }
 
-    private Connection checkAndGetConnection() {
+    /**
+     * Runs the callback with an H2 session from the pool, waiting for one to be available if all of them are in use.
+     */
+    private <T> T withConnection(Function<Connection, T> callback) {
+        Connection conn = acquireConnection();
+        try {
+            return callback.apply(conn);
+        } finally {
+            releaseConnection(conn);
+        }
+    }
+
+    private Connection acquireConnection() {
+        long waitStartTime = System.nanoTime();
+        try {
+            if (!connectionPermits.tryAcquire(CONNECTION_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Timed out waiting for the filtering database. Please try again.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Interrupted while waiting for the filtering database");
+        } finally {
+            connectionWaitTimer.record(System.nanoTime() - waitStartTime, TimeUnit.NANOSECONDS);
+        }
+
+        Connection conn = idleConnections.poll();
         try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
+            if (conn == null || conn.isClosed() || !conn.isValid(5)) {
+                conn = DriverManager.getConnection(URL);
             }
         } catch (SQLException e) {
+            connectionPermits.release();
             throw new AppsmithPluginException(
                     AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
                     "Failed to connect to the filtering database");
         }
 
-        return connection;
+        return conn;
+    }
+
+    private void releaseConnection(Connection conn) {
+        // There are as many slots in the queue as permits, hence this always succeeds
+        idleConnections.offer(conn);
+        connectionPermits.release();
     }
 
     public String generateTable(Map<String, DataType> schema) {
+        return withConnection(conn -> generateTable(conn, schema));
+    }
+
+    private String generateTable(Connection conn, Map<String, DataType> schema) {
 
         // Generate table name
         String generateUniqueId = RandomStringUtils.randomAlphabetic(16).toUpperCase();
@@ -570,16 +677,23 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
 
         String createTableQuery = sb.toString();
 
-        executeDbQuery(createTableQuery);
+        executeDbQuery(conn, createTableQuery);
 
         return tableName;
     }
 
     public void dropTable(String tableName) {
+        withConnection(conn -> {
+            dropTable(conn, tableName);
+            return null;
+        });
+    }
+
+    private void dropTable(Connection conn, String tableName) {
 
         String dropTableQuery = "DROP TABLE " + tableName + ";";
 
-        executeDbQuery(dropTableQuery);
+        executeDbQuery(conn, dropTableQuery);
     }
 
     /**
@@ -696,37 +810,9 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             DataType topRowDataType,
             Map<DataType, DataType> dataTypeConversionMap) {
 
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
-
         String strNumericValue = value.trim().replaceAll(",", "");
 
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
+        DataType dataType = getValueDataType(value, topRowDataType, dataTypeConversionMap);
 
         try {
             switch (dataType) {
@@ -775,6 +861,49 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         return preparedStatement;
     }
 
+    /**
+     * Finds the data type that a value gets stored as in a column. This is either the data type of the column, or
+     * NULL for empty values and values that are incompatible with the column.
+     *
+     * @param value                 - value to be stored
+     * @param topRowDataType        - data type of the column, as found in the first row
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return data type to store the value as
+     */
+    static DataType getValueDataType(
+            String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            return DataType.NULL;
+        }
+
+        // value is not empty.
+        DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+        DataType inputDataType = currentRowDataType;
+        if (dataTypeConversionMap != null) {
+            // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+            inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+        }
+        if (DataType.NULL.equals(inputDataType)) {
+            return DataType.NULL;
+        }
+        // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+        if (dataTypeConversionMap != null
+                && inputDataType != dataType
+                && !datatypeCompatibilityMap.getOrDefault(dataType, Set.of()).contains(inputDataType)) {
+            return DataType.NULL;
+        }
+
+        return dataType;
+    }
+
     public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
 
         conditionList.stream()
@@ -0,0 +1,77 @@
+package com.appsmith.external.helpers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExecutionBlobStoreTest {
+
+    @Test
+    public void testWrite_whenBlobIsSmall_keepsItInMemory() throws Exception {
+        ExecutionBlobStore blobStore = new ExecutionBlobStore(16);
+
+        ExecutionBlobStore.BlobWriter blobWriter = blobStore.newWriter("blobId");
+        byte[] bytes = "hello".getBytes(StandardCharsets.UTF_8);
+        blobWriter.write(bytes, 0, bytes.length);
+        assertFalse(blobStore.contains("blobId"));
+
+        blobWriter.commit();
+
+        assertTrue(blobStore.contains("blobId"));
+        assertFalse(blobStore.isSpilled("blobId"));
+        assertEquals(5, blobStore.getSize("blobId"));
+        assertEquals("hello", blobStore.readAsString("blobId", StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWrite_whenBlobCrossesThreshold_spillsToFileAndDeletesItOnClose() throws Exception {
+        ExecutionBlobStore blobStore = new ExecutionBlobStore(1024);
+
+        byte[] chunk = new byte[300];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = (byte) i;
+        }
+
+        ExecutionBlobStore.BlobWriter blobWriter = blobStore.newWriter("blobId");
+        for (int i = 0; i < 10; i++) {
+            blobWriter.write(chunk, 0, chunk.length);
+        }
+        blobWriter.commit();
+
+        assertTrue(blobStore.isSpilled("blobId"));
+        assertEquals(3000, blobStore.getSize("blobId"));
+        try (InputStream inputStream = blobStore.openStream("blobId")) {
+            byte[] content = inputStream.readAllBytes();
+            assertEquals(3000, content.length);
+            for (int i = 0; i < 10; i++) {
+                byte[] part = new byte[chunk.length];
+                System.arraycopy(content, i * chunk.length, part, 0, chunk.length);
+                assertArrayEquals(chunk, part);
+            }
+        }
+
+        blobStore.close();
+
+        assertFalse(blobStore.contains("blobId"));
+        assertThrows(Exception.class, () -> blobStore.openStream("blobId"));
+    }
+
+    @Test
+    public void testClose_whenWriterIsNotCommitted_discardsBlob() throws Exception {
+        ExecutionBlobStore blobStore = new ExecutionBlobStore(4);
+
+        ExecutionBlobStore.BlobWriter blobWriter = blobStore.newWriter("blobId");
+        byte[] bytes = "larger than the threshold".getBytes(StandardCharsets.UTF_8);
+        blobWriter.write(bytes, 0, bytes.length);
+        blobWriter.close();
+
+        assertFalse(blobStore.contains("blobId"));
+    }
+}
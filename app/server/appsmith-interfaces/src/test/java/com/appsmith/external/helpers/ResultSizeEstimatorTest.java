@@ -0,0 +1,53 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultSizeEstimatorTest {
+
+    @Test
+    public void testEstimate_withScalarValues_returnsExpectedSizes() {
+        assertEquals(7, ResultSizeEstimator.estimate("hello"));
+        assertEquals(4, ResultSizeEstimator.estimate(42));
+        assertEquals(8, ResultSizeEstimator.estimate(42L));
+        assertEquals(1, ResultSizeEstimator.estimate(true));
+        assertEquals(1, ResultSizeEstimator.estimate(null));
+        assertEquals(32, ResultSizeEstimator.estimate(LocalDate.of(2024, 1, 1)));
+        assertEquals(3, ResultSizeEstimator.estimate(new byte[] {1, 2, 3}));
+        assertEquals(12, ResultSizeEstimator.estimate(new int[] {1, 2, 3}));
+    }
+
+    @Test
+    public void testEstimate_withNestedValues_sumsAllChildren() throws Exception {
+        assertEquals(4 + 3 + 4 + 3, ResultSizeEstimator.estimate(List.of("a", "b")));
+        assertEquals(4 + 3 + 4 + 3, ResultSizeEstimator.estimate(new String[] {"a", "b"}));
+
+        // {"a": "xy", "b": [1]} -> (4 + 3 + 4) + (4 + 3 + (4 + 8))
+        assertEquals(30, ResultSizeEstimator.estimate(new ObjectMapper().readTree("{\"a\": \"xy\", \"b\": [1]}")));
+    }
+
+    @Test
+    public void testAddRow_whenRowsAccumulate_reportsLimitExceededOnlyPastMaxSize() {
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(40);
+
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1);
+        row.put("name", "appsmith");
+
+        // 4 + 4 + 4 (id) + 4 + 6 + 10 (name) = 32
+        assertEquals(32, resultSizeEstimator.addRow(row));
+        assertFalse(resultSizeEstimator.isLimitExceeded());
+
+        assertEquals(64, resultSizeEstimator.addRow(row));
+        assertTrue(resultSizeEstimator.isLimitExceeded());
+    }
+}
@@ -0,0 +1,161 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpClientPoolCacheTest {
+
+    private static final String ENVIRONMENT_ID = "env1";
+
+    private DatasourceConfiguration datasourceConfiguration(String url) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        return datasourceConfiguration;
+    }
+
+    private HttpClient getHttpClient(
+            HttpClientPoolCache cache, String datasourceId, String url, HttpProtocol httpProtocol) {
+        return cache.getHttpClient(datasourceId, ENVIRONMENT_ID, datasourceConfiguration(url), httpProtocol);
+    }
+
+    @Test
+    public void testGetHttpClient_withSameDatasource_reusesClient() {
+        HttpClientPoolCache cache = new HttpClientPoolCache(8, Duration.ofMinutes(10));
+
+        HttpClient first = getHttpClient(cache, "ds1", "https://example.com/api", HttpProtocol.HTTP11);
+        HttpClient second = getHttpClient(cache, "ds1", "https://example.com/other", HttpProtocol.HTTP11);
+        HttpClient otherProtocol = getHttpClient(cache, "ds1", "https://example.com/api", HttpProtocol.H2C);
+
+        assertSame(first, second);
+        assertNotSame(first, otherProtocol);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testGetHttpClient_whenSslSettingsChange_disposesPreviousPool() {
+        HttpClientPoolCache cache = new HttpClientPoolCache(8, Duration.ofMinutes(10));
+
+        DatasourceConfiguration datasourceConfiguration = datasourceConfiguration("https://example.com");
+        HttpClient before = cache.getHttpClient("ds1", ENVIRONMENT_ID, datasourceConfiguration, HttpProtocol.HTTP11);
+
+        datasourceConfiguration.setConnection(sslConnection());
+        HttpClient after = cache.getHttpClient("ds1", ENVIRONMENT_ID, datasourceConfiguration, HttpProtocol.HTTP11);
+
+        assertNotSame(before, after);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testGetHttpClient_withOtherDatasourceOfSameOrigin_keepsBothPools() {
+        HttpClientPoolCache cache = new HttpClientPoolCache(8, Duration.ofMinutes(10));
+
+        HttpClient first = getHttpClient(cache, "ds1", "https://example.com", HttpProtocol.HTTP11);
+
+        DatasourceConfiguration withSsl = datasourceConfiguration("https://example.com");
+        withSsl.setConnection(sslConnection());
+        cache.getHttpClient("ds2", ENVIRONMENT_ID, withSsl, HttpProtocol.HTTP11);
+
+        assertEquals(2, cache.size());
+        assertSame(first, getHttpClient(cache, "ds1", "https://example.com", HttpProtocol.HTTP11));
+    }
+
+    @Test
+    public void testGetHttpClient_withOtherEnvironmentOfSameDatasource_keepsBothPools() {
+        HttpClientPoolCache cache = new HttpClientPoolCache(8, Duration.ofMinutes(10));
+
+        // Every environment of a datasource has its own configuration, which may have different SSL settings
+        HttpClient production = cache.getHttpClient(
+                "ds1", "production", datasourceConfiguration("https://example.com"), HttpProtocol.HTTP11);
+        DatasourceConfiguration withSsl = datasourceConfiguration("https://example.com");
+        withSsl.setConnection(sslConnection());
+        HttpClient staging = cache.getHttpClient("ds1", "staging", withSsl, HttpProtocol.HTTP11);
+
+        assertNotSame(production, staging);
+        assertEquals(2, cache.size());
+        assertSame(
+                production,
+                cache.getHttpClient(
+                        "ds1", "production", datasourceConfiguration("https://example.com"), HttpProtocol.HTTP11));
+        assertSame(staging, cache.getHttpClient("ds1", "staging", withSsl, HttpProtocol.HTTP11));
+    }
+
+    @Test
+    public void testGetHttpClient_whenPoolIsReplacedDuringRequest_completesRequest() throws Exception {
+        HttpClientPoolCache cache = new HttpClientPoolCache(8, Duration.ofMinutes(10));
+
+        MockWebServer mockEndpoint = new MockWebServer();
+        mockEndpoint.start();
+        try {
+            mockEndpoint.enqueue(new MockResponse().setBody("done").setBodyDelay(1, TimeUnit.SECONDS));
+            String url = String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort());
+
+            DatasourceConfiguration datasourceConfiguration = datasourceConfiguration(url);
+            HttpClient before =
+                    cache.getHttpClient("ds1", ENVIRONMENT_ID, datasourceConfiguration, HttpProtocol.HTTP11);
+            CompletableFuture<String> response = before.get()
+                    .uri(url)
+                    .responseContent()
+                    .aggregate()
+                    .asString()
+                    .toFuture();
+            assertNotNull(mockEndpoint.takeRequest(30, TimeUnit.SECONDS));
+
+            // The datasource is updated while the response is still being sent
+            datasourceConfiguration.setConnection(sslConnection());
+            HttpClient after = cache.getHttpClient("ds1", ENVIRONMENT_ID, datasourceConfiguration, HttpProtocol.HTTP11);
+
+            assertNotSame(before, after);
+            assertEquals("done", Mono.fromFuture(response).block(Duration.ofSeconds(30)));
+        } finally {
+            mockEndpoint.shutdown();
+        }
+    }
+
+    @Test
+    public void testGetHttpClient_whenLimitIsReached_evictsLeastRecentlyUsedPool() {
+        HttpClientPoolCache boundedCache = new HttpClientPoolCache(2, Duration.ofMinutes(10));
+        HttpClient first = getHttpClient(boundedCache, "a", "https://a.com", HttpProtocol.HTTP11);
+        getHttpClient(boundedCache, "b", "https://b.com", HttpProtocol.HTTP11);
+        getHttpClient(boundedCache, "c", "https://c.com", HttpProtocol.HTTP11);
+
+        assertEquals(2, boundedCache.size());
+        assertNotSame(first, getHttpClient(boundedCache, "a", "https://a.com", HttpProtocol.HTTP11));
+    }
+
+    @Test
+    public void testInvalidate_disposesAllPoolsOfDatasource() {
+        HttpClientPoolCache cache = new HttpClientPoolCache(8, Duration.ofMinutes(10));
+        getHttpClient(cache, "a", "https://a.com", HttpProtocol.HTTP11);
+        getHttpClient(cache, "a", "https://a.com", HttpProtocol.H2C);
+        cache.getHttpClient("a", "env2", datasourceConfiguration("https://a.com"), HttpProtocol.HTTP11);
+        getHttpClient(cache, "b", "https://a.com", HttpProtocol.HTTP11);
+
+        cache.invalidate("a");
+
+        assertEquals(1, cache.size());
+    }
+
+    private Connection sslConnection() {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.DEFAULT);
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+        return connection;
+    }
+}
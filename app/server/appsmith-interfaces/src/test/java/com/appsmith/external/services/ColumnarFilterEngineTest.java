@@ -0,0 +1,189 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.ColumnarFilterEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the columnar filter engine returns exactly what the H2 based filtering returns.
+ */
+public class ColumnarFilterEngineTest {
+
+    private static final String DATA = "["
+            + "{\"id\": 2381224, \"email id\": \"michael.lawson@reqres.in\", \"userName\": \"Michael Lawson\", "
+            + "\"orderAmount\": 4.99, \"quantity\": 10, \"isPaid\": \"true\", \"date\": \"2021-09-01\", "
+            + "\"updatedAt\": \"2021-09-01 00:01:00\"},"
+            + "{\"id\": \"\", \"email id\": \"\", \"userName\": \"Lindsay Ferguson\", "
+            + "\"orderAmount\": 9.99, \"quantity\": \"\", \"isPaid\": \"false\", \"date\": \"2021-09-02\", "
+            + "\"updatedAt\": \"2021-09-02 00:02:00\"},"
+            + "{\"id\": 6788734, \"email id\": \"tobias.funke@reqres.in\", \"userName\": \"Tobias Funke\", "
+            + "\"orderAmount\": 19.99, \"quantity\": 1, \"isPaid\": \"\", \"date\": \"\", "
+            + "\"updatedAt\": \"2021-09-03 00:03:00\"},"
+            + "{\"id\": 7000000, \"email id\": \"null\", \"userName\": \"Michael Bluth\", "
+            + "\"orderAmount\": 9.99, \"quantity\": 3, \"isPaid\": \"true\", \"date\": \"2021-09-04\", "
+            + "\"updatedAt\": \"\"}"
+            + "]";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+    private final ColumnarFilterEngine columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+    private Condition where(String whereJson) throws Exception {
+        return parseWhereClause(objectMapper.readValue(whereJson, HashMap.class));
+    }
+
+    private String leaf(String key, String condition, String value) {
+        return "{\"key\": \"" + key + "\", \"condition\": \"" + condition + "\", \"value\": \"" + value + "\"}";
+    }
+
+    private String group(String condition, String... children) {
+        return "{\"condition\": \"" + condition + "\", \"children\": [" + String.join(",", children) + "]}";
+    }
+
+    private void assertParity(
+            String data, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> conversionMap)
+            throws Exception {
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+        Map<String, DataType> schema = filterDataService.generateSchema(items, conversionMap);
+
+        Optional<List<Map<String, Object>>> engineResults =
+                columnarFilterEngine.filter(items, schema, uqiDataFilterParams, conversionMap);
+        assertTrue(engineResults.isPresent());
+
+        List<Map<String, Object>> databaseResults =
+                filterDataService.filterDataInDatabase(items, schema, uqiDataFilterParams, conversionMap);
+
+        assertEquals(
+                objectMapper.valueToTree(databaseResults).toString(),
+                objectMapper.valueToTree(engineResults.get()).toString());
+    }
+
+    private void assertParity(String whereJson) throws Exception {
+        assertParity(DATA, new UQIDataFilterParams(where(whereJson), null, null, null), null);
+    }
+
+    @Test
+    public void testComparisonOperators_matchDatabaseResults() throws Exception {
+        for (String operator : List.of("LT", "LTE", "EQ", "NOT_EQ", "GT", "GTE")) {
+            assertParity(group("AND", leaf("orderAmount", operator, "9.99")));
+            assertParity(group("AND", leaf("quantity", operator, "3")));
+            assertParity(group("AND", leaf("id", operator, "6,788,734")));
+            assertParity(group("AND", leaf("userName", operator, "Michael Lawson")));
+            assertParity(group("AND", leaf("isPaid", operator, "true")));
+            assertParity(group("AND", leaf("date", operator, "2021-09-02")));
+            assertParity(group("AND", leaf("updatedAt", operator, "2021-09-02 00:02:00")));
+            assertParity(group("AND", leaf("email id", operator, "")));
+            assertParity(group("AND", leaf("email id", operator, "null")));
+        }
+    }
+
+    @Test
+    public void testArrayAndContainsOperators_matchDatabaseResults() throws Exception {
+        assertParity(group("AND", leaf("userName", "CONTAINS", "Michael")));
+        assertParity(group("AND", leaf("userName", "CONTAINS", "")));
+        assertParity(group("AND", leaf("email id", "CONTAINS", "%")));
+        assertParity(group("AND", leaf("userName", "IN", "[\\\"Tobias Funke\\\", \\\"Michael Bluth\\\"]")));
+        assertParity(group("AND", leaf("quantity", "IN", "[1, 10]")));
+        assertParity(group("AND", leaf("quantity", "NOT_IN", "[1, 10]")));
+        assertParity(group("AND", leaf("quantity", "NOT_IN", "[1, null]")));
+        assertParity(group("AND", leaf("orderAmount", "IN", "[9.99, 4.99]")));
+    }
+
+    @Test
+    public void testNestedConditions_matchDatabaseResults() throws Exception {
+        assertParity(group(
+                "OR",
+                leaf("quantity", "GT", "5"),
+                group("AND", leaf("orderAmount", "LT", "10"), leaf("isPaid", "EQ", "true"))));
+        assertParity(group(
+                "AND",
+                leaf("userName", "CONTAINS", "Michael"),
+                group("OR", leaf("date", "EQ", ""), leaf("quantity", "GTE", "10"))));
+    }
+
+    @Test
+    public void testProjectionSortingAndPagination_matchDatabaseResults() throws Exception {
+        for (String column : List.of("orderAmount", "quantity", "userName", "isPaid", "date", "updatedAt")) {
+            for (String sortType : List.of("Ascending", "Descending")) {
+                Map<String, String> sortCondition = new HashMap<>();
+                sortCondition.put(SORT_BY_COLUMN_NAME_KEY, column);
+                sortCondition.put(SORT_BY_TYPE_KEY, sortType);
+
+                Map<String, String> secondarySortCondition = new HashMap<>();
+                secondarySortCondition.put(SORT_BY_COLUMN_NAME_KEY, "id");
+                secondarySortCondition.put(SORT_BY_TYPE_KEY, "Ascending");
+
+                Map<String, String> paginateBy = new HashMap<>();
+                paginateBy.put(PAGINATE_LIMIT_KEY, "2");
+                paginateBy.put(PAGINATE_OFFSET_KEY, "1");
+
+                assertParity(
+                        DATA,
+                        new UQIDataFilterParams(
+                                where(group("AND", leaf("orderAmount", "LT", "20"))),
+                                List.of("id", "userName", column),
+                                List.of(sortCondition, secondarySortCondition),
+                                paginateBy),
+                        null);
+            }
+        }
+    }
+
+    @Test
+    public void testDataTypeConversionMap_matchDatabaseResults() throws Exception {
+        String data = "["
+                + "{\"rowIndex\": \"0\", \"name\": \"a\", \"amount\": \"1\"},"
+                + "{\"rowIndex\": \"1\", \"name\": \"b\", \"amount\": \"2.5\"},"
+                + "{\"rowIndex\": \"2\", \"name\": \"c\", \"amount\": \"three\"},"
+                + "{\"rowIndex\": \"3\", \"name\": \"10\", \"amount\": \"1,000\"}"
+                + "]";
+        Map<DataType, DataType> conversionMap = Map.of(
+                DataType.INTEGER, DataType.DOUBLE,
+                DataType.LONG, DataType.DOUBLE,
+                DataType.FLOAT, DataType.DOUBLE);
+
+        for (String whereJson : List.of(
+                group("AND", leaf("amount", "GT", "1")),
+                group("AND", leaf("amount", "EQ", "")),
+                group("AND", leaf("rowIndex", "GTE", "1")))) {
+            assertParity(data, new UQIDataFilterParams(where(whereJson), null, null, null), conversionMap);
+        }
+    }
+
+    @Test
+    public void testUnsupportedFilter_fallsBackToDatabase() throws Exception {
+        ArrayNode items = (ArrayNode) objectMapper.readTree(DATA);
+        Map<String, DataType> schema = filterDataService.generateSchema(items, null);
+
+        // Operator that the engine does not cover
+        UQIDataFilterParams arrayContainsParams = new UQIDataFilterParams(
+                where(group("AND", leaf("userName", "ARRAY_CONTAINS", "Michael"))), null, null, null);
+        assertTrue(columnarFilterEngine
+                .filter(items, schema, arrayContainsParams, null)
+                .isEmpty());
+
+        // Value that does not match the column type
+        UQIDataFilterParams typeMismatchParams =
+                new UQIDataFilterParams(where(group("AND", leaf("quantity", "EQ", "abc"))), null, null, null);
+        assertTrue(columnarFilterEngine
+                .filter(items, schema, typeMismatchParams, null)
+                .isEmpty());
+    }
+}
@@ -15,6 +15,10 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -1336,4 +1340,62 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testFilterDataInDatabase_withConcurrentCalls_returnsCorrectResults() throws Exception {
+        String data = "[\n" + "  {\n"
+                + "    \"id\": 1,\n"
+                + "    \"orderAmount\": 4.99,\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 2,\n"
+                + "    \"orderAmount\": 9.99,\n"
+                + "    \"orderStatus\": \"NOT READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"id\": 3,\n"
+                + "    \"orderAmount\": 19.99,\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  }\n"
+                + "]";
+
+        String whereJson = "{\n" + "  \"where\": {\n"
+                + "    \"children\": [\n"
+                + "      {\n"
+                + "        \"key\": \"orderStatus\",\n"
+                + "        \"condition\": \"EQ\",\n"
+                + "        \"value\": \"READY\"\n"
+                + "      }\n"
+                + "    ],\n"
+                + "    \"condition\": \"AND\"\n"
+                + "  }\n"
+                + "}";
+
+        ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+        Map<String, DataType> schema = filterDataService.generateSchema(items, null);
+
+        Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+        Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+        Condition condition = parseWhereClause(unparsedWhereClause);
+
+        int concurrentCalls = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrentCalls);
+        try {
+            List<Future<List<Map<String, Object>>>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrentCalls; i++) {
+                futures.add(executorService.submit(() -> filterDataService.filterDataInDatabase(
+                        items, schema, new UQIDataFilterParams(condition, null, null, null), null)));
+            }
+
+            for (Future<List<Map<String, Object>>> future : futures) {
+                List<Map<String, Object>> filteredData = future.get(60, TimeUnit.SECONDS);
+                assertEquals(2, filteredData.size());
+                assertEquals(1, filteredData.get(0).get("id"));
+                assertEquals(3, filteredData.get(1).get("id"));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -7,14 +7,7 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectInputStream;
-import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.amazonaws.services.s3.transfer.TransferManager;
-import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -43,21 +36,27 @@ import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
 import com.external.utils.AmazonS3ErrorUtils;
+import com.external.utils.S3ListingUtils;
+import com.external.utils.S3StreamingUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.input.CharSequenceInputStream;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -82,6 +81,9 @@ import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFo
 import static com.appsmith.external.helpers.PluginUtils.parseList;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
@@ -107,6 +109,7 @@ import static com.external.plugins.constants.S3PluginConstants.DEFAULT_BUCKET_PR
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
 import static com.external.plugins.constants.S3PluginConstants.GOOGLE_CLOUD_SERVICE_PROVIDER;
+import static com.external.plugins.constants.S3PluginConstants.LISTING_FILTER_BATCH_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.NO;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
@@ -115,6 +118,8 @@ import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.getTemplates;
 import static java.lang.Boolean.TRUE;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
 public class AmazonS3Plugin extends BasePlugin {
@@ -141,25 +146,6 @@ public class AmazonS3Plugin extends BasePlugin {
             this.filterDataService = FilterDataService.getInstance();
         }
 
-        /*
-         * - Exception thrown by this method is expected to be handled by the caller.
-         */
-        ArrayList<String> getFilenamesFromObjectListing(ObjectListing objectListing) throws AppsmithPluginException {
-            if (objectListing == null) {
-                throw new AppsmithPluginException(
-                        S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
-                        S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
-            }
-
-            ArrayList<String> result = new ArrayList<>();
-            List<S3ObjectSummary> objects = objectListing.getObjectSummaries();
-            for (S3ObjectSummary os : objects) {
-                result.add(os.getKey());
-            }
-
-            return result;
-        }
-
         /*
          * - Exception thrown by this method is expected to be handled by the caller.
          */
@@ -188,15 +174,9 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, S3ErrorMessages.EMPTY_PREFIX_ERROR_MSG);
             }
 
-            ObjectListing result = connection.listObjects(bucketName, prefix);
-            ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
-
-            while (result.isTruncated()) {
-                result = connection.listNextBatchOfObjects(result);
-                fileList.addAll(getFilenamesFromObjectListing(result));
-            }
-
-            return fileList;
+            return S3ListingUtils.listKeys(connection, bucketName, prefix)
+                    .collect(ArrayList<String>::new, ArrayList::add)
+                    .block();
         }
 
         ArrayList<String> getSignedUrls(
@@ -216,6 +196,100 @@ public class AmazonS3Plugin extends BasePlugin {
             return urlList;
         }
 
+        /**
+         * Builds the rows of the LIST command for a batch of files, with the signed urls if expiryDateTime is set.
+         */
+        List<Map<String, Object>> getFileInfos(
+                AmazonS3 connection,
+                String bucketName,
+                ArrayList<String> listOfFiles,
+                Date expiryDateTime,
+                String expiryDateTimeString,
+                boolean isUnsignedUrl) {
+            ArrayList<String> listOfSignedUrls = null;
+            if (expiryDateTime != null) {
+                listOfSignedUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
+                if (listOfFiles.size() != listOfSignedUrls.size()) {
+                    throw new AppsmithPluginException(
+                            S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                            S3ErrorMessages.ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG);
+                }
+            }
+
+            List<Map<String, Object>> fileInfos = new ArrayList<>(listOfFiles.size());
+            for (int i = 0; i < listOfFiles.size(); i++) {
+                HashMap<String, Object> fileInfo = new HashMap<>();
+                fileInfo.put("fileName", listOfFiles.get(i));
+                if (listOfSignedUrls != null) {
+                    fileInfo.put("signedUrl", listOfSignedUrls.get(i));
+                    fileInfo.put("urlExpiryDate", expiryDateTimeString);
+                }
+                if (isUnsignedUrl) {
+                    fileInfo.put("url", connection.getUrl(bucketName, listOfFiles.get(i)).toString());
+                }
+                fileInfos.add(fileInfo);
+            }
+
+            return fileInfos;
+        }
+
+        /**
+         * Applies the where, sort and paginate conditions of the LIST command to the files, which are listed in
+         * batches. When the files are not sorted, a page only depends on the files that come first in the listing, so
+         * the listing is stopped as soon as enough files match the where condition to fill the page.
+         */
+        ArrayNode filterFileInfos(
+                Flux<List<Map<String, Object>>> fileInfoBatches,
+                Condition condition,
+                List<Map<String, String>> sortBy,
+                Map<String, String> paginateBy) {
+            final long pageEnd = getPageEnd(sortBy, paginateBy);
+            final boolean hasCondition = Condition.isValid(condition);
+            final List<Map<String, Object>> fileInfos = new ArrayList<>();
+            final long[] matchingFileCount = {0};
+
+            fileInfoBatches
+                    .doOnNext(batch -> {
+                        fileInfos.addAll(batch);
+                        if (pageEnd >= 0) {
+                            matchingFileCount[0] += hasCondition
+                                    ? filterDataService
+                                            .filterDataNew(
+                                                    objectMapper.valueToTree(batch),
+                                                    new UQIDataFilterParams(condition, null, null, null))
+                                            .size()
+                                    : batch.size();
+                        }
+                    })
+                    .takeUntil(batch -> pageEnd >= 0 && matchingFileCount[0] >= pageEnd)
+                    .blockLast();
+
+            ArrayNode preFilteringResponse = objectMapper.valueToTree(fileInfos);
+            return filterDataService.filterDataNew(
+                    preFilteringResponse, new UQIDataFilterParams(condition, null, sortBy, paginateBy));
+        }
+
+        /**
+         * @return the number of matching files, in the order of the listing, that the requested page ends at, or -1 if
+         * the page depends on all the files, i.e. when the files are sorted or not paginated
+         */
+        static long getPageEnd(List<Map<String, String>> sortBy, Map<String, String> paginateBy) {
+            final boolean isSorted = sortBy != null
+                    && sortBy.stream().anyMatch(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+            if (isSorted || CollectionUtils.isEmpty(paginateBy)) {
+                return -1;
+            }
+
+            try {
+                final long limit = Long.parseLong(defaultIfBlank(paginateBy.get(PAGINATE_LIMIT_KEY), "20").trim());
+                final long offset = Long.parseLong(defaultIfBlank(paginateBy.get(PAGINATE_OFFSET_KEY), "0").trim());
+                return limit < 0 || offset < 0 ? -1 : Math.addExact(limit, offset);
+            } catch (NumberFormatException | ArithmeticException e) {
+                // Left to the filter to report
+                return -1;
+            }
+        }
+
         /**
          * This function returns the unsigned file urls for the files present in the body
          */
@@ -257,9 +331,8 @@ public class AmazonS3Plugin extends BasePlugin {
                 String body,
                 Boolean usingFilePicker,
                 Date expiryDateTime)
-                throws InterruptedException, AppsmithPluginException {
+                throws AppsmithPluginException {
 
-            byte[] payload;
             MultipartFormDataDTO multipartFormDataDTO;
             try {
                 multipartFormDataDTO = objectMapper.readValue(body, MultipartFormDataDTO.class);
@@ -274,33 +347,8 @@ public class AmazonS3Plugin extends BasePlugin {
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                         S3ErrorMessages.UNPARSABLE_CONTENT_ERROR_MSG);
             }
-            if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
 
-                /*
-                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                 *   base64-encoded-payload>".
-                 * - Strip off the redundant part in the beginning to get actual payload.
-                 */
-                if (encodedPayload.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                }
-
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
-                    throw new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG);
-                }
-            } else {
-                payload =
-                        getEncodedPayloadFromMultipartDTO(multipartFormDataDTO).getBytes();
-            }
-
-            uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, path);
+            uploadFileInS3(usingFilePicker, connection, multipartFormDataDTO, bucketName, path);
             ArrayList<String> listOfFiles = new ArrayList<>();
             listOfFiles.add(path);
             ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
@@ -339,42 +387,7 @@ public class AmazonS3Plugin extends BasePlugin {
             ArrayList<String> listOfFiles = new ArrayList<>();
             multipartFormDataDTOs.forEach(multipartFormDataDTO -> {
                 final String filePath = path + multipartFormDataDTO.getName();
-                byte[] payload;
-                if (Boolean.TRUE.equals(usingFilePicker)) {
-
-                    String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
-                    /*
-                     * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
-                     *   base64-encoded-payload>".
-                     * - Strip off the redundant part in the beginning to get actual payload.
-                     */
-                    if (encodedPayload.contains(BASE64_DELIMITER)) {
-                        List<String> bodyArrayList = Arrays.asList(encodedPayload.split(BASE64_DELIMITER));
-                        encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
-                    }
-
-                    try {
-                        payload = Base64.getDecoder().decode(encodedPayload);
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG,
-                                e.getMessage());
-                    }
-                } else {
-                    payload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO)
-                            .getBytes();
-                }
-
-                try {
-                    uploadFileInS3(payload, connection, multipartFormDataDTO, bucketName, filePath);
-                } catch (InterruptedException e) {
-                    throw new AppsmithPluginException(
-                            S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
-                            S3ErrorMessages.FILE_UPLOAD_INTERRUPTED_ERROR_MSG,
-                            e.getMessage());
-                }
-
+                uploadFileInS3(usingFilePicker, connection, multipartFormDataDTO, bucketName, filePath);
                 listOfFiles.add(filePath);
             });
 
@@ -385,18 +398,7 @@ public class AmazonS3Plugin extends BasePlugin {
          * - Exception thrown here needs to be handled by the caller.
          */
         String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
-            } else {
-                result = new String(bytes);
-            }
-
-            return result;
+            return S3StreamingUtils.readObject(connection, bucketName, path, Boolean.TRUE.equals(encodeContent));
         }
 
         @Override
@@ -546,11 +548,11 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
-
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
 
+                                Date expiryDateTime = null;
+                                String expiryDateTimeString = null;
                                 if (isSignedUrl) {
                                     requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, YES, null, null, null));
 
@@ -571,49 +573,18 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                     Calendar calendar = Calendar.getInstance();
                                     calendar.add(Calendar.MINUTE, durationInMinutes);
-                                    Date expiryDateTime = calendar.getTime();
+                                    expiryDateTime = calendar.getTime();
                                     DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
-                                    String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
-
-                                    ArrayList<String> listOfSignedUrls =
-                                            getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
-                                    if (listOfFiles.size() != listOfSignedUrls.size()) {
-                                        return Mono.error(new AppsmithPluginException(
-                                                S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
-                                                S3ErrorMessages.ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG));
-                                    }
-
-                                    actionResult = new ArrayList<>();
-                                    for (int i = 0; i < listOfFiles.size(); i++) {
-                                        HashMap<String, Object> fileInfo = new HashMap<>();
-                                        fileInfo.put("fileName", listOfFiles.get(i));
-                                        fileInfo.put("signedUrl", listOfSignedUrls.get(i));
-                                        fileInfo.put("urlExpiryDate", expiryDateTimeString);
-                                        ((ArrayList<Object>) actionResult).add(fileInfo);
-                                    }
+                                    expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
                                 } else {
                                     requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, "", null, null, null));
-                                    actionResult = new ArrayList<>();
-                                    for (int i = 0; i < listOfFiles.size(); i++) {
-                                        HashMap<String, Object> fileInfo = new HashMap<>();
-                                        fileInfo.put("fileName", listOfFiles.get(i));
-                                        ((ArrayList<Object>) actionResult).add(fileInfo);
-                                    }
                                 }
 
-                                String isUnsignedUrl =
-                                        getDataValueSafelyFromFormData(formData, LIST_UNSIGNED_URL, STRING_TYPE);
-
-                                if (YES.equals(isUnsignedUrl)) {
+                                Boolean isUnsignedUrl = YES.equals(
+                                        getDataValueSafelyFromFormData(formData, LIST_UNSIGNED_URL, STRING_TYPE));
 
+                                if (isUnsignedUrl) {
                                     requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, YES, null, null, null));
-                                    ((ArrayList<Object>) actionResult).stream().forEach(item -> ((Map) item)
-                                            .put(
-                                                    "url", // key
-                                                    connection
-                                                            .getUrl(bucketName, (String) ((Map) item).get("fileName"))
-                                                            .toString() // value
-                                                    ));
                                 } else {
                                     requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, NO, null, null, null));
                                 }
@@ -634,10 +605,20 @@ public class AmazonS3Plugin extends BasePlugin {
                                 Map<String, String> paginateBy = getDataValueSafelyFromFormData(
                                         formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
 
-                                ArrayNode preFilteringResponse = objectMapper.valueToTree(actionResult);
-                                actionResult = filterDataService.filterDataNew(
-                                        preFilteringResponse,
-                                        new UQIDataFilterParams(condition, null, sortBy, paginateBy));
+                                final Date signedUrlExpiryDateTime = expiryDateTime;
+                                final String signedUrlExpiryDateTimeString = expiryDateTimeString;
+                                Flux<List<Map<String, Object>>> fileInfoBatches = S3ListingUtils.listKeys(
+                                                connection, bucketName, prefix)
+                                        .buffer(LISTING_FILTER_BATCH_SIZE, ArrayList::new)
+                                        .map(listOfFiles -> getFileInfos(
+                                                connection,
+                                                bucketName,
+                                                listOfFiles,
+                                                signedUrlExpiryDateTime,
+                                                signedUrlExpiryDateTimeString,
+                                                isUnsignedUrl));
+
+                                actionResult = filterFileInfos(fileInfoBatches, condition, sortBy, paginateBy);
 
                                 break;
                             case UPLOAD_FILE_FROM_BODY: {
@@ -1156,24 +1137,50 @@ public class AmazonS3Plugin extends BasePlugin {
             return encodedPayload;
         }
 
+        /*
+         * - The payload is decoded while it is uploaded, one part at a time, instead of being copied into a byte array
+         *   as a whole.
+         */
         void uploadFileInS3(
-                byte[] payload,
+                Boolean usingFilePicker,
                 AmazonS3 connection,
                 MultipartFormDataDTO multipartFormDataDTO,
                 String bucketName,
                 String path)
-                throws InterruptedException {
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager =
-                    TransferManagerBuilder.standard().withS3Client(connection).build();
+                throws AppsmithPluginException {
+            String encodedPayload = getEncodedPayloadFromMultipartDTO(multipartFormDataDTO);
+            InputStream inputStream;
+            if (Boolean.TRUE.equals(usingFilePicker)) {
+                /*
+                 * - For files uploaded using Filepicker.xyz.base64, body format is "<content-type>;base64,<actual-
+                 *   base64-encoded-payload>".
+                 * - Skip the redundant part in the beginning to get actual payload.
+                 */
+                int payloadStart = encodedPayload.lastIndexOf(BASE64_DELIMITER);
+                payloadStart = payloadStart < 0 ? 0 : payloadStart + BASE64_DELIMITER.length();
+                inputStream = Base64.getDecoder()
+                        .wrap(new CharSequenceInputStream(
+                                CharBuffer.wrap(encodedPayload, payloadStart, encodedPayload.length()),
+                                StandardCharsets.ISO_8859_1));
+            } else {
+                inputStream = new CharSequenceInputStream(encodedPayload, Charset.defaultCharset());
+            }
+
             final ObjectMetadata objectMetadata = new ObjectMetadata();
             // Only add content type if the user has mentioned it in the body
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+
+            try {
+                S3StreamingUtils.uploadObject(connection, bucketName, path, inputStream, objectMetadata);
+            } catch (IOException e) {
+                // The payload is a string, so reading it only fails when it is not valid Base64
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        S3ErrorMessages.UNEXPECTED_ENCODING_IN_FILE_CONTENT_ERROR_MSG,
+                        e.getMessage());
+            }
         }
 
         /**
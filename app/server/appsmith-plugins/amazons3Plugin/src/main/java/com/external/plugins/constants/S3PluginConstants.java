@@ -16,4 +16,11 @@ public class S3PluginConstants {
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
     public static final String GOOGLE_CLOUD_SERVICE_PROVIDER = "google-cloud-storage";
     public static final String AUTO = "auto";
+    // S3 requires parts of at least 5 MB, and a multiple of 3 keeps the Base64 of consecutive parts contiguous
+    public static final int STREAMING_PART_SIZE_IN_BYTES = 6 * 1024 * 1024;
+    public static final int STREAMING_PARALLEL_PARTS = 4;
+    public static final String LISTING_DELIMITER = "/";
+    public static final int LISTING_PARALLEL_PREFIXES = 8;
+    public static final int LISTING_PREFETCHED_PAGES = 2; // of up to 1000 keys each
+    public static final int LISTING_FILTER_BATCH_SIZE = 1000;
 }
@@ -38,6 +38,9 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
 
     public static final String FILE_UPLOAD_INTERRUPTED_ERROR_MSG = "File upload interrupted.";
 
+    public static final String FILE_CHANGED_WHILE_READING_ERROR_MSG =
+            "The file was modified while it was being read. Please try again.";
+
     public static final String MANDATORY_FIELD_MISSING_ERROR_MSG =
             "At least one of the mandatory fields in S3 query creation form is empty - 'Action'/"
                     + "'Bucket name'/'File path'/'Content'. Please fill all the mandatory fields and try "
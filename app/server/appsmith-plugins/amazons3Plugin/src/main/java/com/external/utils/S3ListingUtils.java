@@ -0,0 +1,179 @@
+package com.external.utils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.S3ErrorMessages;
+import com.external.plugins.exceptions.S3PluginError;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.external.plugins.constants.S3PluginConstants.LISTING_DELIMITER;
+import static com.external.plugins.constants.S3PluginConstants.LISTING_PARALLEL_PREFIXES;
+import static com.external.plugins.constants.S3PluginConstants.LISTING_PREFETCHED_PAGES;
+
+/**
+ * Lists the keys of a bucket by fanning out across the prefixes that are one delimiter below the listed prefix, e.g.
+ * the top level folders of a bucket, and listing up to
+ * {@link com.external.plugins.constants.S3PluginConstants#LISTING_PARALLEL_PREFIXES} of them concurrently.
+ *
+ * Keys are emitted lazily and in the same order as a plain listing, i.e. in the lexicographic order of their UTF-8
+ * bytes, so that callers can stop listing as soon as they have the keys that they need. Every prefix that is being
+ * listed holds at most {@link com.external.plugins.constants.S3PluginConstants#LISTING_PREFETCHED_PAGES} pages of keys
+ * that have not been consumed yet.
+ */
+public class S3ListingUtils {
+
+    private S3ListingUtils() {
+        // Prevents instantiation
+    }
+
+    public static Flux<String> listKeys(AmazonS3 connection, String bucketName, String prefix) {
+        return listKeys(connection, bucketName, prefix, LISTING_PARALLEL_PREFIXES);
+    }
+
+    static Flux<String> listKeys(AmazonS3 connection, String bucketName, String prefix, int parallelPrefixes) {
+        return listKeyPages(connection, bucketName, prefix, parallelPrefixes).concatMapIterable(keys -> keys, 1);
+    }
+
+    private static Flux<List<String>> listKeyPages(
+            AmazonS3 connection, String bucketName, String prefix, int parallelPrefixes) {
+        final ListObjectsRequest request = new ListObjectsRequest()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withDelimiter(LISTING_DELIMITER);
+
+        return listFirstPage(connection, request).flatMapMany(firstPage -> {
+            if (hasSinglePrefix(firstPage)) {
+                // Nothing to fan out across at this level, e.g. when all the keys are in a single folder
+                return listKeyPages(
+                        connection, bucketName, firstPage.getCommonPrefixes().get(0), parallelPrefixes);
+            }
+
+            return Flux.concat(Mono.just(firstPage), listNextPages(connection, firstPage))
+                    .concatMapIterable(S3ListingUtils::getEntriesInOrder, 1)
+                    .flatMapSequential(
+                            entry -> entry.isPrefix
+                                    ? listAllKeyPages(connection, bucketName, entry.name)
+                                    : Mono.just(List.of(entry.name)),
+                            parallelPrefixes,
+                            LISTING_PREFETCHED_PAGES);
+        });
+    }
+
+    private static Flux<List<String>> listAllKeyPages(AmazonS3 connection, String bucketName, String prefix) {
+        final ListObjectsRequest request =
+                new ListObjectsRequest().withBucketName(bucketName).withPrefix(prefix);
+
+        return listFirstPage(connection, request)
+                .flatMapMany(firstPage -> Flux.concat(Mono.just(firstPage), listNextPages(connection, firstPage)))
+                .map(S3ListingUtils::getKeys);
+    }
+
+    private static Mono<ObjectListing> listFirstPage(AmazonS3 connection, ListObjectsRequest request) {
+        return Mono.fromCallable(() -> checkListing(connection.listObjects(request)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Pages are requested one at a time, when the pages that were listed before them have been consumed.
+     */
+    private static Flux<ObjectListing> listNextPages(AmazonS3 connection, ObjectListing firstPage) {
+        return Flux.<ObjectListing, ObjectListing>generate(
+                        () -> firstPage,
+                        (previousPage, sink) -> {
+                            if (!previousPage.isTruncated()) {
+                                sink.complete();
+                                return previousPage;
+                            }
+
+                            final ObjectListing page = checkListing(connection.listNextBatchOfObjects(previousPage));
+                            sink.next(page);
+                            return page;
+                        })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private static ObjectListing checkListing(ObjectListing listing) {
+        if (listing == null) {
+            throw new AppsmithPluginException(
+                    S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED, S3ErrorMessages.FILE_CONTENT_FETCHING_ERROR_MSG);
+        }
+
+        return listing;
+    }
+
+    private static boolean hasSinglePrefix(ObjectListing listing) {
+        return listing.getCommonPrefixes().size() == 1
+                && listing.getObjectSummaries().isEmpty()
+                && !listing.isTruncated();
+    }
+
+    private static List<String> getKeys(ObjectListing listing) {
+        final List<String> keys = new ArrayList<>(listing.getObjectSummaries().size());
+        for (S3ObjectSummary objectSummary : listing.getObjectSummaries()) {
+            keys.add(objectSummary.getKey());
+        }
+
+        return keys;
+    }
+
+    /**
+     * Merges the keys and the common prefixes of a page, which are each sorted. Since all the keys under a prefix sort
+     * right after it, listing the prefixes in place keeps the keys in the order of a plain listing.
+     */
+    private static List<Entry> getEntriesInOrder(ObjectListing listing) {
+        final List<String> keys = getKeys(listing);
+        final List<String> prefixes = listing.getCommonPrefixes();
+        final List<Entry> entries = new ArrayList<>(keys.size() + prefixes.size());
+
+        int keyIndex = 0;
+        int prefixIndex = 0;
+        while (keyIndex < keys.size() || prefixIndex < prefixes.size()) {
+            if (prefixIndex == prefixes.size()
+                    || (keyIndex < keys.size()
+                            && compareCodePoints(keys.get(keyIndex), prefixes.get(prefixIndex)) < 0)) {
+                entries.add(new Entry(keys.get(keyIndex++), false));
+            } else {
+                entries.add(new Entry(prefixes.get(prefixIndex++), true));
+            }
+        }
+
+        return entries;
+    }
+
+    /**
+     * Compares strings in the order of their UTF-8 bytes, which is the order in which S3 lists keys. It differs from
+     * String.compareTo for characters outside the Basic Multilingual Plane.
+     */
+    static int compareCodePoints(String left, String right) {
+        int index = 0;
+        while (index < left.length() && index < right.length()) {
+            final int leftCodePoint = left.codePointAt(index);
+            final int rightCodePoint = right.codePointAt(index);
+            if (leftCodePoint != rightCodePoint) {
+                return Integer.compare(leftCodePoint, rightCodePoint);
+            }
+
+            index += Character.charCount(leftCodePoint);
+        }
+
+        return Integer.compare(left.length() - index, right.length() - index);
+    }
+
+    private static class Entry {
+        private final String name;
+        private final boolean isPrefix;
+
+        private Entry(String name, boolean isPrefix) {
+            this.name = name;
+            this.isPrefix = isPrefix;
+        }
+    }
+}
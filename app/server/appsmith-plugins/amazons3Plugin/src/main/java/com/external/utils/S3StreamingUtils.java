@@ -0,0 +1,301 @@
+package com.external.utils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.S3ErrorMessages;
+import com.external.plugins.exceptions.S3PluginError;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.external.plugins.constants.S3PluginConstants.STREAMING_PARALLEL_PARTS;
+import static com.external.plugins.constants.S3PluginConstants.STREAMING_PART_SIZE_IN_BYTES;
+
+/**
+ * Reads and writes S3 objects in parts, so that the memory used for a transfer does not grow with the size of the
+ * object, other than for the content returned to the client.
+ *
+ * Objects larger than a part are read with ranged GETs and written with a multipart upload, and at most
+ * {@link com.external.plugins.constants.S3PluginConstants#STREAMING_PARALLEL_PARTS} parts are transferred, and held in
+ * memory, at the same time. Smaller objects are read and written with a single request, as before.
+ */
+@Slf4j
+public class S3StreamingUtils {
+
+    private S3StreamingUtils() {
+        // Prevents instantiation
+    }
+
+    public static String readObject(AmazonS3 connection, String bucketName, String path, boolean encodeContent)
+            throws IOException {
+        return readObject(
+                connection, bucketName, path, encodeContent, STREAMING_PART_SIZE_IN_BYTES, STREAMING_PARALLEL_PARTS);
+    }
+
+    /**
+     * Reads the object as text, or as Base64 if encodeContent is true. Parts are encoded as they arrive, in order, so
+     * the object is never held in memory as a whole next to its encoded form.
+     */
+    static String readObject(
+            AmazonS3 connection,
+            String bucketName,
+            String path,
+            boolean encodeContent,
+            int partSize,
+            int parallelParts)
+            throws IOException {
+        // Base64 of parts whose size is a multiple of 3 can be concatenated, as only the last part is padded
+        final int rangeSize = encodeContent ? partSize - partSize % 3 : partSize;
+
+        final S3Object object = connection.getObject(bucketName, path);
+        final ObjectMetadata metadata = object.getObjectMetadata();
+        final long contentLength = metadata == null ? -1 : metadata.getContentLength();
+        final ContentWriter writer = encodeContent ? new Base64Writer(contentLength) : new TextWriter(contentLength);
+
+        // The first part is read from the response to the plain GET, which is the whole object if it is small
+        final byte[] firstPart;
+        try (S3ObjectInputStream content = object.getObjectContent()) {
+            if (contentLength <= rangeSize) {
+                writer.write(content.readAllBytes(), true);
+                return writer.toString();
+            }
+
+            firstPart = content.readNBytes(rangeSize);
+            // Drops the connection instead of reading the rest of the object from it
+            content.abort();
+        }
+        writer.write(firstPart, false);
+
+        final String eTag = metadata.getETag();
+        final int partCount = (int) ((contentLength + rangeSize - 1) / rangeSize);
+        try {
+            Flux.range(1, partCount - 1)
+                    .flatMapSequential(
+                            part -> Mono.fromCallable(() -> readRange(
+                                            connection,
+                                            bucketName,
+                                            path,
+                                            eTag,
+                                            (long) part * rangeSize,
+                                            Math.min((long) (part + 1) * rangeSize, contentLength) - 1))
+                                    .subscribeOn(Schedulers.boundedElastic()),
+                            parallelParts,
+                            1)
+                    .index()
+                    .doOnNext(part -> writer.write(part.getT2(), part.getT1() == partCount - 2))
+                    .then()
+                    .block();
+        } catch (RuntimeException e) {
+            throw unwrap(e);
+        }
+
+        return writer.toString();
+    }
+
+    private static byte[] readRange(
+            AmazonS3 connection, String bucketName, String path, String eTag, long start, long end)
+            throws IOException {
+        GetObjectRequest request = new GetObjectRequest(bucketName, path).withRange(start, end);
+        if (eTag != null) {
+            request.withMatchingETagConstraint(eTag);
+        }
+
+        final S3Object object = connection.getObject(request);
+        if (object == null) {
+            // The ETag constraint failed, i.e. the object was overwritten while it was being read
+            throw new AppsmithPluginException(
+                    S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
+                    S3ErrorMessages.FILE_CHANGED_WHILE_READING_ERROR_MSG);
+        }
+
+        try (S3ObjectInputStream content = object.getObjectContent()) {
+            return content.readAllBytes();
+        }
+    }
+
+    public static void uploadObject(
+            AmazonS3 connection, String bucketName, String path, InputStream content, ObjectMetadata metadata)
+            throws IOException {
+        uploadObject(
+                connection,
+                bucketName,
+                path,
+                content,
+                metadata,
+                STREAMING_PART_SIZE_IN_BYTES,
+                STREAMING_PARALLEL_PARTS);
+    }
+
+    /**
+     * Uploads the content, which is read one part at a time. A content that fits in a part is uploaded with a single
+     * PUT. Otherwise, parts are uploaded in parallel as they are read, and the multipart upload is aborted if any part
+     * fails, so that no partial object is left behind.
+     *
+     * IOExceptions thrown while reading the content, e.g. by a Base64 decoding stream, are rethrown as is.
+     */
+    static void uploadObject(
+            AmazonS3 connection,
+            String bucketName,
+            String path,
+            InputStream content,
+            ObjectMetadata metadata,
+            int partSize,
+            int parallelParts)
+            throws IOException {
+        final byte[] firstPart = content.readNBytes(partSize);
+        if (firstPart.length < partSize) {
+            metadata.setContentLength(firstPart.length);
+            connection.putObject(bucketName, path, new ByteArrayInputStream(firstPart), metadata);
+            return;
+        }
+
+        final String uploadId = connection
+                .initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, path, metadata))
+                .getUploadId();
+
+        try {
+            final Flux<byte[]> parts = Flux.concat(Mono.just(firstPart), Flux.<byte[]>generate(sink -> {
+                try {
+                    byte[] part = content.readNBytes(partSize);
+                    if (part.length == 0) {
+                        sink.complete();
+                    } else {
+                        sink.next(part);
+                    }
+                } catch (IOException e) {
+                    sink.error(e);
+                }
+            }));
+
+            // Parts are read only when one of the parallel uploads is done, which bounds the parts held in memory
+            final List<PartETag> partETags = parts.index()
+                    .flatMap(
+                            part -> Mono.fromCallable(() -> connection
+                                            .uploadPart(new UploadPartRequest()
+                                                    .withBucketName(bucketName)
+                                                    .withKey(path)
+                                                    .withUploadId(uploadId)
+                                                    .withPartNumber(part.getT1().intValue() + 1)
+                                                    .withPartSize(part.getT2().length)
+                                                    .withInputStream(new ByteArrayInputStream(part.getT2())))
+                                            .getPartETag())
+                                    .subscribeOn(Schedulers.boundedElastic()),
+                            parallelParts,
+                            1)
+                    .sort(Comparator.comparingInt(PartETag::getPartNumber))
+                    .collectList()
+                    .block();
+
+            connection.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, path, uploadId, partETags));
+        } catch (RuntimeException e) {
+            abortMultipartUpload(connection, bucketName, path, uploadId);
+            throw unwrap(e);
+        }
+    }
+
+    private static void abortMultipartUpload(AmazonS3 connection, String bucketName, String path, String uploadId) {
+        try {
+            connection.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, path, uploadId));
+        } catch (RuntimeException e) {
+            log.error("Unable to abort multipart upload {} of {}/{}", uploadId, bucketName, path, e);
+        }
+    }
+
+    /**
+     * Rethrows the IOExceptions that Reactor wraps when a blocking call fails, so that callers can tell them apart.
+     */
+    private static RuntimeException unwrap(RuntimeException e) throws IOException {
+        Throwable cause = Exceptions.unwrap(e);
+        if (cause instanceof IOException ioException) {
+            throw ioException;
+        }
+        return cause instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+
+    private interface ContentWriter {
+        void write(byte[] part, boolean isLastPart);
+    }
+
+    private static class Base64Writer implements ContentWriter {
+        private final Base64.Encoder encoder = Base64.getEncoder();
+        private final StringBuilder content;
+
+        private Base64Writer(long contentLength) {
+            content = new StringBuilder(
+                    contentLength < 0 ? 16 : (int) Math.min(Integer.MAX_VALUE - 8, (contentLength + 2) / 3 * 4));
+        }
+
+        @Override
+        public void write(byte[] part, boolean isLastPart) {
+            content.append(new String(encoder.encode(part), StandardCharsets.ISO_8859_1));
+        }
+
+        @Override
+        public String toString() {
+            return content.toString();
+        }
+    }
+
+    /**
+     * Decodes the parts with the platform charset, like new String(bytes) does, carrying over the bytes of a character
+     * that is split between two parts.
+     */
+    private static class TextWriter implements ContentWriter {
+        private final CharsetDecoder decoder = Charset.defaultCharset()
+                .newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private final StringBuilder content;
+        private byte[] carriedOver = new byte[0];
+
+        private TextWriter(long contentLength) {
+            content = new StringBuilder(contentLength < 0 ? 16 : (int) Math.min(Integer.MAX_VALUE - 8, contentLength));
+        }
+
+        @Override
+        public void write(byte[] part, boolean isLastPart) {
+            ByteBuffer input = ByteBuffer.allocate(carriedOver.length + part.length);
+            input.put(carriedOver).put(part).flip();
+
+            CharBuffer output = CharBuffer.allocate((int) (input.remaining() * decoder.maxCharsPerByte()) + 1);
+            decoder.decode(input, output, isLastPart);
+            if (isLastPart) {
+                decoder.flush(output);
+            }
+            content.append(output.flip());
+
+            carriedOver = new byte[input.remaining()];
+            input.get(carriedOver);
+        }
+
+        @Override
+        public String toString() {
+            return content.toString();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -51,6 +53,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
@@ -339,7 +342,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -793,7 +796,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -845,7 +848,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -909,7 +912,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -973,7 +976,7 @@ public class AmazonS3PluginTest {
 
         ObjectListing mockObjectListing = mock(ObjectListing.class);
         AmazonS3 mockConnection = mock(AmazonS3.class);
-        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listObjects(any(ListObjectsRequest.class))).thenReturn(mockObjectListing);
 
         S3ObjectSummary mockS3ObjectSummary = mock(S3ObjectSummary.class);
         List<S3ObjectSummary> mockS3ObjectSummaryList = new ArrayList<>();
@@ -1584,4 +1587,41 @@ public class AmazonS3PluginTest {
                 .block();
         assertEquals(userSelectedBucketName, mappedColumnsAndTableName.get("templateBucket"));
     }
+
+    @Test
+    public void testFilterFileInfos_withUnsortedPage_stopsListingOnceThePageIsFilled() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AtomicInteger listedBatchCount = new AtomicInteger();
+        Flux<List<Map<String, Object>>> fileInfoBatches = Flux.range(0, 5)
+                .map(batch -> List.<Map<String, Object>>of(
+                        Map.of("fileName", "file_" + batch + "_a"), Map.of("fileName", "file_" + batch + "_b")))
+                .doOnNext(batch -> listedBatchCount.incrementAndGet());
+
+        ArrayNode result = pluginExecutor.filterFileInfos(
+                fileInfoBatches, null, List.of(Map.of("column", "")), Map.of("limit", "2", "offset", "1"));
+
+        assertEquals(2, listedBatchCount.get());
+        assertEquals(2, result.size());
+        assertEquals("file_0_b", result.get(0).get("fileName").asText());
+        assertEquals("file_1_a", result.get(1).get("fileName").asText());
+    }
+
+    @Test
+    public void testFilterFileInfos_withSortedPage_listsAllFiles() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AtomicInteger listedBatchCount = new AtomicInteger();
+        Flux<List<Map<String, Object>>> fileInfoBatches = Flux.range(0, 5)
+                .map(batch -> List.<Map<String, Object>>of(Map.of("fileName", "file_" + batch)))
+                .doOnNext(batch -> listedBatchCount.incrementAndGet());
+
+        ArrayNode result = pluginExecutor.filterFileInfos(
+                fileInfoBatches,
+                null,
+                List.of(Map.of("column", "fileName", "order", "DESCENDING")),
+                Map.of("limit", "1", "offset", "0"));
+
+        assertEquals(5, listedBatchCount.get());
+        assertEquals(1, result.size());
+        assertEquals("file_4", result.get(0).get("fileName").asText());
+    }
 }
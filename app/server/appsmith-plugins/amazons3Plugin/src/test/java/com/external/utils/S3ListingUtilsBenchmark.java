@@ -0,0 +1,126 @@
+package com.external.utils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares listing a bucket of 500,000 keys, spread over 100 folders, against MinIO standing in for S3.
+ *
+ * <ul>
+ *     <li>sequentialListing: listing all the keys one page after the other, which is how files used to be listed,
+ *     even when only the first page of results was requested</li>
+ *     <li>parallelListing: listing all the keys with {@link S3ListingUtils}, which lists the folders concurrently</li>
+ *     <li>parallelListingOfFirstPage: listing the first 20 keys with {@link S3ListingUtils}, which stops listing
+ *     once it has them, as the LIST command does for unsorted pages</li>
+ * </ul>
+ *
+ * Filling the bucket takes a few minutes, and Docker is needed to start MinIO.
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class S3ListingUtilsBenchmark {
+
+    private static final int FOLDER_COUNT = 100;
+
+    private static final int KEYS_PER_FOLDER = 5_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final String BUCKET = "benchmark";
+
+    @SuppressWarnings("rawtypes")
+    private GenericContainer container;
+
+    private AmazonS3 connection;
+
+    @Setup
+    public void setUp() {
+        container = new GenericContainer(DockerImageName.parse("minio/minio:RELEASE.2023-09-30T07-02-29Z"))
+                .withEnv(Map.of("MINIO_ROOT_USER", "minioadmin", "MINIO_ROOT_PASSWORD", "minioadmin"))
+                .withCommand("server /data")
+                .withExposedPorts(9000)
+                .waitingFor(Wait.forHttp("/minio/health/live"));
+        container.start();
+
+        connection = S3StreamingUtilsTest.createConnection(container.getHost(), container.getFirstMappedPort());
+        connection.createBucket(BUCKET);
+
+        Flux.range(0, FOLDER_COUNT * KEYS_PER_FOLDER)
+                .map(i -> String.format("folder_%03d/file_%06d.txt", i / KEYS_PER_FOLDER, i))
+                .flatMap(
+                        key -> Mono.fromRunnable(() -> connection.putObject(BUCKET, key, ""))
+                                .subscribeOn(Schedulers.boundedElastic()),
+                        64)
+                .blockLast();
+    }
+
+    @TearDown
+    public void tearDown() {
+        connection.shutdown();
+        container.stop();
+    }
+
+    @Benchmark
+    public List<String> sequentialListing() {
+        List<String> keys = new ArrayList<>();
+        ObjectListing listing = connection.listObjects(BUCKET, "");
+        listing.getObjectSummaries().stream().map(S3ObjectSummary::getKey).forEach(keys::add);
+        while (listing.isTruncated()) {
+            listing = connection.listNextBatchOfObjects(listing);
+            listing.getObjectSummaries().stream().map(S3ObjectSummary::getKey).forEach(keys::add);
+        }
+
+        return keys;
+    }
+
+    @Benchmark
+    public List<String> parallelListing() {
+        return S3ListingUtils.listKeys(connection, BUCKET, "").collectList().block();
+    }
+
+    @Benchmark
+    public List<String> parallelListingOfFirstPage() {
+        return S3ListingUtils.listKeys(connection, BUCKET, "")
+                .take(PAGE_SIZE)
+                .collectList()
+                .block();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(S3ListingUtilsBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
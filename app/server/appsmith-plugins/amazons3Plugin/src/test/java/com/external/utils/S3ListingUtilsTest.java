@@ -0,0 +1,121 @@
+package com.external.utils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the listings against MinIO, which stands in for S3, and compares them with a plain sequential listing.
+ */
+@Testcontainers
+public class S3ListingUtilsTest {
+
+    private static final int PARALLEL_PREFIXES = 2;
+
+    @SuppressWarnings("rawtypes")
+    @Container
+    public static GenericContainer container = new GenericContainer(
+                    DockerImageName.parse("minio/minio:RELEASE.2023-09-30T07-02-29Z"))
+            .withEnv(Map.of("MINIO_ROOT_USER", "minioadmin", "MINIO_ROOT_PASSWORD", "minioadmin"))
+            .withCommand("server /data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live"));
+
+    private static AmazonS3 connection;
+
+    @BeforeAll
+    public static void setUp() {
+        connection = S3StreamingUtilsTest.createConnection(container.getHost(), container.getFirstMappedPort());
+    }
+
+    private static void createBucket(String bucketName, List<String> keys) {
+        connection.createBucket(bucketName);
+        keys.forEach(key -> connection.putObject(bucketName, key, ""));
+    }
+
+    private static List<String> listKeysSequentially(String bucketName, String prefix) {
+        List<String> keys = new ArrayList<>();
+        ObjectListing listing = connection.listObjects(bucketName, prefix);
+        listing.getObjectSummaries().stream().map(S3ObjectSummary::getKey).forEach(keys::add);
+        while (listing.isTruncated()) {
+            listing = connection.listNextBatchOfObjects(listing);
+            listing.getObjectSummaries().stream().map(S3ObjectSummary::getKey).forEach(keys::add);
+        }
+
+        return keys;
+    }
+
+    private static List<String> listKeys(String bucketName, String prefix) {
+        return S3ListingUtils.listKeys(connection, bucketName, prefix, PARALLEL_PREFIXES)
+                .collectList()
+                .block();
+    }
+
+    @Test
+    public void testListKeys_withFoldersAndTopLevelKeys_listsKeysInPlainListingOrder() {
+        List<String> keys = new ArrayList<>(List.of(
+                "a.txt",
+                "a/1.txt",
+                "a/2/3.txt",
+                "a-b.txt",
+                "b/",
+                "b/c.txt",
+                "b0.txt",
+                // Sorts before the next folder in UTF-8 order, but after it in UTF-16 order
+                "\uFFEE.txt",
+                "\uD83D\uDE00/d.txt"));
+        // More keys than a page holds, so that the folder is listed in several pages
+        for (int i = 0; i < 1100; i++) {
+            keys.add(String.format("many/%04d.txt", i));
+        }
+        createBucket("mixed", keys);
+
+        List<String> expectedKeys = listKeysSequentially("mixed", "");
+        assertEquals(keys.size(), expectedKeys.size());
+        assertEquals(expectedKeys, listKeys("mixed", ""));
+        assertEquals(listKeysSequentially("mixed", "a"), listKeys("mixed", "a"));
+        assertEquals(listKeysSequentially("mixed", "many/00"), listKeys("mixed", "many/00"));
+    }
+
+    @Test
+    public void testListKeys_withSingleTopLevelFolder_listsKeysOfItsSubfolders() {
+        createBucket(
+                "nested",
+                List.of("root/x/1.txt", "root/x/2.txt", "root/y/1.txt", "root/y/z/1.txt", "root/z.txt"));
+
+        assertEquals(listKeysSequentially("nested", ""), listKeys("nested", ""));
+    }
+
+    @Test
+    public void testListKeys_withEmptyBucket_listsNothing() {
+        createBucket("empty", List.of());
+
+        assertTrue(listKeys("empty", "").isEmpty());
+    }
+
+    @Test
+    public void testListKeys_whenOnlyFirstKeysAreTaken_returnsThemInOrder() {
+        createBucket("partial", List.of("a/1.txt", "a/2.txt", "b/1.txt", "c/1.txt", "d/1.txt", "e.txt"));
+
+        List<String> keys = S3ListingUtils.listKeys(connection, "partial", "", PARALLEL_PREFIXES)
+                .take(3)
+                .collectList()
+                .block();
+
+        assertEquals(List.of("a/1.txt", "a/2.txt", "b/1.txt"), keys);
+    }
+}
@@ -0,0 +1,139 @@
+package com.external.utils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.apache.commons.io.input.CharSequenceInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading and uploading a 200 MB object as Base64, against MinIO standing in for S3, in a JVM with the 2 GB
+ * heap of a server pod.
+ *
+ * <ul>
+ *     <li>bufferedRead and bufferedUpload: the whole object is held in a byte array next to its Base64 form, which is
+ *     how files used to be transferred</li>
+ *     <li>streamingRead and streamingUpload: the object is transferred in parts with {@link S3StreamingUtils}</li>
+ * </ul>
+ *
+ * The GC profiler reports the bytes allocated per transfer as gc.alloc.rate.norm. Docker is needed to start MinIO.
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class S3StreamingUtilsBenchmark {
+
+    private static final int OBJECT_SIZE = 200 * 1024 * 1024;
+
+    private static final String BUCKET = "benchmark";
+
+    private static final String PATH = "large.bin";
+
+    @SuppressWarnings("rawtypes")
+    private GenericContainer container;
+
+    private AmazonS3 connection;
+
+    private String encodedObject;
+
+    @Setup
+    public void setUp() {
+        container = new GenericContainer(DockerImageName.parse("minio/minio:RELEASE.2023-09-30T07-02-29Z"))
+                .withEnv(Map.of("MINIO_ROOT_USER", "minioadmin", "MINIO_ROOT_PASSWORD", "minioadmin"))
+                .withCommand("server /data")
+                .withExposedPorts(9000)
+                .waitingFor(Wait.forHttp("/minio/health/live"));
+        container.start();
+
+        connection = S3StreamingUtilsTest.createConnection(container.getHost(), container.getFirstMappedPort());
+        connection.createBucket(BUCKET);
+
+        byte[] content = new byte[OBJECT_SIZE];
+        new Random(OBJECT_SIZE).nextBytes(content);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        connection.putObject(BUCKET, PATH, new ByteArrayInputStream(content), metadata);
+
+        // Uploads start from the Base64 string of the request body, as they do in the plugin
+        encodedObject = Base64.getEncoder().encodeToString(content);
+    }
+
+    @TearDown
+    public void tearDown() {
+        connection.shutdown();
+        container.stop();
+    }
+
+    @Benchmark
+    public String bufferedRead() throws Exception {
+        try (S3Object object = connection.getObject(BUCKET, PATH)) {
+            byte[] bytes = object.getObjectContent().readAllBytes();
+            return new String(Base64.getEncoder().encode(bytes));
+        }
+    }
+
+    @Benchmark
+    public String streamingRead() throws Exception {
+        return S3StreamingUtils.readObject(connection, BUCKET, PATH, true);
+    }
+
+    @Benchmark
+    public void bufferedUpload() throws Exception {
+        byte[] payload = Base64.getDecoder().decode(encodedObject);
+        TransferManager transferManager =
+                TransferManagerBuilder.standard().withS3Client(connection).build();
+        try {
+            transferManager
+                    .upload(BUCKET, "buffered.bin", new ByteArrayInputStream(payload), new ObjectMetadata())
+                    .waitForUploadResult();
+        } finally {
+            transferManager.shutdownNow(false);
+        }
+    }
+
+    @Benchmark
+    public void streamingUpload() throws Exception {
+        InputStream payload = Base64.getDecoder()
+                .wrap(new CharSequenceInputStream(encodedObject, StandardCharsets.ISO_8859_1));
+        S3StreamingUtils.uploadObject(connection, BUCKET, "streaming.bin", payload, new ObjectMetadata());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(S3StreamingUtilsBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
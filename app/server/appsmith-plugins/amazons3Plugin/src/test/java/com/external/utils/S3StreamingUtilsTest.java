@@ -0,0 +1,184 @@
+package com.external.utils;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import org.apache.commons.io.input.CharSequenceInputStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the transfers against MinIO, which stands in for S3, with the smallest part size that S3 accepts so that a few
+ * megabytes are enough to cover multipart transfers.
+ */
+@Testcontainers
+public class S3StreamingUtilsTest {
+
+    // 5 MB is the smallest part that S3 accepts, and the extra byte makes it a multiple of 3
+    private static final int PART_SIZE = 5 * 1024 * 1024 + 1;
+
+    private static final int PARALLEL_PARTS = 2;
+
+    private static final String BUCKET = "streaming";
+
+    private static final String ACCESS_KEY = "minioadmin";
+
+    private static final String SECRET_KEY = "minioadmin";
+
+    @SuppressWarnings("rawtypes")
+    @Container
+    public static GenericContainer container = new GenericContainer(
+                    DockerImageName.parse("minio/minio:RELEASE.2023-09-30T07-02-29Z"))
+            .withEnv(Map.of("MINIO_ROOT_USER", ACCESS_KEY, "MINIO_ROOT_PASSWORD", SECRET_KEY))
+            .withCommand("server /data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live"));
+
+    private static AmazonS3 connection;
+
+    @BeforeAll
+    public static void setUp() {
+        connection = createConnection(container.getHost(), container.getFirstMappedPort());
+        connection.createBucket(BUCKET);
+    }
+
+    static AmazonS3 createConnection(String host, Integer port) {
+        return AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(
+                        new AwsClientBuilder.EndpointConfiguration("http://" + host + ":" + port, "us-east-1"))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(ACCESS_KEY, SECRET_KEY)))
+                .build();
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] getObjectBytes(String path) throws IOException {
+        try (S3Object object = connection.getObject(BUCKET, path)) {
+            return object.getObjectContent().readAllBytes();
+        }
+    }
+
+    @Test
+    public void testUploadObject_withBase64LargerThanPart_uploadsDecodedPartsInOrder() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 2 + 12345);
+        InputStream decodingStream = Base64.getDecoder()
+                .wrap(new CharSequenceInputStream(
+                        Base64.getEncoder().encodeToString(content), StandardCharsets.ISO_8859_1));
+
+        S3StreamingUtils.uploadObject(
+                connection, BUCKET, "multipart.bin", decodingStream, new ObjectMetadata(), PART_SIZE, PARALLEL_PARTS);
+
+        assertArrayEquals(content, getObjectBytes("multipart.bin"));
+    }
+
+    @Test
+    public void testUploadObject_withContentSmallerThanPart_uploadsSingleObject() throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("text/plain");
+
+        S3StreamingUtils.uploadObject(
+                connection,
+                BUCKET,
+                "small.txt",
+                new ByteArrayInputStream("Hello World !!!\n".getBytes()),
+                metadata,
+                PART_SIZE,
+                PARALLEL_PARTS);
+
+        assertEquals("Hello World !!!\n", new String(getObjectBytes("small.txt")));
+        assertEquals("text/plain", connection.getObjectMetadata(BUCKET, "small.txt").getContentType());
+    }
+
+    @Test
+    public void testUploadObject_withInvalidBase64AfterFirstPart_abortsUpload() {
+        String encodedContent = Base64.getEncoder().encodeToString(randomBytes(PART_SIZE + 3)) + "not base64!";
+        InputStream decodingStream = Base64.getDecoder()
+                .wrap(new CharSequenceInputStream(encodedContent, StandardCharsets.ISO_8859_1));
+
+        assertThrows(
+                IOException.class,
+                () -> S3StreamingUtils.uploadObject(
+                        connection,
+                        BUCKET,
+                        "invalid.bin",
+                        decodingStream,
+                        new ObjectMetadata(),
+                        PART_SIZE,
+                        PARALLEL_PARTS));
+
+        assertFalse(connection.doesObjectExist(BUCKET, "invalid.bin"));
+        assertTrue(connection
+                .listMultipartUploads(new ListMultipartUploadsRequest(BUCKET).withPrefix("invalid.bin"))
+                .getMultipartUploads()
+                .isEmpty());
+    }
+
+    @Test
+    public void testReadObject_withBase64LargerThanPart_matchesEncodingOfWholeObject() throws IOException {
+        byte[] content = randomBytes(PART_SIZE * 3 + 2);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        connection.putObject(BUCKET, "ranged.bin", new ByteArrayInputStream(content), metadata);
+
+        String result =
+                S3StreamingUtils.readObject(connection, BUCKET, "ranged.bin", true, PART_SIZE, PARALLEL_PARTS);
+
+        assertEquals(Base64.getEncoder().encodeToString(content), result);
+    }
+
+    @Test
+    public void testReadObject_withTextSplitAcrossParts_decodesCharactersOnPartBoundaries() throws IOException {
+        // Characters of 2 and 3 bytes in UTF-8 make sure that some of them are split between parts
+        String text = "a\u00e9\u6f22".repeat(PART_SIZE / 3);
+        byte[] content = text.getBytes(Charset.defaultCharset());
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        connection.putObject(BUCKET, "ranged.txt", new ByteArrayInputStream(content), metadata);
+
+        String result =
+                S3StreamingUtils.readObject(connection, BUCKET, "ranged.txt", false, PART_SIZE, PARALLEL_PARTS);
+
+        assertEquals(new String(content), result);
+    }
+
+    @Test
+    public void testReadObject_withEmptyObject_returnsEmptyContent() throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(0);
+        connection.putObject(BUCKET, "empty.txt", new ByteArrayInputStream(new byte[0]), metadata);
+
+        assertEquals("", S3StreamingUtils.readObject(connection, BUCKET, "empty.txt", true, PART_SIZE, PARALLEL_PARTS));
+        assertEquals(
+                "", S3StreamingUtils.readObject(connection, BUCKET, "empty.txt", false, PART_SIZE, PARALLEL_PARTS));
+    }
+}
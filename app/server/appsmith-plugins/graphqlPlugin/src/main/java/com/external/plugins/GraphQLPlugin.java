@@ -153,11 +153,13 @@ public class GraphQLPlugin extends BasePlugin {
             // Filter out any empty headers
             headerUtils.removeEmptyHeaders(actionConfiguration);
 
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+            return this.executeCommon(
+                    connection, executeActionDTO, datasourceConfiguration, actionConfiguration, parameters);
         }
 
         public Mono<ActionExecutionResult> executeCommon(
                 APIConnection apiConnection,
+                ExecuteActionDTO executeActionDTO,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
                 List<Map.Entry<String, String>> insertedParams) {
@@ -191,8 +193,8 @@ public class GraphQLPlugin extends BasePlugin {
             ActionExecutionRequest actionExecutionRequest =
                     RequestCaptureFilter.populateRequestFields(actionConfiguration, uri, insertedParams, objectMapper);
 
-            WebClient.Builder webClientBuilder =
-                    restAPIActivateUtils.getWebClientBuilder(actionConfiguration, datasourceConfiguration);
+            WebClient.Builder webClientBuilder = restAPIActivateUtils.getWebClientBuilder(
+                    executeActionDTO, actionConfiguration, datasourceConfiguration);
 
             String reqContentType = headerUtils.getRequestContentType(actionConfiguration, datasourceConfiguration);
 
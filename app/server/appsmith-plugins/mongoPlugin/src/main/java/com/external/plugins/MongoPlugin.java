@@ -24,6 +24,7 @@ import com.appsmith.external.models.DatasourceStructure.Template;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Property;
@@ -35,6 +36,8 @@ import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.BsonToJsonNodeConverter;
+import com.external.plugins.utils.MongoCursorStreamer;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -62,9 +65,7 @@ import org.bson.codecs.MapCodecProvider;
 import org.bson.codecs.ValueCodecProvider;
 import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
-import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import org.bson.types.Decimal128;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -79,10 +80,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -115,6 +114,11 @@ import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
 import static com.external.plugins.constants.FieldName.NATIVE_QUERY_PATH_DATA;
 import static com.external.plugins.constants.FieldName.NATIVE_QUERY_PATH_STATUS;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static com.external.plugins.constants.FieldName.STREAMING;
+import static com.external.plugins.constants.FieldName.STREAMING_ENABLED;
+import static com.external.plugins.constants.FieldName.STREAMING_MAX_BYTES;
+import static com.external.plugins.constants.FieldName.STREAMING_MAX_ROWS;
+import static com.external.plugins.constants.FieldName.STREAMING_NEXT;
 import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
@@ -135,6 +139,7 @@ import static com.external.plugins.utils.MongoPluginUtils.generateTemplatesAndSt
 import static com.external.plugins.utils.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.utils.MongoPluginUtils.getRawQuery;
 import static com.external.plugins.utils.MongoPluginUtils.isRawCommand;
+import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.Arrays.asList;
 import static org.apache.logging.log4j.util.Strings.isBlank;
@@ -158,6 +163,10 @@ public class MongoPlugin extends BasePlugin {
 
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
+    private static final long DEFAULT_STREAMING_MAX_ROWS = 1000;
+
+    private static final long DEFAULT_STREAMING_MAX_BYTES = 5 * 1024 * 1024;
+
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
 
     /**
@@ -216,6 +225,14 @@ public class MongoPlugin extends BasePlugin {
 
     private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
 
+    /*
+     * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
+     * processing of DbRef Object.
+     * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
+     */
+    private static final BsonToJsonNodeConverter bsonToJsonNodeConverter = new BsonToJsonNodeConverter(
+            objectMapper, new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP));
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -287,7 +304,12 @@ public class MongoPlugin extends BasePlugin {
 
             actionConfiguration.setFormData(formData);
 
-            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
+            return this.executeCommon(
+                    mongoClient,
+                    datasourceConfiguration,
+                    actionConfiguration,
+                    parameters,
+                    executeActionDTO.getPaginationField());
         }
 
         /**
@@ -305,6 +327,19 @@ public class MongoPlugin extends BasePlugin {
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
                 List<Map.Entry<String, String>> parameters) {
+            return executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters, null);
+        }
+
+        /**
+         * @param paginationField : When streaming is turned on, NEXT reads the page after the one whose token is set in
+         *                        the action's form data. Otherwise, the first page is read.
+         */
+        public Mono<ActionExecutionResult> executeCommon(
+                MongoClient mongoClient,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                List<Map.Entry<String, String>> parameters,
+                PaginationField paginationField) {
 
             log.debug(Thread.currentThread().getName() + ": executeCommon() called for Mongo plugin.");
             if (mongoClient == null) {
@@ -322,10 +357,25 @@ public class MongoPlugin extends BasePlugin {
                 final Map<String, Object> formData = actionConfiguration.getFormData();
 
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
-                Bson command = Document.parse(query);
-
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                Document command = Document.parse(query);
+
+                if (isStreamingEnabled(formData) && MongoCursorStreamer.isStreamable(command)) {
+                    String nextPageToken = PaginationField.NEXT.equals(paginationField)
+                            ? PluginUtils.getDataValueSafelyFromFormData(formData, STREAMING_NEXT, STRING_TYPE)
+                            : null;
+                    mongoOutputMono = MongoCursorStreamer.readPage(
+                            mongoClient,
+                            database,
+                            command,
+                            nextPageToken,
+                            (int) getStreamingLimit(formData, STREAMING_MAX_ROWS, DEFAULT_STREAMING_MAX_ROWS),
+                            getStreamingLimit(formData, STREAMING_MAX_BYTES, DEFAULT_STREAMING_MAX_BYTES));
+                } else {
+                    mongoOutputMono = Mono.from(database.runCommand(command));
+                }
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
+            } catch (AppsmithPluginException error) {
+                return Mono.error(error);
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
                         MongoPluginError.QUERY_EXECUTION_FAILED,
@@ -357,19 +407,9 @@ public class MongoPlugin extends BasePlugin {
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(mongoOutput -> {
                         try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
+                            // The output contains the key "ok". This is the status of the command
+                            BigInteger status = getBigInteger(mongoOutput, "ok");
+                            ArrayNode headerArray = objectMapper.createArrayNode();
 
                             if (BigInteger.ONE.equals(status)) {
                                 result.setIsExecutionSuccess(true);
@@ -382,14 +422,14 @@ public class MongoPlugin extends BasePlugin {
                                  we either get the modified new value or the pre-modified old value (depending on the
                                  `new` field in the command. Let's return that value to the user.
                                 */
-                                if (outputJson.has(VALUE)) {
+                                if (mongoOutput.containsKey(VALUE)) {
                                     log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.VALUE from Mongo plugin.");
+                                            + ": bsonToJsonNodeConverter.VALUE from Mongo plugin.");
                                     Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree.VALUE");
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
+                                            new Stopwatch("Mongo Plugin bsonToJsonNodeConverter.VALUE");
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(VALUE, bsonToJsonNodeConverter.toJsonNode(mongoOutput.get(VALUE)));
+                                    result.setBody(body);
                                     processStopwatch.stopAndLogTimeInMillis();
                                 }
 
@@ -397,14 +437,13 @@ public class MongoPlugin extends BasePlugin {
                                  The json contains key "cursor" when find command was issued and there are 1 or more
                                  results. In case there are no results for find, this key is not present in the result json.
                                 */
-                                if (outputJson.has("cursor")) {
+                                if (mongoOutput.containsKey("cursor")) {
                                     log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.CURSOR from Mongo plugin.");
+                                            + ": bsonToJsonNodeConverter.CURSOR from Mongo plugin.");
                                     Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree.CURSOR");
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
+                                            new Stopwatch("Mongo Plugin bsonToJsonNodeConverter.CURSOR");
+                                    result.setBody(bsonToJsonNodeConverter.toJsonNode(
+                                            mongoOutput.get("cursor", Document.class).get("firstBatch")));
                                     processStopwatch.stopAndLogTimeInMillis();
                                 }
 
@@ -413,57 +452,54 @@ public class MongoPlugin extends BasePlugin {
                                  signifies the no of documents selected for update. "n" in case of insert signifies the
                                  number of documents inserted.
                                 */
-                                if (outputJson.has("n")) {
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.N from Mongo plugin.");
-                                    Stopwatch processStopwatch = new Stopwatch("Mongo Plugin objectMapper readTree.N");
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    processStopwatch.stopAndLogTimeInMillis();
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey("n")) {
+                                    BigInteger n = getBigInteger(mongoOutput, "n");
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set("n", bsonToJsonNodeConverter.toNumberNode(n));
+                                    result.setBody(body);
+                                    headerArray.add(body.deepCopy());
                                 }
 
                                 /*
                                  The json key contains key "nModified" in case of update command. This signifies the no of
                                  documents updated.
                                 */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.readTree.N_MODIFIED from Mongo plugin.");
-                                    Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree.N_MODIFIED");
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    processStopwatch.stopAndLogTimeInMillis();
-                                    headerArray.put(body);
+                                if (mongoOutput.containsKey(N_MODIFIED)) {
+                                    BigInteger nModified = getBigInteger(mongoOutput, N_MODIFIED);
+                                    ObjectNode body = objectMapper.createObjectNode();
+                                    body.set(N_MODIFIED, bsonToJsonNodeConverter.toNumberNode(nModified));
+                                    result.setBody(body);
+                                    headerArray.add(body.deepCopy());
                                 }
 
                                 /*
                                  The json contains key "values" when distinct command is used.
                                 */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
+                                if (mongoOutput.containsKey(VALUES)) {
                                     log.debug(Thread.currentThread().getName()
-                                            + ": objectMapper.createObjectNode from Mongo plugin.");
+                                            + ": bsonToJsonNodeConverter.VALUES from Mongo plugin.");
                                     Stopwatch processStopwatch =
-                                            new Stopwatch("Mongo Plugin objectMapper createObjectNode");
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-                                    processStopwatch.stopAndLogTimeInMillis();
+                                            new Stopwatch("Mongo Plugin bsonToJsonNodeConverter.VALUES");
 
                                     // Create a JSON structure with the results stored with a key to abide by the
                                     // Server-Client contract of only sending array of objects in result.
-                                    Stopwatch processStopwatch1 =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree outputResult");
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
-                                    processStopwatch1.stopAndLogTimeInMillis();
-
-                                    Stopwatch processStopwatch2 =
-                                            new Stopwatch("Mongo Plugin objectMapper readTree resultNode");
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                    processStopwatch2.stopAndLogTimeInMillis();
+                                    ObjectNode resultNode = objectMapper.createObjectNode();
+                                    resultNode.set(
+                                            VALUES, bsonToJsonNodeConverter.toJsonNode(mongoOutput.get(VALUES)));
+                                    result.setBody(resultNode);
+                                    processStopwatch.stopAndLogTimeInMillis();
+                                }
+
+                                /*
+                                 The output contains key "streaming" when the page was read from the cursor. It holds
+                                 the token to read the next page with.
+                                */
+                                if (mongoOutput.containsKey(STREAMING)) {
+                                    ObjectNode streamingJson = objectMapper.createObjectNode();
+                                    streamingJson.set(
+                                            STREAMING,
+                                            bsonToJsonNodeConverter.toJsonNode(mongoOutput.get(STREAMING)));
+                                    headerArray.add(streamingJson);
                                 }
 
                                 /*
@@ -472,12 +508,10 @@ public class MongoPlugin extends BasePlugin {
                                  */
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            log.debug(Thread.currentThread().getName() + ": objectMapper readTree for Mongo plugin.");
-                            Stopwatch processStopwatch = new Stopwatch("Mongo Plugin objectMapper readTree");
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                            processStopwatch.stopAndLogTimeInMillis();
+                            ObjectNode statusJson = objectMapper.createObjectNode();
+                            statusJson.set("ok", bsonToJsonNodeConverter.toNumberNode(status));
+                            headerArray.add(statusJson);
+                            result.setHeaders(headerArray);
                         } catch (JsonProcessingException e) {
                             return Mono.error(new AppsmithPluginException(
                                     MongoPluginError.QUERY_EXECUTION_FAILED,
@@ -1110,53 +1144,40 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
+    private static boolean isStreamingEnabled(Map<String, Object> formData) {
+        Object streamingEnabled = getDataValueSafelyFromFormData(formData, STREAMING_ENABLED, OBJECT_TYPE, FALSE);
+        if (streamingEnabled instanceof Boolean) {
+            return (Boolean) streamingEnabled;
+        }
+        return Boolean.parseBoolean(String.valueOf(streamingEnabled));
+    }
 
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
+    private static long getStreamingLimit(Map<String, Object> formData, String field, long defaultValue) {
+        Object limit = getDataValueSafelyFromFormData(formData, field, OBJECT_TYPE);
+        if (limit == null || !StringUtils.hasText(String.valueOf(limit))) {
+            return defaultValue;
+        }
 
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
+        String limitName = field.substring(field.indexOf('.') + 1);
+        try {
+            long value = new BigDecimal(String.valueOf(limit).trim()).longValueExact();
+            if (value > 0 && value <= Integer.MAX_VALUE) {
+                return value;
             }
+        } catch (ArithmeticException | NumberFormatException e) {
+            // Reported below along with the other invalid values
+        }
 
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
+        throw new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                String.format(MongoPluginErrorMessages.INVALID_STREAMING_LIMIT_ERROR_MSG, limitName, limit));
+    }
 
-            return new JSONArray(cleaned);
+    private static BigInteger getBigInteger(Document document, String key) {
+        final Object value = document.get(key);
+        if (value instanceof Decimal128 decimal) {
+            return decimal.bigDecimalValue().toBigInteger();
         }
-
-        return object;
+        return new BigDecimal(String.valueOf(value)).toBigInteger();
     }
 }
@@ -45,6 +45,13 @@ public class FieldName {
     public static final String FIND_SKIP = FIND + "." + SKIP;
     public static final String UPDATE_LIMIT = UPDATE_MANY + "." + LIMIT;
 
+    // Streaming field paths
+    public static final String STREAMING = "streaming";
+    public static final String STREAMING_ENABLED = STREAMING + ".enabled";
+    public static final String STREAMING_MAX_ROWS = STREAMING + ".maxRows";
+    public static final String STREAMING_MAX_BYTES = STREAMING + ".maxBytes";
+    public static final String STREAMING_NEXT = STREAMING + ".next";
+
     public static final String RAW = "RAW";
     public static final String DATA = "data";
     public static final String STATUS = "status";
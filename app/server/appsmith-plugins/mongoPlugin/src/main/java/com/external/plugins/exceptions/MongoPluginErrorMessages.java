@@ -91,4 +91,20 @@ public class MongoPluginErrorMessages {
     public static final String DS_SSL_CONFIGURATION_FETCHING_ERROR_MSG =
             "Appsmith server has failed to fetch SSL configuration from datasource configuration "
                     + "form. Please reach out to Appsmith customer support to resolve this.";
+
+    public static final String INVALID_NEXT_PAGE_TOKEN_ERROR_MSG =
+            "Next page token is invalid. Please use the token returned in the streaming header of the previous page.";
+
+    public static final String INVALID_STREAMING_LIMIT_ERROR_MSG =
+            "Streaming %s must be a positive number, but it is: %s";
+
+    public static final String STREAMING_UNSUPPORTED_SORT_ERROR_MSG =
+            "Streaming only supports sorting by fields in ascending (1) or descending (-1) order, but the sort is: %s";
+
+    public static final String STREAMING_UNSUPPORTED_STAGE_ERROR_MSG =
+            "Streaming does not support aggregations with a %s stage, since they write their result to a collection "
+                    + "instead of returning it.";
+
+    public static final String STREAMING_UNSORTED_AGGREGATION_ERROR_MSG =
+            "Streaming an aggregation requires a $sort stage, so that its pages are read in a stable order.";
 }
@@ -0,0 +1,142 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mongodb.DBRef;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.math.BigInteger;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Converts the values of a Mongo command output into Jackson nodes in a single pass, without serializing them to JSON
+ * text and parsing them back.
+ *
+ * The output is the same as that of writing the value as relaxed extended JSON and then simplifying it for the
+ * client, i.e. ObjectIds become their hex string, dates become ISO-8601 strings, Decimal128 values become plain
+ * numbers and DBRefs become an object with their $ref, $id and $db. Any other BSON specific value, like binary data or
+ * timestamps, keeps its extended JSON form. Values read as raw BSON are converted the same way.
+ */
+public class BsonToJsonNodeConverter {
+
+    private static final String FALLBACK_KEY = "value";
+
+    private final ObjectMapper objectMapper;
+
+    private final JsonNodeFactory nodeFactory;
+
+    private final DocumentCodec documentCodec;
+
+    /**
+     * @param documentCodec codec used to write the BSON specific values that have no simpler JSON form
+     */
+    public BsonToJsonNodeConverter(ObjectMapper objectMapper, DocumentCodec documentCodec) {
+        this.objectMapper = objectMapper;
+        this.nodeFactory = objectMapper.getNodeFactory();
+        this.documentCodec = documentCodec;
+    }
+
+    public JsonNode toJsonNode(Object value) throws JsonProcessingException {
+        if (value == null) {
+            return nodeFactory.nullNode();
+        } else if (value instanceof String stringValue) {
+            return nodeFactory.textNode(stringValue);
+        } else if (value instanceof Map<?, ?> map) {
+            return toObjectNode(map);
+        } else if (value instanceof Iterable<?> iterable) {
+            ArrayNode arrayNode = nodeFactory.arrayNode();
+            for (Object item : iterable) {
+                arrayNode.add(toJsonNode(item));
+            }
+            return arrayNode;
+        } else if (value instanceof BsonValue bsonValue) {
+            return fromBsonValue(bsonValue);
+        } else if (value instanceof Integer intValue) {
+            return nodeFactory.numberNode(intValue);
+        } else if (value instanceof Long longValue) {
+            return toNumberNode(longValue);
+        } else if (value instanceof Double doubleValue) {
+            // Relaxed extended JSON has no plain number for these, so they keep their extended form
+            if (doubleValue.isNaN() || doubleValue.isInfinite()) {
+                return nodeFactory.objectNode().put("$numberDouble", doubleValue.toString());
+            }
+            return nodeFactory.numberNode(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            return nodeFactory.booleanNode(booleanValue);
+        } else if (value instanceof ObjectId objectId) {
+            return nodeFactory.textNode(objectId.toHexString());
+        } else if (value instanceof Date date) {
+            return nodeFactory.textNode(DateTimeFormatter.ISO_INSTANT.format(date.toInstant()));
+        } else if (value instanceof Decimal128 decimal && decimal.isFinite()) {
+            return nodeFactory.numberNode(decimal.bigDecimalValue());
+        } else if (value instanceof DBRef dbRef) {
+            ObjectNode objectNode = nodeFactory.objectNode();
+            objectNode.put("$ref", dbRef.getCollectionName());
+            objectNode.set("$id", toJsonNode(dbRef.getId()));
+            if (dbRef.getDatabaseName() != null) {
+                objectNode.put("$db", dbRef.getDatabaseName());
+            }
+            return objectNode;
+        }
+
+        return toJsonNodeWithCodec(value);
+    }
+
+    /**
+     * Converts the values read as raw BSON, like the documents of a streamed cursor, to the same nodes as the values
+     * decoded by the {@link DocumentCodec}.
+     */
+    private JsonNode fromBsonValue(BsonValue value) throws JsonProcessingException {
+        return switch (value.getBsonType()) {
+            case NULL -> nodeFactory.nullNode();
+            case STRING -> nodeFactory.textNode(value.asString().getValue());
+            case INT32 -> nodeFactory.numberNode(value.asInt32().getValue());
+            case INT64 -> toJsonNode(value.asInt64().getValue());
+            case DOUBLE -> toJsonNode(value.asDouble().getValue());
+            case BOOLEAN -> nodeFactory.booleanNode(value.asBoolean().getValue());
+            case OBJECT_ID -> toJsonNode(value.asObjectId().getValue());
+            case DATE_TIME -> toJsonNode(new Date(value.asDateTime().getValue()));
+            case DECIMAL128 -> toJsonNode(value.asDecimal128().getValue());
+            default -> toJsonNodeWithCodec(value);
+        };
+    }
+
+    /**
+     * Values like binary data, timestamps or regular expressions are rare in results, so they are written with the codec
+     * as before instead of having their extended JSON form repeated here.
+     */
+    private JsonNode toJsonNodeWithCodec(Object value) throws JsonProcessingException {
+        return objectMapper
+                .readTree(new Document(FALLBACK_KEY, value).toJson(documentCodec))
+                .get(FALLBACK_KEY);
+    }
+
+    public ObjectNode toObjectNode(Map<?, ?> map) throws JsonProcessingException {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+        }
+        return objectNode;
+    }
+
+    /**
+     * Returns the smallest integral node that holds the number, like Jackson does when it parses one.
+     */
+    public JsonNode toNumberNode(BigInteger value) {
+        return value.bitLength() < Long.SIZE ? toNumberNode(value.longValue()) : nodeFactory.numberNode(value);
+    }
+
+    private JsonNode toNumberNode(long value) {
+        return value == (int) value ? nodeFactory.numberNode((int) value) : nodeFactory.numberNode(value);
+    }
+}
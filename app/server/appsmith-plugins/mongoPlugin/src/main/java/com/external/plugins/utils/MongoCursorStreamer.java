@@ -0,0 +1,454 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.mongodb.reactivestreams.client.ClientSession;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static com.external.plugins.constants.FieldName.AGGREGATE;
+import static com.external.plugins.constants.FieldName.FIND;
+import static com.external.plugins.constants.FieldName.STREAMING;
+
+/**
+ * Reads one page of the result of a find or aggregate command, by iterating its cursor with getMore until the page
+ * holds the maximum number of rows or bytes, or the cursor is exhausted. Once the page is full, no more batches are
+ * read and the cursor is closed on the server, so that large collections can be paged through without loading them
+ * on the heap. Batches are sized from the average size of the documents read so far, so that the server never sends
+ * much more than what is left of the byte budget of the page.
+ *
+ * The page is returned in the same shape as the output of a find command, i.e. with its documents in
+ * cursor.firstBatch, along with a "streaming" document that holds the continuation token of the next page. It does not
+ * hold the cursor itself, since a cursor is bound to the session that created it and is closed by the server when
+ * idle.
+ *
+ * A find is always sorted, by _id when it has no sort of its own, and with _id as the last sort key otherwise, so
+ * that its order is stable. Its continuation token holds the sort key values of the last document of the page, and
+ * the next page is read from the documents that sort after them, which costs the same on every page. Sort keys are
+ * expected to hold values of a single type that are not arrays, like the indexed fields that are usually sorted by.
+ *
+ * The documents of an aggregation need not hold the keys it sorts by, so its continuation token holds the number of
+ * documents that were read by the previous pages instead, which are skipped when reading the next page. Aggregations
+ * must have a $sort stage for their pages to be read in a stable order, and must not write their result with $out or
+ * $merge.
+ */
+@Slf4j
+public class MongoCursorStreamer {
+
+    private static final String CURSOR = "cursor";
+
+    private static final String SORT = "sort";
+
+    private static final String FILTER = "filter";
+
+    private static final String SKIP = "skip";
+
+    private static final String LIMIT = "limit";
+
+    private static final String PIPELINE = "pipeline";
+
+    private static final String ID = "_id";
+
+    // Documents that have been returned by the previous pages
+    private static final String RETURNED = "returned";
+
+    // Sort key values of the last document that has been returned
+    private static final String AFTER = "after";
+
+    // Size of the first batch of a page, before the size of its documents is known
+    private static final int INITIAL_BATCH_SIZE = 16;
+
+    private static final List<String> OUTPUT_STAGES = List.of("$out", "$merge");
+
+    private static final JsonWriterSettings TOKEN_JSON_SETTINGS =
+            JsonWriterSettings.builder().outputMode(JsonMode.EXTENDED).build();
+
+    private MongoCursorStreamer() {
+        // Prevents instantiation
+    }
+
+    /**
+     * @return whether the command returns a cursor that can be read page by page
+     */
+    public static boolean isStreamable(Document command) {
+        if (command.isEmpty()) {
+            return false;
+        }
+
+        final String commandName = command.keySet().iterator().next();
+        return FIND.equals(commandName) || AGGREGATE.equals(commandName);
+    }
+
+    /**
+     * @param nextPageToken continuation token returned with the previous page, or null to read the first page
+     * @param maxRows       maximum number of documents in the page
+     * @param maxBytes      maximum size of the documents in the page, as BSON. A page always holds at least one
+     *                      document, even if it is larger than this.
+     */
+    public static Mono<Document> readPage(
+            MongoClient mongoClient,
+            MongoDatabase database,
+            Document command,
+            String nextPageToken,
+            int maxRows,
+            long maxBytes) {
+        final BsonDocument token;
+        try {
+            token = decodeToken(nextPageToken);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    MongoPluginErrorMessages.INVALID_NEXT_PAGE_TOKEN_ERROR_MSG));
+        }
+
+        final Page page;
+        final Document pageCommand;
+        try {
+            page = new Page(
+                    command.containsKey(FIND) ? getSortKeys(command) : null,
+                    token.getInt64(RETURNED, new BsonInt64(0)).longValue(),
+                    maxRows,
+                    maxBytes);
+            pageCommand = toPageCommand(command, token, page);
+        } catch (AppsmithPluginException e) {
+            return Mono.error(e);
+        }
+
+        if (pageCommand == null) {
+            // The limit of the command has been reached by the previous pages
+            return Mono.just(page.toOutput());
+        }
+
+        return Mono.usingWhen(
+                        Mono.from(mongoClient.startSession()),
+                        session -> readBatches(session, database, pageCommand, "firstBatch", page),
+                        session -> Mono.fromRunnable(session::close))
+                .thenReturn(page)
+                .map(Page::toOutput);
+    }
+
+    /**
+     * Starts the command where the previous page ended, and sizes its first batch to the page.
+     *
+     * @return the command to run, or null if the limit of the command leaves no documents for this page
+     */
+    private static Document toPageCommand(Document command, BsonDocument token, Page page) {
+        final Document pageCommand = new Document(command);
+
+        if (pageCommand.containsKey(FIND)) {
+            pageCommand.put(SORT, page.sortKeys);
+
+            if (token.containsKey(AFTER)) {
+                // The skip of the command is where the first page starts, and the next pages start after the last
+                // document of the previous page
+                pageCommand.remove(SKIP);
+                final Document keysetFilter = getKeysetFilter(page.sortKeys, token.getArray(AFTER));
+                final Object filter = pageCommand.get(FILTER);
+                pageCommand.put(
+                        FILTER,
+                        filter instanceof Map<?, ?> map && !map.isEmpty()
+                                ? new Document("$and", List.of(filter, keysetFilter))
+                                : keysetFilter);
+            }
+
+            final long limit = getLong(pageCommand, LIMIT, 0);
+            if (limit > 0) {
+                if (limit <= page.returned) {
+                    return null;
+                }
+                pageCommand.put(LIMIT, limit - page.returned);
+            }
+
+            pageCommand.put("batchSize", page.nextBatchSize());
+            pageCommand.remove("singleBatch");
+        } else {
+            final List<Object> pipeline = new ArrayList<>(pageCommand.getList(PIPELINE, Object.class, List.of()));
+            checkPipeline(pipeline);
+
+            if (page.returned > 0) {
+                pipeline.add(new Document("$" + SKIP, page.returned));
+                pageCommand.put(PIPELINE, pipeline);
+            }
+
+            pageCommand.put(CURSOR, new Document("batchSize", page.nextBatchSize()));
+        }
+
+        return pageCommand;
+    }
+
+    /**
+     * @return the sort of the find command, with _id as its last key so that documents with equal sort keys are always
+     * in the same order
+     */
+    private static Document getSortKeys(Document command) {
+        final Document sortKeys = new Document();
+        final Object sort = command.get(SORT);
+        if (sort instanceof Map<?, ?> sortMap) {
+            for (Map.Entry<?, ?> entry : sortMap.entrySet()) {
+                if (!(entry.getValue() instanceof Number direction) || Math.abs(direction.doubleValue()) != 1) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format(MongoPluginErrorMessages.STREAMING_UNSUPPORTED_SORT_ERROR_MSG, sort));
+                }
+                sortKeys.put(String.valueOf(entry.getKey()), direction.intValue());
+            }
+        } else if (sort != null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    String.format(MongoPluginErrorMessages.STREAMING_UNSUPPORTED_SORT_ERROR_MSG, sort));
+        }
+
+        sortKeys.putIfAbsent(ID, 1);
+        return sortKeys;
+    }
+
+    /**
+     * @return a filter that matches the documents that sort after the given sort key values, e.g. for the sort
+     * {a: 1, _id: 1}, {$or: [{a: {$gt: a0}}, {a: {$eq: a0}, _id: {$gt: id0}}]}
+     */
+    private static Document getKeysetFilter(Document sortKeys, BsonArray after) {
+        if (after.size() != sortKeys.size()) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    MongoPluginErrorMessages.INVALID_NEXT_PAGE_TOKEN_ERROR_MSG);
+        }
+
+        final List<String> keys = new ArrayList<>(sortKeys.keySet());
+        final List<Document> branches = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            final Document branch = new Document();
+            for (int j = 0; j < i; j++) {
+                branch.append(keys.get(j), new Document("$eq", after.get(j)));
+            }
+            final String operator = sortKeys.getInteger(keys.get(i)) > 0 ? "$gt" : "$lt";
+            branch.append(keys.get(i), new Document(operator, after.get(i)));
+            branches.add(branch);
+        }
+
+        return new Document("$or", branches);
+    }
+
+    private static void checkPipeline(List<Object> pipeline) {
+        boolean isSorted = false;
+        for (Object stage : pipeline) {
+            if (!(stage instanceof Map<?, ?> stageMap)) {
+                continue;
+            }
+
+            for (String outputStage : OUTPUT_STAGES) {
+                if (stageMap.containsKey(outputStage)) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            String.format(MongoPluginErrorMessages.STREAMING_UNSUPPORTED_STAGE_ERROR_MSG, outputStage));
+                }
+            }
+            isSorted |= stageMap.containsKey("$" + SORT);
+        }
+
+        if (!isSorted) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    MongoPluginErrorMessages.STREAMING_UNSORTED_AGGREGATION_ERROR_MSG);
+        }
+    }
+
+    private static Mono<Void> readBatches(
+            ClientSession session, MongoDatabase database, Document command, String batchKey, Page page) {
+        return Mono.from(database.runCommand(session, command, RawBsonDocument.class))
+                .flatMap(response -> {
+                    final BsonDocument cursor = response.getDocument(CURSOR);
+                    final long cursorId = cursor.getInt64("id").longValue();
+                    final boolean isPageFull = page.addBatch(cursor.getArray(batchKey));
+
+                    if (cursorId == 0) {
+                        return Mono.empty();
+                    }
+
+                    // Namespace is of the form <database>.<collection>, and collection names may contain dots
+                    final String namespace = cursor.getString("ns").getValue();
+                    final String collection = namespace.substring(namespace.indexOf('.') + 1);
+
+                    if (isPageFull) {
+                        page.hasMore = true;
+                        return killCursor(session, database, collection, cursorId);
+                    }
+
+                    final Document getMore = new Document("getMore", cursorId)
+                            .append("collection", collection)
+                            .append("batchSize", page.nextBatchSize());
+                    return readBatches(session, database, getMore, "nextBatch", page);
+                });
+    }
+
+    private static Mono<Void> killCursor(
+            ClientSession session, MongoDatabase database, String collection, long cursorId) {
+        final Document killCursors = new Document("killCursors", collection).append("cursors", List.of(cursorId));
+        return Mono.from(database.runCommand(session, killCursors))
+                .doOnError(error -> log.debug("Unable to kill Mongo cursor {}", cursorId, error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private static long getLong(Document command, String key, long defaultValue) {
+        final Object value = command.get(key);
+        return value instanceof Number number ? number.longValue() : defaultValue;
+    }
+
+    /**
+     * @param after sort key values of the last document that has been returned, or null to start after the number of
+     *              documents that have been returned
+     */
+    static String encodeToken(long returned, BsonArray after) {
+        final BsonDocument token = new BsonDocument(RETURNED, new BsonInt64(returned));
+        if (after != null) {
+            token.append(AFTER, after);
+        }
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(token.toJson(TOKEN_JSON_SETTINGS).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BsonDocument decodeToken(String token) {
+        if (token == null || token.isBlank()) {
+            return new BsonDocument();
+        }
+
+        final BsonDocument decodedToken;
+        try {
+            final String json = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            decodedToken = BsonDocument.parse(json);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid next page token", e);
+        }
+
+        final BsonValue returned = decodedToken.get(RETURNED);
+        final BsonValue after = decodedToken.get(AFTER);
+        if (returned == null
+                || !returned.isNumber()
+                || returned.asNumber().longValue() < 0
+                || (after != null && !after.isArray())) {
+            throw new IllegalArgumentException("Invalid next page token");
+        }
+
+        decodedToken.put(RETURNED, new BsonInt64(returned.asNumber().longValue()));
+        return decodedToken;
+    }
+
+    private static BsonValue getPathValue(BsonDocument document, String path) {
+        BsonValue value = document;
+        for (String key : path.split("\\.")) {
+            if (!(value instanceof BsonDocument parent) || !parent.containsKey(key)) {
+                return BsonNull.VALUE;
+            }
+            value = parent.get(key);
+        }
+        return value;
+    }
+
+    private static class Page {
+        private final Document sortKeys;
+        private final long returned;
+        private final int maxRows;
+        private final long maxBytes;
+        private final List<BsonValue> documents = new ArrayList<>();
+        private long bytes = 0;
+        private boolean hasMore = false;
+
+        /**
+         * @param sortKeys sort of the find command, or null for an aggregation
+         * @param returned number of documents returned by the previous pages
+         */
+        private Page(Document sortKeys, long returned, int maxRows, long maxBytes) {
+            this.sortKeys = sortKeys;
+            this.returned = returned;
+            this.maxRows = maxRows;
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * @return the number of documents to ask for in the next batch, which are expected to fit in what is left of
+         * the page, going by the average size of the documents read so far
+         */
+        private int nextBatchSize() {
+            final int remainingRows = maxRows - documents.size();
+            if (documents.isEmpty()) {
+                return Math.min(remainingRows, INITIAL_BATCH_SIZE);
+            }
+
+            final long averageSize = Math.max(1, bytes / documents.size());
+            final long remainingBytes = Math.max(0, maxBytes - bytes);
+            return (int) Math.max(1, Math.min(remainingRows, remainingBytes / averageSize + 1));
+        }
+
+        /**
+         * Adds the documents of the batch to the page, until the page is full.
+         *
+         * @return whether the page is full
+         */
+        private boolean addBatch(BsonArray batch) {
+            for (int i = 0; i < batch.size(); i++) {
+                final BsonValue document = batch.get(i);
+                final long size = document instanceof RawBsonDocument rawDocument
+                        ? rawDocument.getByteBuffer().remaining()
+                        : 0;
+
+                if (documents.size() >= maxRows || (!documents.isEmpty() && bytes + size > maxBytes)) {
+                    // The rest of this batch is read again as part of the next page
+                    hasMore = true;
+                    return true;
+                }
+
+                documents.add(document);
+                bytes += size;
+            }
+
+            return documents.size() >= maxRows || bytes >= maxBytes;
+        }
+
+        private String nextPageToken() {
+            if (!hasMore) {
+                return null;
+            }
+
+            final long nextReturned = returned + documents.size();
+            if (sortKeys == null || documents.isEmpty()) {
+                return encodeToken(nextReturned, null);
+            }
+
+            final BsonDocument lastDocument = documents.get(documents.size() - 1).asDocument();
+            final BsonArray after = new BsonArray();
+            sortKeys.keySet().forEach(key -> after.add(getPathValue(lastDocument, key)));
+            return encodeToken(nextReturned, after);
+        }
+
+        private Document toOutput() {
+            final Document streaming = new Document("rows", documents.size())
+                    .append("bytes", bytes)
+                    .append("hasMore", hasMore)
+                    .append("next", nextPageToken());
+
+            return new Document(CURSOR, new Document("firstBatch", documents))
+                    .append(STREAMING, streaming)
+                    .append("ok", 1.0);
+        }
+    }
+}
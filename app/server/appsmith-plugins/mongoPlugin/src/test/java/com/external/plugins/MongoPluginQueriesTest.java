@@ -9,6 +9,7 @@ import com.appsmith.external.models.Connection;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
@@ -28,6 +29,7 @@ import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -52,11 +54,15 @@ import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
 import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static com.external.plugins.constants.FieldName.STREAMING_ENABLED;
+import static com.external.plugins.constants.FieldName.STREAMING_MAX_ROWS;
+import static com.external.plugins.constants.FieldName.STREAMING_NEXT;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -776,4 +782,167 @@ public class MongoPluginQueriesTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testFindCommandStreaming_readsPagesWithNextPageToken() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"users\", sort: { _id: 1 } }");
+        setDataValueSafelyInFormData(configMap, STREAMING_ENABLED, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, STREAMING_MAX_ROWS, "2");
+        actionConfiguration.setFormData(configMap);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+
+        ActionExecutionResult firstPage = dsConnectionMono
+                .flatMap(conn ->
+                        pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration))
+                .block();
+        assertNotNull(firstPage);
+        assertTrue(firstPage.getIsExecutionSuccess());
+        assertEquals(2, ((ArrayNode) firstPage.getBody()).size());
+        JsonNode firstPageStreaming = ((ArrayNode) firstPage.getHeaders()).findValue("streaming");
+        assertTrue(firstPageStreaming.get("hasMore").asBoolean());
+        assertFalse(firstPageStreaming.get("next").isNull());
+
+        setDataValueSafelyInFormData(configMap, STREAMING_NEXT, firstPageStreaming.get("next").asText());
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPaginationField(PaginationField.NEXT);
+
+        Mono<ActionExecutionResult> secondPageMono = dsConnectionMono.flatMap(
+                conn -> pluginExecutor.executeParameterized(conn, executeActionDTO, dsConfig, actionConfiguration));
+        StepVerifier.create(secondPageMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(1, body.size());
+                    assertNotEquals(((ArrayNode) firstPage.getBody()).get(1).get("_id"), body.get(0).get("_id"));
+                    JsonNode streaming = ((ArrayNode) result.getHeaders()).findValue("streaming");
+                    assertFalse(streaming.get("hasMore").asBoolean());
+                    assertTrue(streaming.get("next").isNull());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindCommandStreaming_withInvalidNextPageToken_returnsError() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(configMap, BODY, "{ find: \"users\" }");
+        setDataValueSafelyInFormData(configMap, STREAMING_ENABLED, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, STREAMING_NEXT, "not a token");
+        actionConfiguration.setFormData(configMap);
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPaginationField(PaginationField.NEXT);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(
+                conn -> pluginExecutor.executeParameterized(conn, executeActionDTO, dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindCommandStreaming_withNonUniqueSortKey_readsEveryDocumentOnce() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{ find: \"users\", sort: { gender: -1 },"
+                        + " filter: { name: { $in: [\"Cierra Vega\", \"Alden Cantrell\", \"Kierra Gentry\"] } } }");
+        setDataValueSafelyInFormData(configMap, STREAMING_ENABLED, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, STREAMING_MAX_ROWS, "1");
+        actionConfiguration.setFormData(configMap);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+
+        // Two of the users share the same gender, so the pages are only stable if ties are broken by _id
+        List<String> names = new ArrayList<>();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        JsonNode streaming;
+        do {
+            ActionExecutionResult page = dsConnectionMono
+                    .flatMap(conn -> pluginExecutor.executeParameterized(
+                            conn, executeActionDTO, dsConfig, actionConfiguration))
+                    .block();
+            assertNotNull(page);
+            assertTrue(page.getIsExecutionSuccess());
+            ((ArrayNode) page.getBody()).forEach(document -> names.add(document.get("name").asText()));
+            streaming = ((ArrayNode) page.getHeaders()).findValue("streaming");
+            setDataValueSafelyInFormData(configMap, STREAMING_NEXT, streaming.get("next").asText());
+            executeActionDTO.setPaginationField(PaginationField.NEXT);
+        } while (streaming.get("hasMore").asBoolean() && names.size() <= 3);
+
+        assertEquals(3, names.size());
+        assertEquals("Alden Cantrell", names.get(0));
+        assertEquals(3, new HashSet<>(names).size());
+    }
+
+    @Test
+    public void testAggregateCommandStreaming_withOutStage_returnsError() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{ aggregate: \"users\", pipeline: [ { $sort: { _id: 1 } }, { $out: \"usersCopy\" } ], cursor: {} }");
+        setDataValueSafelyInFormData(configMap, STREAMING_ENABLED, Boolean.TRUE);
+        actionConfiguration.setFormData(configMap);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAggregateCommandStreaming_withoutSortStage_returnsError() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.FALSE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap, BODY, "{ aggregate: \"users\", pipeline: [ { $match: { gender: \"F\" } } ], cursor: {} }");
+        setDataValueSafelyInFormData(configMap, STREAMING_ENABLED, Boolean.TRUE);
+        actionConfiguration.setFormData(configMap);
+
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<ActionExecutionResult> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
 }
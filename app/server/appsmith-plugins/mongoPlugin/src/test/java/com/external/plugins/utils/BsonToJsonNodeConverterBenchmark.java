@@ -0,0 +1,96 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of turning the output of a find command that returns 5,000 documents into the result body.
+ *
+ * <ul>
+ *     <li>jsonTextRoundTrip: writing the output as JSON text, parsing it with org.json and parsing it again with
+ *     Jackson, which is how results used to be converted, minus the clean up pass over the parsed objects</li>
+ *     <li>directConversion: walking the BSON values once with {@link BsonToJsonNodeConverter}</li>
+ * </ul>
+ *
+ * The conversion is single threaded and does no IO, so the average time is the CPU time of a conversion. The GC
+ * profiler reports the bytes allocated per conversion as gc.alloc.rate.norm.
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BsonToJsonNodeConverterBenchmark {
+
+    private static final int DOCUMENT_COUNT = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    private final BsonToJsonNodeConverter converter = new BsonToJsonNodeConverter(objectMapper, documentCodec);
+
+    private Document findOutput;
+
+    @Setup
+    public void setUp() {
+        List<Document> firstBatch = new ArrayList<>(DOCUMENT_COUNT);
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            firstBatch.add(new Document("_id", new ObjectId())
+                    .append("name", "user_" + i)
+                    .append("email", "user_" + i + "@example.com")
+                    .append("age", 20 + i % 50)
+                    .append("balance", Decimal128.parse(i + ".25"))
+                    .append("createdAt", new Date(1656671557318L + i))
+                    .append("tags", List.of("tag_" + i % 10, "tag_" + i % 7))
+                    .append("address", new Document("city", "city_" + i % 100).append("zip", 10_000 + i)));
+        }
+
+        findOutput = new Document("cursor", new Document("firstBatch", firstBatch).append("id", 0L)).append("ok", 1.0);
+    }
+
+    @Benchmark
+    public JsonNode jsonTextRoundTrip() throws Exception {
+        JSONObject outputJson = new JSONObject(findOutput.toJson(documentCodec));
+        return objectMapper.readTree(outputJson.getJSONObject("cursor").getJSONArray("firstBatch").toString());
+    }
+
+    @Benchmark
+    public JsonNode directConversion() throws Exception {
+        return converter.toJsonNode(findOutput.get("cursor", Document.class).get("firstBatch"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(BsonToJsonNodeConverterBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
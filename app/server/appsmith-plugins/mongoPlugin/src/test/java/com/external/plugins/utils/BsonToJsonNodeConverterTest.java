@@ -0,0 +1,107 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonToJsonNodeConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final BsonToJsonNodeConverter converter = new BsonToJsonNodeConverter(objectMapper, new DocumentCodec());
+
+    @Test
+    void testToJsonNode_withMongoSpecificValues_simplifiesThem() throws Exception {
+        ObjectId objectId = new ObjectId();
+        Document document = new Document("_id", objectId)
+                .append("name", "Alice")
+                .append("age", 30)
+                .append("views", 5_000_000_000L)
+                .append("score", 1.5)
+                .append("price", Decimal128.parse("12.50"))
+                .append("createdAt", new Date(1656671557318L))
+                .append("bornAt", new Date(-493033770000L))
+                .append("user", new DBRef("test", "users", objectId))
+                .append("tags", List.of("a", new Document("nested", true)))
+                .append("deletedAt", null);
+
+        JsonNode node = converter.toJsonNode(document);
+
+        assertEquals(objectId.toHexString(), node.get("_id").asText());
+        assertEquals("Alice", node.get("name").asText());
+        assertEquals(30, node.get("age").intValue());
+        assertTrue(node.get("views").isLong());
+        assertEquals(5_000_000_000L, node.get("views").longValue());
+        assertEquals(1.5, node.get("score").doubleValue());
+        assertEquals(0, new BigDecimal("12.5").compareTo(node.get("price").decimalValue()));
+        assertEquals("2022-07-01T10:32:37.318Z", node.get("createdAt").asText());
+        assertEquals("1954-05-18T14:10:30Z", node.get("bornAt").asText());
+        String expectedUser = "{\"$ref\":\"users\",\"$id\":\"" + objectId.toHexString() + "\",\"$db\":\"test\"}";
+        assertEquals(objectMapper.readTree(expectedUser), node.get("user"));
+        assertEquals(objectMapper.readTree("[\"a\",{\"nested\":true}]"), node.get("tags"));
+        assertTrue(node.get("deletedAt").isNull());
+    }
+
+    @Test
+    void testToJsonNode_keepsFieldOrder() throws Exception {
+        Document document = new Document("c", 1).append("a", 2).append("b", 3);
+
+        JsonNode node = converter.toJsonNode(document);
+
+        List<String> fieldNames = new ArrayList<>();
+        node.fieldNames().forEachRemaining(fieldNames::add);
+        assertEquals(List.of("c", "a", "b"), fieldNames);
+    }
+
+    @Test
+    void testToJsonNode_withValueWithoutPlainJsonForm_keepsExtendedJson() throws Exception {
+        Document document = new Document("data", new Binary(new byte[] {1, 2, 3})).append("ratio", Double.NaN);
+
+        JsonNode node = converter.toJsonNode(document);
+
+        assertEquals("AQID", node.get("data").get("$binary").get("base64").asText());
+        assertEquals("NaN", node.get("ratio").get("$numberDouble").asText());
+    }
+
+    @Test
+    void testToNumberNode_usesSmallestIntegralNode() {
+        assertTrue(converter.toNumberNode(BigInteger.ONE).isInt());
+        assertTrue(converter.toNumberNode(BigInteger.valueOf(Long.MAX_VALUE)).isLong());
+        assertTrue(converter
+                .toNumberNode(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE))
+                .isBigInteger());
+    }
+
+    @Test
+    void testToJsonNode_withRawBsonDocument_matchesDecodedDocument() throws Exception {
+        Document document = new Document("_id", new ObjectId())
+                .append("age", 30)
+                .append("views", 5_000_000_000L)
+                .append("price", Decimal128.parse("12.50"))
+                .append("createdAt", new Date(1656671557318L))
+                .append("data", new Binary(new byte[] {1, 2, 3}))
+                .append("tags", List.of("a", new Document("nested", true)))
+                .append("deletedAt", null);
+        DocumentCodec documentCodec = new DocumentCodec();
+
+        JsonNode node = converter.toJsonNode(new RawBsonDocument(document, documentCodec));
+
+        assertEquals(converter.toJsonNode(document), node);
+    }
+}
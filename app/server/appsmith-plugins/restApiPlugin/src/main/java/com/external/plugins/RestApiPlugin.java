@@ -124,11 +124,13 @@ public class RestApiPlugin extends BasePlugin {
             headerUtils.removeEmptyHeaders(actionConfiguration);
             headerUtils.setHeaderFromAutoGeneratedHeaders(actionConfiguration);
 
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+            return this.executeCommon(
+                    connection, executeActionDTO, datasourceConfiguration, actionConfiguration, parameters);
         }
 
         public Mono<ActionExecutionResult> executeCommon(
                 APIConnection apiConnection,
+                ExecuteActionDTO executeActionDTO,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration,
                 List<Map.Entry<String, String>> insertedParams) {
@@ -166,8 +168,8 @@ public class RestApiPlugin extends BasePlugin {
             ActionExecutionRequest actionExecutionRequest =
                     RequestCaptureFilter.populateRequestFields(actionConfiguration, uri, insertedParams, objectMapper);
 
-            WebClient.Builder webClientBuilder =
-                    restAPIActivateUtils.getWebClientBuilder(actionConfiguration, datasourceConfiguration);
+            WebClient.Builder webClientBuilder = restAPIActivateUtils.getWebClientBuilder(
+                    executeActionDTO, actionConfiguration, datasourceConfiguration);
             String reqContentType = headerUtils.getRequestContentType(actionConfiguration, datasourceConfiguration);
 
             /* Check for content type */
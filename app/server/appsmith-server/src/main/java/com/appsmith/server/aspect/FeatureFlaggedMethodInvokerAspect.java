@@ -19,7 +19,14 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.beans.Introspector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Aspect
@@ -31,6 +38,19 @@ public class FeatureFlaggedMethodInvokerAspect {
 
     private final ApplicationContext applicationContext;
 
+    // Resolved CE fallback for every annotated method that has been invoked with its flag disabled
+    private final Map<FallbackKey, MethodHandle> fallbackHandles = new ConcurrentHashMap<>();
+
+    private volatile FlagSnapshot flagSnapshot = new FlagSnapshot(null, Set.of());
+
+    private record FallbackKey(Class<?> targetClass, Method method) {}
+
+    /**
+     * Immutable view of the flags that are enabled in the given cached features, so that non-reactive methods do not
+     * have to go through the features map on every call.
+     */
+    private record FlagSnapshot(CachedFeatures source, Set<String> enabledFlags) {}
+
     /**
      * Intercepts method calls that are annotated with {@link FeatureFlagged}.
      * This advice method wraps the intercepted method call, allowing conditional execution based on the state
@@ -74,12 +94,9 @@ public class FeatureFlaggedMethodInvokerAspect {
             if (Boolean.TRUE.equals(isFeatureSupported)) {
                 return joinPoint.proceed(joinPoint.getArgs());
             }
-            Class<?> targetSuperClass = joinPoint.getTarget().getClass().getSuperclass();
-            Object service = applicationContext
-                    .getBeansOfType(targetSuperClass)
-                    .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
-            Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
-            return superMethod.invoke(service, joinPoint.getArgs());
+            final MethodHandle fallbackHandle = fallbackHandles.computeIfAbsent(
+                    new FallbackKey(joinPoint.getTarget().getClass(), method), this::resolveFallbackHandle);
+            return (Object) fallbackHandle.invokeExact(joinPoint.getArgs());
         } catch (Throwable e) {
             if (e instanceof AppsmithException) {
                 throw (AppsmithException) e;
@@ -91,6 +108,36 @@ public class FeatureFlaggedMethodInvokerAspect {
         }
     }
 
+    /**
+     * Resolves the bean of the super class of the target, i.e. the CE compatible implementation, and the method that
+     * has to be invoked on it when the flag is disabled. The returned handle takes the arguments as an array.
+     */
+    private MethodHandle resolveFallbackHandle(FallbackKey key) {
+        Class<?> targetSuperClass = key.targetClass().getSuperclass();
+        Object service = applicationContext
+                .getBeansOfType(targetSuperClass)
+                .get(getSpringDefaultBeanName(targetSuperClass.getSimpleName()));
+        if (service == null) {
+            throw new IllegalStateException("No bean found for " + targetSuperClass.getName());
+        }
+
+        try {
+            Method superMethod =
+                    targetSuperClass.getMethod(key.method().getName(), key.method().getParameterTypes());
+            return createFallbackHandle(service, superMethod);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MethodHandle createFallbackHandle(Object service, Method method) throws IllegalAccessException {
+        return MethodHandles.lookup()
+                .unreflect(method)
+                .bindTo(service)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object[].class));
+    }
+
     /**
      * Method to get default bean name from java classes as per <a href="https://docs.spring.io/spring-framework/docs/5.2.3.RELEASE/spring-framework-reference/core.html#beans-beanname">Spring naming convention</a>
      */
@@ -109,8 +156,23 @@ public class FeatureFlaggedMethodInvokerAspect {
 
     boolean isFeatureFlagEnabled(FeatureFlagEnum flagName) {
         CachedFeatures cachedFeatures = featureFlagService.getCachedTenantFeatureFlags();
-        return cachedFeatures != null
-                && !CollectionUtils.isNullOrEmpty(cachedFeatures.getFeatures())
-                && Boolean.TRUE.equals(cachedFeatures.getFeatures().get(flagName.name()));
+        FlagSnapshot snapshot = flagSnapshot;
+        // The cached features are replaced as a whole whenever the tenant flags are refreshed
+        if (snapshot.source() != cachedFeatures) {
+            snapshot = new FlagSnapshot(cachedFeatures, getEnabledFlags(cachedFeatures));
+            flagSnapshot = snapshot;
+        }
+        return snapshot.enabledFlags().contains(flagName.name());
+    }
+
+    private static Set<String> getEnabledFlags(CachedFeatures cachedFeatures) {
+        if (cachedFeatures == null || CollectionUtils.isNullOrEmpty(cachedFeatures.getFeatures())) {
+            return Set.of();
+        }
+
+        return cachedFeatures.getFeatures().entrySet().stream()
+                .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
     }
 }
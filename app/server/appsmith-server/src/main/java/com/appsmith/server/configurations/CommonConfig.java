@@ -73,6 +73,18 @@ public class CommonConfig {
     @Value("${appsmith.micrometer.metrics.interval.millis:60000}")
     private int metricsIntervalMillis;
 
+    // Blobs in an action execution request that are larger than this are moved to a temporary file, in KB
+    @Value("${appsmith.execution.blob.spill-threshold-kb:1024}")
+    private int executionBlobSpillThresholdKb;
+
+    // Cached datasource contexts that have not been used for this long are closed, in minutes
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:30}")
+    private long datasourceContextIdleTimeoutMinutes;
+
+    // Maximum number of datasource contexts kept open, the least recently used ones are closed beyond this
+    @Value("${appsmith.datasource.context.max-count:1000}")
+    private int datasourceContextMaxCount;
+
     private List<String> allowedDomains;
 
     private String mongoDBVersion;
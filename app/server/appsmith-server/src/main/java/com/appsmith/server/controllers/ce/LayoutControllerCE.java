@@ -5,6 +5,7 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.EntityType;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.LayoutUpdateDTO;
 import com.appsmith.server.dtos.RefactorEntityNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -73,6 +75,19 @@ public class LayoutControllerCE {
                 .map(created -> new ResponseDTO<>(HttpStatus.OK.value(), created, null));
     }
 
+    @JsonView(Views.Public.class)
+    @PatchMapping("/{layoutId}/pages/{branchedPageId}")
+    public Mono<ResponseDTO<LayoutDTO>> patchLayout(
+            @PathVariable String branchedPageId,
+            @RequestParam String applicationId,
+            @PathVariable String layoutId,
+            @RequestBody LayoutPatchDTO dto) {
+        log.debug("patch layout received for page {}", branchedPageId);
+        return updateLayoutService
+                .patchLayout(branchedPageId, applicationId, layoutId, dto)
+                .map(updated -> new ResponseDTO<>(HttpStatus.OK.value(), updated, null));
+    }
+
     @JsonView(Views.Public.class)
     @GetMapping("/{layoutId}/pages/{branchedPageId}/view")
     public Mono<ResponseDTO<Layout>> getLayoutView(@PathVariable String branchedPageId, @PathVariable String layoutId) {
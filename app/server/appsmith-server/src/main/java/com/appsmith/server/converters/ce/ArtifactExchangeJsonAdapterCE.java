@@ -7,12 +7,18 @@ import com.google.gson.Gson;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactExchangeJson> {
     private static final String FIELD_NAME = "artifactJsonType";
@@ -34,11 +40,62 @@ public class ArtifactExchangeJsonAdapterCE implements JsonDeserializer<ArtifactE
             throws JsonParseException {
         JsonObject jsonObject = json.getAsJsonObject();
         JsonElement artifactJsonTypeElement = jsonObject.get(FIELD_NAME);
-        Class<? extends ArtifactExchangeJson> instanceClass = ApplicationJson.class;
-        if (artifactJsonTypeElement != null) {
-            ArtifactType artifactType = ArtifactType.valueOf(artifactJsonTypeElement.getAsString());
-            instanceClass = artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
+        String artifactJsonType = artifactJsonTypeElement == null ? null : artifactJsonTypeElement.getAsString();
+        return gson.fromJson(json, getInstanceClass(artifactJsonType));
+    }
+
+    /**
+     * Decodes the artifact json as it is read, without holding the file as a string or as a tree of JSON elements
+     * like {@link #deserialize} does. The file is read twice: first up to the artifact type, to pick the class to
+     * decode it to, and then to decode it.
+     *
+     * @param readerSupplier : opens a new reader on the file each time it is called
+     * @return the artifact json, or null if the file is empty
+     */
+    public ArtifactExchangeJson fromJson(Supplier<Reader> readerSupplier) throws JsonParseException {
+        String artifactJsonType;
+        try (JsonReader jsonReader = gson.newJsonReader(readerSupplier.get())) {
+            jsonReader.setLenient(true);
+            artifactJsonType = readArtifactJsonType(jsonReader);
+        } catch (IOException e) {
+            // The file is empty or malformed, which is left to Gson to report when decoding it
+            artifactJsonType = null;
+        }
+
+        Class<? extends ArtifactExchangeJson> instanceClass = getInstanceClass(artifactJsonType);
+
+        try (Reader reader = readerSupplier.get()) {
+            return gson.fromJson(reader, instanceClass);
+        } catch (IOException e) {
+            throw new JsonIOException(e);
+        }
+    }
+
+    /**
+     * Reads the top level fields of the file until the artifact type, skipping the values of the other fields.
+     */
+    private String readArtifactJsonType(JsonReader jsonReader) throws IOException {
+        if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+            return null;
         }
-        return gson.fromJson(json, instanceClass);
+
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            if (FIELD_NAME.equals(jsonReader.nextName()) && jsonReader.peek() != JsonToken.NULL) {
+                return jsonReader.nextString();
+            }
+            jsonReader.skipValue();
+        }
+
+        return null;
+    }
+
+    private Class<? extends ArtifactExchangeJson> getInstanceClass(String artifactJsonType) {
+        if (artifactJsonType == null) {
+            return ApplicationJson.class;
+        }
+
+        ArtifactType artifactType = ArtifactType.valueOf(artifactJsonType);
+        return artifactTypeRegistry.getOrDefault(artifactType, ApplicationJson.class);
     }
 }
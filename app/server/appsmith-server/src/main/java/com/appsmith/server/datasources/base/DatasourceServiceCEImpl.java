@@ -2,6 +2,7 @@ package com.appsmith.server.datasources.base;
 
 import com.appsmith.external.constants.AnalyticsEvents;
 import com.appsmith.external.enums.FeatureFlagEnum;
+import com.appsmith.external.helpers.restApiUtils.helpers.HttpClientPoolCache;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStorage;
@@ -862,6 +863,9 @@ public class DatasourceServiceCEImpl implements DatasourceServiceCE {
                                 return datasourceStorage;
                             })
                             .flatMap(datasourceStorage -> {
+                                // REST API datasources have no datasource context, their connection pools are kept
+                                // by the plugins instead
+                                HttpClientPoolCache.getInstance().invalidate(datasourceStorage.getDatasourceId());
                                 return datasourceContextService
                                         .deleteDatasourceContext(datasourceStorage)
                                         .then(datasourceStorageService.archive(datasourceStorage));
@@ -14,6 +14,10 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Set when creating the connection fails, so that callers can tell that the context needs to be replaced without
+    // subscribing to the publisher that creates it
+    volatile boolean inErrorState;
+
     public DatasourceContext() {
         creationTime = Instant.now();
     }
@@ -0,0 +1,26 @@
+package com.appsmith.server.dtos;
+
+import net.minidev.json.JSONObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Widget level changes to the DSL of a layout, keyed by the widgetId of the widgets they apply to. Changes are applied
+ * in the order deletes, updates and then adds.
+ *
+ * @param deletedWidgetIds widgets to be removed, along with their children
+ * @param updatedWidgets   widgets whose properties are replaced, their children are kept as they are
+ * @param addedWidgets     widgets to be inserted, along with their children. Moving a widget is a delete and an add
+ */
+public record LayoutPatchDTO(
+        Set<String> deletedWidgetIds, Map<String, JSONObject> updatedWidgets, List<AddedWidgetDTO> addedWidgets) {
+
+    /**
+     * @param parentId widgetId of the widget to add the widget to
+     * @param index    position of the widget among the children of its parent, it is added last when not set
+     * @param widget   the widget, along with its children
+     */
+    public record AddedWidgetDTO(String parentId, Integer index, JSONObject widget) {}
+}
@@ -260,6 +260,27 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
         return getStatus(baseArtifactId, isFileLock, true, artifactType);
     }
 
+    /**
+     * Refreshes the remote tracking details of a status that was computed before, since the remote branch could have
+     * been fetched since then
+     */
+    private Mono<GitStatusDTO> updateTrackingStatus(GitStatusDTO gitStatusDTO, Path repoPath, String branchName) {
+        return gitExecutor
+                .getBranchTrackingStatus(repoPath, branchName)
+                .map(trackingStatus -> {
+                    gitStatusDTO.setAheadCount(trackingStatus.getAheadCount());
+                    gitStatusDTO.setBehindCount(trackingStatus.getBehindCount());
+                    gitStatusDTO.setRemoteBranch(trackingStatus.getRemoteTrackingBranch());
+                    return gitStatusDTO;
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    gitStatusDTO.setAheadCount(0);
+                    gitStatusDTO.setBehindCount(0);
+                    gitStatusDTO.setRemoteBranch("untracked");
+                    return gitStatusDTO;
+                }));
+    }
+
     protected Mono<GitStatusDTO> getStatus(
             Artifact baseArtifact, Artifact branchedArtifact, boolean isFileLock, boolean compareRemote) {
 
@@ -293,34 +314,37 @@ public class CommonGitServiceCEImpl implements CommonGitServiceCE {
                             .thenReturn(artifactExchangeJson);
                 })
                 .flatMap(artifactExchangeJson -> {
-                    try {
-                        GitAuth gitAuth = branchedGitMetadata.getGitAuth();
-                        Mono<String> fetchRemoteMono;
-
-                        if (compareRemote) {
-                            fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
-                                            repoSuffix,
-                                            gitAuth.getPublicKey(),
-                                            gitAuth.getPrivateKey(),
-                                            false,
-                                            finalBranchName,
-                                            false))
-                                    .onErrorResume(error -> Mono.error(new AppsmithException(
-                                            AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
-                        } else {
-                            fetchRemoteMono = Mono.just("ignored");
-                        }
+                    GitAuth gitAuth = branchedGitMetadata.getGitAuth();
+                    Mono<String> fetchRemoteMono;
 
-                        return Mono.zip(
-                                commonGitFileUtils.saveArtifactToLocalRepo(
-                                        repoSuffix, artifactExchangeJson, finalBranchName),
-                                fetchRemoteMono);
-                    } catch (IOException | GitAPIException e) {
-                        return Mono.error(
-                                new AppsmithException(AppsmithError.GIT_ACTION_FAILED, "status", e.getMessage()));
+                    if (compareRemote) {
+                        fetchRemoteMono = Mono.defer(() -> gitExecutor.fetchRemote(
+                                        repoSuffix,
+                                        gitAuth.getPublicKey(),
+                                        gitAuth.getPrivateKey(),
+                                        false,
+                                        finalBranchName,
+                                        false))
+                                .onErrorResume(error -> Mono.error(
+                                        new AppsmithException(AppsmithError.GIT_GENERIC_ERROR, error.getMessage())));
+                    } else {
+                        fetchRemoteMono = Mono.just("ignored");
                     }
+
+                    // The application is only written to the repo if it changed since the status was last computed
+                    Mono<Optional<GitStatusDTO>> lastStatusMono = commonGitFileUtils
+                            .saveArtifactToLocalRepoForStatus(repoSuffix, artifactExchangeJson, finalBranchName)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty());
+
+                    return Mono.zip(lastStatusMono, fetchRemoteMono);
+                })
+                .flatMap(tuple -> {
+                    Path repoPath = gitExecutor.createRepoPath(repoSuffix);
+                    return tuple.getT1()
+                            .map(lastStatus -> updateTrackingStatus(lastStatus, repoPath, finalBranchName))
+                            .orElseGet(() -> gitExecutor.getStatus(repoPath, finalBranchName));
                 })
-                .flatMap(tuple -> gitExecutor.getStatus(tuple.getT1(), finalBranchName))
                 .flatMap(gitStatusDTO -> {
                     // release the lock if there's a successful response
                     return releaseFileLock(baseArtifactId, isFileLock).thenReturn(gitStatusDTO);
@@ -2,19 +2,83 @@ package com.appsmith.server.helpers;
 
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.ce.DslVersionDTO;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DSLMigrationUtils {
 
+    private static final String VERSION_KEY = "version";
+
+    // Bounds the cache by the size of the migrated DSLs rather than by their number, since a DSL may be a few bytes or
+    // a few megabytes
+    private static final long MIGRATED_DSL_CACHE_MAX_CHARACTERS = 32L * 1024 * 1024;
+
+    private static final int MIGRATED_DSL_CACHE_EXPIRY_MINUTES = 30;
+
+    // Upgrades of RTS that are not noticed through a migration, or through RTS being unreachable, are picked up after
+    // this long
+    private static final Duration LATEST_DSL_VERSION_TTL = Duration.ofMinutes(10);
+
     private final RTSCaller rtsCaller;
 
+    private final AtomicBoolean isLatestDslVersionStale = new AtomicBoolean(false);
+
+    private volatile Integer latestDslVersion;
+
+    private volatile long latestDslVersionFetchedAt;
+
+    // The latest DSL version only changes when RTS is upgraded, so it is fetched once and replayed to every caller
+    // until RTS is found to have restarted, or the version is too old. Errors are not cached, so a failed fetch is
+    // retried by the next caller.
+    private final Mono<Integer> latestDslVersionMono = Mono.defer(this::fetchLatestDslVersion)
+            .doOnNext(version -> {
+                latestDslVersion = version;
+                latestDslVersionFetchedAt = System.nanoTime();
+                isLatestDslVersionStale.set(false);
+            })
+            .cacheInvalidateIf(version -> isLatestDslVersionStale.get()
+                    || System.nanoTime() - latestDslVersionFetchedAt > LATEST_DSL_VERSION_TTL.toNanos());
+
+    // Migrated DSLs keyed by the DSL version they were migrated to and the hash of the DSL they were migrated from, so
+    // that an upgrade of RTS that is only noticed once the latest version has expired doesn't serve older migrations
+    private final Cache<String, String> migratedDslCache = CacheBuilder.newBuilder()
+            .maximumWeight(MIGRATED_DSL_CACHE_MAX_CHARACTERS)
+            .weigher((String dslHash, String migratedDsl) -> migratedDsl.length())
+            .expireAfterWrite(MIGRATED_DSL_CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    // Migrations that are still in flight, so that a DSL is sent to RTS once however many callers ask for it to be
+    // migrated at the same time
+    private final Map<String, Mono<String>> migrationsInFlight = new ConcurrentHashMap<>();
+
     public Mono<Integer> getLatestDslVersion() {
+        return latestDslVersionMono;
+    }
+
+    private Mono<Integer> fetchLatestDslVersion() {
         ParameterizedTypeReference<ResponseDTO<DslVersionDTO>> parameterizedTypeReference =
                 new ParameterizedTypeReference<>() {};
         return rtsCaller
@@ -24,17 +88,92 @@ public class DSLMigrationUtils {
     }
 
     /**
-     * This method will be used to migrate the page dsl from the older version to the latest version
+     * Forgets the latest DSL version and the migrations made by RTS, so that they are fetched again from RTS. This is
+     * called when RTS is found to have restarted, since it may have been upgraded to a newer DSL version.
+     */
+    public void invalidateLatestDslVersion() {
+        isLatestDslVersionStale.set(true);
+        migratedDslCache.invalidateAll();
+    }
+
+    /**
+     * This method will be used to migrate the page dsl from the older version to the latest version. Migrations are
+     * memoized by the content of the dsl and the latest version, and every caller gets its own copy of the migrated
+     * dsl.
      * @param pageDsl List of dsl from the git file system
      * @return List of page dsl after migration
      */
     public Mono<JSONObject> migratePageDsl(JSONObject pageDsl) {
+        final String dslHash = getDslHash(pageDsl);
+
+        return getLatestDslVersion()
+                .flatMap(latestVersion -> {
+                    final String migrationKey = latestVersion + ":" + dslHash;
+
+                    final String cachedMigratedDsl = migratedDslCache.getIfPresent(migrationKey);
+                    if (cachedMigratedDsl != null) {
+                        return Mono.just(cachedMigratedDsl);
+                    }
+
+                    return migrationsInFlight.computeIfAbsent(migrationKey, key -> fetchMigratedPageDsl(pageDsl)
+                            .map(JSONObject::toJSONString)
+                            .doOnNext(migratedDsl -> migratedDslCache.put(key, migratedDsl))
+                            .doFinally(signalType -> migrationsInFlight.remove(key))
+                            .cache());
+                })
+                .flatMap(migratedDsl -> {
+                    try {
+                        return Mono.just((JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(migratedDsl));
+                    } catch (ParseException e) {
+                        return Mono.error(e);
+                    }
+                });
+    }
+
+    private Mono<JSONObject> fetchMigratedPageDsl(JSONObject pageDsl) {
         ParameterizedTypeReference<ResponseDTO<JSONObject>> parameterizedTypeReference =
                 new ParameterizedTypeReference<>() {};
 
         return rtsCaller
                 .post("/rts-api/v1/dsl/migrate", pageDsl)
                 .flatMap(spec -> spec.retrieve().bodyToMono(parameterizedTypeReference))
-                .map(responseDTO -> responseDTO.getData());
+                .map(responseDTO -> responseDTO.getData())
+                .doOnNext(this::checkDslVersion)
+                .doOnError(WebClientRequestException.class, e -> {
+                    // RTS can't be reached, it is most likely restarting
+                    invalidateLatestDslVersion();
+                });
+    }
+
+    /**
+     * RTS always migrates to its latest DSL version, so a migrated dsl with another version than the cached one means
+     * that RTS has restarted with another version since the version was fetched.
+     */
+    private void checkDslVersion(JSONObject migratedDsl) {
+        Integer cachedDslVersion = latestDslVersion;
+        if (cachedDslVersion == null || !(migratedDsl.get(VERSION_KEY) instanceof Number migratedDslVersion)) {
+            return;
+        }
+
+        if (!Objects.equals(cachedDslVersion, migratedDslVersion.intValue())) {
+            log.info(
+                    "DSL migrated to version {} while the latest version was {}, fetching the latest version again",
+                    migratedDslVersion,
+                    cachedDslVersion);
+            invalidateLatestDslVersion();
+        }
+    }
+
+    /**
+     * @return a hash of the content of the dsl, which can be used as a key for the dsl
+     */
+    public String getDslHash(JSONObject pageDsl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(pageDsl.toJSONString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256, so this is not expected to happen
+            throw new IllegalStateException(e);
+        }
     }
 }
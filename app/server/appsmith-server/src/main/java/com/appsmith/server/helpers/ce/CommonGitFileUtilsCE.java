@@ -1,6 +1,7 @@
 package com.appsmith.server.helpers.ce;
 
 import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.external.dtos.GitStatusDTO;
 import com.appsmith.external.git.FileInterface;
 import com.appsmith.external.git.operations.FileOperations;
 import com.appsmith.external.helpers.Stopwatch;
@@ -103,6 +104,25 @@ public class CommonGitFileUtilsCE {
         }
     }
 
+    /**
+     * This method will save the complete application in the local repo directory to compute the status of the branch,
+     * unless the application is unchanged since the status was last computed.
+     *
+     * @param baseRepoSuffix  path suffix used to create a local repo path
+     * @param artifactExchangeJson application reference object from which entire application can be rehydrated
+     * @param branchName      name of the branch for the current application
+     * @return the last computed status of the branch if the application is unchanged, empty otherwise
+     */
+    public Mono<GitStatusDTO> saveArtifactToLocalRepoForStatus(
+            Path baseRepoSuffix, ArtifactExchangeJson artifactExchangeJson, String branchName) {
+
+        ArtifactGitReference artifactGitReference = createArtifactReference(artifactExchangeJson);
+
+        return fileUtils
+                .saveApplicationToGitRepoForStatus(baseRepoSuffix, artifactGitReference, branchName)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     public Mono<Path> saveArtifactToLocalRepoWithAnalytics(
             Path baseRepoSuffix, ArtifactExchangeJson artifactExchangeJson, String branchName) {
 
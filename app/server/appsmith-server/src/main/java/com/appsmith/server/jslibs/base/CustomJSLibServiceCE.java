@@ -38,6 +38,9 @@ public interface CustomJSLibServiceCE extends CrudService<CustomJSLib, String> {
             Map<DBOpsType, List<CustomJSLib>> customJSLibsDryOps,
             boolean isDryOps);
 
+    Mono<List<CustomJSLibContextDTO>> persistCustomJSLibsMetaDataIfDoNotExistAndGetDTOs(
+            List<CustomJSLib> jsLibs, Map<DBOpsType, List<CustomJSLib>> customJSLibsDryOps);
+
     Flux<CustomJSLib> getAllVisibleJSLibsInContext(
             @NotNull String branchedContextId, CreatorContextType contextType, String branchName, Boolean isViewMode);
 }
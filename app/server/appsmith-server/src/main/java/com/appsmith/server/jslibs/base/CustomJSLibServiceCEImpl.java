@@ -84,8 +84,40 @@ public class CustomJSLibServiceCEImpl extends BaseService<CustomJSLibRepository,
             Boolean isForceInstall,
             Map<DBOpsType, List<CustomJSLib>> customJSLibsDryOps,
             boolean isDryOps) {
+        return persistCustomJSLibMetaDataIfDoesNotExistAndGetDTO(
+                repository.findUniqueCustomJsLib(jsLib), jsLib, isForceInstall, customJSLibsDryOps, isDryOps);
+    }
+
+    /**
+     * Adds the dry operations for a list of custom JS libs, e.g. the ones of an imported application. The libs that
+     * already exist are fetched with a single query, rather than one query per lib.
+     */
+    @Override
+    public Mono<List<CustomJSLibContextDTO>> persistCustomJSLibsMetaDataIfDoNotExistAndGetDTOs(
+            List<CustomJSLib> jsLibs, Map<DBOpsType, List<CustomJSLib>> customJSLibsDryOps) {
+        Set<CustomJSLibContextDTO> jsLibDTOs =
+                jsLibs.stream().map(CustomJSLibContextDTO::getDTOFromCustomJSLib).collect(Collectors.toSet());
+
         return repository
-                .findUniqueCustomJsLib(jsLib)
+                .findCustomJsLibsInContext(jsLibDTOs)
+                .collectMap(CustomJSLib::getUidString)
+                .flatMapMany(existingJSLibs -> Flux.fromIterable(jsLibs)
+                        .flatMap(jsLib -> persistCustomJSLibMetaDataIfDoesNotExistAndGetDTO(
+                                Mono.justOrEmpty(existingJSLibs.get(jsLib.getUidString())),
+                                jsLib,
+                                false,
+                                customJSLibsDryOps,
+                                true)))
+                .collectList();
+    }
+
+    private Mono<CustomJSLibContextDTO> persistCustomJSLibMetaDataIfDoesNotExistAndGetDTO(
+            Mono<CustomJSLib> foundJSLibMono,
+            CustomJSLib jsLib,
+            Boolean isForceInstall,
+            Map<DBOpsType, List<CustomJSLib>> customJSLibsDryOps,
+            boolean isDryOps) {
+        return foundJSLibMono
                 // Read more why Mono.defer is used here.
                 // https://stackoverflow.com/questions/54373920/mono-switchifempty-is-always-called
                 .switchIfEmpty(Mono.defer(() -> {
@@ -10,7 +10,6 @@ import com.appsmith.server.imports.importable.ImportableServiceCE;
 import com.appsmith.server.imports.importable.artifactbased.ArtifactBasedImportableService;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import lombok.extern.slf4j.Slf4j;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
@@ -44,15 +43,15 @@ public class CustomJSLibImportableServiceCEImpl implements ImportableServiceCE<C
             customJSLibs = new ArrayList<>();
         }
 
-        return Flux.fromIterable(customJSLibs)
-                .flatMap(customJSLib -> {
-                    customJSLib.setId(null);
-                    customJSLib.setCreatedAt(null);
-                    customJSLib.setUpdatedAt(null);
-                    return customJSLibService.persistCustomJSLibMetaDataIfDoesNotExistAndGetDTO(
-                            customJSLib, false, mappedImportableResourcesDTO.getCustomJSLibsDryOps(), true);
-                })
-                .collectList()
+        customJSLibs.forEach(customJSLib -> {
+            customJSLib.setId(null);
+            customJSLib.setCreatedAt(null);
+            customJSLib.setUpdatedAt(null);
+        });
+
+        return customJSLibService
+                .persistCustomJSLibsMetaDataIfDoNotExistAndGetDTOs(
+                        customJSLibs, mappedImportableResourcesDTO.getCustomJSLibsDryOps())
                 .doOnNext(mappedImportableResourcesDTO::setInstalledJsLibsList)
                 .elapsed()
                 .doOnNext(objects -> log.debug("time to import custom jslibs: {}", objects.getT1()))
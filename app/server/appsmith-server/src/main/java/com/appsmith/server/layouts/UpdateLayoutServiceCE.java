@@ -4,6 +4,7 @@ import com.appsmith.external.dtos.DslExecutableDTO;
 import com.appsmith.external.models.CreatorContextType;
 import com.appsmith.server.domains.Layout;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.UpdateMultiplePageLayoutDTO;
 import net.minidev.json.JSONObject;
 import reactor.core.publisher.Mono;
@@ -14,6 +15,11 @@ import java.util.Set;
 public interface UpdateLayoutServiceCE {
     Mono<LayoutDTO> updateLayout(String pageId, String applicationId, String layoutId, Layout layout);
 
+    /**
+     * Applies widget level changes to the stored DSL of a layout, instead of replacing the whole DSL like updateLayout
+     */
+    Mono<LayoutDTO> patchLayout(String pageId, String applicationId, String layoutId, LayoutPatchDTO layoutPatch);
+
     Mono<Integer> updateMultipleLayouts(
             String defaultApplicationId, UpdateMultiplePageLayoutDTO updateMultiplePageLayoutDTO);
 
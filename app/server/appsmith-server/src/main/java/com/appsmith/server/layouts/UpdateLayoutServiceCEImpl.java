@@ -14,6 +14,7 @@ import com.appsmith.server.domains.Layout;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.UpdateMultiplePageLayoutDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -35,6 +36,7 @@ import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,13 +45,16 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.spans.LayoutSpan.FIND_ALL_ON_LOAD_EXECUTABLES;
 import static com.appsmith.external.constants.spans.LayoutSpan.FIND_AND_UPDATE_LAYOUT;
+import static com.appsmith.external.constants.spans.LayoutSpan.PATCH_LAYOUT_DSL_METHOD;
 import static com.appsmith.external.constants.spans.LayoutSpan.UPDATE_EXECUTABLES_EXECUTE_ONLOAD;
 import static com.appsmith.external.constants.spans.LayoutSpan.UPDATE_LAYOUT_DSL_METHOD;
 import static com.appsmith.external.constants.spans.LayoutSpan.UPDATE_LAYOUT_METHOD;
@@ -71,6 +76,10 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
     private final ObjectMapper objectMapper;
     private final ObservationRegistry observationRegistry;
 
+    // Completion of the latest update or patch of every page whose layout is being written. Writes of a page are
+    // applied one at a time, since each of them saves the DSL whole, and concurrent writes would overwrite each other.
+    private final Map<String, Mono<Void>> layoutWriteCompletions = new ConcurrentHashMap<>();
+
     private final String layoutOnLoadActionErrorToastMessage =
             "A cyclic dependency error has been encountered on current page, \nqueries on page load will not run. \n Please check debugger and Appsmith documentation for more information";
 
@@ -226,6 +235,13 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
 
     @Override
     public Mono<LayoutDTO> updateLayout(String pageId, String applicationId, String layoutId, Layout layout) {
+        return writeLayoutInOrder(pageId, updateLayoutInQueue(pageId, applicationId, layoutId, layout));
+    }
+
+    /**
+     * Updates the layout, once it is the turn of this update in the queue of writes of the page
+     */
+    private Mono<LayoutDTO> updateLayoutInQueue(String pageId, String applicationId, String layoutId, Layout layout) {
         return applicationService
                 .findById(applicationId)
                 .switchIfEmpty(Mono.error(new AppsmithException(
@@ -255,6 +271,377 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
         return Flux.merge(monoList).then(Mono.just(monoList.size()));
     }
 
+    @Override
+    public Mono<LayoutDTO> patchLayout(
+            String pageId, String applicationId, String layoutId, LayoutPatchDTO layoutPatch) {
+        Mono<LayoutDTO> patchedLayoutMono = newPageService
+                .findByIdAndLayoutsId(pageId, layoutId, pagePermission.getEditPermission(), false)
+                .switchIfEmpty(Mono.error(new AppsmithException(
+                        AppsmithError.ACL_NO_RESOURCE_FOUND,
+                        FieldName.PAGE_ID + " or " + FieldName.LAYOUT_ID,
+                        pageId + ", " + layoutId)))
+                .flatMap(page -> {
+                    // Because the findByIdAndLayoutsId call returned non-empty result, we are guaranteed to find the
+                    // layoutId here.
+                    Layout storedLayout = page.getLayouts().stream()
+                            .filter(layout -> layoutId.equals(layout.getId()))
+                            .findFirst()
+                            .orElseThrow();
+                    return patchLayoutDsl(pageId, applicationId, layoutId, storedLayout, layoutPatch);
+                })
+                .map(layoutDTO -> {
+                    // The editor already has the DSL it patched, so it is not sent back
+                    layoutDTO.setDsl(null);
+                    return layoutDTO;
+                });
+
+        return writeLayoutInOrder(pageId, patchedLayoutMono)
+                .name(PATCH_LAYOUT_DSL_METHOD)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Runs the write of the layout of the page once the previous write of the page has completed. The write is run to
+     * completion even if the caller cancels, since the layout may be in the middle of being saved, and the next write
+     * of the page only starts once it has completed.
+     */
+    private <T> Mono<T> writeLayoutInOrder(String pageId, Mono<T> layoutWriteMono) {
+        return Mono.deferContextual(contextView -> {
+            Sinks.Empty<Void> writeCompletion = Sinks.empty();
+            Mono<Void> writeCompletionMono = writeCompletion.asMono();
+            Mono<Void> previousWriteCompletionMono = layoutWriteCompletions.put(pageId, writeCompletionMono);
+            Mono<Void> afterPreviousWriteMono =
+                    previousWriteCompletionMono == null ? Mono.empty() : previousWriteCompletionMono;
+
+            Mono<T> writeMono = afterPreviousWriteMono
+                    .then(layoutWriteMono)
+                    .doFinally(signalType -> {
+                        layoutWriteCompletions.remove(pageId, writeCompletionMono);
+                        writeCompletion.tryEmitEmpty();
+                    })
+                    .contextWrite(contextView)
+                    .cache();
+            // The result, or the error, is delivered to the caller through the cached write
+            writeMono.onErrorComplete().subscribe();
+            return writeMono;
+        });
+    }
+
+    /**
+     * Applies the widget level changes to the stored DSL of the layout. Names and bindings are only extracted from the
+     * widgets that are changed, and the on load executables are only computed again when the names or bindings of
+     * these widgets have changed, since they are computed from nothing else in the DSL.
+     */
+    private Mono<LayoutDTO> patchLayoutDsl(
+            String pageId, String applicationId, String layoutId, Layout storedLayout, LayoutPatchDTO layoutPatch) {
+        JSONObject dsl = storedLayout.getDsl();
+        if (dsl == null) {
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.LAYOUT_ID));
+        }
+
+        Set<String> escapedWidgetNames = storedLayout.getMongoEscapedWidgetNames() == null
+                ? new HashSet<>()
+                : new HashSet<>(storedLayout.getMongoEscapedWidgetNames());
+        boolean isOnLoadGraphChanged;
+        try {
+            isOnLoadGraphChanged = applyLayoutPatch(dsl, layoutPatch, escapedWidgetNames, pageId, layoutId);
+        } catch (Throwable t) {
+            return sendUpdateLayoutAnalyticsEvent(pageId, layoutId, dsl, false, t, CreatorContextType.PAGE)
+                    .then(Mono.error(t));
+        }
+
+        storedLayout.setDsl(dsl);
+        storedLayout.setMongoEscapedWidgetNames(escapedWidgetNames.isEmpty() ? null : escapedWidgetNames);
+
+        if (isOnLoadGraphChanged || storedLayout.getWidgetNames() == null) {
+            // Process the whole DSL, as an update of the layout would
+            Layout layout = new Layout();
+            layout.setDsl(this.unescapeMongoSpecialCharacters(storedLayout));
+            return updateLayoutInQueue(pageId, applicationId, layoutId, layout);
+        }
+
+        // The on load executables, and the names of the widgets, are the same as the ones stored with the layout
+        return onLoadExecutablesUtil
+                .findAndUpdateLayout(pageId, CreatorContextType.PAGE, layoutId, storedLayout)
+                .name(FIND_AND_UPDATE_LAYOUT)
+                .tap(Micrometer.observation(observationRegistry))
+                .flatMap(savedLayout -> {
+                    LayoutDTO layoutDTO = generateResponseDTO(savedLayout);
+                    layoutDTO.setActionUpdates(new ArrayList<>());
+                    layoutDTO.setMessages(new ArrayList<>());
+
+                    return sendUpdateLayoutAnalyticsEvent(pageId, layoutId, dsl, true, null, CreatorContextType.PAGE)
+                            .thenReturn(layoutDTO);
+                });
+    }
+
+    /**
+     * Applies the changes to the DSL in place, in the order deletes, updates and adds. Widgets are kept escaped the way
+     * they are stored, and the names of the escaped widgets are updated for the widgets that are changed.
+     *
+     * @return true if the names or the bindings of the changed widgets are not the same after the changes
+     */
+    private boolean applyLayoutPatch(
+            JSONObject dsl,
+            LayoutPatchDTO layoutPatch,
+            Set<String> escapedWidgetNames,
+            String creatorId,
+            String layoutId)
+            throws AppsmithException {
+        Map<String, Map<String, Object>> widgetsById = new HashMap<>();
+        Map<String, Map<String, Object>> parentsById = new HashMap<>();
+        indexWidgets(dsl, null, widgetsById, parentsById);
+
+        // Names and bindings of the changed widgets before and after the changes
+        Set<String> previousWidgetNames = new HashSet<>();
+        Map<String, Set<String>> previousDynamicBindingsMap = new HashMap<>();
+        Set<String> widgetNames = new HashSet<>();
+        Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
+        Set<String> changedEscapedWidgetNames = new HashSet<>();
+        boolean isPreviousDslValid = true;
+
+        if (layoutPatch.deletedWidgetIds() != null) {
+            // The deleted widgets are in no particular order, so a widget may have been removed along with its parent
+            Set<String> storedWidgetIds = new HashSet<>(widgetsById.keySet());
+            for (String widgetId : layoutPatch.deletedWidgetIds()) {
+                Map<String, Object> widget = widgetsById.get(widgetId);
+                Map<String, Object> parent = parentsById.get(widgetId);
+                if (widget == null && storedWidgetIds.contains(widgetId)) {
+                    continue;
+                }
+                if (widget == null || parent == null) {
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID + " " + widgetId);
+                }
+
+                getChildren(parent).removeIf(child -> child == widget);
+                isPreviousDslValid &= removeWidgets(
+                        widget,
+                        widgetsById,
+                        parentsById,
+                        escapedWidgetNames,
+                        previousWidgetNames,
+                        previousDynamicBindingsMap,
+                        creatorId,
+                        layoutId);
+            }
+        }
+
+        if (layoutPatch.updatedWidgets() != null) {
+            for (Map.Entry<String, JSONObject> updatedWidget :
+                    layoutPatch.updatedWidgets().entrySet()) {
+                String widgetId = updatedWidget.getKey();
+                Map<String, Object> widget = widgetsById.get(widgetId);
+                if (widget == null || updatedWidget.getValue() == null) {
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID + " " + widgetId);
+                }
+
+                isPreviousDslValid &= extractStoredWidgetNameAndDynamicBindings(
+                        widget,
+                        escapedWidgetNames,
+                        previousWidgetNames,
+                        previousDynamicBindingsMap,
+                        creatorId,
+                        layoutId);
+
+                JSONObject newWidget = new JSONObject();
+                newWidget.putAll(updatedWidget.getValue());
+                newWidget.remove(FieldName.CHILDREN);
+                newWidget.put(FieldName.WIDGET_ID, widgetId);
+                if (newWidget.get(FieldName.WIDGET_NAME) != null) {
+                    extractWidgetNameAndDynamicBindings(
+                            newWidget,
+                            widgetNames,
+                            widgetDynamicBindingsMap,
+                            creatorId,
+                            layoutId,
+                            CreatorContextType.PAGE);
+                    removeSpecialCharactersFromKeys(newWidget, changedEscapedWidgetNames);
+                }
+
+                // Replace the properties of the widget, and keep its children
+                Object children = widget.get(FieldName.CHILDREN);
+                widget.clear();
+                widget.putAll(newWidget);
+                if (children != null) {
+                    widget.put(FieldName.CHILDREN, children);
+                }
+            }
+        }
+
+        if (layoutPatch.addedWidgets() != null) {
+            for (LayoutPatchDTO.AddedWidgetDTO addedWidget : layoutPatch.addedWidgets()) {
+                Map<String, Object> parent = widgetsById.get(addedWidget.parentId());
+                if (parent == null) {
+                    throw new AppsmithException(
+                            AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID + " " + addedWidget.parentId());
+                }
+                if (addedWidget.widget() == null) {
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID);
+                }
+                checkAddedWidgetIds(addedWidget.widget(), widgetsById, new HashSet<>());
+
+                List<Object> children = getChildren(parent);
+                if (children == null) {
+                    children = new ArrayList<>();
+                    parent.put(FieldName.CHILDREN, children);
+                }
+                int index = addedWidget.index() == null ? children.size() : addedWidget.index();
+                if (index < 0 || index > children.size()) {
+                    throw new AppsmithException(AppsmithError.INVALID_PARAMETER, "index " + index);
+                }
+
+                JSONObject widget = new JSONObject();
+                widget.putAll(addedWidget.widget());
+                widget = extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                        widget,
+                        widgetNames,
+                        widgetDynamicBindingsMap,
+                        creatorId,
+                        layoutId,
+                        changedEscapedWidgetNames,
+                        CreatorContextType.PAGE);
+                children.add(index, widget);
+                // Later changes may add widgets to this one
+                indexWidgets(widget, parent, widgetsById, parentsById);
+            }
+        }
+
+        escapedWidgetNames.removeAll(previousWidgetNames);
+        escapedWidgetNames.addAll(changedEscapedWidgetNames);
+
+        return !isPreviousDslValid
+                || !previousWidgetNames.equals(widgetNames)
+                || !previousDynamicBindingsMap.equals(widgetDynamicBindingsMap);
+    }
+
+    /**
+     * Checks that the added widget, and every one of its children, has an id which is not used by any other widget.
+     */
+    private void checkAddedWidgetIds(
+            Map<String, Object> widget, Map<String, Map<String, Object>> widgetsById, Set<String> addedWidgetIds) {
+        Object widgetId = widget.get(FieldName.WIDGET_ID);
+        if (widgetId == null
+                || widgetsById.containsKey(String.valueOf(widgetId))
+                || !addedWidgetIds.add(String.valueOf(widgetId))) {
+            throw new AppsmithException(
+                    AppsmithError.INVALID_PARAMETER, FieldName.WIDGET_ID + " " + Objects.toString(widgetId, ""));
+        }
+
+        List<Object> children = getChildren(widget);
+        if (children != null) {
+            for (Object child : children) {
+                if (child instanceof Map<?, ?> childWidget) {
+                    checkAddedWidgetIds((Map<String, Object>) childWidget, widgetsById, addedWidgetIds);
+                }
+            }
+        }
+    }
+
+    private void indexWidgets(
+            Map<String, Object> widget,
+            Map<String, Object> parent,
+            Map<String, Map<String, Object>> widgetsById,
+            Map<String, Map<String, Object>> parentsById) {
+        Object widgetId = widget.get(FieldName.WIDGET_ID);
+        if (widgetId != null) {
+            widgetsById.put(String.valueOf(widgetId), widget);
+            if (parent != null) {
+                parentsById.put(String.valueOf(widgetId), parent);
+            }
+        }
+
+        List<Object> children = getChildren(widget);
+        if (children != null) {
+            for (Object child : children) {
+                if (child instanceof Map<?, ?> childWidget) {
+                    indexWidgets((Map<String, Object>) childWidget, widget, widgetsById, parentsById);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes a deleted widget, and its children, from the index, and extracts their names and bindings as stored.
+     *
+     * @return false if the names and bindings of the stored widgets could not be extracted
+     */
+    private boolean removeWidgets(
+            Map<String, Object> widget,
+            Map<String, Map<String, Object>> widgetsById,
+            Map<String, Map<String, Object>> parentsById,
+            Set<String> escapedWidgetNames,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            String creatorId,
+            String layoutId) {
+        Object widgetId = widget.get(FieldName.WIDGET_ID);
+        if (widgetId != null) {
+            widgetsById.remove(String.valueOf(widgetId));
+            parentsById.remove(String.valueOf(widgetId));
+        }
+
+        boolean isValid = extractStoredWidgetNameAndDynamicBindings(
+                widget, escapedWidgetNames, widgetNames, widgetDynamicBindingsMap, creatorId, layoutId);
+
+        List<Object> children = getChildren(widget);
+        if (children != null) {
+            for (Object child : children) {
+                if (child instanceof Map<?, ?> childWidget) {
+                    isValid &= removeWidgets(
+                            (Map<String, Object>) childWidget,
+                            widgetsById,
+                            parentsById,
+                            escapedWidgetNames,
+                            widgetNames,
+                            widgetDynamicBindingsMap,
+                            creatorId,
+                            layoutId);
+                }
+            }
+        }
+
+        return isValid;
+    }
+
+    /**
+     * Extracts the name and bindings of a widget as stored, without changing the stored widget.
+     *
+     * @return false if the bindings of the stored widget are not valid
+     */
+    private boolean extractStoredWidgetNameAndDynamicBindings(
+            Map<String, Object> widget,
+            Set<String> escapedWidgetNames,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            String creatorId,
+            String layoutId) {
+        JSONObject storedWidget = new JSONObject();
+        storedWidget.putAll(widget);
+        storedWidget.remove(FieldName.CHILDREN);
+
+        String widgetName = storedWidget.getAsString(FieldName.WIDGET_NAME);
+        if (widgetName == null) {
+            // This isn't a valid widget configuration, so it has neither names nor bindings
+            return true;
+        }
+        if (escapedWidgetNames.contains(widgetName)) {
+            WidgetSpecificUtils.unEscapeTableWidgetPrimaryColumns(storedWidget);
+        }
+
+        try {
+            extractWidgetNameAndDynamicBindings(
+                    storedWidget, widgetNames, widgetDynamicBindingsMap, creatorId, layoutId, CreatorContextType.PAGE);
+            return true;
+        } catch (AppsmithException e) {
+            log.debug("Stored widget {} has invalid bindings: {}", widgetName, e.getMessage());
+            return false;
+        }
+    }
+
+    private List<Object> getChildren(Map<String, Object> widget) {
+        return widget.get(FieldName.CHILDREN) instanceof List<?> children ? (List<Object>) children : null;
+    }
+
     private LayoutDTO generateResponseDTO(Layout layout) {
 
         LayoutDTO layoutDTO = new LayoutDTO();
@@ -445,6 +832,51 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
             return dsl;
         }
 
+        extractWidgetNameAndDynamicBindings(
+                dsl, widgetNames, widgetDynamicBindingsMap, creatorId, layoutId, creatorType);
+
+        // Escape the widget keys if required and update dsl and escapedWidgetNames
+        removeSpecialCharactersFromKeys(dsl, escapedWidgetNames);
+
+        // Fetch the children of the current node in the DSL and recursively iterate
+        // over them to extract bindings
+        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
+        ArrayList<Object> newChildren = new ArrayList<>();
+        if (children != null) {
+            for (int i = 0; i < children.size(); i++) {
+                Map data = (Map) children.get(i);
+                JSONObject object = new JSONObject();
+                // If the children tag exists and there are entries within it
+                if (!CollectionUtils.isEmpty(data)) {
+                    object.putAll(data);
+                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                            object,
+                            widgetNames,
+                            widgetDynamicBindingsMap,
+                            creatorId,
+                            layoutId,
+                            escapedWidgetNames,
+                            creatorType);
+                    newChildren.add(child);
+                }
+            }
+            dsl.put(FieldName.CHILDREN, newChildren);
+        }
+
+        return dsl;
+    }
+
+    /**
+     * Extracts the name of a single widget, and the dynamic bindings in its properties, without walking its children.
+     */
+    private void extractWidgetNameAndDynamicBindings(
+            JSONObject dsl,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            String creatorId,
+            String layoutId,
+            CreatorContextType creatorType)
+            throws AppsmithException {
         String widgetName = dsl.getAsString(FieldName.WIDGET_NAME);
         String widgetId = dsl.getAsString(FieldName.WIDGET_ID);
         String widgetType = dsl.getAsString(FieldName.WIDGET_TYPE);
@@ -580,36 +1012,6 @@ public class UpdateLayoutServiceCEImpl implements UpdateLayoutServiceCE {
                 }
             }
         }
-
-        // Escape the widget keys if required and update dsl and escapedWidgetNames
-        removeSpecialCharactersFromKeys(dsl, escapedWidgetNames);
-
-        // Fetch the children of the current node in the DSL and recursively iterate
-        // over them to extract bindings
-        ArrayList<Object> children = (ArrayList<Object>) dsl.get(FieldName.CHILDREN);
-        ArrayList<Object> newChildren = new ArrayList<>();
-        if (children != null) {
-            for (int i = 0; i < children.size(); i++) {
-                Map data = (Map) children.get(i);
-                JSONObject object = new JSONObject();
-                // If the children tag exists and there are entries within it
-                if (!CollectionUtils.isEmpty(data)) {
-                    object.putAll(data);
-                    JSONObject child = extractAllWidgetNamesAndDynamicBindingsFromDSL(
-                            object,
-                            widgetNames,
-                            widgetDynamicBindingsMap,
-                            creatorId,
-                            layoutId,
-                            escapedWidgetNames,
-                            creatorType);
-                    newChildren.add(child);
-                }
-            }
-            dsl.put(FieldName.CHILDREN, newChildren);
-        }
-
-        return dsl;
     }
 
     private JSONObject removeSpecialCharactersFromKeys(JSONObject dsl, Set<String> escapedWidgetNames) {
@@ -67,6 +67,10 @@ public interface NewPageServiceCE extends CrudService<NewPage, String> {
 
     Flux<NewPage> saveAll(List<NewPage> pages);
 
+    Mono<Void> bulkInsertOrUpdatePagesInRepository(List<NewPage> pages);
+
+    Mono<Void> bulkUpdatePagesInRepository(List<NewPage> pages);
+
     Mono<String> getNameByPageId(String pageId, boolean isPublishedName);
 
     Mono<NewPage> findByBranchNameAndBasePageId(
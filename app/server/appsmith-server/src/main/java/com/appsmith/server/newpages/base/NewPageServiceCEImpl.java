@@ -500,6 +500,32 @@ public class NewPageServiceCEImpl extends BaseService<NewPageRepository, NewPage
         return repository.saveAll(pages);
     }
 
+    /**
+     * Saves pages in bulk, e.g. the pages of an imported application. As with {@link #save(NewPage)}, pages without a
+     * gitSyncId are given one. Pages that already have an id are updated if a page with that id exists.
+     */
+    @Override
+    public Mono<Void> bulkInsertOrUpdatePagesInRepository(List<NewPage> pages) {
+        pages.forEach(newPage -> {
+            if (newPage.getGitSyncId() == null) {
+                newPage.setGitSyncId(newPage.getApplicationId() + "_" + UUID.randomUUID());
+            }
+            newPage.updateForBulkWriteOperation();
+        });
+        return repository.bulkInsertOrUpdate(pages);
+    }
+
+    @Override
+    public Mono<Void> bulkUpdatePagesInRepository(List<NewPage> pages) {
+        pages.forEach(newPage -> {
+            if (newPage.getGitSyncId() == null) {
+                newPage.setGitSyncId(newPage.getId() + "_" + UUID.randomUUID());
+            }
+            newPage.updateForBulkWriteOperation();
+        });
+        return repository.bulkUpdate(pages);
+    }
+
     @Override
     public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
         return repository.getNameByPageId(pageId, isPublishedName);
@@ -6,6 +6,7 @@ import com.appsmith.server.constants.ResourceModes;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.ApplicationPage;
 import com.appsmith.server.domains.Artifact;
+import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.ApplicationJson;
@@ -124,19 +125,13 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                 .distinct()
                 .map(context -> (NewPage) context)
                 .toList();
-        return Flux.fromIterable(newPages)
-                .flatMap(newPage -> {
-                    newPage.setBranchName(importingMetaDTO.getBranchName());
-                    return mapActionAndCollectionIdWithPageLayout(
-                            newPage,
-                            importActionResultDTO.getActionIdMap(),
-                            actionAndCollectionMapsDTO.getUnpublishedActionIdToCollectionIdMap(),
-                            actionAndCollectionMapsDTO.getPublishedActionIdToCollectionIdMap());
-                })
-                .collectList()
-                .flatMapMany(newPageService::saveAll)
-                .collectList()
-                .then()
+        newPages.forEach(newPage -> newPage.setBranchName(importingMetaDTO.getBranchName()));
+        return mapActionAndCollectionIdWithPageLayouts(
+                        newPages,
+                        importActionResultDTO.getActionIdMap(),
+                        actionAndCollectionMapsDTO.getUnpublishedActionIdToCollectionIdMap(),
+                        actionAndCollectionMapsDTO.getPublishedActionIdToCollectionIdMap())
+                .flatMap(newPageService::bulkUpdatePagesInRepository)
                 .onErrorResume(throwable -> {
                     log.error("Failed to set action ids in pages", throwable);
                     return Mono.error(throwable);
@@ -434,10 +429,14 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                             .filter(newPage -> !StringUtils.isEmpty(newPage.getGitSyncId()))
                             .forEach(newPage -> savedPagesGitIdToPageMap.put(newPage.getGitSyncId(), newPage));
 
-                    return Flux.fromIterable(pages).flatMap(newPage -> {
-                        log.debug(
-                                "Importing page: {}",
-                                newPage.getUnpublishedPage().getName());
+                    // Pages are sorted into the ones to insert and the ones to update before anything is written,
+                    // so that they can be written in bulk, and so that a missing permission fails the import before
+                    // any page is written
+                    List<NewPage> pagesToInsert = new ArrayList<>();
+                    List<NewPage> pagesToUpdate = new ArrayList<>();
+                    List<NewPage> pagesToRestore = new ArrayList<>();
+                    for (NewPage newPage : pages) {
+                        log.debug("Importing page: {}", newPage.getUnpublishedPage().getName());
                         // Check if the page has gitSyncId and if it's already in DB
                         if (newPage.getGitSyncId() != null
                                 && savedPagesGitIdToPageMap.containsKey(newPage.getGitSyncId())) {
@@ -446,10 +445,11 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                             if (!importingMetaDTO.getPermissionProvider().hasEditPermission(existingPage)) {
                                 log.error(
                                         "User does not have permission to edit page with id: {}", existingPage.getId());
-                                return Mono.error(new AppsmithException(
+                                return Flux.error(new AppsmithException(
                                         AppsmithError.ACL_NO_RESOURCE_FOUND, FieldName.PAGE, existingPage.getId()));
                             }
                             Set<Policy> existingPagePolicy = existingPage.getPolicies();
+                            boolean isDeletedInDb = existingPage.getDeletedAt() != null;
                             copyNestedNonNullProperties(newPage, existingPage);
                             // Update branchName
                             existingPage.setBranchName(importingMetaDTO.getBranchName());
@@ -459,27 +459,28 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                                     .setDeletedAt(newPage.getUnpublishedPage().getDeletedAt());
                             existingPage.setDeletedAt(newPage.getDeletedAt());
                             existingPage.setPolicies(existingPagePolicy);
-                            return newPageService.save(existingPage);
+                            // A bulk update only sets the fields that are present, so it can't clear the deleted state
+                            if (isDeletedInDb && existingPage.getDeletedAt() == null) {
+                                pagesToRestore.add(existingPage);
+                            } else {
+                                pagesToUpdate.add(existingPage);
+                            }
                         } else {
                             // check if user has permission to add new page to the application
                             if (!importingMetaDTO.getPermissionProvider().canCreatePage(application)) {
                                 log.error(
                                         "User does not have permission to create page in application with id: {}",
                                         application.getId());
-                                return Mono.error(new AppsmithException(
+                                return Flux.error(new AppsmithException(
                                         AppsmithError.ACL_NO_RESOURCE_FOUND,
                                         FieldName.APPLICATION,
                                         application.getId()));
                             }
-                            if (application.getGitApplicationMetadata() != null) {
-
-                                if (!pagesFromOtherBranches.containsKey(newPage.getGitSyncId())) {
-                                    return saveNewPageAndUpdateBaseId(newPage, importingMetaDTO.getBranchName());
-                                }
-
+                            newPage.setBranchName(importingMetaDTO.getBranchName());
+                            if (application.getGitApplicationMetadata() != null
+                                    && pagesFromOtherBranches.containsKey(newPage.getGitSyncId())) {
                                 NewPage branchedPage = pagesFromOtherBranches.get(newPage.getGitSyncId());
                                 newPage.setBaseId(branchedPage.getBaseId());
-                                newPage.setBranchName(importingMetaDTO.getBranchName());
                                 newPage.getUnpublishedPage()
                                         .setDeletedAt(branchedPage
                                                 .getUnpublishedPage()
@@ -487,11 +488,25 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                                 newPage.setDeletedAt(branchedPage.getDeletedAt());
                                 // Set policies from existing branch object
                                 newPage.setPolicies(branchedPage.getPolicies());
-                                return newPageService.save(newPage);
+                            } else if (StringUtils.isEmpty(newPage.getBaseId())) {
+                                // The id is generated here rather than by the database, so that it can be used as
+                                // the base id of the page in the same write
+                                if (newPage.getId() == null) {
+                                    newPage.setId(new ObjectId().toString());
+                                }
+                                newPage.setBaseId(newPage.getId());
                             }
-                            return saveNewPageAndUpdateBaseId(newPage, importingMetaDTO.getBranchName());
+                            pagesToInsert.add(newPage);
                         }
-                    });
+                    }
+
+                    return newPageService
+                            .bulkInsertOrUpdatePagesInRepository(pagesToInsert)
+                            .then(newPageService.bulkUpdatePagesInRepository(pagesToUpdate))
+                            .thenMany(Flux.fromIterable(pagesToRestore).flatMap(newPageService::save))
+                            .thenMany(Flux.concat(
+                                    Flux.fromIterable(pagesToInsert), Flux.fromIterable(pagesToUpdate)))
+                            .concatWith(Flux.fromIterable(pagesToRestore));
                 })
                 .onErrorResume(error -> {
                     log.error("Error importing page", error);
@@ -499,19 +514,6 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
                 });
     }
 
-    private Mono<NewPage> saveNewPageAndUpdateBaseId(NewPage newPage, String branchName) {
-        NewPage update = new NewPage();
-        newPage.setBranchName(branchName);
-        return newPageService.save(newPage).flatMap(page -> {
-            if (StringUtils.isEmpty(page.getBaseId())) {
-                update.setBaseId(page.getId());
-                return newPageService.update(page.getId(), update);
-            } else {
-                return Mono.just(page);
-            }
-        });
-    }
-
     private Map<String, String> updateNewPagesBeforeMerge(List<NewPage> existingPages, List<NewPage> importedPages) {
         Map<String, String> newToOldToPageNameMap = new HashMap<>(); // maps new names with old names
 
@@ -579,37 +581,42 @@ public class NewPageImportableServiceCEImpl implements ImportableServiceCE<NewPa
         return unpublishedPagesMono;
     }
 
-    // This method will update the action id in saved page for layoutOnLoadAction
-    private Mono<NewPage> mapActionAndCollectionIdWithPageLayout(
-            NewPage newPage,
+    // This method will update the action ids in saved pages for layoutOnLoadAction. The on load actions of all the
+    // pages are fetched together, in a single query.
+    private Mono<List<NewPage>> mapActionAndCollectionIdWithPageLayouts(
+            List<NewPage> newPages,
             Map<String, String> actionIdMap,
             Map<String, String> unpublishedActionIdToCollectionIdsMap,
             Map<String, String> publishedActionIdToCollectionIdsMap) {
 
-        Set<String> layoutOnLoadActionsForPage = getLayoutOnLoadActionsForPage(
-                newPage, actionIdMap, unpublishedActionIdToCollectionIdsMap, publishedActionIdToCollectionIdsMap);
+        Set<String> layoutOnLoadActions = new HashSet<>();
+        newPages.forEach(newPage -> layoutOnLoadActions.addAll(getLayoutOnLoadActionsForPage(
+                newPage, actionIdMap, unpublishedActionIdToCollectionIdsMap, publishedActionIdToCollectionIdsMap)));
 
         return newActionService
-                .findAllById(layoutOnLoadActionsForPage)
-                .map(newAction -> {
-                    if (newPage.getUnpublishedPage().getLayouts() != null) {
-                        final String collectionId =
-                                newAction.getUnpublishedAction().getCollectionId();
+                .findAllById(layoutOnLoadActions)
+                .collectMap(NewAction::getId)
+                .map(layoutOnLoadActionsMap -> {
+                    newPages.forEach(newPage -> {
+                        if (newPage.getUnpublishedPage().getLayouts() == null) {
+                            return;
+                        }
 
                         newPage.getUnpublishedPage().getLayouts().forEach(layout -> {
                             if (layout.getLayoutOnLoadActions() != null) {
                                 layout.getLayoutOnLoadActions().forEach(onLoadAction -> onLoadAction.stream()
-                                        .filter(actionDTO -> StringUtils.equals(actionDTO.getId(), newAction.getId()))
+                                        .filter(actionDTO -> layoutOnLoadActionsMap.containsKey(actionDTO.getId()))
                                         .forEach(actionDTO -> {
-                                            actionDTO.setCollectionId(collectionId);
+                                            actionDTO.setCollectionId(layoutOnLoadActionsMap
+                                                    .get(actionDTO.getId())
+                                                    .getUnpublishedAction()
+                                                    .getCollectionId());
                                         }));
                             }
                         });
-                    }
-                    return newAction;
+                    });
+                    return newPages;
                 })
-                .collectList()
-                .thenReturn(newPage)
                 .onErrorResume(error -> {
                     log.error("Error while updating action collection id in page layout", error);
                     return Mono.error(error);
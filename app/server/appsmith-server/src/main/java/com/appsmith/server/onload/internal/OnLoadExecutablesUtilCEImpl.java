@@ -16,6 +16,7 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.onload.executables.ExecutableOnLoadService;
 import com.appsmith.server.services.AstService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -29,15 +30,22 @@ import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -72,6 +80,28 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
     // TODO : Add all the global variables exposed on the client side.
     private final Set<String> APPSMITH_GLOBAL_VARIABLES = Set.of();
 
+    private static final int MAX_CACHED_ON_LOAD_SCHEDULES = 1000;
+
+    /**
+     * Schedules computed earlier, by creator. A schedule is only reused when the content hash of everything it was
+     * computed from is unchanged, so entries never have to be evicted for correctness. The map is access ordered and
+     * bounded, so that creators that are not being edited anymore are dropped eventually.
+     */
+    private final Map<String, OnLoadSchedule> onLoadScheduleCache =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, OnLoadSchedule> eldest) {
+                    return size() > MAX_CACHED_ON_LOAD_SCHEDULES;
+                }
+            };
+
+    private record OnLoadSchedule(
+            String contentHash,
+            List<Set<String>> scheduleExecutableIds,
+            List<String> flatOnLoadExecutableIds,
+            Set<String> executablesUsedInDsl,
+            Set<ExecutableDependencyEdge> edges) {}
+
     /**
      * This function computes the sequenced on page load executables.
      * <p>
@@ -104,6 +134,74 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
             Set<String> executablesUsedInDSLRef,
             CreatorContextType creatorType) {
 
+        return getAllExecutablesByCreatorIdFlux(creatorId, creatorType)
+                .collectList()
+                .flatMap(executables -> {
+                    final String contentHash = computeOnLoadScheduleContentHash(
+                            creatorId,
+                            evaluatedVersion,
+                            widgetNames,
+                            widgetDynamicBindingsMap,
+                            executables,
+                            creatorType);
+                    final String cacheKey = creatorType + ":" + creatorId;
+
+                    final OnLoadSchedule cachedSchedule;
+                    synchronized (onLoadScheduleCache) {
+                        cachedSchedule = onLoadScheduleCache.get(cacheKey);
+                    }
+
+                    if (cachedSchedule != null && cachedSchedule.contentHash().equals(contentHash)) {
+                        log.debug("Reusing the on load schedule computed earlier for {} {}", creatorType, creatorId);
+                        return Mono.just(replayOnLoadSchedule(
+                                cachedSchedule,
+                                executables,
+                                edgesRef,
+                                flatPageLoadExecutablesRef,
+                                executablesUsedInDSLRef));
+                    }
+
+                    return computeAllOnLoadExecutables(
+                                    creatorId,
+                                    evaluatedVersion,
+                                    widgetNames,
+                                    edgesRef,
+                                    widgetDynamicBindingsMap,
+                                    flatPageLoadExecutablesRef,
+                                    executablesUsedInDSLRef,
+                                    creatorType,
+                                    Flux.fromIterable(executables))
+                            .doOnNext(schedule -> {
+                                final OnLoadSchedule onLoadSchedule = new OnLoadSchedule(
+                                        contentHash,
+                                        schedule.stream()
+                                                .map(level -> level.stream()
+                                                        .map(DslExecutableDTO::getId)
+                                                        .collect(Collectors.toSet()))
+                                                .toList(),
+                                        flatPageLoadExecutablesRef.stream()
+                                                .map(Executable::getId)
+                                                .toList(),
+                                        Set.copyOf(executablesUsedInDSLRef),
+                                        Set.copyOf(edgesRef));
+                                synchronized (onLoadScheduleCache) {
+                                    onLoadScheduleCache.put(cacheKey, onLoadSchedule);
+                                }
+                            });
+                });
+    }
+
+    private Mono<List<Set<DslExecutableDTO>>> computeAllOnLoadExecutables(
+            String creatorId,
+            Integer evaluatedVersion,
+            Set<String> widgetNames,
+            Set<ExecutableDependencyEdge> edgesRef,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            List<Executable> flatPageLoadExecutablesRef,
+            Set<String> executablesUsedInDSLRef,
+            CreatorContextType creatorType,
+            Flux<Executable> allExecutablesByCreatorIdFlux) {
+
         Set<String> onLoadExecutableSetRef = new HashSet<>();
         Set<String> explicitUserSetOnLoadExecutablesRef = new HashSet<>();
         Set<String> bindingsFromExecutablesRef = ConcurrentHashMap.newKeySet();
@@ -119,8 +217,6 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         // In the above case, the two executables depend on each other without there being a real cyclical dependency.
         Map<String, EntityDependencyNode> executablesFoundDuringWalkRef = new HashMap<>();
 
-        Flux<Executable> allExecutablesByCreatorIdFlux = getAllExecutablesByCreatorIdFlux(creatorId, creatorType);
-
         Mono<Map<String, Executable>> executableNameToExecutableMapMono = allExecutablesByCreatorIdFlux
                 .flatMapIterable(executable -> {
                     Set<String> executableNames = executable.getExecutableNames();
@@ -253,6 +349,82 @@ public class OnLoadExecutablesUtilCEImpl implements OnLoadExecutablesUtilCE {
         return createGraphMono.then(flatPageLoadExecutablesMono).then(computeCompletePageLoadExecutableScheduleMono);
     }
 
+    /**
+     * Populates the given references the same way a fresh computation would have, from a schedule computed earlier for
+     * exactly the same bindings. The DTOs are built afresh from the executables that were just fetched.
+     */
+    private List<Set<DslExecutableDTO>> replayOnLoadSchedule(
+            OnLoadSchedule onLoadSchedule,
+            List<Executable> executables,
+            Set<ExecutableDependencyEdge> edgesRef,
+            List<Executable> flatPageLoadExecutablesRef,
+            Set<String> executablesUsedInDSLRef) {
+        final Map<String, Executable> executableIdToExecutableMap = new HashMap<>();
+        executables.forEach(executable -> executableIdToExecutableMap.put(executable.getId(), executable));
+
+        edgesRef.addAll(onLoadSchedule.edges());
+        executablesUsedInDSLRef.addAll(onLoadSchedule.executablesUsedInDsl());
+        onLoadSchedule.flatOnLoadExecutableIds().stream()
+                .map(executableIdToExecutableMap::get)
+                .forEach(flatPageLoadExecutablesRef::add);
+
+        final List<Set<DslExecutableDTO>> schedule = new ArrayList<>();
+        for (Set<String> level : onLoadSchedule.scheduleExecutableIds()) {
+            schedule.add(level.stream()
+                    .map(executableId -> executableIdToExecutableMap.get(executableId).getDslExecutable())
+                    .collect(Collectors.toSet()));
+        }
+        return schedule;
+    }
+
+    /**
+     * Hashes everything that the on load schedule is computed from, i.e. the widgets and their bindings along with
+     * the bindings, names and on load settings of every executable in the creator. Any change to these, whether it
+     * comes from a layout, action or collection update, results in a different hash.
+     */
+    private String computeOnLoadScheduleContentHash(
+            String creatorId,
+            Integer evaluatedVersion,
+            Set<String> widgetNames,
+            Map<String, Set<String>> widgetDynamicBindingsMap,
+            List<Executable> executables,
+            CreatorContextType creatorType) {
+        final Map<String, Object> content = new LinkedHashMap<>();
+        content.put("creatorId", creatorId);
+        content.put("creatorType", creatorType);
+        content.put("evaluatedVersion", evaluatedVersion);
+        content.put("widgetNames", new TreeSet<>(widgetNames));
+
+        final Map<String, Set<String>> widgetBindings = new TreeMap<>();
+        widgetDynamicBindingsMap.forEach((path, bindings) -> widgetBindings.put(path, new TreeSet<>(bindings)));
+        content.put("widgetBindings", widgetBindings);
+
+        final Map<String, Object> executablesContent = new TreeMap<>();
+        for (Executable executable : executables) {
+            final Map<String, Object> executableContent = new LinkedHashMap<>();
+            executableContent.put("names", new TreeSet<>(executable.getExecutableNames()));
+            executableContent.put("type", executable.getEntityReferenceType());
+            executableContent.put("deleted", executable.getDeletedAt() != null);
+            executableContent.put("executeOnLoad", executable.getExecuteOnLoad());
+            executableContent.put("userSetOnLoad", executable.getUserSetOnLoad());
+            executableContent.put("dynamicBindingPathList", executable.getDynamicBindingPathList());
+            executableContent.put("selfReferencingDataPaths", executable.getSelfReferencingDataPaths());
+            executableContent.put("configuration", executable.getExecutableConfiguration());
+            executableContent.put("dslExecutable", executable.getDslExecutable());
+            executablesContent.put(String.valueOf(executable.getId()), executableContent);
+        }
+        content.put("executables", executablesContent);
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(content)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            // Without a hash the schedule can't be cached, so it is always computed afresh
+            log.debug("Unable to compute the on load schedule content hash for {}", creatorId, e);
+            return UUID.randomUUID().toString();
+        }
+    }
+
     @Override
     public Mono<Boolean> updateExecutablesExecuteOnLoad(
             List<Executable> onLoadExecutables,
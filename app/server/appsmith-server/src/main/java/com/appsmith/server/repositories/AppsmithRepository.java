@@ -39,4 +39,12 @@ public interface AppsmithRepository<T extends BaseDomain> {
     Mono<Void> bulkInsert(List<T> domainList);
 
     Mono<Void> bulkUpdate(List<T> domainList);
+
+    /**
+     * Saves a list of domains that all have an ID, some of which may already exist in the database. The existing IDs
+     * are fetched in a single query, the new domains are written with {@link #bulkInsert(List)} and the existing ones
+     * with {@link #bulkUpdate(List)}, so the same points apply.
+     * @param domainList List of domains that'll be saved in bulk
+     */
+    Mono<Void> bulkInsertOrUpdate(List<T> domainList);
 }
@@ -49,20 +49,28 @@ public class DryOperationRepository {
         return (AppsmithRepository<?>) repoByEntityClass.get(entityClass);
     }
 
-    public Flux<Datasource> saveDatasourceToDb(List<Datasource> datasources) {
-        return datasourceRepository.saveAll(datasources);
+    /**
+     * Datasources, custom JS libs and themes are written in bulk. Their ids have been generated when the dry operations
+     * were added, so the ones that already exist are looked up with a single query per collection.
+     */
+    public Mono<List<Datasource>> saveDatasourceToDb(List<Datasource> datasources) {
+        return datasourceRepository.bulkInsertOrUpdate(datasources).thenReturn(datasources);
     }
 
+    /**
+     * Datasource storages are saved one by one, as their authentication is encrypted when they are saved, which bulk
+     * writes would skip.
+     */
     public Flux<DatasourceStorage> saveDatasourceStorageToDb(List<DatasourceStorage> datasourceStorage) {
         return datasourceStorageRepository.saveAll(datasourceStorage);
     }
 
-    private Flux<CustomJSLib> saveCustomJSLibToDb(List<CustomJSLib> customJSLibs) {
-        return customJSLibRepository.saveAll(customJSLibs);
+    private Mono<List<CustomJSLib>> saveCustomJSLibToDb(List<CustomJSLib> customJSLibs) {
+        return customJSLibRepository.bulkInsertOrUpdate(customJSLibs).thenReturn(customJSLibs);
     }
 
-    private Flux<Theme> saveThemeToDb(List<Theme> theme) {
-        return themeRepository.saveAll(theme);
+    private Mono<List<Theme>> saveThemeToDb(List<Theme> theme) {
+        return themeRepository.bulkInsertOrUpdate(theme).thenReturn(theme);
     }
 
     private Mono<Boolean> archiveTheme(List<String> themeIds) {
@@ -93,7 +101,7 @@ public class DryOperationRepository {
                     List<Datasource> datasourceList = mappedImportableResourcesDTO
                             .getDatasourceDryRunQueries()
                             .get(key);
-                    return saveDatasourceToDb(datasourceList).collectList();
+                    return saveDatasourceToDb(datasourceList);
                 });
 
         Flux<List<DatasourceStorage>> datasourceStorageFLux = Flux.fromIterable(mappedImportableResourcesDTO
@@ -111,7 +119,7 @@ public class DryOperationRepository {
                 .flatMap(key -> {
                     List<CustomJSLib> customJSLibList =
                             mappedImportableResourcesDTO.getCustomJSLibsDryOps().get(key);
-                    return saveCustomJSLibToDb(customJSLibList).collectList();
+                    return saveCustomJSLibToDb(customJSLibList);
                 });
 
         Flux<List<Theme>> themeFlux = Flux.fromIterable(
@@ -120,7 +128,7 @@ public class DryOperationRepository {
                     List<Theme> themeList =
                             mappedImportableResourcesDTO.getThemeDryRunQueries().get(key);
                     if (key.equals(DBOpsType.SAVE.name())) {
-                        return saveThemeToDb(themeList).collectList();
+                        return saveThemeToDb(themeList);
                     } else if (key.equals(DBOpsType.DELETE.name())) {
                         return archiveTheme(themeList.stream().map(Theme::getId).toList())
                                 .then(Mono.just(themeList));
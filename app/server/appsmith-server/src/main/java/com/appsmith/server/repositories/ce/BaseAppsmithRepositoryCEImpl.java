@@ -12,6 +12,10 @@ import com.appsmith.server.helpers.ce.bridge.BridgeQuery;
 import com.appsmith.server.helpers.ce.bridge.BridgeUpdate;
 import com.appsmith.server.repositories.CacheableRepositoryHelper;
 import com.appsmith.server.repositories.ce.params.QueryAllParams;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 import lombok.NonNull;
@@ -20,8 +24,10 @@ import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.annotation.Transient;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
@@ -87,6 +93,8 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
 
     public static final int NO_SKIP = 0;
 
+    public static final int BULK_WRITE_BATCH_SIZE = 1000;
+
     @SuppressWarnings("unchecked")
     public BaseAppsmithRepositoryCEImpl() {
         this.genericDomain =
@@ -522,49 +530,121 @@ public abstract class BaseAppsmithRepositoryCEImpl<T extends BaseDomain> {
         });
     }
 
+    /**
+     * Inserts the domains in batches of {@link #BULK_WRITE_BATCH_SIZE}, one insertMany per batch. The batches are
+     * unordered, so that the server can apply the writes of a batch in parallel. Auditing does not apply to bulk
+     * writes, so the audit fields are populated with {@link BaseDomain#updateForBulkWriteOperation()}.
+     */
     public Mono<Void> bulkInsert(List<T> domainList) {
         if (CollectionUtils.isEmpty(domainList)) {
             return Mono.empty();
         }
 
-        // convert the list of domains to a list of DBObjects
-        List<Document> dbObjects = domainList.stream()
-                .map(domain -> {
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(domain, document);
-                    return document;
-                })
-                .collect(Collectors.toList());
-
         return mongoOperations
                 .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
-                .collectList()
+                .flatMapMany(documentMongoCollection -> Flux.fromIterable(domainList)
+                        .buffer(BULK_WRITE_BATCH_SIZE)
+                        .concatMap(domains -> {
+                            // convert the list of domains to a list of DBObjects
+                            List<Document> dbObjects = domains.stream()
+                                    .map(domain -> {
+                                        domain.updateForBulkWriteOperation();
+                                        Document document = new Document();
+                                        mongoOperations.getConverter().write(domain, document);
+                                        return document;
+                                    })
+                                    .collect(Collectors.toList());
+                            return documentMongoCollection.insertMany(
+                                    dbObjects, new InsertManyOptions().ordered(false));
+                        }))
                 .then();
     }
 
+    /**
+     * Updates the domains in batches of {@link #BULK_WRITE_BATCH_SIZE}, one bulkWrite per batch, by setting all the
+     * fields of each domain and unsetting the ones that are null, which leaves the documents as saving the domains
+     * would. The batches are unordered, and the audit fields are populated, like the ones of {@link #bulkInsert(List)}.
+     */
     public Mono<Void> bulkUpdate(List<T> domainObjects) {
         if (CollectionUtils.isEmpty(domainObjects)) {
             return Mono.empty();
         }
 
-        // convert the list of new actions to a list of DBObjects
-        List<WriteModel<Document>> dbObjects = domainObjects.stream()
-                .map(actionCollection -> {
-                    assert actionCollection.getId() != null;
-                    Document document = new Document();
-                    mongoOperations.getConverter().write(actionCollection, document);
-                    document.remove("_id");
-                    return (WriteModel<Document>) new UpdateOneModel<Document>(
-                            new Document("_id", new ObjectId(actionCollection.getId())),
-                            new Document("$set", document));
+        return mongoOperations
+                .getCollection(mongoOperations.getCollectionName(genericDomain))
+                .flatMapMany(documentMongoCollection -> Flux.fromIterable(domainObjects)
+                        .buffer(BULK_WRITE_BATCH_SIZE)
+                        .concatMap(domains -> {
+                            // convert the list of domains to a list of DBObjects
+                            List<WriteModel<Document>> dbObjects = domains.stream()
+                                    .map(domain -> {
+                                        assert domain.getId() != null;
+                                        domain.updateForBulkWriteOperation();
+                                        Document document = new Document();
+                                        mongoOperations.getConverter().write(domain, document);
+                                        document.remove("_id");
+                                        Document update = new Document("$set", document);
+                                        Document nullFields = getNullFields(domain, document);
+                                        if (!nullFields.isEmpty()) {
+                                            update.append("$unset", nullFields);
+                                        }
+                                        return (WriteModel<Document>) new UpdateOneModel<Document>(
+                                                new Document("_id", new ObjectId(domain.getId())), update);
+                                    })
+                                    .collect(Collectors.toList());
+                            return documentMongoCollection.bulkWrite(
+                                    dbObjects, new BulkWriteOptions().ordered(false));
+                        }))
+                .then();
+    }
+
+    /**
+     * The converter leaves out the fields of the domain that are null, which have to be unset explicitly to be cleared.
+     */
+    private Document getNullFields(T domain, Document document) {
+        Document nullFields = new Document();
+        mongoOperations
+                .getConverter()
+                .getMappingContext()
+                .getRequiredPersistentEntity(domain.getClass())
+                .doWithProperties((PropertyHandler<MongoPersistentProperty>) property -> {
+                    if (!property.isIdProperty() && !document.containsKey(property.getFieldName())) {
+                        nullFields.append(property.getFieldName(), "");
+                    }
+                });
+        return nullFields;
+    }
+
+    /**
+     * Writes domains that may or may not exist in the database yet, e.g. the ones that an import prepared in dry
+     * operations. The ids that already exist are fetched with a single query, including the ones of deleted
+     * documents, after which the new domains are written with {@link #bulkInsert(List)} and the existing ones with
+     * {@link #bulkUpdate(List)}. All the domains must have an id.
+     */
+    public Mono<Void> bulkInsertOrUpdate(List<T> domainList) {
+        if (CollectionUtils.isEmpty(domainList)) {
+            return Mono.empty();
+        }
+
+        List<ObjectId> ids = domainList.stream()
+                .map(domain -> {
+                    assert domain.getId() != null;
+                    return new ObjectId(domain.getId());
                 })
+                .distinct()
                 .collect(Collectors.toList());
 
         return mongoOperations
                 .getCollection(mongoOperations.getCollectionName(genericDomain))
-                .flatMapMany(documentMongoCollection -> documentMongoCollection.bulkWrite(dbObjects))
-                .collectList()
-                .then();
+                .flatMapMany(documentMongoCollection -> documentMongoCollection
+                        .find(Filters.in("_id", ids))
+                        .projection(Projections.include("_id")))
+                .map(document -> document.getObjectId("_id").toString())
+                .collect(Collectors.toSet())
+                .flatMap(existingIds -> {
+                    Map<Boolean, List<T>> domainsByExistence = domainList.stream()
+                            .collect(Collectors.partitioningBy(domain -> existingIds.contains(domain.getId())));
+                    return bulkInsert(domainsByExistence.get(false)).then(bulkUpdate(domainsByExistence.get(true)));
+                });
     }
 }
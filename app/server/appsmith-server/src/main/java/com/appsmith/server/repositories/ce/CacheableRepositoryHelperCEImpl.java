@@ -45,7 +45,11 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     private final ObservationRegistry observationRegistry;
     private static final String CACHE_DEFAULT_PAGE_ID_TO_DEFAULT_APPLICATION_ID = "pageIdToAppId";
 
-    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}")
+    @Cache(
+            cacheName = "permissionGroupsForUser",
+            key = "{#user.email + #user.tenantId}",
+            localMaxSize = 10_000,
+            localTtlSeconds = 60)
     @Override
     public Mono<Set<String>> getPermissionGroupsOfUser(User user) {
 
@@ -173,10 +177,11 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
     /**
      * Returns the default tenant from the cache if present.
      * If not present in cache, then it fetches the default tenant from the database and adds to redis.
+     * The tenant is read by almost every request, so it is reloaded in the background before it expires from memory.
      * @param tenantId
      * @return
      */
-    @Cache(cacheName = "tenant", key = "{#tenantId}")
+    @Cache(cacheName = "tenant", key = "{#tenantId}", localMaxSize = 100, localTtlSeconds = 60, refreshAhead = true)
     @Override
     public Mono<Tenant> fetchDefaultTenant(String tenantId) {
         BridgeQuery<Tenant> defaultTenantCriteria = Bridge.equal(Tenant.Fields.slug, FieldName.DEFAULT);
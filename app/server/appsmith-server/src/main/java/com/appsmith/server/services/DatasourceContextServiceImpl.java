@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.helpers.PluginExecutorHelper;
@@ -20,7 +21,8 @@ public class DatasourceContextServiceImpl extends DatasourceContextServiceCEImpl
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            CommonConfig commonConfig) {
 
         super(
                 datasourceService,
@@ -28,6 +30,7 @@ public class DatasourceContextServiceImpl extends DatasourceContextServiceCEImpl
                 pluginService,
                 pluginExecutorHelper,
                 configService,
-                datasourcePermission);
+                datasourcePermission,
+                commonConfig);
     }
 }
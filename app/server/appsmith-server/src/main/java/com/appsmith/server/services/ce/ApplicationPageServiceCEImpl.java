@@ -64,6 +64,8 @@ import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
 import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.reactive.TransactionalOperator;
@@ -83,6 +85,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.spans.ce.PageSpanCE.FETCH_PAGES_BY_APP_ID_DB;
@@ -131,6 +134,9 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final ObservationRegistry observationRegistry;
     private final CacheableRepositoryHelper cacheableRepositoryHelper;
 
+    // Migrations of page DSLs that are in progress, keyed by the page, the mode and the version of its DSL
+    private final Map<String, Mono<String>> pageDslMigrations = new ConcurrentHashMap<>();
+
     @Override
     public Mono<PageDTO> createPage(PageDTO page) {
         if (page.getId() != null) {
@@ -344,33 +350,64 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                     JSONObject layoutDsl = layout.getDsl();
                     boolean isMigrationRequired = GitUtils.isMigrationRequired(layoutDsl, latestDslVersion);
                     if (isMigrationRequired) {
-                        return dslMigrationUtils
-                                .migratePageDsl(layoutDsl)
-                                .onErrorMap(throwable -> {
-                                    log.error("Error while migrating DSL ", throwable);
-                                    return new AppsmithException(
-                                            AppsmithError.RTS_SERVER_ERROR,
-                                            "Error while migrating to latest DSL version");
-                                })
-                                .flatMap(migratedDsl -> {
+                        // Viewers of the same version of a page share one migration and one save, and each of them
+                        // gets its own copy of the migrated dsl
+                        String migrationKey = String.join(
+                                ":",
+                                newPage.getId(),
+                                String.valueOf(viewMode),
+                                String.valueOf(latestDslVersion),
+                                dslMigrationUtils.getDslHash(layoutDsl));
+                        return pageDslMigrations
+                                .computeIfAbsent(
+                                        migrationKey,
+                                        key -> migrateAndSavePageDsl(newPage, layoutDsl, viewMode)
+                                                .doFinally(signalType -> pageDslMigrations.remove(key))
+                                                .cache())
+                                .flatMap(ApplicationPageServiceCEImpl::parseDsl)
+                                .map(migratedDsl -> {
                                     // update the current page DTO with migrated dsl
                                     page.getLayouts().get(0).setDsl(migratedDsl);
-
-                                    // update the new page with migrated dsl and save to the database
-                                    PageDTO updatedPage;
-                                    if (viewMode) {
-                                        updatedPage = newPage.getPublishedPage();
-                                    } else {
-                                        updatedPage = newPage.getUnpublishedPage();
-                                    }
-                                    updatedPage.getLayouts().get(0).setDsl(migratedDsl);
-                                    return newPageService.save(newPage).thenReturn(page);
+                                    return page;
                                 });
                     }
                     return Mono.just(page);
                 });
     }
 
+    /**
+     * @return the migrated dsl as a string, the dsl that is saved with the page is not shared with anyone else
+     */
+    private Mono<String> migrateAndSavePageDsl(NewPage newPage, JSONObject layoutDsl, boolean viewMode) {
+        return dslMigrationUtils
+                .migratePageDsl(layoutDsl)
+                .onErrorMap(throwable -> {
+                    log.error("Error while migrating DSL ", throwable);
+                    return new AppsmithException(
+                            AppsmithError.RTS_SERVER_ERROR, "Error while migrating to latest DSL version");
+                })
+                .flatMap(migratedDsl -> {
+                    // update the new page with migrated dsl and save to the database
+                    PageDTO updatedPage;
+                    if (viewMode) {
+                        updatedPage = newPage.getPublishedPage();
+                    } else {
+                        updatedPage = newPage.getUnpublishedPage();
+                    }
+                    updatedPage.getLayouts().get(0).setDsl(migratedDsl);
+                    String migratedDslString = migratedDsl.toJSONString();
+                    return newPageService.save(newPage).thenReturn(migratedDslString);
+                });
+    }
+
+    private static Mono<JSONObject> parseDsl(String dsl) {
+        try {
+            return Mono.just((JSONObject) new JSONParser(JSONParser.MODE_PERMISSIVE).parse(dsl));
+        } catch (ParseException e) {
+            return Mono.error(e);
+        }
+    }
+
     @Override
     public Mono<Application> makePageDefault(PageDTO page) {
         return makePageDefault(page.getApplicationId(), page.getId());
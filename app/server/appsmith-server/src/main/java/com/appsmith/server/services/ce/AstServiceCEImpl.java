@@ -8,6 +8,9 @@ import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.helpers.RTSCaller;
 import com.appsmith.util.WebClientUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,19 +19,29 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
+import reactor.util.context.ContextView;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -53,6 +66,50 @@ public class AstServiceCEImpl implements AstServiceCE {
 
     private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
 
+    // Lookups that arrive within this window of each other are sent to RTS in a single call
+    private static final long BATCH_WINDOW_IN_MS = 5;
+
+    private static final int MAX_BATCH_SIZE = 200;
+
+    private static final int MAX_CACHED_BINDINGS = 10_000;
+
+    /**
+     * The references of a binding only depend on the binding itself and the evaluation version, so they are memoized
+     * across requests. This saves RTS from parsing the same bindings again on every layout update and refactor.
+     */
+    private final Map<BindingKey, Set<String>> referencesCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<BindingKey, Set<String>> eldest) {
+            return size() > MAX_CACHED_BINDINGS;
+        }
+    };
+
+    private final Map<BindingKey, Mono<Set<String>>> inFlightLookups = new ConcurrentHashMap<>();
+
+    // Lookups that are waiting for the current batch window to close, grouped by evaluation version
+    private final Map<Integer, List<PendingLookup>> pendingLookups = new HashMap<>();
+
+    private final Counter cacheHitCounter = Counter.builder("appsmith.rts.ast.references.cache")
+            .tag("result", "hit")
+            .description("Binding lookups that were served from the memo")
+            .register(Metrics.globalRegistry);
+
+    private final Counter cacheMissCounter = Counter.builder("appsmith.rts.ast.references.cache")
+            .tag("result", "miss")
+            .description("Binding lookups that had to be sent to RTS")
+            .register(Metrics.globalRegistry);
+
+    private final DistributionSummary batchSizeSummary = DistributionSummary.builder(
+                    "appsmith.rts.ast.references.batch.size")
+            .description("Number of bindings sent to RTS in a single call")
+            .publishPercentileHistogram()
+            .register(Metrics.globalRegistry);
+
+    private record BindingKey(String binding, int evalVersion) {}
+
+    // Context of the caller that asked for the lookup, a batch is sent with the context of its first lookup
+    private record PendingLookup(BindingKey key, Sinks.One<Set<String>> sink, ContextView context) {}
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> replaceValueInMustacheKeys(
             Set<MustacheBindingToken> mustacheKeySet,
@@ -116,21 +173,130 @@ public class AstServiceCEImpl implements AstServiceCE {
                         Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
             });
         }
-        return rtsCaller
-                .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(bindingValues, evalVersion))
-                .flatMapMany(spec -> spec.retrieve()
-                        .bodyToMono(GetIdentifiersResponseBulk.class)
-                        .retryWhen(Retry.max(3))
-                        .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
-                        .index())
-                .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
-                    Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
+        return Flux.fromIterable(bindingValues)
+                .flatMapSequential(bindingValue -> getReferences(new BindingKey(bindingValue, evalVersion))
+                        .map(references -> Tuples.<String, Set<String>>of(bindingValue, new HashSet<>(references))));
         // TODO: add error handling scenario for when RTS is not accessible in fat container
     }
 
+    /**
+     * Serves the references of a binding from the memo when possible. Otherwise, the binding is queued for the next
+     * batch that is sent to RTS, unless a lookup for the very same binding is already on its way.
+     */
+    private Mono<Set<String>> getReferences(BindingKey key) {
+        return Mono.deferContextual(context -> {
+            final Set<String> cachedReferences;
+            synchronized (referencesCache) {
+                cachedReferences = referencesCache.get(key);
+            }
+
+            if (cachedReferences != null) {
+                cacheHitCounter.increment();
+                return Mono.just(cachedReferences);
+            }
+
+            cacheMissCounter.increment();
+            return inFlightLookups.computeIfAbsent(key, lookupKey -> enqueueLookup(lookupKey, context));
+        });
+    }
+
+    private Mono<Set<String>> enqueueLookup(BindingKey key, ContextView context) {
+        final Sinks.One<Set<String>> sink = Sinks.one();
+        final int evalVersion = key.evalVersion();
+
+        final List<PendingLookup> fullBatch;
+        final boolean isFirstInBatch;
+        synchronized (pendingLookups) {
+            final List<PendingLookup> batch = pendingLookups.computeIfAbsent(evalVersion, v -> new ArrayList<>());
+            isFirstInBatch = batch.isEmpty();
+            batch.add(new PendingLookup(key, sink, context));
+            fullBatch = batch.size() >= MAX_BATCH_SIZE ? pendingLookups.remove(evalVersion) : null;
+        }
+
+        // Batches are always sent from a different thread, so that a failing call can never complete the lookup
+        // while it is still being registered
+        if (fullBatch != null) {
+            Schedulers.parallel().schedule(() -> sendBatch(evalVersion, fullBatch));
+        } else if (isFirstInBatch) {
+            Schedulers.parallel()
+                    .schedule(() -> flushPendingLookups(evalVersion), BATCH_WINDOW_IN_MS, TimeUnit.MILLISECONDS);
+        }
+
+        return sink.asMono();
+    }
+
+    private void flushPendingLookups(int evalVersion) {
+        final List<PendingLookup> batch;
+        synchronized (pendingLookups) {
+            batch = pendingLookups.remove(evalVersion);
+        }
+
+        if (batch != null && !batch.isEmpty()) {
+            sendBatch(evalVersion, batch);
+        }
+    }
+
+    private void sendBatch(int evalVersion, List<PendingLookup> batch) {
+        batchSizeSummary.record(batch.size());
+
+        final List<String> scripts = batch.stream().map(lookup -> lookup.key().binding()).toList();
+
+        rtsCaller
+                .post("/rts-api/v1/ast/multiple-script-data", new GetIdentifiersRequestBulk(scripts, evalVersion))
+                .flatMap(spec -> spec.retrieve()
+                        .bodyToMono(GetIdentifiersResponseBulk.class)
+                        .retryWhen(Retry.max(3)))
+                // An empty response completes the batch the same way as a response without any data, and only once
+                .defaultIfEmpty(new GetIdentifiersResponseBulk())
+                // The batch is sent on behalf of all of its lookups, with the context of the one that opened it
+                .contextWrite(batch.get(0).context())
+                .subscribe(
+                        response -> completeBatch(batch, response.getData()),
+                        error -> failBatch(evalVersion, batch, error));
+    }
+
+    /**
+     * RTS answers with an error for the whole batch when it fails on any one of its bindings. Such a batch is split in
+     * halves that are sent again, so that the error only reaches the callers of the bindings that RTS failed on. Other
+     * errors, e.g. when RTS is not reachable, are not caused by any one binding and fail the whole batch.
+     */
+    private void failBatch(int evalVersion, List<PendingLookup> batch, Throwable error) {
+        final Throwable cause = Exceptions.isRetryExhausted(error) ? error.getCause() : error;
+        if (batch.size() > 1 && cause instanceof WebClientResponseException) {
+            final int half = batch.size() / 2;
+            sendBatch(evalVersion, batch.subList(0, half));
+            sendBatch(evalVersion, batch.subList(half, batch.size()));
+            return;
+        }
+
+        for (PendingLookup lookup : batch) {
+            inFlightLookups.remove(lookup.key());
+            lookup.sink().tryEmitError(error);
+        }
+    }
+
+    private void completeBatch(List<PendingLookup> batch, List<GetIdentifiersResponseDetails> data) {
+        for (int i = 0; i < batch.size(); i++) {
+            final PendingLookup lookup = batch.get(i);
+            final Set<String> references = data == null || i >= data.size() || data.get(i) == null
+                    ? null
+                    : data.get(i).getReferences();
+
+            if (references != null) {
+                final Set<String> memoizedReferences = Set.copyOf(references);
+                synchronized (referencesCache) {
+                    referencesCache.put(lookup.key(), memoizedReferences);
+                }
+                inFlightLookups.remove(lookup.key());
+                lookup.sink().tryEmitValue(memoizedReferences);
+            } else {
+                // Same as before, bindings that RTS did not return any data for are left out of the result
+                inFlightLookups.remove(lookup.key());
+                lookup.sink().tryEmitEmpty();
+            }
+        }
+    }
+
     @Override
     public Mono<Map<MustacheBindingToken, String>> refactorNameInDynamicBindings(
             Set<MustacheBindingToken> bindingValues,
@@ -28,6 +28,15 @@ public interface DatasourceContextServiceCE {
 
     <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task);
 
+    /**
+     * Marks the datasource context of the given datasource storage as in use for as long as the task runs, so that its
+     * connection is not closed for being idle or least recently used while the task is still using it.
+     * @param datasourceStorage
+     * @param task - the task that gets the datasource context and uses it
+     * @return the task, which marks the context as in use on subscription and releases it when it terminates
+     */
+    <T> Mono<T> keepDatasourceContextInUse(DatasourceStorage datasourceStorage, Mono<T> task);
+
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
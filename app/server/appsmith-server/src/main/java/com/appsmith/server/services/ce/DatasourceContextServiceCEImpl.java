@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -20,14 +21,20 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -36,7 +43,6 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
 
     // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
     protected final Map<DatasourceContextIdentifier, Mono<DatasourceContext<Object>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
     protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
@@ -44,6 +50,38 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     private final PluginExecutorHelper pluginExecutorHelper;
     private final ConfigService configService;
     private final DatasourcePermission datasourcePermission;
+    private final CommonConfig commonConfig;
+
+    // Plugin executor and last use of every cached datasource context, used to close the ones that are idle or least
+    // recently used
+    protected final Map<DatasourceContextIdentifier, DatasourceContextUsage> datasourceContextUsageMap =
+            new ConcurrentHashMap<>();
+
+    // Number of executions that are currently using each datasource context, which must not be closed under them
+    protected final Map<DatasourceContextIdentifier, Integer> datasourceContextUseCountMap = new ConcurrentHashMap<>();
+
+    private final Set<String> pluginTypesWithGauge = ConcurrentHashMap.newKeySet();
+
+    private static final String CONTEXT_EVICTION_REASON_IDLE = "idle";
+
+    private static final String CONTEXT_EVICTION_REASON_CAPACITY = "capacity";
+
+    private static final String UNKNOWN_PLUGIN_TYPE = "unknown";
+
+    protected static final class DatasourceContextUsage {
+        private final PluginExecutor<Object> pluginExecutor;
+        private final String pluginType;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+
+        DatasourceContextUsage(PluginExecutor<Object> pluginExecutor, String pluginType) {
+            this.pluginExecutor = pluginExecutor;
+            this.pluginType = pluginType;
+        }
+
+        void touch() {
+            lastUsedAt = System.currentTimeMillis();
+        }
+    }
 
     private final AppsmithException TOO_MANY_REQUESTS_EXCEPTION =
             new AppsmithException(AppsmithError.TOO_MANY_FAILED_DATASOURCE_CONNECTION_REQUESTS);
@@ -55,32 +93,35 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            CommonConfig commonConfig) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.datasourceContextMap = new ConcurrentHashMap<>();
         this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        this.commonConfig = commonConfig;
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
+     * Returns the cached publisher of the datasource context for the given identifier, creating it if needed. The
+     * publisher caches its result, so that concurrent subscriptions re-use the same connection instead of each creating
+     * one. Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
      * resulted in a data race condition resulting in multiple orphan connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     *
+     * When a valid context is already cached, it is returned on the calling thread without taking any lock. Otherwise,
+     * the context is created or replaced atomically per identifier, using compute on the datasourceContextMonoMap, so
+     * that competing threads on the same datasource create only one context between them, while threads on different
+     * datasources never block each other. A stale context or one in error state is detached from the maps by exactly
+     * one thread, which is then the only one to destroy its connection.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param plugin
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
      * @param datasourceContextIdentifier - key for the datasourceContextMaps.
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
@@ -89,89 +130,255 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             DatasourceStorage datasourceStorage,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
 
-        return Mono.fromCallable(() -> {
-                    synchronized (monitor) {
-                        /* Destroy any connection that is stale or in error state to free up resource */
-                        final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-                        final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-                        if (isStale || isInErrorState) {
-                            final Object connection = datasourceContextMap
-                                    .get(datasourceContextIdentifier)
-                                    .getConnection();
-                            if (connection != null) {
-                                try {
-                                    // Basically remove entry from both cache maps
-                                    pluginExecutor.datasourceDestroy(connection);
-                                } catch (Exception e) {
-                                    log.info(
-                                            Thread.currentThread().getName()
-                                                    + ": Error destroying stale datasource connection",
-                                            e);
-                                }
-                            }
-                            datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                            datasourceContextMap.remove(datasourceContextIdentifier);
-                        }
-
-                        /*
-                         * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-                         * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-                         * value would directly be returned to further evaluations / subscriptions.
-                         */
-                        if (datasourceContextIdentifier.getDatasourceId() != null
-                                && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                            log.debug(
-                                    Thread.currentThread().getName()
-                                            + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
-                                    datasourceContextIdentifier.getDatasourceId(),
-                                    datasourceContextIdentifier.getEnvironmentId());
-                            return datasourceContextMonoMap.get(datasourceContextIdentifier);
-                        }
-
-                        /* Create a fresh datasource context */
-                        DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                            /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                            the new connection in the context map. */
-                            datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-                        }
-
-                        Mono<Object> connectionMonoCache = pluginExecutor
-                                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                                .cache();
-
-                        Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                                .flatMap(connection ->
-                                        updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                                .map(connection -> {
-                                    /* When a connection object exists and makes sense for the plugin, we put it in the
-                                    context. Example, DB plugins. */
-                                    datasourceContext.setConnection(connection);
-                                    return datasourceContext;
-                                })
-                                .defaultIfEmpty(
-                                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                                        and we just return the context object as is. */
-                                        datasourceContext)
-                                .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-                        if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                            datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
-                        }
+        return Mono.defer(() -> {
+            final Mono<DatasourceContext<Object>> cachedDatasourceContextMono =
+                    datasourceContextMonoMap.get(datasourceContextIdentifier);
+            if (isReusable(datasourceStorage, datasourceContextIdentifier, cachedDatasourceContextMono)) {
+                touchDatasourceContext(datasourceContextIdentifier);
+                return cachedDatasourceContextMono;
+            }
+
+            // Creating a connection may block in some plugins, and destroying a stale one often does
+            return Mono.fromCallable(() -> getOrReplaceDatasourceContextMono(
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier))
+                    .flatMap(obj -> obj)
+                    .subscribeOn(Schedulers.boundedElastic());
+        });
+    }
+
+    private Mono<DatasourceContext<Object>> getOrReplaceDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContextIdentifier datasourceContextIdentifier) {
+
+        if (!datasourceContextIdentifier.isKeyValid() || !shouldCacheContextForThisPlugin(plugin)) {
+            return createDatasourceContextMono(datasourceStorage, pluginExecutor, new DatasourceContext<>());
+        }
+
+        final DatasourceContext<?>[] replacedDatasourceContext = new DatasourceContext<?>[1];
+        final Mono<DatasourceContext<Object>> datasourceContextMono =
+                datasourceContextMonoMap.compute(datasourceContextIdentifier, (identifier, existing) -> {
+                    /*
+                     * Another thread may have created the context while this one was waiting. Please note that even if
+                     * this publisher is evaluated multiple times the actual datasource creation will only happen once
+                     * and get cached and the same value would directly be returned to further evaluations.
+                     */
+                    if (isReusable(datasourceStorage, identifier, existing)) {
                         log.debug(
                                 Thread.currentThread().getName()
-                                        + ": Cached new datasource context for datasource id {}, environment id {}",
-                                datasourceContextIdentifier.getDatasourceId(),
-                                datasourceContextIdentifier.getEnvironmentId());
-                        return datasourceContextMonoCache;
+                                        + ": Cached resource context mono exists for datasource id {}, environment id {}. Returning the same.",
+                                identifier.getDatasourceId(),
+                                identifier.getEnvironmentId());
+                        touchDatasourceContext(identifier);
+                        return existing;
                     }
+
+                    /* For this datasource, either the context doesn't exist, or the context is stale or in error
+                    state. Replace (or add) with the new connection in the context map. */
+                    replacedDatasourceContext[0] = detachDatasourceContext(identifier);
+
+                    DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+                    datasourceContextMap.put(identifier, datasourceContext);
+                    registerDatasourceContext(identifier, plugin, pluginExecutor);
+                    log.debug(
+                            Thread.currentThread().getName()
+                                    + ": Cached new datasource context for datasource id {}, environment id {}",
+                            identifier.getDatasourceId(),
+                            identifier.getEnvironmentId());
+                    return createDatasourceContextMono(datasourceStorage, pluginExecutor, datasourceContext);
+                });
+
+        /* Destroy the connection that was stale or in error state to free up resource, outside the compute so that
+        other threads are not held up by it */
+        if (replacedDatasourceContext[0] != null && replacedDatasourceContext[0].getConnection() != null) {
+            try {
+                pluginExecutor.datasourceDestroy(replacedDatasourceContext[0].getConnection());
+            } catch (Exception e) {
+                log.info(Thread.currentThread().getName() + ": Error destroying stale datasource connection", e);
+            }
+        }
+
+        return datasourceContextMono;
+    }
+
+    private Mono<DatasourceContext<Object>> createDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContext<Object> datasourceContext) {
+        // Some plugins set up the connection while building the publisher, so that is deferred to the subscription, and
+        // not done within the compute that caches this context
+        Mono<Object> connectionMonoCache = Mono.defer(
+                        () -> pluginExecutor.datasourceCreate(datasourceStorage.getDatasourceConfiguration()))
+                .cache();
+
+        return connectionMonoCache
+                .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                .map(connection -> {
+                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                    context. Example, DB plugins. */
+                    datasourceContext.setConnection(connection);
+                    return datasourceContext;
                 })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+                .defaultIfEmpty(
+                        /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                        and we just return the context object as is. */
+                        datasourceContext)
+                .doOnError(error -> datasourceContext.setInErrorState(true))
+                .cache(); /* Cache the value so that further evaluations don't result in new connections */
+    }
+
+    private boolean isReusable(
+            DatasourceStorage datasourceStorage,
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            Mono<DatasourceContext<Object>> datasourceContextMono) {
+        return datasourceContextMono != null
+                && datasourceContextIdentifier.getDatasourceId() != null
+                && !getIsStale(datasourceStorage, datasourceContextIdentifier)
+                && !getIsInErrorState(datasourceContextIdentifier);
+    }
+
+    /**
+     * Removes the datasource context from the cache maps other than the datasourceContextMonoMap. This must only be
+     * called from within a compute on the datasourceContextMonoMap for the same identifier, so that a context is
+     * detached by exactly one thread, which then owns the destruction of its connection.
+     *
+     * @return the detached datasource context, or null if there was none
+     */
+    private DatasourceContext<?> detachDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier) {
+        datasourceContextUsageMap.remove(datasourceContextIdentifier);
+        return datasourceContextMap.remove(datasourceContextIdentifier);
+    }
+
+    private boolean isDatasourceContextInUse(DatasourceContextIdentifier datasourceContextIdentifier) {
+        return datasourceContextUseCountMap.containsKey(datasourceContextIdentifier);
+    }
+
+    private void releaseDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier) {
+        datasourceContextUseCountMap.computeIfPresent(
+                datasourceContextIdentifier, (identifier, useCount) -> useCount > 1 ? useCount - 1 : null);
+        // Idle time is counted from when the last execution finished, and not from when it started
+        touchDatasourceContext(datasourceContextIdentifier);
+    }
+
+    private void touchDatasourceContext(DatasourceContextIdentifier datasourceContextIdentifier) {
+        DatasourceContextUsage usage = datasourceContextUsageMap.get(datasourceContextIdentifier);
+        if (usage != null) {
+            usage.touch();
+        }
+    }
+
+    /**
+     * Starts tracking the usage of a newly cached datasource context, and closes the least recently used contexts if
+     * there are more open contexts than allowed.
+     */
+    private void registerDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            Plugin plugin,
+            PluginExecutor<Object> pluginExecutor) {
+        String pluginType = plugin.getPackageName() == null ? UNKNOWN_PLUGIN_TYPE : plugin.getPackageName();
+        datasourceContextUsageMap.put(
+                datasourceContextIdentifier, new DatasourceContextUsage(pluginExecutor, pluginType));
+
+        if (pluginTypesWithGauge.add(pluginType)) {
+            Gauge.builder("appsmith.datasource.contexts.open", () -> countOpenDatasourceContexts(pluginType))
+                    .description("Number of datasource contexts that are cached and open")
+                    .tag("pluginType", pluginType)
+                    .register(Metrics.globalRegistry);
+        }
+        Metrics.counter("appsmith.datasource.contexts.created", "pluginType", pluginType).increment();
+
+        if (datasourceContextUsageMap.size() > commonConfig.getDatasourceContextMaxCount()) {
+            // This runs within the compute that caches the new context, and eviction computes other entries of the
+            // same map, which a compute must never do, so it is done on another thread
+            Schedulers.boundedElastic().schedule(() -> evictExcessDatasourceContexts(datasourceContextIdentifier));
+        }
+    }
+
+    private void evictExcessDatasourceContexts(DatasourceContextIdentifier newDatasourceContextIdentifier) {
+        int excessContexts = datasourceContextUsageMap.size() - commonConfig.getDatasourceContextMaxCount();
+        if (excessContexts > 0) {
+            datasourceContextUsageMap.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(newDatasourceContextIdentifier))
+                    .filter(entry -> !isDatasourceContextInUse(entry.getKey()))
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsedAt))
+                    .limit(excessContexts)
+                    .map(Map.Entry::getKey)
+                    .toList()
+                    .forEach(identifier ->
+                            evictDatasourceContext(identifier, Long.MAX_VALUE, CONTEXT_EVICTION_REASON_CAPACITY));
+        }
+    }
+
+    private long countOpenDatasourceContexts(String pluginType) {
+        return datasourceContextUsageMap.values().stream()
+                .filter(usage -> pluginType.equals(usage.pluginType))
+                .count();
+    }
+
+    /**
+     * Closes the cached datasource contexts that have not been used for longer than the configured idle timeout, and
+     * that no execution is using right now.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        long idleSince = System.currentTimeMillis()
+                - Duration.ofMinutes(commonConfig.getDatasourceContextIdleTimeoutMinutes())
+                        .toMillis();
+
+        datasourceContextUsageMap.entrySet().stream()
+                .filter(entry -> entry.getValue().lastUsedAt < idleSince)
+                .filter(entry -> !isDatasourceContextInUse(entry.getKey()))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(identifier -> evictDatasourceContext(identifier, idleSince, CONTEXT_EVICTION_REASON_IDLE));
+    }
+
+    /**
+     * Removes the datasource context from the cache maps and destroys its connection, unless it has been used since
+     * the given time or is being used right now.
+     */
+    protected void evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier, long unusedSince, String reason) {
+        final DatasourceContextUsage[] evictedUsage = new DatasourceContextUsage[1];
+        final DatasourceContext<?>[] evictedDatasourceContext = new DatasourceContext<?>[1];
+        datasourceContextMonoMap.computeIfPresent(datasourceContextIdentifier, (identifier, existing) -> {
+            DatasourceContextUsage usage = datasourceContextUsageMap.get(identifier);
+            if (usage == null || usage.lastUsedAt >= unusedSince || isDatasourceContextInUse(identifier)) {
+                return existing;
+            }
+            evictedUsage[0] = usage;
+            evictedDatasourceContext[0] = detachDatasourceContext(identifier);
+            return null;
+        });
+
+        final DatasourceContextUsage usage = evictedUsage[0];
+        if (usage == null) {
+            return;
+        }
+        final DatasourceContext<?> datasourceContext = evictedDatasourceContext[0];
+
+        log.debug(
+                "Evicting datasource context for datasource id {}, environment id {}, reason: {}",
+                datasourceContextIdentifier.getDatasourceId(),
+                datasourceContextIdentifier.getEnvironmentId(),
+                reason);
+        Metrics.counter("appsmith.datasource.contexts.evicted", "pluginType", usage.pluginType, "reason", reason)
+                .increment();
+
+        if (datasourceContext != null && datasourceContext.getConnection() != null) {
+            Object connection = datasourceContext.getConnection();
+            // Closing pools may block, so it is kept off the thread that triggered the eviction
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    usage.pluginExecutor.datasourceDestroy(connection);
+                } catch (Exception e) {
+                    log.info("Error destroying evicted datasource connection", e);
+                }
+            });
+        }
     }
 
     /**
@@ -212,49 +419,9 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     Plugin plugin = tuple2.getT1();
                     PluginExecutor<Object> pluginExecutor = tuple2.getT2();
 
-                    return getDatasourceContextMono(
-                            datasourceStorage, datasourceContextIdentifier, plugin, pluginExecutor);
-                });
-    }
-
-    private Mono<DatasourceContext<Object>> getDatasourceContextMono(
-            DatasourceStorage datasourceStorage,
-            DatasourceContextIdentifier datasourceContextIdentifier,
-            Plugin plugin,
-            PluginExecutor<Object> pluginExecutor) {
-
-        return Mono.fromCallable(() -> {
-
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                log.debug(
-                                        Thread.currentThread().getName()
-                                                + ": Creating monitor for datasource id {}, environment id {}",
-                                        datasourceContextIdentifier.getDatasourceId(),
-                                        datasourceContextIdentifier.getEnvironmentId());
-                                datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                        datasourceContextIdentifier, k -> new Object());
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
                     return getCachedDatasourceContextMono(
-                            datasourceStorage, plugin, pluginExecutor, monitor, datasourceContextIdentifier);
-                })
-                .flatMap(obj -> obj)
-                .subscribeOn(Schedulers.boundedElastic());
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
+                });
     }
 
     public boolean getIsStale(
@@ -271,17 +438,15 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     }
 
     /**
-     * This function checks if the cached datasource context mono is in error state
+     * This function checks if creating the cached datasource context has failed. It reads the outcome recorded on the
+     * context instead of subscribing to its publisher, which would start creating the connection on the calling thread.
      *
      * @param datasourceContextIdentifier
      * @return boolean
      */
     private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
+        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+        return datasourceContext != null && datasourceContext.isInErrorState();
     }
 
     public boolean isValidDatasourceContextAvailable(
@@ -308,6 +473,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         } else {
             if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
                 log.debug("Resource context exists. Returning the same.");
+                touchDatasourceContext(datasourceContextIdentifier);
                 return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
             }
         }
@@ -363,10 +529,12 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     @Override
     public <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task) {
 
-        final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
-                .flatMap(this::getDatasourceContext)
-                // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+        final Mono<T> taskRunnerMono = keepDatasourceContextInUse(
+                datasourceStorage,
+                Mono.justOrEmpty(datasourceStorage)
+                        .flatMap(this::getDatasourceContext)
+                        // Now that we have the context (connection details), call the task.
+                        .flatMap(task));
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -374,6 +542,20 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         });
     }
 
+    @Override
+    public <T> Mono<T> keepDatasourceContextInUse(DatasourceStorage datasourceStorage, Mono<T> task) {
+        final DatasourceContextIdentifier datasourceContextIdentifier =
+                initializeDatasourceContextIdentifier(datasourceStorage);
+        if (!datasourceContextIdentifier.isKeyValid()) {
+            return task;
+        }
+
+        return Mono.defer(() -> {
+            datasourceContextUseCountMap.merge(datasourceContextIdentifier, 1, Integer::sum);
+            return task.doFinally(signalType -> releaseDatasourceContext(datasourceContextIdentifier));
+        });
+    }
+
     /**
      * removes the datasource context entry from the contextMaps. may return an empty mono
      * @param datasourceStorage
@@ -388,8 +570,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             return Mono.empty();
         }
 
-        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
-        if (datasourceContext == null) {
+        if (datasourceContextMap.get(datasourceContextIdentifier) == null) {
             // No resource context exists for this resource. Return void.
             return Mono.empty();
         }
@@ -397,17 +578,23 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                 .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
                 .flatMap(pluginExecutor -> {
                     log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
-
-                    if (!datasourceContextMap.containsKey(datasourceContextIdentifier)) {
+                    // Only the thread that detaches the context destroys its connection, so that a context that is
+                    // being deleted and replaced at the same time is never destroyed twice
+                    final DatasourceContext<?>[] deletedDatasourceContext = new DatasourceContext<?>[1];
+                    datasourceContextMonoMap.compute(datasourceContextIdentifier, (identifier, existing) -> {
+                        deletedDatasourceContext[0] = detachDatasourceContext(identifier);
+                        return null;
+                    });
+
+                    if (deletedDatasourceContext[0] == null) {
                         log.info(
                                 "datasourceContextMap does not contain any entry for datasource storage with id: {} ",
                                 datasourceStorage.getId());
                         return Mono.empty();
                     }
 
-                    return Mono.just(datasourceContextMap.remove(datasourceContextIdentifier));
+                    pluginExecutor.datasourceDestroy(deletedDatasourceContext[0].getConnection());
+                    return Mono.just(deletedDatasourceContext[0]);
                 });
     }
 
@@ -448,7 +635,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
      * Generates the custom key that is used in:
      * datasourceContextMap
      * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
+     * datasourceContextUsageMap
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
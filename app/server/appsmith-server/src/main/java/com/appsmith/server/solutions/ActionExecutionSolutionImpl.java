@@ -1,5 +1,6 @@
 package com.appsmith.server.solutions;
 
+import com.appsmith.external.services.SharedConfig;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
@@ -40,7 +41,8 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
             EnvironmentPermission environmentPermission,
             ConfigService configService,
             TenantService tenantService,
-            CommonConfig commonConfig) {
+            CommonConfig commonConfig,
+            SharedConfig sharedConfig) {
         super(
                 newActionService,
                 actionPermission,
@@ -60,6 +62,7 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                 environmentPermission,
                 configService,
                 tenantService,
-                commonConfig);
+                commonConfig,
+                sharedConfig);
     }
 }
@@ -7,6 +7,7 @@ import com.appsmith.external.dtos.ParamProperty;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.ExecutionBlobStore;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
@@ -14,10 +15,13 @@ import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.JSValue;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.external.services.SharedConfig;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.configurations.CommonConfig;
@@ -58,6 +62,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
@@ -66,8 +71,13 @@ import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
@@ -120,12 +130,14 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final ConfigService configService;
     private final TenantService tenantService;
     private final CommonConfig commonConfig;
+    private final SharedConfig sharedConfig;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
             "^blob:[0-9a-fA-F]{8}\\b-[0-9a-fA-F]{4}\\b-[0-9a-fA-F]{4}\\b-[0-9a-fA-F]{4}\\b-[0-9a-fA-F]{12}$";
     static final String EXECUTE_ACTION_DTO = "executeActionDTO";
     static final String PARAMETER_MAP = "parameterMap";
+    private static final int BLOB_READ_CHUNK_SIZE = 64 * 1024;
     List<Pattern> patternList = new ArrayList<>();
 
     public ActionExecutionSolutionCEImpl(
@@ -147,7 +159,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             EnvironmentPermission environmentPermission,
             ConfigService configService,
             TenantService tenantService,
-            CommonConfig commonConfig) {
+            CommonConfig commonConfig,
+            SharedConfig sharedConfig) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -167,6 +180,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.configService = configService;
         this.tenantService = tenantService;
         this.commonConfig = commonConfig;
+        this.sharedConfig = sharedConfig;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -273,7 +287,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 .build();
         Mono<ExecuteActionDTO> executeActionDTOMono = createExecuteActionDTO(partFlux);
         return executeActionDTOMono
-                .flatMap(executeActionDTO -> populateAndExecuteAction(executeActionDTO, executeActionMetaDTO))
+                .flatMap(executeActionDTO -> populateAndExecuteAction(executeActionDTO, executeActionMetaDTO)
+                        .doFinally(signalType -> closeBlobStore(executeActionDTO)))
                 .name(ACTION_EXECUTION_SERVER_EXECUTION)
                 .tap(Micrometer.observation(observationRegistry));
     }
@@ -346,6 +361,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         return this.parsePartsAndGetParamsFlux(partFlux, totalReadableByteCount, dto)
                 .collectList()
                 .flatMap(params -> this.enrichExecutionParam(totalReadableByteCount, dto, params))
+                // Blobs that were already written to temporary files are of no use if the request can't be parsed
+                .doOnError(error -> closeBlobStore(dto))
+                .doOnCancel(() -> closeBlobStore(dto))
                 .name(ACTION_EXECUTION_REQUEST_PARSING)
                 .tap(Micrometer.observation(observationRegistry));
     }
@@ -439,35 +457,78 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     protected Mono<Param> parseExecuteParameter(Part part, AtomicLong totalReadableByteCount) {
         final Param param = new Param();
         param.setPseudoBindingName(part.name());
-        return DataBufferUtils.join(part.content()).map(dataBuffer -> {
-            byte[] bytes = new byte[dataBuffer.readableByteCount()];
-            totalReadableByteCount.addAndGet(dataBuffer.readableByteCount());
-            dataBuffer.read(bytes);
-            DataBufferUtils.release(dataBuffer);
-            param.setValue(new String(bytes, StandardCharsets.UTF_8));
-            return param;
-        });
+        final ByteArrayOutputStream value = new ByteArrayOutputStream();
+        return part.content()
+                .map(dataBuffer -> this.readDataBuffer(dataBuffer, totalReadableByteCount))
+                .doOnNext(bytes -> value.write(bytes, 0, bytes.length))
+                .count()
+                // A part without any content does not result in a param
+                .filter(chunkCount -> chunkCount > 0)
+                .map(chunkCount -> {
+                    param.setValue(value.toString(StandardCharsets.UTF_8));
+                    return param;
+                });
     }
 
     protected Mono<Void> parseExecuteBlobs(
             Flux<Part> partsFlux, ExecuteActionDTO dto, AtomicLong totalReadableByteCount) {
-        Map<String, String> blobMap = new HashMap<>();
-        dto.setBlobValuesMap(blobMap);
+        // The blobs are substituted into the params that refer to them straight from the blob store, so this map only
+        // holds values that were put in it by other means
+        dto.setBlobValuesMap(new HashMap<>());
+        final ExecutionBlobStore blobStore =
+                new ExecutionBlobStore((long) commonConfig.getExecutionBlobSpillThresholdKb() * 1024);
+        dto.setBlobStore(blobStore);
 
         return partsFlux
-                .flatMap(part -> {
-                    return DataBufferUtils.join(part.content()).map(dataBuffer -> {
-                        byte[] bytes = new byte[dataBuffer.readableByteCount()];
-                        totalReadableByteCount.addAndGet(dataBuffer.readableByteCount());
-                        dataBuffer.read(bytes);
-                        DataBufferUtils.release(dataBuffer);
-                        blobMap.put(part.name(), new String(bytes, StandardCharsets.ISO_8859_1));
-                        return Mono.empty();
-                    });
-                })
+                .flatMap(part -> Mono.using(
+                        () -> blobStore.newWriter(part.name()),
+                        blobWriter -> part.content()
+                                .map(dataBuffer -> this.readDataBuffer(dataBuffer, totalReadableByteCount))
+                                // Large blobs are written to a temporary file, which blocks
+                                .publishOn(Schedulers.boundedElastic())
+                                .handle((byte[] bytes, SynchronousSink<Void> sink) -> {
+                                    try {
+                                        blobWriter.write(bytes, 0, bytes.length);
+                                    } catch (IOException e) {
+                                        log.error("Error in writing blob {}", part.name(), e);
+                                        sink.error(
+                                                new AppsmithException(AppsmithError.GENERIC_REQUEST_BODY_PARSE_ERROR));
+                                    }
+                                })
+                                .then(Mono.<Void>fromCallable(() -> {
+                                    blobWriter.commit();
+                                    return null;
+                                })),
+                        ExecutionBlobStore.BlobWriter::close))
                 .then();
     }
 
+    /**
+     * Copies the content of the given buffer and releases it. Fails as soon as the bytes read so far for this request
+     * exceed the max allowed request size, instead of after the whole request has been read.
+     */
+    private byte[] readDataBuffer(DataBuffer dataBuffer, AtomicLong totalReadableByteCount) {
+        try {
+            final int readableByteCount = dataBuffer.readableByteCount();
+            final long maxRequestSize = sharedConfig.getCodecSize();
+            if (totalReadableByteCount.addAndGet(readableByteCount) > maxRequestSize) {
+                throw new AppsmithException(AppsmithError.PAYLOAD_TOO_LARGE, maxRequestSize / 1024);
+            }
+
+            final byte[] bytes = new byte[readableByteCount];
+            dataBuffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+
+    private void closeBlobStore(ExecuteActionDTO dto) {
+        if (dto.getBlobStore() != null) {
+            dto.getBlobStore().close();
+        }
+    }
+
     protected Mono<ExecuteActionDTO> enrichExecutionParam(
             AtomicLong totalReadableByteCount, ExecuteActionDTO dto, List<Param> params) {
         if (dto.getActionId() == null) {
@@ -477,6 +538,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         dto.setTotalReadableByteCount(totalReadableByteCount.longValue());
 
         final Set<String> visitedBindings = new HashSet<>();
+        final List<String> blobIdentifiers = new ArrayList<>();
         /*
            Parts in multipart request can appear in any order. In order to avoid NPE original name of the parameters
            along with the client-side data type are set here as it's guaranteed at this point that the part having the parameterMap is already collected.
@@ -492,33 +554,110 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             if (paramProperty != null) {
                 this.identifyExecutionParamDatatype(param, paramProperty);
 
-                this.substituteBlobValuesInParam(dto, param, paramProperty);
+                if (paramProperty.getBlobIdentifiers() != null) {
+                    blobIdentifiers.addAll(paramProperty.getBlobIdentifiers());
+                }
             }
         });
 
-        // In case there are parameters that did not receive a value in the multipart request,
-        // initialize these bindings with empty strings
-        if (dto.getParameterMap() != null) {
-            dto.getParameterMap().keySet().stream().forEach(parameter -> {
-                if (!visitedBindings.contains(parameter)) {
-                    Param newParam = new Param(parameter, "");
-                    params.add(newParam);
-                }
-            });
+        return this.substituteBlobValuesInParams(dto, params, blobIdentifiers).then(Mono.fromSupplier(() -> {
+            // In case there are parameters that did not receive a value in the multipart request,
+            // initialize these bindings with empty strings
+            if (dto.getParameterMap() != null) {
+                dto.getParameterMap().keySet().stream().forEach(parameter -> {
+                    if (!visitedBindings.contains(parameter)) {
+                        Param newParam = new Param(parameter, "");
+                        params.add(newParam);
+                    }
+                });
+            }
+            dto.setParams(params);
+            return dto;
+        }));
+    }
+
+    /**
+     * Replaces the blob references in the params with the values of the blobs. Large blobs are read back from a
+     * temporary file, which blocks, so when any of the blobs is in the blob store the params are substituted off the
+     * event loop.
+     */
+    private Mono<Void> substituteBlobValuesInParams(
+            ExecuteActionDTO dto, List<Param> params, List<String> blobIdentifiers) {
+        final Mono<Void> substitutionMono = Mono.fromRunnable(() -> params.forEach(param -> {
+            ParamProperty paramProperty = dto.getParamProperties().get(param.getPseudoBindingName());
+            if (paramProperty != null) {
+                this.substituteBlobValuesInParam(dto, param, paramProperty);
+            }
+        }));
+
+        final ExecutionBlobStore blobStore = dto.getBlobStore();
+        if (blobStore == null || blobIdentifiers.stream().noneMatch(blobStore::contains)) {
+            return substitutionMono;
         }
-        dto.setParams(params);
-        return Mono.just(dto);
+
+        return substitutionMono.subscribeOn(Schedulers.boundedElastic());
     }
 
     private void substituteBlobValuesInParam(ExecuteActionDTO dto, Param param, ParamProperty paramProperty) {
         // Check if this param has blobUrlPaths
-        if (paramProperty.getBlobIdentifiers() != null
-                && !paramProperty.getBlobIdentifiers().isEmpty()) {
-            // If it does, trigger the replacement logic for each of these urlPaths
-            String replacedValue = this.replaceBlobValuesInParam(
-                    param.getValue(), paramProperty.getBlobIdentifiers(), dto.getBlobValuesMap());
-            // And then update the value for this param
-            param.setValue(replacedValue);
+        if (paramProperty.getBlobIdentifiers() == null
+                || paramProperty.getBlobIdentifiers().isEmpty()) {
+            return;
+        }
+
+        final ExecutionBlobStore blobStore = dto.getBlobStore();
+        String replacedValue = param.getValue();
+        for (String blobId : paramProperty.getBlobIdentifiers()) {
+            if (blobStore != null && blobStore.contains(blobId)) {
+                replacedValue = this.replaceBlobValueFromStore(replacedValue, blobId, blobStore);
+            } else {
+                replacedValue = this.replaceBlobValuesInParam(replacedValue, List.of(blobId), dto.getBlobValuesMap());
+            }
+        }
+        // And then update the value for this param
+        param.setValue(replacedValue);
+    }
+
+    /**
+     * Replaces the references to the given blob in the value with the escaped value of the blob. The blob is escaped
+     * while it is streamed from the blob store into the replaced value, so that neither its stringified value nor the
+     * escaped copy of it is ever held on the heap alongside the replaced value.
+     */
+    private String replaceBlobValueFromStore(String value, String blobId, ExecutionBlobStore blobStore) {
+        int index = value.indexOf(blobId);
+        if (index < 0) {
+            return value;
+        }
+
+        final StringBuilder replacedValue = new StringBuilder(
+                (int) Math.min(Integer.MAX_VALUE - 8, value.length() + blobStore.getSize(blobId)));
+        int start = 0;
+        try {
+            while (index >= 0) {
+                replacedValue.append(value, start, index);
+                this.appendEscapedBlobValue(replacedValue, blobId, blobStore);
+                start = index + blobId.length();
+                index = value.indexOf(blobId, start);
+            }
+        } catch (IOException e) {
+            log.error("Error in reading blob {}", blobId, e);
+            throw new AppsmithException(AppsmithError.GENERIC_REQUEST_BODY_PARSE_ERROR);
+        }
+        replacedValue.append(value, start, value.length());
+
+        return replacedValue.toString();
+    }
+
+    private void appendEscapedBlobValue(StringBuilder builder, String blobId, ExecutionBlobStore blobStore)
+            throws IOException {
+        // Blobs are stringified as ISO-8859-1, where every byte is a character of its own, so that the blob can be
+        // decoded and escaped one chunk at a time
+        try (Reader reader = new InputStreamReader(blobStore.openStream(blobId), StandardCharsets.ISO_8859_1)) {
+            final char[] chunk = new char[BLOB_READ_CHUNK_SIZE];
+            int readCount;
+            while ((readCount = reader.read(chunk)) != -1) {
+                builder.append(StringEscapeUtils.escapeJava(new String(chunk, 0, readCount)));
+            }
         }
     }
 
@@ -697,7 +836,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             Plugin plugin,
             PluginExecutor pluginExecutor) {
 
-        Mono<ActionExecutionResult> executionMono = authenticationValidator
+        Mono<ActionExecutionResult> contextExecutionMono = authenticationValidator
                 .validateAuthentication(datasourceStorage)
                 .zipWhen(validatedDatasource -> datasourceContextService
                         .getDatasourceContext(validatedDatasource, plugin)
@@ -708,6 +847,10 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     DatasourceStorage datasourceStorage1 = tuple2.getT1();
                     DatasourceContext<?> resourceContext = tuple2.getT2();
                     // Now that we have the context (connection details), execute the action.
+                    // Plugins that pool connections per datasource rely on the ids of the datasource and environment
+                    // that were resolved for this execution, the datasource id being null for embedded datasources
+                    executeActionDTO.setDatasourceId(datasourceStorage1.getDatasourceId());
+                    executeActionDTO.setEnvironmentId(datasourceStorage1.getEnvironmentId());
 
                     Instant requestedAt = Instant.now();
                     return ((PluginExecutor<Object>) pluginExecutor)
@@ -731,6 +874,10 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                             });
                 });
 
+        // The context is kept in use until the action has finished executing, so that it is not closed under it
+        Mono<ActionExecutionResult> executionMono =
+                datasourceContextService.keepDatasourceContextInUse(datasourceStorage, contextExecutionMono);
+
         return executionMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
             return datasourceContextService
@@ -772,21 +919,106 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
     /**
      * This function deep copies the actionConfiguration object to send the original object to mixpanel which contains
-     * the actual user query with bindings
+     * the actual user query with bindings. Nested collections, properties and form data are copied structurally,
+     * while immutable values like strings and numbers are shared with the original object.
      * @param actionConfiguration
      * @return
      */
-    private ActionConfiguration deepCopyActionConfiguration(ActionConfiguration actionConfiguration) {
-        try {
-            // Convert the ActionConfiguration object to JSON string
-            String json = objectMapper.writeValueAsString(actionConfiguration);
+    protected ActionConfiguration copyActionConfiguration(ActionConfiguration actionConfiguration) {
+        final ActionConfiguration copy = new ActionConfiguration();
+        copy.setTimeoutInMillisecond(String.valueOf(actionConfiguration.getTimeoutInMillisecond()));
+        copy.setPaginationType(actionConfiguration.getPaginationType());
+        copy.setPath(actionConfiguration.getPath());
+        copy.setHeaders(copyProperties(actionConfiguration.getHeaders()));
+        copy.setAutoGeneratedHeaders(copyProperties(actionConfiguration.getAutoGeneratedHeaders()));
+        copy.setEncodeParamsToggle(actionConfiguration.getEncodeParamsToggle());
+        copy.setQueryParameters(copyProperties(actionConfiguration.getQueryParameters()));
+        copy.setBody(actionConfiguration.getBody());
+        copy.setBodyFormData(copyProperties(actionConfiguration.getBodyFormData()));
+        copy.setRouteParameters(copyProperties(actionConfiguration.getRouteParameters()));
+        copy.setHttpMethod(actionConfiguration.getHttpMethod());
+        copy.setHttpVersion(actionConfiguration.getHttpVersion());
+        copy.setNext(actionConfiguration.getNext());
+        copy.setPrev(actionConfiguration.getPrev());
+        copy.setSelfReferencingDataPaths(
+                actionConfiguration.getSelfReferencingDataPaths() == null
+                        ? null
+                        : new HashSet<>(actionConfiguration.getSelfReferencingDataPaths()));
+        if (actionConfiguration.getJsArguments() != null) {
+            copy.setJsArguments(actionConfiguration.getJsArguments().stream()
+                    .map(jsValue -> jsValue == null
+                            ? null
+                            : new JSValue(
+                                    jsValue.getName(),
+                                    jsValue.getDataType(),
+                                    copyValue(jsValue.getValue()),
+                                    jsValue.getIsValid()))
+                    .collect(Collectors.toList()));
+        }
+        copy.setIsAsync(actionConfiguration.getIsAsync());
+        copy.setIsValid(actionConfiguration.getIsValid());
+        copy.setPluginSpecifiedTemplates(copyProperties(actionConfiguration.getPluginSpecifiedTemplates()));
+        copy.setFormData((Map<String, Object>) copyValue(actionConfiguration.getFormData()));
+        copy.setTemplateName(actionConfiguration.getTemplateName());
+        return copy;
+    }
 
-            // Convert the JSON string back to an ActionConfiguration object
-            return objectMapper.readValue(json, ActionConfiguration.class);
-        } catch (JsonProcessingException e) {
-            e.printStackTrace();
+    private List<Property> copyProperties(List<Property> properties) {
+        if (properties == null) {
+            return null;
         }
-        return null;
+
+        final List<Property> copy = new ArrayList<>(properties.size());
+        for (Property property : properties) {
+            if (property == null) {
+                copy.add(null);
+                continue;
+            }
+
+            final Property propertyCopy = new Property(property.getKey(), copyValue(property.getValue()));
+            propertyCopy.setEditable(property.getEditable());
+            propertyCopy.setInternal(property.getInternal());
+            propertyCopy.setDescription(property.getDescription());
+            propertyCopy.setMandatory(property.getMandatory());
+            propertyCopy.setType(property.getType());
+            propertyCopy.setDefaultValue(property.getDefaultValue());
+            propertyCopy.setMinRange(property.getMinRange());
+            propertyCopy.setMaxRange(property.getMaxRange());
+            propertyCopy.setValueOptions(
+                    property.getValueOptions() == null ? null : property.getValueOptions().clone());
+            copy.add(propertyCopy);
+        }
+        return copy;
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null
+                || value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>) {
+            return value;
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            final Map<Object, Object> copy = new LinkedHashMap<>(map.size());
+            map.forEach((key, mapValue) -> copy.put(key, copyValue(mapValue)));
+            return copy;
+        }
+
+        if (value instanceof List<?> list) {
+            final List<Object> copy = new ArrayList<>(list.size());
+            list.forEach(item -> copy.add(copyValue(item)));
+            return copy;
+        }
+
+        if (value instanceof Property property) {
+            return copyProperties(List.of(property)).get(0);
+        }
+
+        // Anything else is rare enough in action configurations to fall back to what the JSON round trip produced
+        return objectMapper.convertValue(value, Object.class);
     }
 
     /**
@@ -813,11 +1045,14 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                     final DatasourceStorage datasourceStorage = tuple.getT2();
                     final PluginExecutor pluginExecutor = tuple.getT3();
                     final Plugin plugin = tuple.getT4();
-                    // This is to return the raw user query including bindings
+                    // This is to return the raw user query including bindings. It is only needed for the analytics
+                    // event, so the copy is skipped altogether when analytics is disabled.
                     ActionConfiguration rawActionConfiguration = null;
-                    if (actionDTO != null && actionDTO.getActionConfiguration() != null) {
-                        // deep copying the actionConfiguration to avoid any changes in the original object
-                        rawActionConfiguration = this.deepCopyActionConfiguration(actionDTO.getActionConfiguration());
+                    if (actionDTO != null
+                            && actionDTO.getActionConfiguration() != null
+                            && TRUE.equals(isSendExecuteAnalyticsEvent())) {
+                        // copying the actionConfiguration to avoid any changes in the original object
+                        rawActionConfiguration = this.copyActionConfiguration(actionDTO.getActionConfiguration());
                     }
 
                     log.debug(
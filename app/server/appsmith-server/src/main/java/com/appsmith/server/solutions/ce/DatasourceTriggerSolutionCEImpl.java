@@ -104,7 +104,7 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                     final Plugin plugin = tuple.getT2();
                     final PluginExecutor pluginExecutor = tuple.getT3();
 
-                    return datasourceContextService
+                    Mono<TriggerResultDTO> triggerMono = datasourceContextService
                             .getDatasourceContext(datasourceStorage, plugin)
                             // Now that we have the context (connection details), execute the action.
                             // datasource remains unevaluated for datasource of DBAuth Type Authentication,
@@ -115,6 +115,8 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                                                     resourceContext.getConnection(),
                                                     datasourceStorage.getDatasourceConfiguration(),
                                                     updatedTriggerRequestDTO)));
+
+                    return datasourceContextService.keepDatasourceContextInUse(datasourceStorage, triggerMono);
                 });
 
         // If the plugin hasn't implemented the trigger function, go for the default implementation
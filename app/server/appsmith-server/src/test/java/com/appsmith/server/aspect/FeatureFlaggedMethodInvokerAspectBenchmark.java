@@ -0,0 +1,88 @@
+package com.appsmith.server.aspect;
+
+import com.appsmith.server.aspect.component.TestComponentImpl;
+import com.appsmith.server.aspect.component.ce_compatible.TestComponentCECompatibleImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per call overhead of dispatching a {@link com.appsmith.external.annotations.FeatureFlagged} method to
+ * its CE compatible implementation, when the flag is disabled.
+ *
+ * <ul>
+ *     <li>reflectiveLookup: the bean lookup, method lookup and reflective invocation that used to run on every
+ *     call</li>
+ *     <li>cachedMethodHandle: the method handle that is resolved once and looked up from a map on every call</li>
+ * </ul>
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeatureFlaggedMethodInvokerAspectBenchmark {
+
+    private static final String BEAN_NAME = "testComponentCECompatibleImpl";
+
+    private GenericApplicationContext applicationContext;
+
+    private Method method;
+
+    private final Object[] args = {"arg_"};
+
+    private final Map<Method, MethodHandle> fallbackHandles = new ConcurrentHashMap<>();
+
+    @Setup
+    public void setUp() throws Exception {
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean(BEAN_NAME, TestComponentCECompatibleImpl.class);
+        applicationContext.registerBean("testComponentImpl", TestComponentImpl.class);
+        applicationContext.refresh();
+
+        method = TestComponentImpl.class.getMethod("ceEeSyncMethod", String.class);
+        Object service = applicationContext.getBean(BEAN_NAME);
+        Method superMethod =
+                TestComponentCECompatibleImpl.class.getMethod(method.getName(), method.getParameterTypes());
+        fallbackHandles.put(method, FeatureFlaggedMethodInvokerAspect.createFallbackHandle(service, superMethod));
+    }
+
+    @Benchmark
+    public Object reflectiveLookup() throws Exception {
+        Class<?> targetSuperClass = TestComponentImpl.class.getSuperclass();
+        Object service = applicationContext.getBeansOfType(targetSuperClass).get(BEAN_NAME);
+        Method superMethod = targetSuperClass.getMethod(method.getName(), method.getParameterTypes());
+        return superMethod.invoke(service, args);
+    }
+
+    @Benchmark
+    public Object cachedMethodHandle() throws Throwable {
+        return (Object) fallbackHandles.get(method).invokeExact(args);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(FeatureFlaggedMethodInvokerAspectBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,145 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding an exported application of about 60 MB, made of copies of the pages and actions of
+ * valid-application.json, in a JVM with the 2 GB heap of a server pod.
+ *
+ * <ul>
+ *     <li>stringAndTree: copying the file to a byte array and a string, and decoding it through the JSON tree built
+ *     by {@link ArtifactExchangeJsonAdapter#deserialize}, which is how files used to be imported</li>
+ *     <li>streaming: decoding the file as it is read with {@link ArtifactExchangeJsonAdapter#fromJson}</li>
+ * </ul>
+ *
+ * The GC profiler reports the bytes allocated per import as gc.alloc.rate.norm, and the peak heap of every import is
+ * reported as the peakHeapMb secondary result.
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ArtifactExchangeJsonAdapterBenchmark {
+
+    private static final int COPIES = 3_000;
+
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    private Gson treeGson;
+
+    private byte[] file;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+
+        public long peakHeapMb;
+
+        @Setup(Level.Invocation)
+        public void resetPeakHeap() {
+            System.gc();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        @TearDown(Level.Invocation)
+        public void recordPeakHeap() {
+            long peakHeap = heapPools().stream()
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum();
+            peakHeapMb = peakHeap / (1024 * 1024);
+        }
+
+        private static List<MemoryPoolMXBean> heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+        }
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        Gson gson = new CommonConfig().gsonInstance();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+        treeGson = new GsonBuilder()
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create();
+
+        JsonObject application = JsonParser.parseString(new String(
+                        new ClassPathResource("test_assets/ImportExportServiceTest/valid-application.json")
+                                .getInputStream()
+                                .readAllBytes(),
+                        StandardCharsets.UTF_8))
+                .getAsJsonObject();
+        for (String listName : new String[] {"pageList", "actionList"}) {
+            JsonArray entries = application.getAsJsonArray(listName);
+            JsonArray copies = new JsonArray();
+            for (int i = 0; i < COPIES; i++) {
+                for (JsonElement entry : entries) {
+                    copies.add(entry.deepCopy());
+                }
+            }
+            application.add(listName, copies);
+        }
+
+        file = gson.toJson(application).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ArtifactExchangeJson stringAndTree(PeakHeap peakHeap) {
+        // The file used to be copied from the joined buffer to a byte array, and then to a string
+        byte[] data = Arrays.copyOf(file, file.length);
+        return treeGson.fromJson(new String(data, StandardCharsets.UTF_8), ArtifactExchangeJson.class);
+    }
+
+    @Benchmark
+    public ArtifactExchangeJson streaming(PeakHeap peakHeap) {
+        return artifactExchangeJsonAdapter.fromJson(
+                () -> new InputStreamReader(new ByteArrayInputStream(file), StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(ArtifactExchangeJsonAdapterBenchmark.class.getSimpleName())
+                        .addProfiler(GCProfiler.class)
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,73 @@
+package com.appsmith.server.converters;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.dtos.ApplicationJson;
+import com.appsmith.server.dtos.ArtifactExchangeJson;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ArtifactExchangeJsonAdapterTest {
+    private Gson gson;
+    private ArtifactExchangeJsonAdapter artifactExchangeJsonAdapter;
+
+    @BeforeEach
+    public void setUp() {
+        gson = new CommonConfig().gsonInstance();
+        artifactExchangeJsonAdapter = new ArtifactExchangeJsonAdapter(gson);
+    }
+
+    private ArtifactExchangeJson fromJson(String json) {
+        return artifactExchangeJsonAdapter.fromJson(() -> new StringReader(json));
+    }
+
+    @Test
+    public void fromJson_WhenValidApplication_DecodesLikeTheJsonTree() throws IOException {
+        String json = new String(
+                new ClassPathResource("test_assets/ImportExportServiceTest/valid-application.json")
+                        .getInputStream()
+                        .readAllBytes(),
+                StandardCharsets.UTF_8);
+        ArtifactExchangeJson fromTree = new GsonBuilder()
+                .registerTypeAdapter(ArtifactExchangeJson.class, artifactExchangeJsonAdapter)
+                .create()
+                .fromJson(json, ArtifactExchangeJson.class);
+
+        ArtifactExchangeJson fromStream = fromJson(json);
+
+        assertThat(fromStream).isInstanceOf(ApplicationJson.class);
+        assertThat(gson.toJson(fromStream)).isEqualTo(gson.toJson(fromTree));
+    }
+
+    @Test
+    public void fromJson_WhenArtifactTypeIsAfterTheArtifact_DecodesArtifact() {
+        ArtifactExchangeJson artifactExchangeJson = fromJson("{\"exportedApplication\": {\"name\": \"app\"},"
+                + " \"serverSchemaVersion\": 7, \"artifactJsonType\": \"APPLICATION\"}");
+
+        assertThat(artifactExchangeJson).isInstanceOf(ApplicationJson.class);
+        ApplicationJson applicationJson = (ApplicationJson) artifactExchangeJson;
+        assertThat(applicationJson.getExportedApplication().getName()).isEqualTo("app");
+        assertThat(applicationJson.getServerSchemaVersion()).isEqualTo(7);
+    }
+
+    @Test
+    public void fromJson_WhenEmpty_ReturnsNull() {
+        assertThat(fromJson("")).isNull();
+    }
+
+    @Test
+    public void fromJson_WhenMalformed_ThrowsJsonSyntaxException() {
+        assertThatThrownBy(() -> fromJson("{\"exportedApplication\": {\"name\": "))
+                .isInstanceOf(JsonSyntaxException.class);
+    }
+}
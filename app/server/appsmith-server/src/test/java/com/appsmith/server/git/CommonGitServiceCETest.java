@@ -1595,6 +1595,9 @@ public class CommonGitServiceCETest {
                         Mockito.anyString(),
                         Mockito.anyString()))
                 .thenReturn(Mono.just(mergeStatusDTO));
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepoForStatus(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+        Mockito.when(gitExecutor.createRepoPath(any(Path.class))).thenReturn(Paths.get("path"));
         Mockito.when(gitExecutor.getStatus(any(Path.class), Mockito.anyString()))
                 .thenReturn(Mono.just(gitStatusDTO));
         Mockito.when(gitExecutor.fetchRemote(
@@ -1685,6 +1688,9 @@ public class CommonGitServiceCETest {
                         Mockito.anyString(),
                         Mockito.any()))
                 .thenReturn(Mono.justOrEmpty(applicationJson));
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepoForStatus(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+        Mockito.when(gitExecutor.createRepoPath(any(Path.class))).thenReturn(Paths.get("path"));
         Mockito.when(gitExecutor.getStatus(any(), any())).thenReturn(Mono.just(statusDTO));
         Mockito.when(gitExecutor.fetchRemote(
                         any(Path.class),
@@ -1742,6 +1748,9 @@ public class CommonGitServiceCETest {
                 .thenReturn(Mono.just(Paths.get("")));
         Mockito.when(gitExecutor.isMergeBranch(any(Path.class), Mockito.anyString(), Mockito.anyString()))
                 .thenReturn(Mono.just(mergeStatus));
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepoForStatus(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+        Mockito.when(gitExecutor.createRepoPath(any(Path.class))).thenReturn(Paths.get("path"));
         Mockito.when(gitExecutor.getStatus(any(), any())).thenReturn(Mono.just(gitStatusDTO));
         Mockito.when(gitExecutor.fetchRemote(
                         any(Path.class),
@@ -1786,6 +1795,9 @@ public class CommonGitServiceCETest {
                 .thenReturn(Mono.just(Paths.get("")));
         Mockito.when(gitExecutor.isMergeBranch(any(Path.class), Mockito.anyString(), Mockito.anyString()))
                 .thenReturn(Mono.just(mergeStatus));
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepoForStatus(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+        Mockito.when(gitExecutor.createRepoPath(any(Path.class))).thenReturn(Paths.get("path"));
         Mockito.when(gitExecutor.getStatus(any(), any())).thenReturn(Mono.just(new GitStatusDTO()));
         Mockito.when(gitExecutor.fetchRemote(
                         any(Path.class),
@@ -1836,6 +1848,9 @@ public class CommonGitServiceCETest {
                 .thenReturn(Mono.just(Paths.get("path")));
         Mockito.when(gitExecutor.isMergeBranch(any(Path.class), Mockito.anyString(), Mockito.anyString()))
                 .thenReturn(Mono.just(mergeStatus));
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepoForStatus(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+        Mockito.when(gitExecutor.createRepoPath(any(Path.class))).thenReturn(Paths.get("path"));
         Mockito.when(gitExecutor.getStatus(any(), any())).thenReturn(Mono.just(gitStatusDTO));
         Mockito.when(gitExecutor.fetchRemote(
                         any(Path.class),
@@ -3985,6 +4000,9 @@ public class CommonGitServiceCETest {
                         Mockito.anyString(),
                         Mockito.anyString()))
                 .thenReturn(Mono.just(mergeStatusDTO));
+        Mockito.when(commonGitFileUtils.saveArtifactToLocalRepoForStatus(any(Path.class), any(), Mockito.anyString()))
+                .thenReturn(Mono.empty());
+        Mockito.when(gitExecutor.createRepoPath(any(Path.class))).thenReturn(Paths.get("path"));
         Mockito.when(gitExecutor.getStatus(any(Path.class), Mockito.anyString()))
                 .thenReturn(Mono.just(gitStatusDTO));
         Mockito.when(gitExecutor.fetchRemote(
@@ -0,0 +1,182 @@
+package com.appsmith.server.helpers;
+
+import net.minidev.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class DSLMigrationUtilsTest {
+
+    private static final String VERSION_PATH = "/rts-api/v1/dsl/version";
+
+    private static final String MIGRATE_PATH = "/rts-api/v1/dsl/migrate";
+
+    private final AtomicInteger versionFetches = new AtomicInteger();
+
+    private final AtomicInteger migrations = new AtomicInteger();
+
+    private volatile int rtsDslVersion;
+
+    private volatile boolean isRtsDown;
+
+    private DSLMigrationUtils dslMigrationUtils;
+
+    @BeforeEach
+    void setUp() {
+        rtsDslVersion = 88;
+        isRtsDown = false;
+
+        // RTS is stubbed at the HTTP exchange, so that the responses go through the same decoding as in production
+        WebClient webClient = WebClient.builder().exchangeFunction(this::exchange).build();
+        RTSCaller rtsCaller = Mockito.mock(RTSCaller.class);
+        Mockito.when(rtsCaller.get(VERSION_PATH))
+                .thenAnswer(invocation -> Mono.just(webClient.method(HttpMethod.GET).uri(VERSION_PATH)));
+        Mockito.when(rtsCaller.post(eq(MIGRATE_PATH), any()))
+                .thenAnswer(invocation -> Mono.just(webClient.method(HttpMethod.POST).uri(MIGRATE_PATH)));
+
+        dslMigrationUtils = new DSLMigrationUtils(rtsCaller);
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request) {
+        if (isRtsDown) {
+            return Mono.error(new WebClientRequestException(
+                    new ConnectException("Connection refused"), request.method(), request.url(), request.headers()));
+        }
+
+        String data;
+        if (request.url().getPath().equals(VERSION_PATH)) {
+            versionFetches.incrementAndGet();
+            data = "{\"version\": " + rtsDslVersion + "}";
+        } else {
+            migrations.incrementAndGet();
+            data = "{\"version\": " + rtsDslVersion + ", \"widgetName\": \"MainContainer\"}";
+        }
+
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"data\": " + data + "}")
+                .build());
+    }
+
+    private JSONObject createDsl(int version) {
+        JSONObject dsl = new JSONObject();
+        dsl.put("version", version);
+        dsl.put("widgetName", "MainContainer");
+        return dsl;
+    }
+
+    @Test
+    void getLatestDslVersion_whenCalledAgain_returnsCachedVersion() {
+        StepVerifier.create(dslMigrationUtils.getLatestDslVersion())
+                .expectNext(88)
+                .verifyComplete();
+        StepVerifier.create(dslMigrationUtils.getLatestDslVersion())
+                .expectNext(88)
+                .verifyComplete();
+
+        assertThat(versionFetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void getLatestDslVersion_whenFetchFails_errorIsNotCached() {
+        isRtsDown = true;
+        StepVerifier.create(dslMigrationUtils.getLatestDslVersion())
+                .expectError(WebClientRequestException.class)
+                .verify();
+
+        isRtsDown = false;
+        StepVerifier.create(dslMigrationUtils.getLatestDslVersion())
+                .expectNext(88)
+                .verifyComplete();
+
+        assertThat(versionFetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidateLatestDslVersion_whenCalled_versionAndMigrationsAreFetchedAgain() {
+        JSONObject dsl = createDsl(87);
+        dslMigrationUtils.getLatestDslVersion().block();
+        dslMigrationUtils.migratePageDsl(dsl).block();
+
+        rtsDslVersion = 89;
+        dslMigrationUtils.invalidateLatestDslVersion();
+
+        StepVerifier.create(dslMigrationUtils.getLatestDslVersion())
+                .expectNext(89)
+                .verifyComplete();
+        StepVerifier.create(dslMigrationUtils.migratePageDsl(dsl))
+                .assertNext(migratedDsl -> assertThat(migratedDsl.getAsNumber("version")).isEqualTo(89))
+                .verifyComplete();
+
+        assertThat(versionFetches.get()).isEqualTo(2);
+        assertThat(migrations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void migratePageDsl_whenSameDslIsMigratedAgain_returnsCopiesOfOneMigration() {
+        Mono<JSONObject> firstMigrationMono = dslMigrationUtils.migratePageDsl(createDsl(87));
+        Mono<JSONObject> secondMigrationMono = dslMigrationUtils.migratePageDsl(createDsl(87));
+
+        StepVerifier.create(Mono.zip(firstMigrationMono, secondMigrationMono))
+                .assertNext(migratedDsls -> {
+                    assertThat(migratedDsls.getT1()).isEqualTo(migratedDsls.getT2());
+                    assertThat(migratedDsls.getT1()).isNotSameAs(migratedDsls.getT2());
+                    assertThat(migratedDsls.getT1().getAsNumber("version")).isEqualTo(88);
+                })
+                .verifyComplete();
+
+        // Migrated from the cache once the migration has completed
+        StepVerifier.create(dslMigrationUtils.migratePageDsl(createDsl(87)))
+                .assertNext(migratedDsl -> assertThat(migratedDsl.getAsNumber("version")).isEqualTo(88))
+                .verifyComplete();
+
+        assertThat(migrations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void migratePageDsl_whenMigrationFails_errorIsNotCached() {
+        isRtsDown = true;
+        StepVerifier.create(dslMigrationUtils.migratePageDsl(createDsl(87)))
+                .expectError(WebClientRequestException.class)
+                .verify();
+
+        isRtsDown = false;
+        StepVerifier.create(dslMigrationUtils.migratePageDsl(createDsl(87)))
+                .assertNext(migratedDsl -> assertThat(migratedDsl.getAsNumber("version")).isEqualTo(88))
+                .verifyComplete();
+
+        assertThat(migrations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void migratePageDsl_whenMigratedToAnotherVersion_latestVersionIsFetchedAgain() {
+        dslMigrationUtils.getLatestDslVersion().block();
+
+        // RTS has restarted with a newer version since the version was fetched
+        rtsDslVersion = 89;
+        dslMigrationUtils.migratePageDsl(createDsl(87)).block();
+
+        StepVerifier.create(dslMigrationUtils.getLatestDslVersion())
+                .expectNext(89)
+                .verifyComplete();
+
+        assertThat(versionFetches.get()).isEqualTo(2);
+    }
+}
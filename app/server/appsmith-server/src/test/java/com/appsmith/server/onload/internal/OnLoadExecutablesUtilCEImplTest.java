@@ -0,0 +1,216 @@
+package com.appsmith.server.onload.internal;
+
+import com.appsmith.external.dtos.DslExecutableDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.CreatorContextType;
+import com.appsmith.external.models.Executable;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.ExecutableDependencyEdge;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.onload.executables.ExecutableOnLoadService;
+import com.appsmith.server.services.AstService;
+import com.appsmith.util.SerializationUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+
+class OnLoadExecutablesUtilCEImplTest {
+
+    private static final int EVALUATION_VERSION = 2;
+
+    private static final String PAGE_ID = "page1";
+
+    // Executables of the page, as they are stored at the time of each call
+    private final List<Executable> executables = new CopyOnWriteArrayList<>();
+
+    private ExecutableOnLoadService<NewPage> pageExecutableOnLoadService;
+
+    private OnLoadExecutablesUtilCEImpl onLoadExecutablesUtil;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        executables.clear();
+
+        // Every binding is a reference to itself, e.g. `Api1.data` references `Api1.data`
+        AstService astService = Mockito.mock(AstService.class);
+        Mockito.when(astService.getPossibleReferencesFromDynamicBinding(anyList(), anyInt()))
+                .thenAnswer(invocation -> {
+                    List<String> bindings = invocation.getArgument(0);
+                    return Flux.fromIterable(bindings)
+                            .map(binding -> Tuples.of(binding, new HashSet<>(Set.of(binding))));
+                });
+
+        pageExecutableOnLoadService = Mockito.mock(ExecutableOnLoadService.class);
+        Mockito.when(pageExecutableOnLoadService.getAllExecutablesByCreatorIdFlux(anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(executables));
+        Mockito.when(pageExecutableOnLoadService.getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(
+                        anyString()))
+                .thenReturn(Flux.empty());
+        Mockito.when(pageExecutableOnLoadService.fillSelfReferencingPaths(any()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        onLoadExecutablesUtil = new OnLoadExecutablesUtilCEImpl(
+                astService, SerializationUtils.getDefaultObjectMapper(null), pageExecutableOnLoadService);
+    }
+
+    private ActionDTO createAction(String id, String name) {
+        ActionDTO action = new ActionDTO();
+        action.setId(id);
+        action.setName(name);
+        action.setPluginType(PluginType.API);
+        action.setActionConfiguration(new ActionConfiguration());
+        action.setDynamicBindingPathList(new ArrayList<>());
+        action.setJsonPathKeys(new HashSet<>());
+        return action;
+    }
+
+    private ActionDTO createCollectionAction(String id, String collectionName, String name) {
+        ActionDTO action = createAction(id, name);
+        action.setPluginType(PluginType.JS);
+        action.setCollectionId(collectionName + "Id");
+        action.setFullyQualifiedName(collectionName + "." + name);
+        return action;
+    }
+
+    /**
+     * Result of a single call, along with the references it populated
+     */
+    private record OnLoadResult(
+            List<Set<String>> scheduleIds,
+            Set<ExecutableDependencyEdge> edges,
+            List<String> flatOnLoadExecutableIds,
+            Set<String> executablesUsedInDsl) {}
+
+    private OnLoadResult findAllOnLoadExecutables(String creatorId, Map<String, Set<String>> widgetBindings) {
+        Set<ExecutableDependencyEdge> edges = new HashSet<>();
+        List<Executable> flatOnLoadExecutables = new ArrayList<>();
+        Set<String> executablesUsedInDsl = new HashSet<>();
+
+        List<Set<DslExecutableDTO>> schedule = onLoadExecutablesUtil
+                .findAllOnLoadExecutables(
+                        creatorId,
+                        EVALUATION_VERSION,
+                        widgetBindings.keySet().stream()
+                                .map(path -> path.split("\\.")[0])
+                                .collect(Collectors.toSet()),
+                        edges,
+                        widgetBindings,
+                        flatOnLoadExecutables,
+                        executablesUsedInDsl,
+                        CreatorContextType.PAGE)
+                .block();
+
+        return new OnLoadResult(
+                schedule.stream()
+                        .map(level ->
+                                level.stream().map(DslExecutableDTO::getId).collect(Collectors.toSet()))
+                        .toList(),
+                edges,
+                flatOnLoadExecutables.stream().map(Executable::getId).toList(),
+                executablesUsedInDsl);
+    }
+
+    private void verifyScheduleComputations(String creatorId, int computations) {
+        // The on load executables explicitly set by the user are only fetched when the schedule is computed
+        Mockito.verify(pageExecutableOnLoadService, Mockito.times(computations))
+                .getUnpublishedOnLoadExecutablesExplicitSetByUserInPageFlux(creatorId);
+    }
+
+    @Test
+    void findAllOnLoadExecutables_whenNothingHasChanged_reusesScheduleComputedEarlier() {
+        executables.add(createAction("api1", "Api1"));
+        Map<String, Set<String>> widgetBindings = Map.of("Text1.text", Set.of("Api1.data"));
+
+        OnLoadResult computedResult = findAllOnLoadExecutables(PAGE_ID, widgetBindings);
+        OnLoadResult cachedResult = findAllOnLoadExecutables(PAGE_ID, widgetBindings);
+
+        assertThat(computedResult.scheduleIds()).isEqualTo(List.of(Set.of("api1")));
+        assertThat(computedResult.flatOnLoadExecutableIds()).isEqualTo(List.of("api1"));
+        assertThat(computedResult.executablesUsedInDsl()).isEqualTo(Set.of("Api1"));
+        assertThat(cachedResult).isEqualTo(computedResult);
+        verifyScheduleComputations(PAGE_ID, 1);
+    }
+
+    @Test
+    void findAllOnLoadExecutables_whenActionHasChanged_computesScheduleAgain() {
+        ActionDTO action = createAction("api1", "Api1");
+        executables.add(action);
+        Map<String, Set<String>> widgetBindings = Map.of("Text1.text", Set.of("Api1.data"));
+        findAllOnLoadExecutables(PAGE_ID, widgetBindings);
+
+        // The user turns off running the action on page load
+        action.setUserSetOnLoad(true);
+        action.setExecuteOnLoad(false);
+        OnLoadResult result = findAllOnLoadExecutables(PAGE_ID, widgetBindings);
+
+        assertThat(result.scheduleIds()).isEmpty();
+        verifyScheduleComputations(PAGE_ID, 2);
+    }
+
+    @Test
+    void findAllOnLoadExecutables_whenCollectionHasChanged_computesScheduleAgain() {
+        executables.add(createAction("api1", "Api1"));
+        ActionDTO collectionAction = createCollectionAction("jsFunction1", "JSObject1", "myFun1");
+        executables.add(collectionAction);
+        Map<String, Set<String>> widgetBindings = Map.of("Text1.text", Set.of("Api1.data", "JSObject2.myFun1.data"));
+
+        OnLoadResult result = findAllOnLoadExecutables(PAGE_ID, widgetBindings);
+        assertThat(result.scheduleIds()).isEqualTo(List.of(Set.of("api1")));
+
+        // The collection is renamed to the name the widget refers to
+        collectionAction.setFullyQualifiedName("JSObject2.myFun1");
+        result = findAllOnLoadExecutables(PAGE_ID, widgetBindings);
+
+        assertThat(result.scheduleIds()).isEqualTo(List.of(Set.of("api1", "jsFunction1")));
+        verifyScheduleComputations(PAGE_ID, 2);
+    }
+
+    @Test
+    void findAllOnLoadExecutables_whenPageHasChanged_computesScheduleAgain() {
+        executables.add(createAction("api1", "Api1"));
+        executables.add(createAction("api2", "Api2"));
+        findAllOnLoadExecutables(PAGE_ID, Map.of("Text1.text", Set.of("Api1.data")));
+
+        OnLoadResult result = findAllOnLoadExecutables(PAGE_ID, Map.of("Text1.text", Set.of("Api2.data")));
+
+        assertThat(result.scheduleIds()).isEqualTo(List.of(Set.of("api2")));
+        assertThat(result.executablesUsedInDsl()).isEqualTo(Set.of("Api2"));
+        verifyScheduleComputations(PAGE_ID, 2);
+    }
+
+    @Test
+    void findAllOnLoadExecutables_whenMoreCreatorsThanCachedAreSeen_leastRecentlyUsedScheduleIsDropped() {
+        executables.add(createAction("api1", "Api1"));
+        Map<String, Set<String>> widgetBindings = Map.of("Text1.text", Set.of("Api1.data"));
+
+        // One more creator than the schedules that are kept
+        for (int i = 0; i <= 1000; i++) {
+            findAllOnLoadExecutables("page" + i, widgetBindings);
+        }
+
+        findAllOnLoadExecutables("page1000", widgetBindings);
+        verifyScheduleComputations("page1000", 1);
+
+        findAllOnLoadExecutables("page0", widgetBindings);
+        verifyScheduleComputations("page0", 2);
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import java.util.List;
 import java.util.UUID;
@@ -104,4 +105,67 @@ class CustomNewPageRepositoryTest {
                         null, "pageId", AclPermission.PAGE_CREATE_PAGE_ACTIONS, null))
                 .verifyComplete();
     }
+
+    @Test
+    void bulkInsertOrUpdate_WhenSomePagesExist_InsertsNewPagesAndUpdatesExistingOnes() {
+        NewPage existingPage = createNewPage();
+        NewPage newPage = createNewPage();
+        newPage.updateForBulkWriteOperation();
+        String newPageName = newPage.getUnpublishedPage().getName();
+
+        Mono<List<NewPage>> pagesMono = newPageRepository
+                .save(existingPage)
+                .flatMap(savedPage -> {
+                    savedPage.getUnpublishedPage().setName("Updated page");
+                    return newPageRepository.bulkInsertOrUpdate(List.of(savedPage, newPage));
+                })
+                .then(Mono.defer(() -> newPageRepository
+                        .findAllById(List.of(existingPage.getId(), newPage.getId()))
+                        .collectList()));
+
+        StepVerifier.create(pagesMono)
+                .assertNext(pages -> {
+                    assertThat(pages).hasSize(2);
+                    assertThat(pages)
+                            .extracting(page -> page.getUnpublishedPage().getName())
+                            .containsExactlyInAnyOrder("Updated page", newPageName);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void bulkUpdate_WhenFieldIsCleared_UnsetsFieldAndUpdatesAuditFields() {
+        NewPage page = createNewPage();
+        page.setApplicationId("applicationId");
+
+        Mono<Tuple2<NewPage, NewPage>> pagesMono = newPageRepository
+                .save(page)
+                .flatMap(savedPage -> newPageRepository
+                        .findById(savedPage.getId())
+                        .flatMap(pageBeforeUpdate -> {
+                            savedPage.setApplicationId(null);
+                            return newPageRepository
+                                    .bulkUpdate(List.of(savedPage))
+                                    .then(newPageRepository.findById(savedPage.getId()))
+                                    .map(pageAfterUpdate -> Tuples.of(pageBeforeUpdate, pageAfterUpdate));
+                        }));
+
+        StepVerifier.create(pagesMono)
+                .assertNext(pages -> {
+                    NewPage pageBeforeUpdate = pages.getT1();
+                    NewPage pageAfterUpdate = pages.getT2();
+                    assertThat(pageAfterUpdate.getApplicationId()).isNull();
+                    assertThat(pageAfterUpdate.getUnpublishedPage().getName())
+                            .isEqualTo(pageBeforeUpdate.getUnpublishedPage().getName());
+
+                    assertThat(pageAfterUpdate.getCreatedAt()).isEqualTo(pageBeforeUpdate.getCreatedAt());
+                    assertThat(pageAfterUpdate.getUpdatedAt()).isAfterOrEqualTo(pageBeforeUpdate.getUpdatedAt());
+                    // There is no auditor, so saving a page does not populate these either and nothing relies on them
+                    assertThat(pageBeforeUpdate.getCreatedBy()).isNull();
+                    assertThat(pageBeforeUpdate.getModifiedBy()).isNull();
+                    assertThat(pageAfterUpdate.getCreatedBy()).isNull();
+                    assertThat(pageAfterUpdate.getModifiedBy()).isNull();
+                })
+                .verifyComplete();
+    }
 }
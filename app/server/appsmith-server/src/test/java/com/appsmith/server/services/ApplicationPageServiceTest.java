@@ -37,6 +37,7 @@ import reactor.test.StepVerifier;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -268,6 +269,49 @@ public class ApplicationPageServiceTest {
                 .verifyComplete();
     }
 
+    /**
+     * This test is to ensure that concurrent fetches of a page whose DSL is not the latest share one migration
+     */
+    @Test
+    @WithUserDetails("api_user")
+    public void getPageAndMigrateDslByBranchAndDefaultPageId_WhenFetchedConcurrently_DslMigratedOnce() {
+        String uuid = UUID.randomUUID().toString();
+        NewPage newPage = createApplication("App_" + uuid)
+                .flatMap(application -> newPageService.getByIdWithoutPermissionCheck(
+                        application.getPages().get(0).getId()))
+                .block();
+
+        JSONObject unpublishedDsl = newPage.getUnpublishedPage().getLayouts().get(0).getDsl();
+        int olderDslVersion = unpublishedDsl.getAsNumber("version").intValue() - 1;
+        unpublishedDsl.put("version", olderDslVersion);
+        newPageService.save(newPage).block();
+
+        JSONObject dslAfterMigration = new JSONObject();
+        dslAfterMigration.put("version", olderDslVersion + 1);
+        dslAfterMigration.put("testKey", "testValue");
+
+        Mockito.when(dslMigrationUtils.getLatestDslVersion()).thenReturn(Mono.just(olderDslVersion + 1));
+        Mockito.when(dslMigrationUtils.migratePageDsl(any(JSONObject.class)))
+                .thenReturn(Mono.just(dslAfterMigration).delayElement(Duration.ofMillis(200)));
+
+        Mono<PageDTO> pageMono =
+                applicationPageService.getPageAndMigrateDslByBranchAndBasePageId(newPage.getId(), null, false, true);
+
+        StepVerifier.create(Mono.zip(pageMono, pageMono))
+                .assertNext(pages -> {
+                    assertThat(pages.getT1().getLayouts().get(0).getDsl().getAsString("testKey"))
+                            .isEqualTo("testValue");
+                    assertThat(pages.getT2().getLayouts().get(0).getDsl().getAsString("testKey"))
+                            .isEqualTo("testValue");
+                    // Every viewer gets its own copy of the migrated dsl
+                    assertThat(pages.getT1().getLayouts().get(0).getDsl())
+                            .isNotSameAs(pages.getT2().getLayouts().get(0).getDsl());
+                })
+                .verifyComplete();
+
+        Mockito.verify(dslMigrationUtils, Mockito.times(1)).migratePageDsl(any(JSONObject.class));
+    }
+
     /**
      * This test is to ensure that the DSL migration is triggered when DSL does not have version
      */
@@ -19,6 +19,7 @@ import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
@@ -49,11 +50,17 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.security.test.context.support.WithUserDetails;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -106,6 +113,9 @@ public class DatasourceContextServiceTest {
     @SpyBean
     DatasourceContextServiceImpl datasourceContextService;
 
+    @SpyBean
+    CommonConfig commonConfig;
+
     @Autowired
     EnvironmentPermission environmentPermission;
 
@@ -171,10 +181,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
 
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -202,7 +211,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -371,14 +380,13 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -455,14 +463,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage,
-                        emptyPlugin,
-                        spyMockPluginExecutor,
-                        monitor,
-                        datasourceContextIdentifier)
+                        createdDatasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
         assertTrue(dsc1.getConnection() instanceof UpdatableConnection);
@@ -471,11 +474,7 @@ public class DatasourceContextServiceTest {
 
         final DatasourceContext<?> dsc2 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage,
-                        emptyPlugin,
-                        spyMockPluginExecutor,
-                        monitor,
-                        datasourceContextIdentifier)
+                        createdDatasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
@@ -510,11 +509,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -527,7 +524,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -552,17 +549,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
@@ -767,4 +762,195 @@ public class DatasourceContextServiceTest {
                 .expectNextCount(0)
                 .verifyComplete();
     }
+
+    private DatasourceStorage createDatasourceStorage(String datasourceId) {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        return datasourceStorage;
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictIdleDatasourceContexts_destroysIdleConnections() throws InterruptedException {
+        doReturn(0L).when(commonConfig).getDatasourceContextIdleTimeoutMinutes();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("idle_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage(UUID.randomUUID().toString());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, new Plugin(), spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        // Make sure that the context was last used before the eviction runs
+        Thread.sleep(10);
+        datasourceContextService.evictIdleDatasourceContexts();
+
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+        Mockito.verify(spyMockPluginExecutor, Mockito.timeout(5000).times(1)).datasourceDestroy("idle_connection");
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testEvictIdleDatasourceContexts_whenContextIsInUse_closesConnectionOnlyAfterExecutionFinishes()
+            throws Exception {
+        doReturn(0L).when(commonConfig).getDatasourceContextIdleTimeoutMinutes();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("busy_connection")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage(UUID.randomUUID().toString());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                datasourceContextService.initializeDatasourceContextIdentifier(datasourceStorage);
+
+        // An execution that holds on to the connection until it is told to finish
+        CountDownLatch contextAcquired = new CountDownLatch(1);
+        Sinks.Empty<Void> executionFinished = Sinks.empty();
+        CompletableFuture<Object> execution = datasourceContextService
+                .keepDatasourceContextInUse(
+                        datasourceStorage,
+                        datasourceContextService
+                                .getCachedDatasourceContextMono(
+                                        datasourceStorage,
+                                        new Plugin(),
+                                        spyMockPluginExecutor,
+                                        datasourceContextIdentifier)
+                                .doOnNext(datasourceContext -> contextAcquired.countDown())
+                                .flatMap(datasourceContext ->
+                                        executionFinished.asMono().thenReturn(datasourceContext.getConnection())))
+                .toFuture();
+        assertTrue(contextAcquired.await(5, TimeUnit.SECONDS));
+
+        // The context has been idle for longer than the timeout, but is still being used
+        Thread.sleep(10);
+        datasourceContextService.evictIdleDatasourceContexts();
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+
+        executionFinished.tryEmitEmpty();
+        assertEquals("busy_connection", execution.get(5, TimeUnit.SECONDS));
+
+        Thread.sleep(10);
+        datasourceContextService.evictIdleDatasourceContexts();
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                datasourceStorage, datasourceContextIdentifier));
+        Mockito.verify(spyMockPluginExecutor, Mockito.timeout(5000).times(1)).datasourceDestroy("busy_connection");
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceContextCreate_whenMaxCountIsExceeded_destroysLeastRecentlyUsedConnection()
+            throws InterruptedException {
+        doReturn(1).when(commonConfig).getDatasourceContextMaxCount();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("old_connection"))
+                .doReturn(Mono.just("new_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage oldDatasourceStorage = createDatasourceStorage(UUID.randomUUID().toString());
+        DatasourceContextIdentifier oldDatasourceContextIdentifier =
+                new DatasourceContextIdentifier(oldDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        oldDatasourceStorage, new Plugin(), spyMockPluginExecutor, oldDatasourceContextIdentifier)
+                .block();
+
+        Thread.sleep(10);
+        DatasourceStorage newDatasourceStorage = createDatasourceStorage(UUID.randomUUID().toString());
+        DatasourceContextIdentifier newDatasourceContextIdentifier =
+                new DatasourceContextIdentifier(newDatasourceStorage.getDatasourceId(), defaultEnvironmentId);
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        newDatasourceStorage, new Plugin(), spyMockPluginExecutor, newDatasourceContextIdentifier)
+                .block();
+
+        Mockito.verify(spyMockPluginExecutor, Mockito.timeout(5000).times(1)).datasourceDestroy("old_connection");
+        Mockito.verify(spyMockPluginExecutor, Mockito.never()).datasourceDestroy("new_connection");
+        assertFalse(datasourceContextService.isValidDatasourceContextAvailable(
+                oldDatasourceStorage, oldDatasourceContextIdentifier));
+        assertTrue(datasourceContextService.isValidDatasourceContextAvailable(
+                newDatasourceStorage, newDatasourceContextIdentifier));
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testGetCachedDatasourceContextMono_withConcurrentExecutions_createsOneConnection() {
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1"))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage(UUID.randomUUID().toString());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+
+        List<Object> connections = Flux.range(0, 500)
+                .flatMap(
+                        i -> datasourceContextService
+                                .getCachedDatasourceContextMono(
+                                        datasourceStorage,
+                                        new Plugin(),
+                                        spyMockPluginExecutor,
+                                        datasourceContextIdentifier)
+                                .map(DatasourceContext::getConnection)
+                                .subscribeOn(Schedulers.parallel()),
+                        500)
+                .collectList()
+                .block();
+
+        assertEquals(500, connections.size());
+        assertTrue(connections.stream().allMatch("connection_1"::equals));
+        Mockito.verify(spyMockPluginExecutor, Mockito.times(1)).datasourceCreate(any());
+        Mockito.verify(spyMockPluginExecutor, Mockito.never()).datasourceDestroy(any());
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testGetCachedDatasourceContextMono_whenStaleWithConcurrentExecutions_destroysOldConnectionOnce()
+            throws InterruptedException {
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("stale_connection"))
+                .doReturn(Mono.just("fresh_connection"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage(UUID.randomUUID().toString());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
+        datasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, new Plugin(), spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+
+        // Updating the datasource after the connection was created makes the cached context stale
+        Thread.sleep(10);
+        datasourceStorage.setUpdatedAt(Instant.now());
+
+        List<Object> connections = Flux.range(0, 500)
+                .flatMap(
+                        i -> datasourceContextService
+                                .getCachedDatasourceContextMono(
+                                        datasourceStorage,
+                                        new Plugin(),
+                                        spyMockPluginExecutor,
+                                        datasourceContextIdentifier)
+                                .map(DatasourceContext::getConnection)
+                                .subscribeOn(Schedulers.parallel()),
+                        500)
+                .collectList()
+                .block();
+
+        assertTrue(connections.stream().allMatch("fresh_connection"::equals));
+        Mockito.verify(spyMockPluginExecutor, Mockito.times(2)).datasourceCreate(any());
+        Mockito.verify(spyMockPluginExecutor, Mockito.times(1)).datasourceDestroy("stale_connection");
+        Mockito.verify(spyMockPluginExecutor, Mockito.never()).datasourceDestroy("fresh_connection");
+    }
 }
@@ -16,6 +16,7 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.LayoutDTO;
+import com.appsmith.server.dtos.LayoutPatchDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -46,12 +47,14 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -290,6 +293,301 @@ public class LayoutServiceTest {
                 .verifyComplete();
     }
 
+    private JSONObject createWidget(String widgetId, String widgetName, String text) {
+        JSONObject widget = new JSONObject();
+        widget.put(FieldName.WIDGET_ID, widgetId);
+        widget.put(FieldName.WIDGET_NAME, widgetName);
+        widget.put(FieldName.WIDGET_TYPE, "TEXT_WIDGET");
+        if (text != null) {
+            widget.put("text", text);
+        }
+        return widget;
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_WhenWidgetsAreChanged_ChangesAreAppliedToStoredDsl() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest patchLayout");
+
+        Application app = new Application();
+        app.setName("newApplication-patchLayout-TestApplication");
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+
+        JSONObject dsl = createWidget("0", "MainContainer", null);
+        JSONArray children = new JSONArray();
+        children.add(createWidget("text1", "Text1", "hello"));
+        children.add(createWidget("text2", "Text2", "bye"));
+        dsl.put(FieldName.CHILDREN, children);
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        updateLayoutService
+                .updateLayout(page.getId(), page.getApplicationId(), layoutId, layout)
+                .block();
+
+        // Changes the text of a widget without any bindings, so the on load executables are kept as they are
+        Mono<LayoutDTO> patchedLayoutMono = updateLayoutService.patchLayout(
+                page.getId(),
+                page.getApplicationId(),
+                layoutId,
+                new LayoutPatchDTO(Set.of(), Map.of("text1", createWidget("text1", "Text1", "world")), List.of()));
+
+        StepVerifier.create(patchedLayoutMono)
+                .assertNext(layoutDTO -> {
+                    assertThat(layoutDTO.getId()).isEqualTo(layoutId);
+                    assertThat(layoutDTO.getDsl()).isNull();
+                })
+                .verifyComplete();
+
+        // Removes a widget and adds another one in its place, which changes the names of the widgets
+        patchedLayoutMono = updateLayoutService.patchLayout(
+                page.getId(),
+                page.getApplicationId(),
+                layoutId,
+                new LayoutPatchDTO(
+                        Set.of("text2"),
+                        Map.of(),
+                        List.of(new LayoutPatchDTO.AddedWidgetDTO("0", 0, createWidget("text3", "Text3", "new")))));
+
+        StepVerifier.create(patchedLayoutMono.then(newPageService.findByIdAndLayoutsId(
+                        page.getId(), layoutId, AclPermission.MANAGE_PAGES, false)))
+                .assertNext(pageDTO -> {
+                    Layout storedLayout = pageDTO.getLayouts().get(0);
+                    List<Map<String, Object>> storedChildren =
+                            (List<Map<String, Object>>) storedLayout.getDsl().get(FieldName.CHILDREN);
+                    assertThat(storedChildren)
+                            .extracting(child -> child.get(FieldName.WIDGET_NAME))
+                            .containsExactly("Text3", "Text1");
+                    assertThat(storedChildren.get(1).get("text")).isEqualTo("world");
+                    assertThat(storedLayout.getWidgetNames())
+                            .containsExactlyInAnyOrder("MainContainer", "Text1", "Text3");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_WhenWidgetDoesNotExist_ThrowsInvalidParameter() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest patchLayout invalid widget");
+
+        Application app = new Application();
+        app.setName("newApplication-patchLayoutInvalidWidget-TestApplication");
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+
+        Mono<LayoutDTO> patchedLayoutMono = updateLayoutService.patchLayout(
+                page.getId(),
+                page.getApplicationId(),
+                page.getLayouts().get(0).getId(),
+                new LayoutPatchDTO(Set.of("random-impossible-widget-id"), Map.of(), List.of()));
+
+        StepVerifier.create(patchedLayoutMono)
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && ((AppsmithException) throwable).getError() == AppsmithError.INVALID_PARAMETER)
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_WhenWidgetIsDeletedAlongWithItsParent_ParentAndWidgetAreDeleted() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest patchLayout nested delete");
+
+        Application app = new Application();
+        app.setName("newApplication-patchLayoutNestedDelete-TestApplication");
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+
+        JSONObject container = createWidget("container1", "Container1", null);
+        JSONArray containerChildren = new JSONArray();
+        containerChildren.add(createWidget("text1", "Text1", "hello"));
+        container.put(FieldName.CHILDREN, containerChildren);
+        JSONObject dsl = createWidget("0", "MainContainer", null);
+        JSONArray children = new JSONArray();
+        children.add(container);
+        children.add(createWidget("text2", "Text2", "bye"));
+        dsl.put(FieldName.CHILDREN, children);
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        updateLayoutService
+                .updateLayout(page.getId(), page.getApplicationId(), layoutId, layout)
+                .block();
+
+        // The child is deleted after its parent whatever order the ids are iterated in
+        Set<String> deletedWidgetIds = new LinkedHashSet<>(List.of("container1", "text1"));
+        Mono<PageDTO> pageMono = updateLayoutService
+                .patchLayout(
+                        page.getId(),
+                        page.getApplicationId(),
+                        layoutId,
+                        new LayoutPatchDTO(deletedWidgetIds, Map.of(), List.of()))
+                .then(newPageService.findByIdAndLayoutsId(page.getId(), layoutId, AclPermission.MANAGE_PAGES, false));
+
+        StepVerifier.create(pageMono)
+                .assertNext(pageDTO -> {
+                    Layout storedLayout = pageDTO.getLayouts().get(0);
+                    List<Map<String, Object>> storedChildren =
+                            (List<Map<String, Object>>) storedLayout.getDsl().get(FieldName.CHILDREN);
+                    assertThat(storedChildren)
+                            .extracting(child -> child.get(FieldName.WIDGET_NAME))
+                            .containsExactly("Text2");
+                    assertThat(storedLayout.getWidgetNames()).containsExactlyInAnyOrder("MainContainer", "Text2");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_WhenChildOfAddedWidgetHasExistingId_ThrowsInvalidParameter() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest patchLayout duplicate child");
+
+        Application app = new Application();
+        app.setName("newApplication-patchLayoutDuplicateChild-TestApplication");
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+
+        JSONObject dsl = createWidget("0", "MainContainer", null);
+        JSONArray children = new JSONArray();
+        children.add(createWidget("text1", "Text1", "hello"));
+        dsl.put(FieldName.CHILDREN, children);
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        updateLayoutService
+                .updateLayout(page.getId(), page.getApplicationId(), layoutId, layout)
+                .block();
+
+        JSONObject container = createWidget("container1", "Container1", null);
+        JSONArray containerChildren = new JSONArray();
+        containerChildren.add(createWidget("text1", "Text2", "copy"));
+        container.put(FieldName.CHILDREN, containerChildren);
+        Mono<LayoutDTO> patchedLayoutMono = updateLayoutService.patchLayout(
+                page.getId(),
+                page.getApplicationId(),
+                layoutId,
+                new LayoutPatchDTO(
+                        Set.of(), Map.of(), List.of(new LayoutPatchDTO.AddedWidgetDTO("0", null, container))));
+
+        StepVerifier.create(patchedLayoutMono)
+                .expectErrorMatches(throwable -> throwable instanceof AppsmithException
+                        && ((AppsmithException) throwable).getError() == AppsmithError.INVALID_PARAMETER)
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void patchLayout_WhenPatchedConcurrently_AllChangesAreApplied() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest patchLayout concurrent");
+
+        Application app = new Application();
+        app.setName("newApplication-patchLayoutConcurrent-TestApplication");
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+
+        JSONObject dsl = createWidget("0", "MainContainer", null);
+        JSONArray children = new JSONArray();
+        children.add(createWidget("text1", "Text1", "hello"));
+        children.add(createWidget("text2", "Text2", "bye"));
+        dsl.put(FieldName.CHILDREN, children);
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        updateLayoutService
+                .updateLayout(page.getId(), page.getApplicationId(), layoutId, layout)
+                .block();
+
+        // Each patch reads and saves the whole DSL, so the second one would overwrite the first if they interleaved
+        Mono<LayoutDTO> firstPatchMono = updateLayoutService
+                .patchLayout(
+                        page.getId(),
+                        page.getApplicationId(),
+                        layoutId,
+                        new LayoutPatchDTO(
+                                Set.of(), Map.of("text1", createWidget("text1", "Text1", "first")), List.of()))
+                .subscribeOn(Schedulers.parallel());
+        Mono<LayoutDTO> secondPatchMono = updateLayoutService
+                .patchLayout(
+                        page.getId(),
+                        page.getApplicationId(),
+                        layoutId,
+                        new LayoutPatchDTO(
+                                Set.of(), Map.of("text2", createWidget("text2", "Text2", "second")), List.of()))
+                .subscribeOn(Schedulers.parallel());
+
+        StepVerifier.create(Mono.when(firstPatchMono, secondPatchMono)
+                        .then(newPageService.findByIdAndLayoutsId(
+                                page.getId(), layoutId, AclPermission.MANAGE_PAGES, false)))
+                .assertNext(pageDTO -> {
+                    List<Map<String, Object>> storedChildren = (List<Map<String, Object>>)
+                            pageDTO.getLayouts().get(0).getDsl().get(FieldName.CHILDREN);
+                    assertThat(storedChildren)
+                            .extracting(child -> child.get("text"))
+                            .containsExactly("first", "second");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updateLayout_WhenPatchedConcurrently_LayoutIsNotOverwrittenByPatch() {
+        PageDTO testPage = new PageDTO();
+        testPage.setName("LayoutServiceTest updateLayout concurrent patch");
+
+        Application app = new Application();
+        app.setName("newApplication-updateLayoutConcurrentPatch-TestApplication");
+        PageDTO page = createPage(app, testPage).block();
+        assertThat(page).isNotNull();
+        final String layoutId = page.getLayouts().get(0).getId();
+
+        JSONObject dsl = createWidget("0", "MainContainer", null);
+        JSONArray children = new JSONArray();
+        children.add(createWidget("text1", "Text1", "hello"));
+        children.add(createWidget("text2", "Text2", "bye"));
+        dsl.put(FieldName.CHILDREN, children);
+        Layout layout = new Layout();
+        layout.setDsl(dsl);
+        updateLayoutService
+                .updateLayout(page.getId(), page.getApplicationId(), layoutId, layout)
+                .block();
+
+        // The patch saves the DSL it read before the update, so it would undo the update if they interleaved
+        JSONObject updatedDsl = createWidget("0", "MainContainer", null);
+        JSONArray updatedChildren = new JSONArray();
+        updatedChildren.add(createWidget("text1", "Text1", "updated"));
+        updatedChildren.add(createWidget("text2", "Text2", "bye"));
+        updatedDsl.put(FieldName.CHILDREN, updatedChildren);
+        Layout updatedLayout = new Layout();
+        updatedLayout.setDsl(updatedDsl);
+        Mono<LayoutDTO> updateMono = updateLayoutService
+                .updateLayout(page.getId(), page.getApplicationId(), layoutId, updatedLayout)
+                .subscribeOn(Schedulers.parallel());
+        Mono<LayoutDTO> patchMono = updateLayoutService
+                .patchLayout(
+                        page.getId(),
+                        page.getApplicationId(),
+                        layoutId,
+                        new LayoutPatchDTO(
+                                Set.of(), Map.of("text2", createWidget("text2", "Text2", "patched")), List.of()))
+                .subscribeOn(Schedulers.parallel());
+
+        StepVerifier.create(Mono.when(updateMono, patchMono)
+                        .then(newPageService.findByIdAndLayoutsId(
+                                page.getId(), layoutId, AclPermission.MANAGE_PAGES, false)))
+                .assertNext(pageDTO -> {
+                    List<Map<String, Object>> storedChildren = (List<Map<String, Object>>)
+                            pageDTO.getLayouts().get(0).getDsl().get(FieldName.CHILDREN);
+                    // The patch is either applied to the updated DSL, or replaced along with the rest of the DSL
+                    assertThat(storedChildren.get(0).get("text")).isEqualTo("updated");
+                })
+                .verifyComplete();
+    }
+
     private Mono<LayoutDTO> createComplexAppForExecuteOnLoad(Mono<PageDTO> pageMono) {
 
         return pageMono.flatMap(page1 -> {
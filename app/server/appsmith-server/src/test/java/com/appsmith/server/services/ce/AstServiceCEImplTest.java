@@ -0,0 +1,173 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.helpers.RTSCaller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+import reactor.util.function.Tuple2;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+class AstServiceCEImplTest {
+
+    private static final String MULTIPLE_SCRIPT_DATA_PATH = "/rts-api/v1/ast/multiple-script-data";
+
+    private static final int EVAL_VERSION = 2;
+
+    // RTS fails every call that contains this script
+    private static final String FAILING_SCRIPT = "Api1.data(";
+
+    // Scripts of every call made to RTS, along with the context it was made with
+    private final List<List<String>> sentBatches = new CopyOnWriteArrayList<>();
+
+    private final List<ContextView> sentContexts = new CopyOnWriteArrayList<>();
+
+    private volatile boolean isRtsReturningData;
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    void setUp() {
+        isRtsReturningData = true;
+
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        RTSCaller rtsCaller = Mockito.mock(RTSCaller.class);
+        Mockito.when(rtsCaller.post(eq(MULTIPLE_SCRIPT_DATA_PATH), any())).thenAnswer(invocation -> {
+            AstServiceCEImpl.GetIdentifiersRequestBulk request = invocation.getArgument(1);
+            return Mono.deferContextual(context -> {
+                sentBatches.add(request.getScripts());
+                sentContexts.add(context);
+                return Mono.just(createRtsWebClient(request.getScripts())
+                        .method(HttpMethod.POST)
+                        .uri(MULTIPLE_SCRIPT_DATA_PATH));
+            });
+        });
+
+        astService = new AstServiceCEImpl(Mockito.mock(CommonConfig.class), instanceConfig, rtsCaller);
+    }
+
+    /**
+     * RTS is stubbed at the HTTP exchange, and references every script as {@code <script>.data}
+     */
+    private WebClient createRtsWebClient(List<String> scripts) {
+        if (scripts.contains(FAILING_SCRIPT)) {
+            return WebClient.builder()
+                    .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.BAD_REQUEST).build()))
+                    .build();
+        }
+
+        String data = scripts.stream()
+                .map(script -> "{\"references\": [\"" + script + ".data\"], \"variables\": []}")
+                .collect(Collectors.joining(", ", "[", "]"));
+        String body = isRtsReturningData ? "{\"data\": " + data + "}" : "{}";
+
+        return WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .build();
+    }
+
+    private Mono<Map<String, Set<String>>> getReferences(List<String> bindings) {
+        return astService
+                .getPossibleReferencesFromDynamicBinding(bindings, EVAL_VERSION)
+                .collectMap(Tuple2::getT1, Tuple2::getT2);
+    }
+
+    @Test
+    void getPossibleReferencesFromDynamicBinding_withConcurrentLookups_sendsOneBatch() {
+        Mono<Map<String, Set<String>>> firstLookupMono = getReferences(List.of("Api1", "Api2"));
+        Mono<Map<String, Set<String>>> secondLookupMono = getReferences(List.of("Api2", "Api3"));
+
+        StepVerifier.create(Mono.zip(firstLookupMono, secondLookupMono))
+                .assertNext(references -> {
+                    assertThat(references.getT1())
+                            .isEqualTo(Map.of("Api1", Set.of("Api1.data"), "Api2", Set.of("Api2.data")));
+                    assertThat(references.getT2())
+                            .isEqualTo(Map.of("Api2", Set.of("Api2.data"), "Api3", Set.of("Api3.data")));
+                })
+                .verifyComplete();
+
+        // The binding that both lookups asked for is sent once
+        assertThat(sentBatches).hasSize(1);
+        assertThat(sentBatches.get(0)).containsExactlyInAnyOrder("Api1", "Api2", "Api3");
+    }
+
+    @Test
+    void getPossibleReferencesFromDynamicBinding_withBindingLookedUpAgain_servesReferencesFromMemo() {
+        getReferences(List.of("Api1")).block();
+
+        StepVerifier.create(getReferences(List.of("Api1", "Api2")))
+                .assertNext(references -> assertThat(references)
+                        .isEqualTo(Map.of("Api1", Set.of("Api1.data"), "Api2", Set.of("Api2.data"))))
+                .verifyComplete();
+
+        assertThat(sentBatches).containsExactly(List.of("Api1"), List.of("Api2"));
+    }
+
+    @Test
+    void getPossibleReferencesFromDynamicBinding_whenRtsReturnsNoData_bindingIsLeftOutAndNotMemoized() {
+        isRtsReturningData = false;
+        StepVerifier.create(getReferences(List.of("Api1")))
+                .assertNext(references -> assertThat(references).isEmpty())
+                .verifyComplete();
+
+        isRtsReturningData = true;
+        StepVerifier.create(getReferences(List.of("Api1")))
+                .assertNext(references -> assertThat(references).isEqualTo(Map.of("Api1", Set.of("Api1.data"))))
+                .verifyComplete();
+
+        assertThat(sentBatches).hasSize(2);
+    }
+
+    @Test
+    void getPossibleReferencesFromDynamicBinding_whenBatchIsSent_batchIsSentWithContextOfCaller() {
+        StepVerifier.create(getReferences(List.of("Api1")).contextWrite(Context.of("requestId", "request-1")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(sentContexts).hasSize(1);
+        assertThat(sentContexts.get(0).<String>getOrEmpty("requestId")).contains("request-1");
+    }
+
+    @Test
+    void getPossibleReferencesFromDynamicBinding_whenRtsFailsOnOneBinding_onlyItsCallerGetsTheError() {
+        Mono<Map<String, Set<String>>> validLookupMono = getReferences(List.of("Api1", "Api2"));
+        Mono<Map<String, Set<String>>> failingLookupMono = getReferences(List.of(FAILING_SCRIPT));
+
+        StepVerifier.create(Mono.zip(validLookupMono, failingLookupMono.map(Map::size).onErrorReturn(-1)))
+                .assertNext(references -> {
+                    assertThat(references.getT1())
+                            .isEqualTo(Map.of("Api1", Set.of("Api1.data"), "Api2", Set.of("Api2.data")));
+                    assertThat(references.getT2()).isEqualTo(-1);
+                })
+                .verifyComplete();
+
+        // The batch is split until the failing binding is sent on its own
+        assertThat(sentBatches.get(0)).containsExactlyInAnyOrder("Api1", "Api2", FAILING_SCRIPT);
+        assertThat(sentBatches).contains(List.of(FAILING_SCRIPT));
+    }
+}
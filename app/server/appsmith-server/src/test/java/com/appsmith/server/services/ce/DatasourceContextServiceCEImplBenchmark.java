@@ -0,0 +1,119 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of getting the cached datasource context of a single datasource, with 500 action executions
+ * asking for it concurrently.
+ *
+ * <ul>
+ *     <li>lockedLookup: the thread hop and the monitor per datasource that every lookup used to go through</li>
+ *     <li>cachedLookup: the lookup of {@link DatasourceContextServiceCEImpl#getCachedDatasourceContextMono}, which
+ *     returns a valid cached context on the calling thread without taking a lock</li>
+ * </ul>
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatasourceContextServiceCEImplBenchmark {
+
+    private static final int CONCURRENT_EXECUTIONS = 500;
+
+    private DatasourceContextServiceCEImpl datasourceContextService;
+
+    private final MockPluginExecutor pluginExecutor = new MockPluginExecutor() {
+        @Override
+        public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            return Mono.just("connection");
+        }
+    };
+
+    private final Plugin plugin = new Plugin();
+
+    private final DatasourceStorage datasourceStorage = new DatasourceStorage();
+
+    private final DatasourceContextIdentifier datasourceContextIdentifier =
+            new DatasourceContextIdentifier("datasourceId", "environmentId");
+
+    private final Object monitor = new Object();
+
+    @Setup
+    public void setUp() {
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setDatasourceContextMaxCount(1000);
+        datasourceContextService = new DatasourceContextServiceCEImpl(null, null, null, null, null, null, commonConfig);
+
+        datasourceStorage.setDatasourceId(datasourceContextIdentifier.getDatasourceId());
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+
+        // Create the connection once, so that both benchmarks only measure getting the cached context
+        getCachedDatasourceContext().block();
+    }
+
+    private Mono<DatasourceContext<Object>> getCachedDatasourceContext() {
+        return datasourceContextService.getCachedDatasourceContextMono(
+                datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
+    }
+
+    private Mono<DatasourceContext<Object>> getLockedDatasourceContext() {
+        return Mono.fromCallable(() -> {
+                    synchronized (monitor) {
+                        return datasourceContextService.datasourceContextMonoMap.get(datasourceContextIdentifier);
+                    }
+                })
+                .flatMap(obj -> obj)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_EXECUTIONS)
+    public Object lockedLookup() {
+        return Flux.range(0, CONCURRENT_EXECUTIONS)
+                .flatMap(i -> getLockedDatasourceContext().subscribeOn(Schedulers.parallel()), CONCURRENT_EXECUTIONS)
+                .blockLast();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_EXECUTIONS)
+    public Object cachedLookup() {
+        return Flux.range(0, CONCURRENT_EXECUTIONS)
+                .flatMap(i -> getCachedDatasourceContext().subscribeOn(Schedulers.parallel()), CONCURRENT_EXECUTIONS)
+                .blockLast();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(DatasourceContextServiceCEImplBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
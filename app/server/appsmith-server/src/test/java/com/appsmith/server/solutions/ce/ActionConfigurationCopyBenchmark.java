@@ -0,0 +1,114 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.util.SerializationUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes to copy the action configuration of a typical API action before its bindings are
+ * substituted, so that the raw configuration can be sent with the analytics event of the execution.
+ *
+ * <ul>
+ *     <li>jsonRoundTrip: serializes the configuration to JSON and reads it back, which is how it used to be copied</li>
+ *     <li>structuralCopy: {@link ActionExecutionSolutionCEImpl#copyActionConfiguration}</li>
+ * </ul>
+ *
+ * Run with the main method from the IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionConfigurationCopyBenchmark {
+
+    private final ObjectMapper objectMapper = SerializationUtils.getDefaultObjectMapper(null);
+
+    private ActionExecutionSolutionCEImpl actionExecutionSolution;
+
+    private ActionConfiguration actionConfiguration;
+
+    @Setup
+    public void setUp() {
+        actionExecutionSolution = new ActionExecutionSolutionCEImpl(
+                null,
+                null,
+                ObservationRegistry.NOOP,
+                objectMapper,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new CommonConfig(),
+                null);
+
+        actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("/users/{{Input1.text}}/orders");
+        actionConfiguration.setHttpMethod(HttpMethod.POST);
+        actionConfiguration.setBody("{\"id\": {{Table1.selectedRow.id}}, \"items\": {{Table1.selectedRow.items}}}");
+        List<Property> headers = new ArrayList<>();
+        List<Property> queryParameters = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            headers.add(new Property("header" + i, "{{appsmith.store.header" + i + "}}"));
+            queryParameters.add(new Property("param" + i, "{{Table1.pageNo}}"));
+        }
+        actionConfiguration.setHeaders(headers);
+        actionConfiguration.setQueryParameters(queryParameters);
+        Map<String, Object> formData = new HashMap<>();
+        formData.put("command", new HashMap<>(Map.of("data", "FIND")));
+        formData.put("find", new HashMap<>(Map.of("query", new HashMap<>(Map.of("data", "{{Input1.text}}")))));
+        formData.put("projection", new ArrayList<>(List.of("name", "email", "orders")));
+        actionConfiguration.setFormData(formData);
+    }
+
+    @Benchmark
+    public ActionConfiguration jsonRoundTrip() throws JsonProcessingException {
+        return objectMapper.readValue(objectMapper.writeValueAsString(actionConfiguration), ActionConfiguration.class);
+    }
+
+    @Benchmark
+    public ActionConfiguration structuralCopy() {
+        return actionExecutionSolution.copyActionConfiguration(actionConfiguration);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(ActionConfigurationCopyBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
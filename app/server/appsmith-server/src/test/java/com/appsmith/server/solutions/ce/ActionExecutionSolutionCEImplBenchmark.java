@@ -0,0 +1,249 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.services.SharedConfig;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.util.SerializationUtils;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.commons.lang.StringEscapeUtils;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.codec.ByteBufferDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.DecoderHttpMessageReader;
+import org.springframework.http.codec.HttpMessageReader;
+import org.springframework.http.codec.multipart.DefaultPartHttpMessageReader;
+import org.springframework.http.codec.multipart.MultipartHttpMessageReader;
+import org.springframework.http.codec.multipart.Part;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.reactive.function.BodyExtractor;
+import org.springframework.web.reactive.function.BodyExtractors;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the peak heap used to parse an action execution request with a 50 MB file upload, from the multipart
+ * request up to the param that the upload is substituted into.
+ *
+ * <ul>
+ *     <li>joinedParts: joins every part into one buffer, copies it into a byte[] and then into a String, and replaces
+ *     the reference in the param with the escaped blob, which is what parsing the request used to do</li>
+ *     <li>streamedParts: {@link ActionExecutionSolutionCEImpl#createExecuteActionDTO}, which moves the blob to a
+ *     temporary file as it arrives and escapes it into the param straight from there</li>
+ * </ul>
+ *
+ * The peak heap of every invocation is reported as the peakHeapMb secondary result. Run with the main method from the
+ * IDE, it is not part of the test suite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ActionExecutionSolutionCEImplBenchmark {
+
+    private static final int UPLOAD_SIZE = 50 * 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private static final String BLOB_ID = "blob:12345678-1234-1234-1234-123456781234";
+
+    private static final String REQUEST_HEAD = "--boundary\r\n"
+            + "Content-Disposition: form-data; name=\"executeActionDTO\"\r\n\r\n"
+            + "{\"actionId\":\"63285a3388e48972c7519b18\",\"viewMode\":false,\"paramProperties\":"
+            + "{\"k0\":{\"datatype\":\"string\",\"blobIdentifiers\":[\"" + BLOB_ID + "\"]}}}\r\n"
+            + "--boundary\r\n"
+            + "Content-Disposition: form-data; name=\"parameterMap\"\r\n\r\n"
+            + "{\"FilePicker1.files\":\"k0\"}\r\n"
+            + "--boundary\r\n"
+            + "Content-Disposition: form-data; name=\"k0\"; filename=\"blob\"\r\n"
+            + "Content-Type: text/plain\r\n\r\n"
+            + "{\"data\": \"" + BLOB_ID + "\"}\r\n"
+            + "--boundary\r\n"
+            + "Content-Disposition: form-data; name=\"" + BLOB_ID + "\"; filename=\"blob\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n";
+
+    private static final String REQUEST_TAIL = "\r\n--boundary--\r\n";
+
+    private final byte[] uploadChunk = new byte[CHUNK_SIZE];
+
+    private ActionExecutionSolutionCEImpl actionExecutionSolution;
+
+    private BodyExtractor.Context context;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+
+        public long peakHeapMb;
+
+        @Setup(Level.Invocation)
+        public void resetPeakHeap() {
+            System.gc();
+            heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        @TearDown(Level.Invocation)
+        public void recordPeakHeap() {
+            long peakHeap = heapPools().stream()
+                    .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                    .sum();
+            peakHeapMb = peakHeap / (1024 * 1024);
+        }
+
+        private static List<MemoryPoolMXBean> heapPools() {
+            return ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP)
+                    .toList();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Arrays.fill(uploadChunk, (byte) 'x');
+
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setExecutionBlobSpillThresholdKb(1024);
+        SharedConfig sharedConfig = new SharedConfig() {
+            @Override
+            public int getCodecSize() {
+                return 2 * UPLOAD_SIZE;
+            }
+
+            @Override
+            public int getMaxResponseSize() {
+                return 2 * UPLOAD_SIZE;
+            }
+
+            @Override
+            public String getRemoteExecutionUrl() {
+                return null;
+            }
+        };
+
+        actionExecutionSolution = new ActionExecutionSolutionCEImpl(
+                null,
+                null,
+                ObservationRegistry.NOOP,
+                SerializationUtils.getDefaultObjectMapper(null),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                commonConfig,
+                sharedConfig);
+
+        DefaultPartHttpMessageReader partReader = new DefaultPartHttpMessageReader();
+        List<HttpMessageReader<?>> messageReaders = List.of(
+                new DecoderHttpMessageReader<>(new ByteBufferDecoder()),
+                partReader,
+                new MultipartHttpMessageReader(partReader));
+        context = new BodyExtractor.Context() {
+            @Override
+            public List<HttpMessageReader<?>> messageReaders() {
+                return messageReaders;
+            }
+
+            @Override
+            public Optional<ServerHttpResponse> serverResponse() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        };
+    }
+
+    private Flux<Part> partsFlux() {
+        MockServerHttpRequest request = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
+                .contentType(new MediaType("multipart", "form-data", Map.of("boundary", "boundary")))
+                .body(requestBody());
+        return BodyExtractors.toParts().extract(request, context);
+    }
+
+    // The upload is generated as it is read, so that the request itself is never held on the heap
+    private Flux<DataBuffer> requestBody() {
+        DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+        return Flux.concat(
+                Mono.fromSupplier(() -> bufferFactory.wrap(REQUEST_HEAD.getBytes(StandardCharsets.UTF_8))),
+                Flux.range(0, UPLOAD_SIZE / CHUNK_SIZE).map(i -> bufferFactory.wrap(uploadChunk)),
+                Mono.fromSupplier(() -> bufferFactory.wrap(REQUEST_TAIL.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Benchmark
+    public int joinedParts(PeakHeap peakHeap) {
+        Map<String, String> partValues = partsFlux()
+                .flatMap(part -> DataBufferUtils.join(part.content()).map(dataBuffer -> {
+                    byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                    dataBuffer.read(bytes);
+                    DataBufferUtils.release(dataBuffer);
+                    return Tuples.of(part.name(), new String(bytes, StandardCharsets.ISO_8859_1));
+                }))
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .block();
+
+        return partValues
+                .get("k0")
+                .replace(BLOB_ID, StringEscapeUtils.escapeJava(partValues.get(BLOB_ID)))
+                .length();
+    }
+
+    @Benchmark
+    public int streamedParts(PeakHeap peakHeap) {
+        ExecuteActionDTO executeActionDTO = actionExecutionSolution.createExecuteActionDTO(partsFlux()).block();
+        executeActionDTO.getBlobStore().close();
+
+        return executeActionDTO.getParams().get(0).getValue().length();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                        .include(ActionExecutionSolutionCEImplBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -3,10 +3,13 @@ package com.appsmith.server.solutions.ce;
 import com.appsmith.external.datatypes.ClientDataType;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.ParamProperty;
+import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionDTO;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.Param;
+import com.appsmith.external.models.Property;
+import com.appsmith.external.services.SharedConfig;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
@@ -57,15 +60,22 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -132,6 +142,9 @@ class ActionExecutionSolutionCEImplTest {
     @SpyBean
     CommonConfig commonConfig;
 
+    @SpyBean
+    SharedConfig sharedConfig;
+
     @Autowired
     EnvironmentPermission environmentPermission;
 
@@ -162,7 +175,8 @@ class ActionExecutionSolutionCEImplTest {
                 environmentPermission,
                 configService,
                 tenantService,
-                commonConfig);
+                commonConfig,
+                sharedConfig);
 
         ObservationRegistry.ObservationConfig mockObservationConfig =
                 Mockito.mock(ObservationRegistry.ObservationConfig.class);
@@ -423,6 +437,207 @@ class ActionExecutionSolutionCEImplTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testCreateExecuteActionDTO_withSpilledBlob_performsSubstitutionFromBlobStore() {
+        String partsWithBlobRefs =
+                """
+                    --boundary\r
+                    Content-Disposition: form-data; name="executeActionDTO"\r
+                    \r
+                    {"actionId":"63285a3388e48972c7519b18","viewMode":false,"paramProperties":{"k0":{"datatype": "string", "blobIdentifiers": ["blob:12345678-1234-1234-1234-123456781234"]}}}\r
+                    --boundary\r
+                    Content-Disposition: form-data; name="parameterMap"\r
+                    \r
+                    {"Input1.text":"k0"}\r
+                    --boundary\r
+                    Content-Disposition: form-data; name="k0"; filename="blob"\r
+                    Content-Type: text/plain\r
+                    \r
+                    {"name": "randomName", "data": "blob:12345678-1234-1234-1234-123456781234"}\r
+                    --boundary\r
+                    Content-Disposition: form-data; name="blob:12345678-1234-1234-1234-123456781234"; filename="blob"\r
+                    Content-Type: text/plain\r
+                    \r
+                    xyz\r
+                    --boundary--""";
+
+        MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
+                .contentType(new MediaType("multipart", "form-data", Map.of("boundary", "boundary")))
+                .body(partsWithBlobRefs);
+
+        final Flux<Part> partsFlux = BodyExtractors.toParts().extract(mock, this.context);
+
+        // Every blob is moved to a temporary file
+        doReturn(0).when(commonConfig).getExecutionBlobSpillThresholdKb();
+
+        StepVerifier.create(actionExecutionSolution.createExecuteActionDTO(partsFlux))
+                .assertNext(dto -> {
+                    String blobId = "blob:12345678-1234-1234-1234-123456781234";
+                    assertTrue(dto.getBlobStore().isSpilled(blobId));
+                    assertEquals(3, dto.getBlobStore().getSize(blobId));
+                    assertEquals(
+                            "{\"name\": \"randomName\", \"data\": \"xyz\"}",
+                            dto.getParams().get(0).getValue());
+
+                    dto.getBlobStore().close();
+                    assertFalse(dto.getBlobStore().contains(blobId));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testCreateExecuteActionDTO_withBlobReferencedTwice_escapesBlobIntoEveryReference() {
+        String partsWithBlobRefs =
+                """
+                    --boundary\r
+                    Content-Disposition: form-data; name="executeActionDTO"\r
+                    \r
+                    {"actionId":"63285a3388e48972c7519b18","viewMode":false,"paramProperties":{"k0":{"datatype": "string", "blobIdentifiers": ["blob:12345678-1234-1234-1234-123456781234"]}}}\r
+                    --boundary\r
+                    Content-Disposition: form-data; name="parameterMap"\r
+                    \r
+                    {"Input1.text":"k0"}\r
+                    --boundary\r
+                    Content-Disposition: form-data; name="k0"; filename="blob"\r
+                    Content-Type: text/plain\r
+                    \r
+                    {"data": "blob:12345678-1234-1234-1234-123456781234", "copy": "blob:12345678-1234-1234-1234-123456781234"}\r
+                    --boundary\r
+                    Content-Disposition: form-data; name="blob:12345678-1234-1234-1234-123456781234"; filename="blob"\r
+                    Content-Type: text/plain\r
+                    \r
+                    x"y
+                    z\r
+                    --boundary--""";
+
+        MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
+                .contentType(new MediaType("multipart", "form-data", Map.of("boundary", "boundary")))
+                .body(partsWithBlobRefs);
+
+        final Flux<Part> partsFlux = BodyExtractors.toParts().extract(mock, this.context);
+
+        StepVerifier.create(actionExecutionSolution.createExecuteActionDTO(partsFlux))
+                .assertNext(dto -> {
+                    assertEquals(
+                            "{\"data\": \"x\\\"y\\nz\", \"copy\": \"x\\\"y\\nz\"}",
+                            dto.getParams().get(0).getValue());
+                    dto.getBlobStore().close();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testCreateExecuteActionDTO_whenRequestIsLargerThanLimit_failsWithPayloadTooLarge() {
+        String parts =
+                """
+                    --boundary\r
+                    Content-Disposition: form-data; name="k0"; filename="blob"\r
+                    Content-Type: text/plain\r
+                    \r
+                    xyz\r
+                    --boundary--""";
+
+        MockServerHttpRequest mock = MockServerHttpRequest.method(HttpMethod.POST, URI.create("https://example.com"))
+                .contentType(new MediaType("multipart", "form-data", Map.of("boundary", "boundary")))
+                .body(parts);
+
+        final Flux<Part> partsFlux = BodyExtractors.toParts().extract(mock, this.context);
+
+        doReturn(0).when(sharedConfig).getCodecSize();
+
+        StepVerifier.create(actionExecutionSolution.createExecuteActionDTO(partsFlux))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getAppErrorCode()
+                                .equals(AppsmithError.PAYLOAD_TOO_LARGE.getAppErrorCode()))
+                .verify();
+    }
+
+    @Test
+    public void testCopyActionConfiguration_matchesJsonRoundTripAndIsIndependentOfOriginal() throws Exception {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("/users/{{Input1.text}}");
+        actionConfiguration.setHttpMethod(HttpMethod.POST);
+        actionConfiguration.setBody("{\"id\": {{Table1.selectedRow.id}}}");
+        actionConfiguration.setHeaders(new ArrayList<>(List.of(new Property("content-type", "application/json"))));
+        actionConfiguration.setQueryParameters(new ArrayList<>(List.of(new Property("page", "{{Table1.pageNo}}"))));
+        Map<String, Object> formData = new HashMap<>();
+        formData.put("command", new HashMap<>(Map.of("data", "FIND")));
+        formData.put("find", new HashMap<>(Map.of("query", new HashMap<>(Map.of("data", "{{Input1.text}}")))));
+        formData.put("list", new ArrayList<>(List.of("a", 1, true)));
+        actionConfiguration.setFormData(formData);
+
+        ActionConfiguration copy = actionExecutionSolution.copyActionConfiguration(actionConfiguration);
+
+        assertEquals(
+                objectMapper.writeValueAsString(
+                        objectMapper.readValue(
+                                objectMapper.writeValueAsString(actionConfiguration), ActionConfiguration.class)),
+                objectMapper.writeValueAsString(copy));
+
+        // Substitutions on the original must not show up in the copy
+        actionConfiguration.getHeaders().get(0).setValue("text/plain");
+        ((Map<String, Object>) ((Map<String, Object>) actionConfiguration.getFormData().get("find")).get("query"))
+                .put("data", "substituted");
+
+        assertEquals("application/json", copy.getHeaders().get(0).getValue());
+        assertEquals(
+                "{{Input1.text}}",
+                ((Map<String, Object>) ((Map<String, Object>) copy.getFormData().get("find")).get("query"))
+                        .get("data"));
+    }
+
+    /**
+     * Sets every field of the given object, and of the objects in its lists, to a value other than its default, so
+     * that a copy which misses a field does not compare equal to it.
+     */
+    private static <T> T withEveryFieldSet(T object) throws ReflectiveOperationException {
+        for (Field field : object.getClass().getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            field.set(object, sampleValue(field));
+        }
+        return object;
+    }
+
+    private static Object sampleValue(Field field) throws ReflectiveOperationException {
+        Class<?> type = field.getType();
+        if (type == String.class) {
+            return field.getName() + "Value";
+        } else if (type == Integer.class) {
+            return 1234;
+        } else if (type == Boolean.class) {
+            return Boolean.FALSE;
+        } else if (type == String[].class) {
+            return new String[] {field.getName()};
+        } else if (type == HttpMethod.class) {
+            return HttpMethod.PATCH;
+        } else if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants[constants.length - 1];
+        } else if (type == Object.class || type == Map.class) {
+            return new HashMap<>(Map.of(field.getName(), new ArrayList<>(List.of("nested", 1, true))));
+        } else if (type == Set.class) {
+            return new HashSet<>(Set.of(field.getName()));
+        } else if (type == List.class) {
+            Class<?> elementType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            return new ArrayList<>(List.of(withEveryFieldSet(elementType.getDeclaredConstructor().newInstance())));
+        }
+
+        throw new AssertionError("No sample value for " + field + ", please make sure that copyActionConfiguration "
+                + "copies it and add a sample value for it here");
+    }
+
+    @Test
+    public void testCopyActionConfiguration_copiesEveryField() throws Exception {
+        ActionConfiguration actionConfiguration = withEveryFieldSet(new ActionConfiguration());
+
+        ActionConfiguration copy = actionExecutionSolution.copyActionConfiguration(actionConfiguration);
+
+        assertThat(copy).usingRecursiveComparison().isEqualTo(actionConfiguration);
+    }
+
     @Test
     public void testEnrichExecutionParams_withBlobReference_performsSubstitutionCorrectly() {
         AtomicLong atomicLong = new AtomicLong(45L);
@@ -22,4 +22,22 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Maximum number of entries of this cache that each server also keeps in memory, in front of Redis.
+     * The in-memory tier is disabled when this is 0.
+     */
+    int localMaxSize() default 0;
+
+    /**
+     * Time in seconds after which entries of the in-memory tier expire. Evictions are propagated to all servers as
+     * they happen, so this only bounds how long a server may serve an entry if it missed such an eviction.
+     */
+    long localTtlSeconds() default 60;
+
+    /**
+     * Whether entries held in memory are reloaded in the background shortly before they expire, so that callers
+     * keep being served from memory. Only applies when the in-memory tier is enabled, as Redis entries do not expire.
+     */
+    boolean refreshAhead() default false;
 }
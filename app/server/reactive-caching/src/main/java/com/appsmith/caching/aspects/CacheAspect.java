@@ -18,10 +18,15 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
@@ -36,6 +41,10 @@ public class CacheAspect {
 
     public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
+    // Loads that are currently running for a cacheName:key, shared by every caller that misses the same key. The
+    // result is shared in its serialized form, so that every caller gets its own copy of the loaded object.
+    private final Map<String, Mono<byte[]>> inFlightLoads = new ConcurrentHashMap<>();
+
     @Autowired
     public CacheAspect(CacheManager cacheManager) {
         this.cacheManager = cacheManager;
@@ -89,6 +98,62 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to run the load of a missing key only once, however many callers miss it concurrently.
+     * Callers that miss the key while a load for it is in flight get a copy of the result of that load instead of
+     * calling the original method again, since callers may modify the object they get.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be loaded
+     * @param loader    Calls the original method and caches its result
+     * @return The result of the load
+     */
+    private Mono<Object> loadOnce(String cacheName, String key, Supplier<Mono<Object>> loader) {
+        final String inFlightKey = cacheName + ":" + key;
+        final boolean[] isNewLoad = {false};
+
+        final Mono<byte[]> load = inFlightLoads.computeIfAbsent(inFlightKey, k -> {
+            isNewLoad[0] = true;
+            // No other load can be registered for the key until this one is removed, so removing by key is safe
+            return Mono.defer(loader)
+                    .map(cacheManager::serialize)
+                    .doFinally(signal -> inFlightLoads.remove(k))
+                    .cache();
+        });
+
+        if (!isNewLoad[0]) {
+            cacheManager.getStats(cacheName).getCoalescedWaiters().incrementAndGet();
+        }
+
+        return load.map(cacheManager::deserialize);
+    }
+
+    /**
+     * This method is used to reload an entry in the background when it is about to expire from memory, so that
+     * callers keep being served from memory. The reload runs with the context of the caller that triggered it.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key to be reloaded
+     * @param loader    Calls the original method and caches its result
+     * @param value     The cached value that is returned to the caller
+     * @return The cached value
+     */
+    private Mono<Object> refreshAheadIfDue(String cacheName, String key, Supplier<Mono<Object>> loader, Object value) {
+        if (!cacheManager.isRefreshDue(cacheName, key) || inFlightLoads.containsKey(cacheName + ":" + key)) {
+            return Mono.just(value);
+        }
+
+        return Mono.deferContextual(contextView -> {
+            cacheManager.getStats(cacheName).getRefreshes().incrementAndGet();
+            loadOnce(cacheName, key, loader)
+                    .contextWrite(Context.of(contextView))
+                    .subscribe(
+                            null,
+                            error -> log.debug("Unable to refresh cache entry {}:{} ahead of expiry", cacheName, key));
+            return Mono.just(value);
+        });
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -159,6 +224,11 @@ public class CacheAspect {
         Cache annotation = method.getAnnotation(Cache.class);
         String cacheName = annotation.cacheName();
 
+        if (annotation.localMaxSize() > 0) {
+            cacheManager.configureLocalCache(
+                    cacheName, annotation.localMaxSize(), Duration.ofSeconds(annotation.localTtlSeconds()));
+        }
+
         // derive key
         String[] parameterNames = signature.getParameterNames();
         Object[] args = joinPoint.getArgs();
@@ -166,19 +236,18 @@ public class CacheAspect {
 
         Class<?> returnType = method.getReturnType();
         if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+            final Supplier<Mono<Object>> loader = () -> callMonoMethodAndCache(joinPoint, cacheName, key);
+            return withRefreshAhead(annotation, cacheName, key, loader, cacheManager.get(cacheName, key))
+                    // defer the creation of Mono until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(() -> loadOnce(cacheName, key, loader)));
         }
 
         if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
-            return cacheManager
-                    .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+            final Supplier<Mono<Object>> loader = () ->
+                    callFluxMethodAndCache(joinPoint, cacheName, key).collectList().map(list -> (Object) list);
+            return withRefreshAhead(annotation, cacheName, key, loader, cacheManager.get(cacheName, key))
+                    // defer the creation of Flux until subscription as it will call original function
+                    .switchIfEmpty(Mono.defer(() -> loadOnce(cacheName, key, loader)))
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -188,6 +257,15 @@ public class CacheAspect {
                 "Invalid usage of @Cache annotation. Only reactive objects Mono and Flux are supported for caching.");
     }
 
+    private Mono<Object> withRefreshAhead(
+            Cache annotation, String cacheName, String key, Supplier<Mono<Object>> loader, Mono<Object> cached) {
+        if (!annotation.refreshAhead()) {
+            return cached;
+        }
+
+        return cached.flatMap(value -> refreshAheadIfDue(cacheName, key, loader, value));
+    }
+
     /**
      * This method defines a Aspect to handle method calls annotated with ReactiveEvict.
      * Original method should return Mono<?>
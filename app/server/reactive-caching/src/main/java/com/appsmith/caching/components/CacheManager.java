@@ -1,13 +1,39 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CacheStats;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+
 public interface CacheManager {
     /**
      * This will log the cache stats with INFO severity.
      */
     void logStats();
 
+    /**
+     * This will get the stats of the cache, creating them if the cache has not been used yet.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    CacheStats getStats(String cacheName);
+
+    /**
+     * This will enable the in-memory tier for the cache, if it is not enabled already.
+     * @param cacheName The name of the cache.
+     * @param maxSize The maximum number of entries held in memory.
+     * @param ttl The time after which entries held in memory expire.
+     */
+    void configureLocalCache(String cacheName, int maxSize, Duration ttl);
+
+    /**
+     * This will check whether the item is held in memory and close enough to its expiry to be reloaded ahead of it.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return true if the item should be reloaded, false otherwise.
+     */
+    boolean isRefreshDue(String cacheName, String key);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
@@ -25,6 +51,20 @@ public interface CacheManager {
      */
     Mono<Boolean> put(String cacheName, String key, Object value);
 
+    /**
+     * This will serialize the item in the same way as it is stored in the cache.
+     * @param value The item.
+     * @return The serialized item.
+     */
+    byte[] serialize(Object value);
+
+    /**
+     * This will read an item serialized with serialize, every call returns a new copy of the item.
+     * @param bytes The serialized item.
+     * @return The item.
+     */
+    Object deserialize(byte[] bytes);
+
     /**
      * This will remove item from the cache.
      * @param cacheName The name of the cache.
@@ -0,0 +1,104 @@
+package com.appsmith.caching.components;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * In-memory tier of a single cache, which sits in front of Redis on every server.
+ *
+ * Entries are held in their serialized form, so that every caller gets its own copy of the cached object, exactly
+ * like it would when reading from Redis. The tier holds at most maxSize entries, evicting the least recently used
+ * one when full, and entries expire ttl after they were written.
+ */
+class LocalCacheTier {
+
+    // Entries are due for a refresh once this share of their time to live has elapsed
+    private static final double REFRESH_AHEAD_FACTOR = 0.8;
+
+    private final int maxSize;
+
+    private final long ttlMillis;
+
+    // Access ordered, so that the first entry is always the least recently used one
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private record Entry(byte[] value, long expiresAt) {}
+
+    // Incremented by every eviction, so that values read from Redis before an eviction are not held afterwards
+    private long generation;
+
+    LocalCacheTier(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * @return the serialized value of the key, or null if it is not present or has expired
+     */
+    synchronized byte[] get(String key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key);
+            return null;
+        }
+
+        return entry.value();
+    }
+
+    /**
+     * @return whether the key is present and close enough to its expiry to be reloaded ahead of it
+     */
+    synchronized boolean isRefreshDue(String key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+
+        final long refreshAt = entry.expiresAt() - (long) (ttlMillis * (1 - REFRESH_AHEAD_FACTOR));
+        return System.currentTimeMillis() >= refreshAt;
+    }
+
+    /**
+     * @return the current generation of the tier, to be passed to put when the value read from Redis is available
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Holds the value, unless the tier has been evicted from since the given generation, in which case the value may
+     * have been read from Redis before it was deleted there.
+     */
+    synchronized void put(String key, byte[] value, long expectedGeneration) {
+        if (generation != expectedGeneration) {
+            return;
+        }
+
+        entries.put(key, new Entry(value, System.currentTimeMillis() + ttlMillis));
+
+        if (entries.size() > maxSize) {
+            final Iterator<Entry> iterator = entries.values().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    synchronized void evict(String key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
@@ -1,21 +1,34 @@
 package com.appsmith.caching.components;
 
 import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ *
+ * Caches can additionally be configured with an in-memory tier, which serves hot entries without a round trip to
+ * Redis. Evictions clear the in-memory tier of the local server and are published on a Redis channel, so that every
+ * other server clears its in-memory tier as well.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
@@ -25,15 +38,33 @@ public class RedisCacheManagerImpl implements CacheManager {
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
 
+    private static final String INVALIDATION_CHANNEL = "appsmith-cache-invalidation";
+
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    // Number of keys Redis inspects per SCAN call. Keeps every call short, whatever the size of the keyspace.
+    private static final long EVICT_ALL_SCAN_COUNT = 1000;
+
+    private static final int EVICT_ALL_BATCH_SIZE = 500;
+
+    private static final int EVICT_ALL_CONCURRENCY = 4;
+
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    private final Map<String, LocalCacheTier> localCaches = new ConcurrentHashMap<>();
+
+    // Identifies this server in invalidation messages, so that it can skip the ones it published itself
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final AtomicBoolean invalidationListenerStarted = new AtomicBoolean(false);
+
     /**
      * Ensures that the key for cacheName is present in statsMap.
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
         if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
+            statsMap.putIfAbsent(cacheName, CacheStats.newInstance());
         }
     }
 
@@ -42,15 +73,28 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: localHits = {}, localMisses = {}, hits = {}, misses = {}, singleEvictions = {},"
+                            + " completeEvictions = {}, remoteInvalidations = {}, coalescedWaiters = {},"
+                            + " refreshes = {}",
                     key,
+                    stats.getLocalHits(),
+                    stats.getLocalMisses(),
                     stats.getHits(),
                     stats.getMisses(),
                     stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
+                    stats.getCompleteEvictions(),
+                    stats.getRemoteInvalidations(),
+                    stats.getCoalescedWaiters(),
+                    stats.getRefreshes());
         });
     }
 
+    @Override
+    public CacheStats getStats(String cacheName) {
+        ensureStats(cacheName);
+        return statsMap.get(cacheName);
+    }
+
     /**
      * Resets the stats.
      */
@@ -66,24 +110,56 @@ public class RedisCacheManagerImpl implements CacheManager {
         this.reactiveRedisOperations = reactiveRedisOperations;
     }
 
+    @Override
+    public void configureLocalCache(String cacheName, int maxSize, Duration ttl) {
+        if (maxSize <= 0 || localCaches.containsKey(cacheName)) {
+            return;
+        }
+
+        localCaches.computeIfAbsent(cacheName, name -> new LocalCacheTier(maxSize, ttl));
+        startInvalidationListener();
+    }
+
+    @Override
+    public boolean isRefreshDue(String cacheName, String key) {
+        final LocalCacheTier localCache = localCaches.get(cacheName);
+        return localCache != null && localCache.isRefreshDue(key);
+    }
+
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
-                    // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
-                    return value;
-                })
-                .switchIfEmpty(Mono.defer(() -> {
-                    // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
-                    return Mono.empty();
-                }));
+
+        // Looked up on subscription, so that every subscriber gets the current value and is counted once
+        return Mono.defer(() -> {
+            final LocalCacheTier localCache = localCaches.get(cacheName);
+            if (localCache != null) {
+                final Object localValue = deserializeLocal(localCache.get(key));
+                if (localValue != null) {
+                    statsMap.get(cacheName).getLocalHits().incrementAndGet();
+                    return Mono.just(localValue);
+                }
+                statsMap.get(cacheName).getLocalMisses().incrementAndGet();
+            }
+
+            final long generation = getGeneration(localCache);
+            return reactiveRedisTemplate
+                    .opsForValue()
+                    .get(path)
+                    .map(value -> {
+                        // This is a cache hit, update stats and return value
+                        statsMap.get(cacheName).getHits().incrementAndGet();
+                        putLocal(localCache, key, value, generation);
+                        return value;
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        // This is a cache miss, update stats and return empty
+                        statsMap.get(cacheName).getMisses().incrementAndGet();
+                        log.debug("Cache miss for key {}", path);
+                        return Mono.empty();
+                    }));
+        });
     }
 
     @Override
@@ -91,7 +167,15 @@ public class RedisCacheManagerImpl implements CacheManager {
         ensureStats(cacheName);
         String path = cacheName + ":" + key;
         log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        final LocalCacheTier localCache = localCaches.get(cacheName);
+        return Mono.defer(() -> {
+            final long generation = getGeneration(localCache);
+            return reactiveRedisTemplate.opsForValue().set(path, value).doOnNext(isSet -> {
+                if (Boolean.TRUE.equals(isSet)) {
+                    putLocal(localCache, key, value, generation);
+                }
+            });
+        });
     }
 
     @Override
@@ -100,17 +184,188 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
         String path = cacheName + ":" + key;
         log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return Mono.defer(() -> {
+                    evictLocal(cacheName, key);
+                    return reactiveRedisTemplate.delete(path);
+                })
+                // A get that read the key from Redis before it was deleted may have held it in memory in between
+                .then(Mono.fromRunnable(() -> evictLocal(cacheName, key)))
+                .then(publishInvalidation(String.join(MESSAGE_SEPARATOR, instanceId, cacheName, key)));
     }
 
+    /**
+     * Removes all keys of the cache by iterating over them with SCAN and unlinking them in batches. Unlike KEYS, SCAN
+     * only walks a small part of the keyspace per call and UNLINK frees memory in the background, so Redis keeps
+     * serving other clients, e.g. sessions and rate limits, while a large cache is being evicted.
+     */
     @Override
     public Mono<Void> evictAll(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+
+        final ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(cacheName + ":*")
+                .count(EVICT_ALL_SCAN_COUNT)
+                .build();
+
+        return Mono.defer(() -> {
+            // Timed from subscription, since the returned Mono may be subscribed to well after it is assembled
+            final long startTime = System.nanoTime();
+
+            return Mono.fromRunnable(() -> evictLocal(cacheName, null))
+                    .thenMany(reactiveRedisTemplate.scan(scanOptions))
+                    .buffer(EVICT_ALL_BATCH_SIZE)
+                    // Lettuce pipelines the concurrent UNLINK commands on the shared connection
+                    .flatMap(
+                            keys -> reactiveRedisTemplate.unlink(keys.toArray(String[]::new)), EVICT_ALL_CONCURRENCY)
+                    .reduce(0L, Long::sum)
+                    .doOnNext(unlinkedKeys -> {
+                        log.debug("Evicted {} keys from cache {}", unlinkedKeys, cacheName);
+                        evictAllKeysSummary(cacheName).record(unlinkedKeys);
+                    })
+                    .doFinally(signal -> evictAllTimer(cacheName)
+                            .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS))
+                    // Gets that read keys from Redis before they were unlinked may have held them in memory in between
+                    .then(Mono.fromRunnable(() -> evictLocal(cacheName, null)))
+                    .then(publishInvalidation(String.join(MESSAGE_SEPARATOR, instanceId, cacheName)));
+        });
+    }
+
+    private static Timer evictAllTimer(String cacheName) {
+        return Timer.builder("appsmith.cache.evict.all")
+                .description("Time taken to evict all keys of a cache")
+                .tag("cacheName", cacheName)
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry);
+    }
+
+    private static DistributionSummary evictAllKeysSummary(String cacheName) {
+        return DistributionSummary.builder("appsmith.cache.evict.all.keys")
+                .description("Number of keys removed when evicting all keys of a cache")
+                .tag("cacheName", cacheName)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Clears the given key from the in-memory tier of the cache, or the whole tier if the key is null.
+     */
+    private void evictLocal(String cacheName, String key) {
+        final LocalCacheTier localCache = localCaches.get(cacheName);
+        if (localCache == null) {
+            return;
+        }
+
+        if (key == null) {
+            localCache.clear();
+        } else {
+            localCache.evict(key);
+        }
+    }
+
+    private void putLocal(LocalCacheTier localCache, String key, Object value, long generation) {
+        if (localCache == null) {
+            return;
+        }
+
+        final byte[] bytes = serializeLocal(value);
+        if (bytes != null) {
+            localCache.put(key, bytes, generation);
+        }
+    }
+
+    private static long getGeneration(LocalCacheTier localCache) {
+        return localCache == null ? 0 : localCache.generation();
+    }
+
+    /**
+     * Serializes values in the same way as they are stored in Redis, which guarantees that whatever can be cached in
+     * Redis can be held in memory, or shared between callers, as well.
+     */
+    @Override
+    public byte[] serialize(Object value) {
+        final ByteBuffer buffer = reactiveRedisTemplate
+                .getSerializationContext()
+                .getValueSerializationPair()
+                .write(value);
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        return reactiveRedisTemplate
+                .getSerializationContext()
+                .getValueSerializationPair()
+                .read(ByteBuffer.wrap(bytes));
+    }
+
+    private byte[] serializeLocal(Object value) {
+        try {
+            return serialize(value);
+        } catch (Exception e) {
+            log.debug("Unable to hold cache entry in memory", e);
+            return null;
+        }
+    }
+
+    private Object deserializeLocal(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+
+        try {
+            return deserialize(bytes);
+        } catch (Exception e) {
+            log.debug("Unable to read cache entry held in memory", e);
+            return null;
+        }
+    }
+
+    private Mono<Void> publishInvalidation(String message) {
+        // A failure to notify the other servers must not fail the eviction itself. Their in-memory tiers still expire
+        // within the configured TTL.
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .doOnError(error -> log.warn("Unable to publish cache invalidation", error))
+                .onErrorComplete()
+                .then();
+    }
+
+    /**
+     * Subscribes to invalidations published by other servers. This is only done once the first in-memory tier is
+     * configured, as servers without one have nothing to invalidate.
+     */
+    private void startInvalidationListener() {
+        if (!invalidationListenerStarted.compareAndSet(false, true)) {
+            return;
+        }
+
+        reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> onInvalidation(message.getMessage()))
+                .doOnError(error -> {
+                    // Invalidations may have been missed while the subscription was down
+                    log.warn("Cache invalidation listener failed, clearing in-memory caches", error);
+                    localCaches.values().forEach(LocalCacheTier::clear);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    private void onInvalidation(String message) {
+        final String[] parts = message.split(MESSAGE_SEPARATOR, 3);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        final String cacheName = parts[1];
+        if (!localCaches.containsKey(cacheName)) {
+            return;
+        }
+
+        ensureStats(cacheName);
+        statsMap.get(cacheName).getRemoteInvalidations().incrementAndGet();
+        evictLocal(cacheName, parts.length == 3 ? parts[2] : null);
     }
 }
@@ -13,12 +13,12 @@ import java.util.concurrent.atomic.AtomicInteger;
 @NoArgsConstructor(staticName = "newInstance")
 public class CacheStats {
     /**
-     * The number of times the cache was hit.
+     * The number of times the cache was hit in Redis.
      */
     private AtomicInteger hits = new AtomicInteger(0);
 
     /**
-     * The number of times the cache was missed.
+     * The number of times the cache was missed in Redis.
      */
     private AtomicInteger misses = new AtomicInteger(0);
 
@@ -31,4 +31,30 @@ public class CacheStats {
      * The number of times the cache was evicted (all keys).
      */
     private AtomicInteger completeEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-memory tier was hit. Redis is not queried for these.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-memory tier was missed, after which Redis is queried.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
+    /**
+     * The number of times the in-memory tier was invalidated because of an eviction on another server.
+     */
+    private AtomicInteger remoteInvalidations = new AtomicInteger(0);
+
+    /**
+     * The number of times a miss was served by a load that was already in flight for the same key, instead of
+     * calling the underlying method again.
+     */
+    private AtomicInteger coalescedWaiters = new AtomicInteger(0);
+
+    /**
+     * The number of times an entry was reloaded in the background ahead of its expiry.
+     */
+    private AtomicInteger refreshes = new AtomicInteger(0);
 }
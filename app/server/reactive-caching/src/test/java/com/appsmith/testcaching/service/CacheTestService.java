@@ -13,12 +13,17 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class CacheTestService {
 
     PodamFactory factory = new PodamFactoryImpl();
 
+    private final AtomicInteger coalescedObjectCalls = new AtomicInteger(0);
+
+    private final AtomicInteger refreshAheadObjectCalls = new AtomicInteger(0);
+
     /**
      * This method is used to test the caching functionality for Mono<T>.
      * @param id The id
@@ -107,4 +112,62 @@ public class CacheTestService {
     public Mono<Void> evictObjectForWithKey(String id) {
         return Mono.empty();
     }
+
+    /**
+     * This method is used to test the in-memory tier of the cache.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "localobjectcache", localMaxSize = 100)
+    public Mono<TestModel> getLocalObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(2));
+    }
+
+    /**
+     * This method is used to test that concurrent misses for the same key call the original method only once.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "coalescedcache")
+    public Mono<TestModel> getCoalescedObjectFor(String id) {
+        coalescedObjectCalls.incrementAndGet();
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(2));
+    }
+
+    public int getCoalescedObjectCalls() {
+        return coalescedObjectCalls.get();
+    }
+
+    /**
+     * This method is used to test that callers that share a single call to the original method get their own copies.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "sharedobjectcache")
+    public Mono<TestModel> getSharedObjectFor(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model).delayElement(Duration.ofSeconds(2));
+    }
+
+    /**
+     * This method is used to test that entries held in memory are reloaded in the background before they expire.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "refreshaheadcache", localMaxSize = 100, localTtlSeconds = 5, refreshAhead = true)
+    public Mono<TestModel> getRefreshAheadObjectFor(String id) {
+        refreshAheadObjectCalls.incrementAndGet();
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
+
+    public int getRefreshAheadObjectCalls() {
+        return refreshAheadObjectCalls.get();
+    }
 }
@@ -1,6 +1,7 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,12 +11,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +38,12 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -116,6 +132,160 @@ public class TestCachingMethods {
         log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
     }
 
+    /**
+     * This Test is used to test the in-memory tier in front of Redis
+     */
+    @Test
+    public void testLocalCache() {
+        RedisCacheManagerImpl redisCacheManager = (RedisCacheManagerImpl) cacheManager;
+
+        TestModel model = cacheTestService.getLocalObjectFor("test1").block();
+        int localHits = redisCacheManager.getStats("localobjectcache").getLocalHits().get();
+        TestModel model2 = cacheTestService.getLocalObjectFor("test1").block();
+
+        assertEquals(model, model2);
+        // Every caller gets its own copy of the cached object
+        assertNotSame(model, model2);
+        assertEquals(localHits + 1, redisCacheManager.getStats("localobjectcache").getLocalHits().get());
+    }
+
+    /**
+     * This Test is used to test that the in-memory tier is read when the get is subscribed to, not when it is built
+     */
+    @Test
+    public void testLocalCacheIsReadOnSubscription() {
+        RedisCacheManagerImpl redisCacheManager = (RedisCacheManagerImpl) cacheManager;
+        TestModel model = cacheTestService.getLocalObjectFor("test3").block();
+        int localHits = redisCacheManager.getStats("localobjectcache").getLocalHits().get();
+
+        Mono<Object> getMono = redisCacheManager.get("localobjectcache", "test3");
+        assertEquals(localHits, redisCacheManager.getStats("localobjectcache").getLocalHits().get());
+
+        assertEquals(model, getMono.block());
+        redisCacheManager.evict("localobjectcache", "test3").block();
+        // Subscribing again reads the tier again, and does not replay the evicted value
+        assertNull(getMono.block());
+        assertEquals(localHits + 1, redisCacheManager.getStats("localobjectcache").getLocalHits().get());
+    }
+
+    /**
+     * This Test is used to test that evictions on another server clear the in-memory tier of this server
+     */
+    @Test
+    public void testLocalCacheRemoteInvalidation() throws InterruptedException {
+        RedisCacheManagerImpl redisCacheManager = (RedisCacheManagerImpl) cacheManager;
+        TestModel model = cacheTestService.getLocalObjectFor("test2").block();
+        int remoteInvalidations = getRemoteInvalidations(redisCacheManager);
+
+        RedisCacheManagerImpl otherServer = new RedisCacheManagerImpl(reactiveRedisTemplate, reactiveRedisOperations);
+        otherServer.evict("localobjectcache", "test2").block();
+
+        // Invalidations are delivered asynchronously
+        int attempts = 0;
+        while (attempts++ < 50 && getRemoteInvalidations(redisCacheManager) == remoteInvalidations) {
+            Thread.sleep(100);
+        }
+
+        TestModel model2 = cacheTestService.getLocalObjectFor("test2").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that a get racing an evict does not hold the evicted value in memory
+     */
+    @Test
+    public void testLocalCacheGetRacingEvict() {
+        RedisCacheManagerImpl redisCacheManager =
+                new RedisCacheManagerImpl(reactiveRedisTemplate, reactiveRedisOperations);
+        redisCacheManager.configureLocalCache("racecache", 100, Duration.ofMinutes(5));
+
+        for (int i = 0; i < 200; i++) {
+            // Written around the cache manager, so that the value is only in Redis
+            reactiveRedisTemplate.opsForValue().set("racecache:key", "value" + i).block();
+
+            // The get is sent to Redis ahead of the delete, and reads the value that is about to be evicted
+            Mono.when(redisCacheManager.get("racecache", "key"), redisCacheManager.evict("racecache", "key"))
+                    .block();
+
+            assertNull(redisCacheManager.get("racecache", "key").block(), "Evicted value was held in memory");
+        }
+    }
+
+    /**
+     * This Test is used to test that concurrent misses for the same key share a single call to the original method
+     */
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        int coalescedWaiters = cacheManager.getStats("coalescedcache").getCoalescedWaiters().get();
+
+        List<TestModel> models = Flux.range(0, 1000)
+                .flatMap(i -> cacheTestService.getCoalescedObjectFor("test1"), 1000)
+                .collectList()
+                .block();
+
+        assertEquals(1000, models.size());
+        assertEquals(1, models.stream().distinct().count());
+        assertEquals(1, cacheTestService.getCoalescedObjectCalls());
+        // Every caller but the first one either waited for the in-flight load or found its result in the cache
+        assertTrue(cacheManager.getStats("coalescedcache").getCoalescedWaiters().get() > coalescedWaiters);
+    }
+
+    /**
+     * This Test is used to test that an entry about to expire from memory is reloaded in the background, while the
+     * caller is still served the entry held in memory
+     */
+    @Test
+    public void testRefreshAhead() throws InterruptedException {
+        TestModel model = cacheTestService.getRefreshAheadObjectFor("test1").block();
+        int calls = cacheTestService.getRefreshAheadObjectCalls();
+        int refreshes = cacheManager.getStats("refreshaheadcache").getRefreshes().get();
+
+        // Entries live for 5 seconds in memory, and are due for a refresh after 4 seconds
+        Thread.sleep(4200);
+        TestModel model2 = cacheTestService.getRefreshAheadObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        // The reload runs in the background
+        int attempts = 0;
+        while (attempts++ < 50 && model.equals(model2)) {
+            Thread.sleep(100);
+            model2 = cacheTestService.getRefreshAheadObjectFor("test1").block();
+        }
+
+        assertNotEquals(model, model2);
+        assertEquals(calls + 1, cacheTestService.getRefreshAheadObjectCalls());
+        assertEquals(refreshes + 1, cacheManager.getStats("refreshaheadcache").getRefreshes().get());
+    }
+
+    /**
+     * This Test is used to test that callers that share a load each get their own copy, so that what one caller sets
+     * on its object, like the permissions of its user, is not seen by the other callers
+     */
+    @Test
+    public void testConcurrentMissesGetTheirOwnCopies() {
+        Mono<TestModel> firstCallerMono = cacheTestService
+                .getSharedObjectFor("test1")
+                .doOnNext(model -> model.setStringValue("permissions of user1"));
+        Mono<TestModel> secondCallerMono = cacheTestService
+                .getSharedObjectFor("test1")
+                .doOnNext(model -> model.setStringValue("permissions of user2"));
+
+        Tuple2<TestModel, TestModel> models = Mono.zip(firstCallerMono, secondCallerMono).block();
+
+        assertNotSame(models.getT1(), models.getT2());
+        assertEquals("permissions of user1", models.getT1().getStringValue());
+        assertEquals("permissions of user2", models.getT2().getStringValue());
+        assertEquals(models.getT1().getId(), models.getT2().getId());
+        assertEquals(models.getT1().getLongValue(), models.getT2().getLongValue());
+    }
+
+    private int getRemoteInvalidations(RedisCacheManagerImpl redisCacheManager) {
+        return redisCacheManager
+                .getStats("localobjectcache")
+                .getRemoteInvalidations()
+                .get();
+    }
+
     /**
      * Log stats in the end
      */
@@ -0,0 +1,93 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.CacheManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fills Redis with a million keys, so it is left out of the default test run. Run it with
+ * {@code mvn test -Dtest.excludedGroups= -Dgroups=performance}.
+ */
+@SpringBootTest
+@Slf4j
+@Tag("performance")
+public class TestEvictAll {
+
+    private static final String CACHE_NAME = "bulkcache";
+
+    private static final int KEY_COUNT = 1_000_000;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private void populate() {
+        Flux.range(0, KEY_COUNT)
+                .buffer(10_000)
+                .concatMap(indexes -> {
+                    Map<String, String> entries = new HashMap<>();
+                    for (Integer index : indexes) {
+                        entries.put(CACHE_NAME + ":" + index, "value" + index);
+                    }
+                    return reactiveRedisOperations.opsForValue().multiSet(entries);
+                })
+                .blockLast();
+    }
+
+    private long countKeys() {
+        return reactiveRedisOperations
+                .scan(ScanOptions.scanOptions()
+                        .match(CACHE_NAME + ":*")
+                        .count(10_000)
+                        .build())
+                .count()
+                .block();
+    }
+
+    /**
+     * This Test is used to test that evicting a large cache does not stall other Redis commands
+     */
+    @Test
+    public void testEvictAll_withMillionKeys_doesNotStallOtherCommands() {
+        populate();
+        reactiveRedisOperations.opsForValue().set("probe", "probe").block();
+        assertEquals(KEY_COUNT, countKeys());
+
+        AtomicBoolean isEvicted = new AtomicBoolean(false);
+        Disposable eviction = cacheManager
+                .evictAll(CACHE_NAME)
+                .doFinally(signal -> isEvicted.set(true))
+                .subscribe();
+
+        // Keep issuing unrelated commands while the eviction is running and record the slowest one
+        long maxLatencyMillis = 0;
+        int probes = 0;
+        while (!isEvicted.get()) {
+            long startTime = System.nanoTime();
+            assertEquals("probe", reactiveRedisOperations.opsForValue().get("probe").block());
+            maxLatencyMillis = Math.max(maxLatencyMillis, (System.nanoTime() - startTime) / 1_000_000);
+            probes++;
+        }
+        eviction.dispose();
+
+        log.info("Slowest of {} commands during eviction took {} ms", probes, maxLatencyMillis);
+        assertTrue(maxLatencyMillis < 500, "Commands were stalled for " + maxLatencyMillis + " ms");
+        assertEquals(0, countKeys());
+    }
+}